@@ -19,6 +19,7 @@ package io.sundr.adapter.api;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.sundr.model.AttributeKey;
 import io.sundr.model.AttributeSupport;
@@ -29,6 +30,7 @@ public class AdapterContext extends AttributeSupport implements AdapterContextAw
   protected static AdapterContext INSTANCE;
 
   private final DefinitionRepository definitionRepository;
+  private final Map<AdapterFactory<?, ?, ?, ?>, Adapter<?, ?, ?, ?>> adapters = new ConcurrentHashMap<>();
 
   private AdapterContext(DefinitionRepository definitionRepository) {
     this(definitionRepository, new HashMap<>());
@@ -63,4 +65,31 @@ public class AdapterContext extends AttributeSupport implements AdapterContextAw
   public AdapterContext getAdapterContext() {
     return this;
   }
+
+  /**
+   * Get the {@link Adapter} the specified factory creates for this context.
+   * The adapter is created on first use and then reused, for as long as the context is in use.
+   *
+   * @param factory the factory
+   * @return the adapter
+   */
+  @SuppressWarnings("unchecked")
+  <T, R, P, M> Adapter<T, R, P, M> getAdapter(AdapterFactory<T, R, P, M> factory) {
+    Adapter<T, R, P, M> adapter = (Adapter<T, R, P, M>) adapters.get(factory);
+    if (adapter == null) {
+      adapter = factory.create(this);
+      Adapter<T, R, P, M> existing = (Adapter<T, R, P, M>) adapters.putIfAbsent(factory, adapter);
+      if (existing != null) {
+        adapter = existing;
+      }
+    }
+    return adapter;
+  }
+
+  /**
+   * Drop all the adapters that have been created for this context.
+   */
+  void clearAdapters() {
+    adapters.clear();
+  }
 }
@@ -0,0 +1,100 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.api;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Holds the {@link AdapterFactory} and {@link TypeLookup} services discovered in a {@link ClassLoader}, so that the
+ * classpath is only scanned once per class loader.
+ * Also caches which factory handles each input type.
+ */
+final class AdapterRegistry {
+
+  private static final Map<ClassLoader, AdapterRegistry> REGISTRIES = new ConcurrentHashMap<>();
+
+  private final List<AdapterFactory<?, ?, ?, ?>> factories;
+  private final List<TypeLookup<?>> lookups;
+
+  private final Map<Class<?>, Optional<AdapterFactory<?, ?, ?, ?>>> typeFactories = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Optional<AdapterFactory<?, ?, ?, ?>>> referenceFactories = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Optional<AdapterFactory<?, ?, ?, ?>>> propertyFactories = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Optional<AdapterFactory<?, ?, ?, ?>>> methodFactories = new ConcurrentHashMap<>();
+
+  private AdapterRegistry(ClassLoader classLoader) {
+    this.factories = load(AdapterFactory.class, classLoader, f -> f);
+    this.lookups = load(TypeLookup.class, classLoader, l -> l);
+  }
+
+  /**
+   * Load the implementations of a service. The services are generic, so the function converts each of them from the raw
+   * service type.
+   */
+  private static <S, T> List<T> load(Class<S> service, ClassLoader classLoader, Function<S, T> converter) {
+    return Collections.unmodifiableList(StreamSupport.stream(ServiceLoader.load(service, classLoader).spliterator(), false)
+        .map(converter)
+        .collect(Collectors.toList()));
+  }
+
+  static AdapterRegistry of(ClassLoader classLoader) {
+    return REGISTRIES.computeIfAbsent(classLoader, AdapterRegistry::new);
+  }
+
+  /**
+   * Drop all registries, so that services are discovered again on next use.
+   */
+  static void clear() {
+    REGISTRIES.clear();
+  }
+
+  List<TypeLookup<?>> getLookups() {
+    return lookups;
+  }
+
+  Optional<AdapterFactory<?, ?, ?, ?>> getFactoryForType(Class<?> type) {
+    return typeFactories.computeIfAbsent(type, t -> find(t, AdapterFactory::getTypeAdapterType));
+  }
+
+  Optional<AdapterFactory<?, ?, ?, ?>> getFactoryForReference(Class<?> type) {
+    return referenceFactories.computeIfAbsent(type, t -> find(t, AdapterFactory::getReferenceAdapterType));
+  }
+
+  Optional<AdapterFactory<?, ?, ?, ?>> getFactoryForProperty(Class<?> type) {
+    return propertyFactories.computeIfAbsent(type, t -> find(t, AdapterFactory::getPropertyAdapterType));
+  }
+
+  Optional<AdapterFactory<?, ?, ?, ?>> getFactoryForMethod(Class<?> type) {
+    return methodFactories.computeIfAbsent(type, t -> find(t, AdapterFactory::getMethodAdapterType));
+  }
+
+  private Optional<AdapterFactory<?, ?, ?, ?>> find(Class<?> type,
+      Function<AdapterFactory<?, ?, ?, ?>, Class<?>> supportedType) {
+    return factories.stream()
+        .filter(f -> supportedType.apply(f) != null)
+        .filter(f -> supportedType.apply(f).isAssignableFrom(type))
+        .findFirst();
+  }
+}
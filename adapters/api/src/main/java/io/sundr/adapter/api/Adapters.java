@@ -18,8 +18,6 @@
 package io.sundr.adapter.api;
 
 import java.util.Optional;
-import java.util.ServiceLoader;
-import java.util.stream.StreamSupport;
 
 import io.sundr.model.Method;
 import io.sundr.model.Property;
@@ -61,39 +59,45 @@ public class Adapters {
   }
 
   @SuppressWarnings("unchecked")
-  public static <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForType(Class type, AdapterContextAware ctx) {
-    return StreamSupport.stream(ServiceLoader.load(AdapterFactory.class, Adapter.class.getClassLoader()).spliterator(), false)
-        .filter(f -> f.getTypeAdapterType() != null)
-        .filter(f -> f.getTypeAdapterType().isAssignableFrom(type))
-        .map(f -> (Adapter<T, R, P, M>) f.create(ctx.getAdapterContext()))
-        .findFirst();
+  public static <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForType(Class<?> type, AdapterContextAware ctx) {
+    return AdapterRegistry.of(Adapter.class.getClassLoader()).getFactoryForType(type)
+        .map(f -> (Adapter<T, R, P, M>) ctx.getAdapterContext().getAdapter(f));
   }
 
   @SuppressWarnings("unchecked")
-  public static <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForReference(Class type, AdapterContextAware ctx) {
-    return StreamSupport.stream(ServiceLoader.load(AdapterFactory.class, Adapter.class.getClassLoader()).spliterator(), false)
-        .filter(f -> f.getReferenceAdapterType() != null)
-        .filter(f -> f.getReferenceAdapterType().isAssignableFrom(type))
-        .map(f -> (Adapter<T, R, P, M>) f.create(ctx.getAdapterContext()))
-        .findFirst();
+  public static <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForReference(Class<?> type, AdapterContextAware ctx) {
+    return AdapterRegistry.of(Adapter.class.getClassLoader()).getFactoryForReference(type)
+        .map(f -> (Adapter<T, R, P, M>) ctx.getAdapterContext().getAdapter(f));
   }
 
   @SuppressWarnings("unchecked")
-  public static <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForProperty(Class type, AdapterContextAware ctx) {
-    return StreamSupport.stream(ServiceLoader.load(AdapterFactory.class, Adapter.class.getClassLoader()).spliterator(), false)
-        .filter(f -> f.getPropertyAdapterType() != null)
-        .filter(f -> f.getPropertyAdapterType().isAssignableFrom(type))
-        .map(f -> (Adapter<T, R, P, M>) f.create(ctx.getAdapterContext()))
-        .findFirst();
+  public static <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForProperty(Class<?> type, AdapterContextAware ctx) {
+    return AdapterRegistry.of(Adapter.class.getClassLoader()).getFactoryForProperty(type)
+        .map(f -> (Adapter<T, R, P, M>) ctx.getAdapterContext().getAdapter(f));
   }
 
   @SuppressWarnings("unchecked")
-  public static <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForMethod(Class type, AdapterContextAware ctx) {
-    return StreamSupport.stream(ServiceLoader.load(AdapterFactory.class, Adapter.class.getClassLoader()).spliterator(), false)
-        .filter(f -> f.getMethodAdapterType() != null)
-        .filter(f -> f.getMethodAdapterType().isAssignableFrom(type))
-        .map(f -> (Adapter<T, R, P, M>) f.create(ctx.getAdapterContext()))
-        .findFirst();
+  public static <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForMethod(Class<?> type, AdapterContextAware ctx) {
+    return AdapterRegistry.of(Adapter.class.getClassLoader()).getFactoryForMethod(type)
+        .map(f -> (Adapter<T, R, P, M>) ctx.getAdapterContext().getAdapter(f));
+  }
+
+  /**
+   * Drop all cached {@link AdapterFactory} and {@link TypeLookup} instances, so that they are discovered again on next
+   * use.
+   * This is needed when the available adapters change, e.g. when the class loader is reused with a different classpath.
+   */
+  public static void invalidate() {
+    AdapterRegistry.clear();
+  }
+
+  /**
+   * Drop the {@link Adapter} instances that have been created for the specified context.
+   *
+   * @param ctx the context
+   */
+  public static void invalidate(AdapterContextAware ctx) {
+    ctx.getAdapterContext().clearAdapters();
   }
 
   public static WithContext withContext(AdapterContext ctx) {
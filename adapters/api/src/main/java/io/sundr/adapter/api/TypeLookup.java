@@ -18,15 +18,13 @@
 package io.sundr.adapter.api;
 
 import java.util.Optional;
-import java.util.ServiceLoader;
-import java.util.stream.StreamSupport;
 
 import io.sundr.model.TypeDef;
 
 public interface TypeLookup<T> {
 
   public static Optional<TypeDef> lookup(String fullyQualifiedName, AdapterContextAware context) {
-    return StreamSupport.stream(ServiceLoader.load(TypeLookup.class, TypeLookup.class.getClassLoader()).spliterator(), false)
+    return AdapterRegistry.of(TypeLookup.class.getClassLoader()).getLookups().stream()
         .filter(TypeLookup::isAvailable)
         .map(l -> l.forName(fullyQualifiedName))
         .filter(Optional::isPresent)
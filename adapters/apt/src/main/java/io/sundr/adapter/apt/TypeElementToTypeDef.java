@@ -103,7 +103,8 @@ public class TypeElementToTypeDef implements Function<TypeElement, TypeDef> {
   }
 
   private TypeDef buildAndRegister(TypeElement classElement) {
-    TypeDef existing = context.getDefinitionRepository().getDefinition(classElement.toString(), false);
+    // Resolve registered suppliers (e.g. from a definition snapshot), instead of adapting the element again
+    TypeDef existing = context.getDefinitionRepository().getDefinition(classElement.toString());
     if (existing != null) {
       return existing;
     }
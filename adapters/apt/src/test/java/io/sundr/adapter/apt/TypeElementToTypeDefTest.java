@@ -0,0 +1,57 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.apt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.testing.compile.CompilationRule;
+
+import io.sundr.adapter.api.Adapters;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeDefBuilder;
+import io.sundr.model.repo.DefinitionRepository;
+
+public class TypeElementToTypeDefTest {
+
+  public @Rule CompilationRule rule = new CompilationRule();
+
+  @Test
+  public void shouldUseSuppliedDefinitionInsteadOfAdapting() {
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    TypeDef supplied = new TypeDefBuilder().withPackageName("java.util").withName("ArrayList").build();
+    AtomicInteger calls = new AtomicInteger();
+    // Definitions loaded from a snapshot are registered as suppliers
+    repository.registerIfAbsent("java.util.ArrayList", () -> {
+      calls.incrementAndGet();
+      return supplied;
+    });
+    AptContext context = AptContext.create(rule.getElements(), rule.getTypes(), repository);
+
+    TypeDef adapted = Adapters.adaptType(rule.getElements().getTypeElement("java.util.ArrayList"), context);
+
+    assertSame(supplied, adapted);
+    assertSame(supplied, Adapters.adaptType(rule.getElements().getTypeElement("java.util.ArrayList"), context));
+    assertEquals(1, calls.get());
+  }
+}
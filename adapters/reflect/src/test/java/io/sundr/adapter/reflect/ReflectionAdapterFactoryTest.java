@@ -17,6 +17,8 @@
 
 package io.sundr.adapter.reflect;
 
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.lang.reflect.Field;
@@ -52,4 +54,24 @@ public class ReflectionAdapterFactoryTest {
     adapter.ifPresent(a -> {
     });
   }
+
+  @Test
+  public void shouldReuseAdapterPerContext() throws Exception {
+    Adapter<Class, Type, Field, Method> adapter = createAdapter().get();
+    assertSame(adapter, createAdapter().get());
+    assertSame(adapter, Adapters.getAdapterForReference(Type.class, context).get());
+
+    AdapterContext other = AdapterContext.create(DefinitionRepository.getRepository());
+    assertNotSame(adapter, Adapters.getAdapterForType(Class.class, other).get());
+  }
+
+  @Test
+  public void shouldCreateNewAdapterAfterInvalidation() throws Exception {
+    Adapter<Class, Type, Field, Method> adapter = createAdapter().get();
+    Adapters.invalidate(context);
+    assertNotSame(adapter, createAdapter().get());
+
+    Adapters.invalidate();
+    assertTrue(createAdapter().isPresent());
+  }
 }
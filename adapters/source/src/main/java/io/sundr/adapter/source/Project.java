@@ -1,5 +1,6 @@
 package io.sundr.adapter.source;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -7,14 +8,27 @@ import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -22,6 +36,7 @@ import java.util.stream.Stream;
 import io.sundr.adapter.api.AdapterContext;
 import io.sundr.adapter.source.analysis.ImpactAnalysisResult;
 import io.sundr.adapter.source.analysis.ImpactAnalyzer;
+import io.sundr.adapter.source.change.ChangeBatch;
 import io.sundr.adapter.source.change.ChangeDetector;
 import io.sundr.adapter.source.change.ChangeSet;
 import io.sundr.adapter.source.utils.Sources;
@@ -41,6 +56,9 @@ public class Project {
   public static final String USER_HOME = System.getProperty("user.home");
   public static final String CURRENT_DIR = System.getProperty("user.dir");
 
+  private static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(100);
+  private static final int MAX_DELAY_FACTOR = 20;
+
   private final File moduleRoot;
   private final File src;
   private final File srcMain;
@@ -48,6 +66,16 @@ public class Project {
   private final File srcTest;
   private final File srcTestJava;
 
+  // Parsed files, along with the digest of the content they had when parsed
+  private final Map<Path, ParsedFile> parsed = new ConcurrentHashMap<>();
+
+  // Shared by all parse calls of the project. Threads are only created when needed and are discarded when idle.
+  private final ExecutorService parsers = Executors.newCachedThreadPool(runnable -> {
+    Thread thread = new Thread(runnable, "sundrio-parser");
+    thread.setDaemon(true);
+    return thread;
+  });
+
   public Project(File moduleRoot) {
     this.moduleRoot = moduleRoot;
     this.src = new File(moduleRoot, "src");
@@ -157,8 +185,18 @@ public class Project {
       return path;
     }
 
-    try (Stream<Path> paths = Files.walk(sourceRoot.toPath())) {
-      return paths.filter(p -> p.toFile().getName().equals(className + ".java")).findFirst();
+    File file = new File(sourceRoot, className + ".java");
+    if (file.exists()) {
+      return Optional.of(file.toPath());
+    }
+
+    if (!sourceRoot.exists()) {
+      return Optional.empty();
+    }
+
+    try (Stream<Path> paths = Files.find(sourceRoot.toPath(), Integer.MAX_VALUE,
+        (p, attrs) -> attrs.isRegularFile() && p.getFileName().toString().equals(className + ".java"))) {
+      return paths.findFirst();
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
@@ -196,7 +234,9 @@ public class Project {
    */
   public static String readFile(Path path) {
     try {
-      return Files.readAllLines(path).stream().collect(Collectors.joining(NEWLINE));
+      // Same result as joining the lines, without splitting the content first
+      String content = Files.readString(path).replace("\r\n", NEWLINE).replace('\r', '\n');
+      return content.endsWith(NEWLINE) ? content.substring(0, content.length() - 1) : content;
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
@@ -204,21 +244,140 @@ public class Project {
 
   /**
    * Read a TypeDef from a Java source file.
+   * Files are only parsed again if their content changed since they were last parsed.
    *
    * @param path The path to the Java source file
    * @return The TypeDef parsed from the file
    */
   TypeDef parse(Path path) {
+    DefinitionRepository repository = DefinitionRepository.getRepository();
+    return parse(path, repository, AdapterContext.create(repository));
+  }
+
+  /**
+   * Read the TypeDefs of the specified Java source files, using as many threads as there are available processors.
+   *
+   * @param paths The paths to the Java source files
+   * @return The TypeDefs by path, in the order of the paths. Files that can't be parsed are omitted.
+   * @see #parse(Collection, int)
+   */
+  public Map<Path, TypeDef> parse(Collection<Path> paths) {
+    return parse(paths, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Read the TypeDefs of the specified Java source files, in parallel.
+   * Files are only parsed again if their content changed since they were last parsed.
+   *
+   * @param paths The paths to the Java source files
+   * @param parallelism The maximum number of files to parse at the same time
+   * @return The TypeDefs by path, in the order of the paths. Files that can't be parsed are omitted.
+   */
+  public Map<Path, TypeDef> parse(Collection<Path> paths, int parallelism) {
+    // The repository is resolved here, as it may be scoped to the calling thread
+    return parse(paths, parallelism, DefinitionRepository.getRepository());
+  }
+
+  private Map<Path, TypeDef> parse(Collection<Path> paths, int parallelism, DefinitionRepository repository) {
+    AdapterContext context = AdapterContext.create(repository);
+    List<Path> pending = new ArrayList<>(new LinkedHashSet<>(paths));
+    Map<Path, TypeDef> parsedTypes = new ConcurrentHashMap<>();
+    AtomicInteger next = new AtomicInteger();
+    Runnable worker = () -> {
+      for (int i = next.getAndIncrement(); i < pending.size(); i = next.getAndIncrement()) {
+        Path path = pending.get(i);
+        try {
+          parsedTypes.put(path, parse(path, repository, context));
+        } catch (Exception e) {
+          // Files that can't be parsed are omitted
+        }
+      }
+    };
+
+    // The calling thread is one of the workers
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 1; i < Math.min(parallelism, pending.size()); i++) {
+      futures.add(parsers.submit(worker));
+    }
+    worker.run();
+    try {
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Failed to parse files", e.getCause());
+    } catch (InterruptedException e) {
+      futures.forEach(f -> f.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while parsing files", e);
+    }
+
+    Map<Path, TypeDef> result = new LinkedHashMap<>();
+    for (Path path : paths) {
+      TypeDef typeDef = parsedTypes.get(path);
+      if (typeDef != null) {
+        result.put(path, typeDef);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Parse the file, unless its content is the same as when it was last parsed.
+   * The content is compared rather than the size and modification time, as an edit that keeps the size may not change
+   * the modification time either (e.g. on file systems with coarse timestamps). As parsing also registers the TypeDef to
+   * the repository, a cached TypeDef is registered again if missing.
+   */
+  private TypeDef parse(Path path, DefinitionRepository repository, AdapterContext context) {
     try {
-      AdapterContext context = AdapterContext.create(DefinitionRepository.getRepository());
-      try (java.io.FileInputStream fis = new java.io.FileInputStream(path.toFile())) {
-        return Sources.readTypeDefFromStream(fis, context);
+      byte[] content = Files.readAllBytes(path);
+      byte[] digest = digest(content);
+      ParsedFile file = parsed.get(path);
+      if (file != null && Arrays.equals(file.digest, digest)) {
+        register(file.typeDef, repository);
+        return file.typeDef;
       }
+      TypeDef typeDef = Sources.readTypeDefFromStream(new ByteArrayInputStream(content), context);
+      parsed.put(path, new ParsedFile(digest, typeDef));
+      return typeDef;
     } catch (Exception e) {
+      parsed.remove(path);
       throw new RuntimeException("Failed to read TypeDef from " + path, e);
     }
   }
 
+  private static byte[] digest(byte[] content) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(content);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void register(TypeDef typeDef, DefinitionRepository repository) {
+    repository.registerIfAbsent(typeDef);
+    for (TypeDef innerType : typeDef.getInnerTypes()) {
+      register(innerType, repository);
+    }
+  }
+
+  /**
+   * Forget the TypeDefs of the files parsed so far, so that files are parsed again on next use.
+   */
+  public void clearParseCache() {
+    parsed.clear();
+  }
+
+  private static final class ParsedFile {
+    private final byte[] digest;
+    private final TypeDef typeDef;
+
+    private ParsedFile(byte[] digest, TypeDef typeDef) {
+      this.digest = digest;
+      this.typeDef = typeDef;
+    }
+  }
+
   /**
    * List all Java source files in the project.
    * The function searches the project main sources directory recursively.
@@ -229,9 +388,9 @@ public class Project {
     if (!srcMainJava.exists()) {
       return List.of();
     }
-    try (Stream<Path> paths = Files.walk(srcMainJava.toPath())) {
-      return paths.filter(p -> p.toFile().isFile() && p.toString().endsWith(".java"))
-          .collect(Collectors.toList());
+    try (Stream<Path> paths = Files.find(srcMainJava.toPath(), Integer.MAX_VALUE,
+        (p, attrs) -> attrs.isRegularFile() && p.toString().endsWith(".java"))) {
+      return paths.collect(Collectors.toList());
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
@@ -247,9 +406,9 @@ public class Project {
     if (!srcTestJava.exists()) {
       return List.of();
     }
-    try (Stream<Path> paths = Files.walk(srcTestJava.toPath())) {
-      return paths.filter(p -> p.toFile().isFile() && p.toString().endsWith(".java"))
-          .collect(Collectors.toList());
+    try (Stream<Path> paths = Files.find(srcTestJava.toPath(), Integer.MAX_VALUE,
+        (p, attrs) -> attrs.isRegularFile() && p.toString().endsWith(".java"))) {
+      return paths.collect(Collectors.toList());
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
@@ -262,7 +421,7 @@ public class Project {
    * @return a list of paths to all Java files (source and test)
    */
   public List<Path> listJavaFiles() {
-    List<Path> allFiles = listJavaSourceFiles();
+    List<Path> allFiles = new ArrayList<>(listJavaSourceFiles());
     allFiles.addAll(listJavaTestFiles());
     return allFiles;
   }
@@ -302,7 +461,7 @@ public class Project {
    * @return the impact analysis result
    */
   public ImpactAnalysisResult analyzeImpact(ChangeSet changeSet) {
-    ImpactAnalyzer analyzer = new ImpactAnalyzer(this);
+    ImpactAnalyzer analyzer = new ImpactAnalyzer(this, DefinitionRepository.getRepository());
     return analyzer.analyze(changeSet);
   }
 
@@ -320,6 +479,10 @@ public class Project {
     private final SourceType sourceType;
     private String[] includePatterns = new String[0];
     private String[] excludePatterns = new String[0];
+    private Duration quietPeriod = DEFAULT_QUIET_PERIOD;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    // Captured here, as the repository may be scoped to the calling thread and files are watched on another thread
+    private final DefinitionRepository repository = DefinitionRepository.getRepository();
 
     private SourceSelector(SourceType sourceType) {
       this.sourceType = sourceType;
@@ -452,6 +615,31 @@ public class Project {
       return !Patterns.isExcluded(fileName, excludePatterns);
     }
 
+    /**
+     * Sets the quiet period used to coalesce file events: changes are only processed once no event has been received for
+     * the specified duration, so that a branch switch or a formatter run results in a single batch.
+     * Defaults to 100ms.
+     *
+     * @param quietPeriod the quiet period
+     * @return this selector for method chaining
+     */
+    public SourceSelector coalescing(Duration quietPeriod) {
+      this.quietPeriod = quietPeriod != null && !quietPeriod.isNegative() ? quietPeriod : DEFAULT_QUIET_PERIOD;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of files that are parsed at the same time when processing a batch of changes.
+     * Defaults to the number of available processors.
+     *
+     * @param parallelism the maximum number of parallel parsers
+     * @return this selector for method chaining
+     */
+    public SourceSelector parallelism(int parallelism) {
+      this.parallelism = Math.max(1, parallelism);
+      return this;
+    }
+
     /**
      * Starts watching for file changes and computes ChangeSet differences.
      * When files change, compares the new version with the previous version and
@@ -460,38 +648,59 @@ public class Project {
      *
      * @param changeConsumer consumer that receives ChangeSet for each file change
      * @return a CompletableFuture that can be used to control the watching
+     * @see #watchBatches(Consumer)
      */
     public CompletableFuture<Void> watch(Consumer<ChangeSet> changeConsumer) {
+      return watchBatches(batch -> batch.getChangeSets().forEach(changeConsumer));
+    }
+
+    /**
+     * Starts watching for file changes and emits a single {@link ChangeBatch} per quiet window.
+     * Events are coalesced per file, so only the final state of each file is considered (e.g. a delete followed by a
+     * create is a modification). The affected files are parsed in parallel.
+     *
+     * @param batchConsumer consumer that receives the changes of each quiet window
+     * @return a CompletableFuture that can be used to control the watching
+     */
+    public CompletableFuture<Void> watchBatches(Consumer<ChangeBatch> batchConsumer) {
       return CompletableFuture.runAsync(() -> {
-        // Keep track of previous file states for comparison
-        Map<Path, TypeDef> previousStates = new ConcurrentHashMap<>();
-
-        // Buffer for pending events to handle delete/create patterns
-        Map<Path, PendingEvent> pendingEvents = new ConcurrentHashMap<>();
-        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-
-        // Initialize previous states
-        for (Path path : list()) {
-          try {
-            TypeDef typeDef = parse(path);
-            previousStates.put(path, typeDef);
-          } catch (Exception e) {
-            // Skip files that can't be read initially
-          }
-        }
+        // Keep track of previous file states for comparison, skipping files that can't be read initially
+        Map<Path, TypeDef> previousStates = new HashMap<>(parse(list(), parallelism, repository));
 
         try (WatchService watchService = moduleRoot.toPath().getFileSystem().newWatchService()) {
           registerWatchDirectories(watchService);
 
+          long quietNanos = quietPeriod.toNanos();
+          // Don't let a never ending stream of events delay processing forever
+          long maxDelayNanos = quietNanos * MAX_DELAY_FACTOR;
+          Set<Path> pending = new LinkedHashSet<>();
+          long firstEvent = 0;
+          long lastEvent = 0;
+
           while (!Thread.currentThread().isInterrupted()) {
             WatchKey key;
             try {
-              key = watchService.take();
+              if (pending.isEmpty()) {
+                key = watchService.take();
+              } else {
+                long now = System.nanoTime();
+                long wait = Math.min(lastEvent + quietNanos, firstEvent + maxDelayNanos) - now;
+                key = wait > 0 ? watchService.poll(wait, TimeUnit.NANOSECONDS) : null;
+              }
             } catch (InterruptedException e) {
               Thread.currentThread().interrupt();
               break;
             }
 
+            if (key == null) {
+              ChangeBatch batch = detectChanges(pending, previousStates, firstEvent);
+              pending.clear();
+              if (!batch.getChangeSets().isEmpty()) {
+                batchConsumer.accept(batch);
+              }
+              continue;
+            }
+
             for (WatchEvent<?> event : key.pollEvents()) {
               WatchEvent.Kind<?> kind = event.kind();
 
@@ -507,9 +716,11 @@ public class Project {
               if (changedPath.toString().endsWith(".java") &&
                   matchesIncludePatterns(changedPath) &&
                   matchesExcludePatterns(changedPath)) {
-
-                handleFileEventWithBuffering(changedPath, kind, previousStates,
-                    pendingEvents, scheduler, changeConsumer);
+                lastEvent = System.nanoTime();
+                if (pending.isEmpty()) {
+                  firstEvent = lastEvent;
+                }
+                pending.add(changedPath);
               }
             }
 
@@ -520,109 +731,55 @@ public class Project {
           }
         } catch (Exception e) {
           throw new RuntimeException("Error watching files", e);
-        } finally {
-          scheduler.shutdown();
         }
       });
     }
 
-    private void handleFileEventWithBuffering(Path changedPath, WatchEvent.Kind<?> kind,
-        Map<Path, TypeDef> previousStates,
-        Map<Path, PendingEvent> pendingEvents,
-        ScheduledExecutorService scheduler,
-        Consumer<ChangeSet> changeConsumer) {
-
-      PendingEvent existingEvent = pendingEvents.get(changedPath);
-
-      if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
-        if (existingEvent != null) {
-          // Cancel any existing scheduled event
-          existingEvent.cancel();
-        }
-
-        // Schedule the delete event with a small delay to check for subsequent CREATE
-        PendingEvent deleteEvent = new PendingEvent(changedPath, kind, previousStates.get(changedPath));
-        pendingEvents.put(changedPath, deleteEvent);
-
-        deleteEvent.scheduledFuture = scheduler.schedule(() -> {
-          // Process the delete after delay (no CREATE event came)
-          pendingEvents.remove(changedPath);
-          processDeleteEvent(changedPath, previousStates, changeConsumer);
-        }, 100, TimeUnit.MILLISECONDS); // 100ms delay
-
-      } else if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
-        if (existingEvent != null && existingEvent.kind == StandardWatchEventKinds.ENTRY_DELETE) {
-          // This is a DELETE followed by CREATE - treat as MODIFY
-          existingEvent.cancel();
-          pendingEvents.remove(changedPath);
-
-          // Process as modify event
-          processModifyEvent(changedPath, previousStates, changeConsumer);
-        } else {
-          // This is a genuine CREATE event
-          processCreateEvent(changedPath, previousStates, changeConsumer);
-        }
-
-      } else if (kind == StandardWatchEventKinds.ENTRY_MODIFY) {
-        if (existingEvent != null) {
-          // Cancel any existing event
-          existingEvent.cancel();
-          pendingEvents.remove(changedPath);
+    /**
+     * Compares the current state of the specified files with their previous state.
+     * Files that no longer exist are considered deleted, all others are parsed again (in parallel) and compared.
+     *
+     * @param paths the paths of the files that received events
+     * @param previousStates the previous states, updated with the current state of the files
+     * @param firstEvent the time the first event of the batch was received, as returned by {@link System#nanoTime()}
+     * @return the batch of changes
+     */
+    ChangeBatch detectChanges(Collection<Path> paths, Map<Path, TypeDef> previousStates, long firstEvent) {
+      long start = System.nanoTime();
+      List<ChangeSet> changeSets = new ArrayList<>();
+      List<Path> existing = new ArrayList<>();
+      for (Path path : paths) {
+        if (Files.exists(path)) {
+          existing.add(path);
+          continue;
         }
-
-        // Process modify immediately
-        processModifyEvent(changedPath, previousStates, changeConsumer);
-      }
-    }
-
-    private void processDeleteEvent(Path changedPath, Map<Path, TypeDef> previousStates,
-        Consumer<ChangeSet> changeConsumer) {
-      TypeDef previousTypeDef = previousStates.get(changedPath);
-      if (previousTypeDef != null) {
-        try {
-          ChangeSet changeSet = ChangeDetector.compare(previousTypeDef, (TypeDef) null);
-          changeConsumer.accept(changeSet);
-        } catch (Exception e) {
-          System.err.println("Error processing delete for " + changedPath + ": " + e.getMessage());
+        TypeDef previousTypeDef = previousStates.remove(path);
+        if (previousTypeDef != null) {
+          changeSets.add(ChangeDetector.compare(previousTypeDef, (TypeDef) null));
         }
-        previousStates.remove(changedPath);
       }
-    }
-
-    private void processCreateEvent(Path changedPath, Map<Path, TypeDef> previousStates,
-        Consumer<ChangeSet> changeConsumer) {
-      try {
-        TypeDef newTypeDef = parse(changedPath);
-        ChangeSet changeSet = ChangeDetector.compare((TypeDef) null, newTypeDef);
-        changeConsumer.accept(changeSet);
-        previousStates.put(changedPath, newTypeDef);
-      } catch (Exception e) {
-        System.err.println("Error processing create for " + changedPath + ": " + e.getMessage());
-      }
-    }
-
-    private void processModifyEvent(Path changedPath, Map<Path, TypeDef> previousStates,
-        Consumer<ChangeSet> changeConsumer) {
-      try {
-        TypeDef previousTypeDef = previousStates.get(changedPath);
-        TypeDef newTypeDef = parse(changedPath);
 
-        ChangeSet changeSet;
-        if (previousTypeDef != null) {
-          changeSet = ChangeDetector.compare(previousTypeDef, newTypeDef);
-        } else {
-          // File didn't exist before, treat as create
-          changeSet = ChangeDetector.compare((TypeDef) null, newTypeDef);
+      Map<Path, TypeDef> parsed = parse(existing, parallelism, repository);
+      for (Path path : existing) {
+        TypeDef newTypeDef = parsed.get(path);
+        if (newTypeDef == null) {
+          System.err.println("Error processing change for " + path + ": failed to parse file");
+          continue;
         }
-
-        if (changeSet.hasChanges()) {
-          changeConsumer.accept(changeSet);
+        TypeDef previousTypeDef = previousStates.put(path, newTypeDef);
+        if (previousTypeDef == null) {
+          changeSets.add(ChangeDetector.compare((TypeDef) null, newTypeDef));
+        } else if (previousTypeDef != newTypeDef) {
+          ChangeSet changeSet = ChangeDetector.compare(previousTypeDef, newTypeDef);
+          if (changeSet.hasChanges()) {
+            changeSets.add(changeSet);
+          }
         }
-
-        previousStates.put(changedPath, newTypeDef);
-      } catch (Exception e) {
-        System.err.println("Error processing modify for " + changedPath + ": " + e.getMessage());
       }
+
+      long end = System.nanoTime();
+      return new ChangeBatch(changeSets, new LinkedHashSet<>(paths), Duration.ofNanos(end - firstEvent),
+          Duration.ofNanos(end - start));
     }
 
     private void registerWatchDirectories(WatchService watchService) throws Exception {
@@ -665,26 +822,4 @@ public class Project {
           });
     }
   }
-
-  /**
-   * Represents a pending file system event that may be part of an atomic operation.
-   */
-  private static class PendingEvent {
-    final Path path;
-    final WatchEvent.Kind<?> kind;
-    final TypeDef previousState;
-    volatile java.util.concurrent.ScheduledFuture<?> scheduledFuture;
-
-    PendingEvent(Path path, WatchEvent.Kind<?> kind, TypeDef previousState) {
-      this.path = path;
-      this.kind = kind;
-      this.previousState = previousState;
-    }
-
-    void cancel() {
-      if (scheduledFuture != null) {
-        scheduledFuture.cancel(false);
-      }
-    }
-  }
 }
@@ -1,22 +1,21 @@
 package io.sundr.adapter.source.analysis;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import io.sundr.adapter.source.Project;
 import io.sundr.adapter.source.change.Change;
 import io.sundr.adapter.source.change.ChangeSet;
-import io.sundr.builder.Visitor;
 import io.sundr.model.Field;
 import io.sundr.model.Method;
-import io.sundr.model.MethodBuilder;
-import io.sundr.model.PropertyRef;
-import io.sundr.model.PropertyRefFluent;
-import io.sundr.model.Super;
-import io.sundr.model.This;
 import io.sundr.model.TypeDef;
 import io.sundr.model.repo.DefinitionRepository;
+import io.sundr.model.repo.MethodCallerIndex;
 import io.sundr.model.repo.MethodReference;
 import io.sundr.utils.Dependencies;
 
@@ -28,10 +27,16 @@ public class ImpactAnalyzer {
 
   private final Project project;
   private final DefinitionRepository repository;
+  private MethodCallerIndex callerIndex;
 
+  /**
+   * Create an analyzer that uses the repository of the calling thread.
+   * The repository is captured here, so the analyzer may be used from other threads.
+   *
+   * @param project the project
+   */
   public ImpactAnalyzer(Project project) {
-    this.project = project;
-    this.repository = DefinitionRepository.getRepository();
+    this(project, DefinitionRepository.getRepository());
   }
 
   public ImpactAnalyzer(Project project, DefinitionRepository repository) {
@@ -46,6 +51,27 @@ public class ImpactAnalyzer {
    * @return the impact analysis result
    */
   public ImpactAnalysisResult analyze(ChangeSet changeSet) {
+    return analyzeAll(Collections.singletonList(changeSet)).get(0);
+  }
+
+  /**
+   * Performs impact analysis for each of the given ChangeSets.
+   * All change sets of a batch are registered to the repository before any of them is analyzed, so they need to be
+   * analyzed together for the caller index to reflect all of them.
+   *
+   * @param changeSets the changes to analyze
+   * @return the impact analysis results, in the order of the change sets
+   */
+  public List<ImpactAnalysisResult> analyzeAll(List<ChangeSet> changeSets) {
+    updateCallerIndex(changeSets);
+    List<ImpactAnalysisResult> results = new ArrayList<>(changeSets.size());
+    for (ChangeSet changeSet : changeSets) {
+      results.add(analyzeChangeSet(changeSet));
+    }
+    return results;
+  }
+
+  private ImpactAnalysisResult analyzeChangeSet(ChangeSet changeSet) {
     if (changeSet == null || !changeSet.hasChanges()) {
       return new ImpactAnalysisResult(Set.of(), Set.of(), Dependencies.newTree());
     }
@@ -83,6 +109,40 @@ public class ImpactAnalyzer {
     return new ImpactAnalysisResult(affectedFiles, affectedTypeDefs, dependencyTree);
   }
 
+  /**
+   * Makes sure the caller index reflects the repository.
+   * The index is built once and then only the types of the change sets are analyzed again.
+   */
+  private void updateCallerIndex(List<ChangeSet> changeSets) {
+    boolean hasChanges = false;
+    Set<String> changedTypes = new LinkedHashSet<>();
+    for (ChangeSet changeSet : changeSets) {
+      if (changeSet != null && changeSet.hasChanges()) {
+        hasChanges = true;
+        collectTypeNames(changeSet.getOldTypeDef(), changedTypes);
+        collectTypeNames(changeSet.getNewTypeDef(), changedTypes);
+      }
+    }
+    if (!hasChanges) {
+      return;
+    }
+    if (callerIndex == null || !callerIndex.isBuiltFrom(repository)) {
+      callerIndex = MethodReference.getCallerIndex(repository);
+    } else if (!callerIndex.isCurrent(repository)) {
+      callerIndex.update(changedTypes);
+    }
+  }
+
+  private static void collectTypeNames(TypeDef typeDef, Set<String> names) {
+    if (typeDef == null) {
+      return;
+    }
+    names.add(typeDef.getFullyQualifiedName());
+    for (TypeDef innerType : typeDef.getInnerTypes()) {
+      collectTypeNames(innerType, names);
+    }
+  }
+
   private void analyzeMethodChangesWithDependencyTree(ChangeSet changeSet,
       Dependencies.DependencyTree<MethodReference> dependencyTree) {
     for (Change<Method> methodChange : changeSet.getMethodChanges()) {
@@ -130,8 +190,7 @@ public class ImpactAnalyzer {
   }
 
   private Set<MethodReference> findMethodReferencesToMethod(MethodReference targetMethod) {
-    Set<MethodReference> callers = MethodReference.getDirectMethodCallers(targetMethod, repository);
-    return callers;
+    return callerIndex.getDirectCallers(targetMethod);
   }
 
   private void buildTransitiveDependencyTree(MethodReference target,
@@ -142,7 +201,7 @@ public class ImpactAnalyzer {
     visited.add(target);
 
     // Find direct callers of the target method using the new reverse lookup method
-    Set<MethodReference> directCallers = MethodReference.getDirectMethodCallers(target, repository);
+    Set<MethodReference> directCallers = callerIndex.getDirectCallers(target);
     for (MethodReference caller : directCallers) {
       // Add the caller as a child of the target (target impacts caller)
       dependencyTree.addDependency(target, caller);
@@ -162,69 +221,8 @@ public class ImpactAnalyzer {
   }
 
   private Set<MethodReference> findMethodsAccessingField(Field field) {
-    Set<MethodReference> accessors = new HashSet<>();
-    String fieldName = field.getName();
-
-    // Use visitor pattern to find actual field accesses with 'this' or 'super' scope
-    for (TypeDef typeDef : repository.getDefinitions()) {
-      for (Method method : typeDef.getMethods()) {
-        if (methodAccessesProperty(method, fieldName)) {
-          MethodReference methodRef = new MethodReference(method, typeDef);
-          accessors.add(methodRef);
-        }
-      }
-    }
-
-    return accessors;
-  }
-
-  /**
-   * Uses the visitor pattern to check if a method accesses the given property on 'this' or 'super'.
-   */
-  private boolean methodAccessesProperty(Method method, String propertyName) {
-    if (method.getBlock() == null) {
-      return false;
-    }
-
-    PropertyAccessVisitor visitor = new PropertyAccessVisitor(propertyName);
-
-    // Create a temporary method builder to make the method visitable
-    MethodBuilder methodBuilder = new MethodBuilder(method);
-    methodBuilder.accept(visitor);
-
-    return visitor.foundPropertyAccess();
-  }
-
-  /**
-   * Visitor that searches for PropertyRef instances with 'this' or 'super' scope matching a specific property name.
-   */
-  private static class PropertyAccessVisitor implements Visitor<PropertyRefFluent<?>> {
-    private final String targetPropertyName;
-    private boolean foundAccess = false;
-
-    public PropertyAccessVisitor(String targetPropertyName) {
-      this.targetPropertyName = targetPropertyName;
-    }
-
-    @Override
-    public void visit(PropertyRefFluent<?> propertyRefFluent) {
-      // Check if this PropertyRef matches our target property
-      if (propertyRefFluent.hasProperty() &&
-          targetPropertyName.equals(propertyRefFluent.buildProperty().getName())) {
-
-        // Only consider explicit 'this' or 'super' scope (exclude null scope)
-        if (propertyRefFluent.hasScope()) {
-          Object scope = propertyRefFluent.buildScope();
-          if (scope instanceof This || scope instanceof Super) {
-            foundAccess = true;
-          }
-        }
-      }
-    }
-
-    public boolean foundPropertyAccess() {
-      return foundAccess;
-    }
+    // Only accesses through 'this' or 'super' are indexed
+    return callerIndex.getPropertyAccessors(field.getName());
   }
 
   private java.util.Optional<Path> findFileForTypeDef(TypeDef typeDef) {
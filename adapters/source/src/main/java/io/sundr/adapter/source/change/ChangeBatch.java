@@ -0,0 +1,72 @@
+package io.sundr.adapter.source.change;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Represents the changes of all the files that were modified within the same quiet window while watching a project.
+ * Holds one {@link ChangeSet} per changed type, along with the time it took to detect them.
+ */
+public class ChangeBatch {
+  private final List<ChangeSet> changeSets;
+  private final Set<Path> paths;
+  private final Duration latency;
+  private final Duration processingTime;
+
+  public ChangeBatch(List<ChangeSet> changeSets, Set<Path> paths, Duration latency, Duration processingTime) {
+    this.changeSets = changeSets != null ? new ArrayList<>(changeSets) : new ArrayList<>();
+    this.paths = paths != null ? new LinkedHashSet<>(paths) : new LinkedHashSet<>();
+    this.latency = latency;
+    this.processingTime = processingTime;
+  }
+
+  public List<ChangeSet> getChangeSets() {
+    return Collections.unmodifiableList(changeSets);
+  }
+
+  /**
+   * Returns the paths of the files that triggered the batch, including the ones without any relevant change.
+   */
+  public Set<Path> getPaths() {
+    return Collections.unmodifiableSet(paths);
+  }
+
+  /**
+   * Returns the time between the first file event of the batch and the moment the batch was emitted.
+   */
+  public Duration getLatency() {
+    return latency;
+  }
+
+  /**
+   * Returns the time spent parsing the changed files and detecting the changes.
+   */
+  public Duration getProcessingTime() {
+    return processingTime;
+  }
+
+  /**
+   * Returns true if any changes were detected.
+   */
+  public boolean hasChanges() {
+    return changeSets.stream().anyMatch(ChangeSet::hasChanges);
+  }
+
+  /**
+   * Returns the total number of changes.
+   */
+  public int getTotalChanges() {
+    return changeSets.stream().mapToInt(ChangeSet::getTotalChanges).sum();
+  }
+
+  @Override
+  public String toString() {
+    return "ChangeBatch of " + changeSets.size() + " change sets from " + paths.size() + " files (latency: "
+        + latency.toMillis() + "ms, processing: " + processingTime.toMillis() + "ms)";
+  }
+}
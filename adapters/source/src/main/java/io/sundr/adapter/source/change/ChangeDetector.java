@@ -29,10 +29,17 @@ public class ChangeDetector {
   }
 
   /**
-   * Compares two source files and returns the changes.
+   * Compares two source files and returns the changes, using the repository of the calling thread.
    */
   public static ChangeSet compare(Path oldFile, Path newFile) throws IOException {
-    AdapterContext context = AdapterContext.create(DefinitionRepository.getRepository());
+    return compare(oldFile, newFile, DefinitionRepository.getRepository());
+  }
+
+  /**
+   * Compares two source files and returns the changes.
+   */
+  public static ChangeSet compare(Path oldFile, Path newFile, DefinitionRepository repository) throws IOException {
+    AdapterContext context = AdapterContext.create(repository);
 
     TypeDef oldTypeDef = readTypeDefFromFile(oldFile, context);
     TypeDef newTypeDef = readTypeDefFromFile(newFile, context);
@@ -41,20 +48,34 @@ public class ChangeDetector {
   }
 
   /**
-   * Compares old TypeDef with new source file.
+   * Compares old TypeDef with new source file, using the repository of the calling thread.
    */
   public static ChangeSet compare(TypeDef oldTypeDef, Path newFile) throws IOException {
-    AdapterContext context = AdapterContext.create(DefinitionRepository.getRepository());
+    return compare(oldTypeDef, newFile, DefinitionRepository.getRepository());
+  }
+
+  /**
+   * Compares old TypeDef with new source file.
+   */
+  public static ChangeSet compare(TypeDef oldTypeDef, Path newFile, DefinitionRepository repository) throws IOException {
+    AdapterContext context = AdapterContext.create(repository);
     TypeDef newTypeDef = readTypeDefFromFile(newFile, context);
 
     return compare(oldTypeDef, newTypeDef);
   }
 
   /**
-   * Compares old source file with new TypeDef.
+   * Compares old source file with new TypeDef, using the repository of the calling thread.
    */
   public static ChangeSet compare(Path oldFile, TypeDef newTypeDef) throws IOException {
-    AdapterContext context = AdapterContext.create(DefinitionRepository.getRepository());
+    return compare(oldFile, newTypeDef, DefinitionRepository.getRepository());
+  }
+
+  /**
+   * Compares old source file with new TypeDef.
+   */
+  public static ChangeSet compare(Path oldFile, TypeDef newTypeDef, DefinitionRepository repository) throws IOException {
+    AdapterContext context = AdapterContext.create(repository);
     TypeDef oldTypeDef = readTypeDefFromFile(oldFile, context);
 
     return compare(oldTypeDef, newTypeDef);
@@ -158,12 +179,9 @@ public class ChangeDetector {
       return false;
     }
 
-    // Compare method body/block using render() method, ignoring comments and formatting
-    // This is a pragmatic approach since Block objects may not have proper equals() implementation
-    String block1Str = method1.getBlock() != null ? normalizeCode(method1.getBlock().render()) : null;
-    String block2Str = method2.getBlock() != null ? normalizeCode(method2.getBlock().render()) : null;
-
-    if (!Objects.equals(block1Str, block2Str)) {
+    // Compare method bodies by their structural hash, which ignores comments and formatting
+    // and is cached, so that unchanged methods are never rendered
+    if (!Objects.equals(StructuralHash.of(method1), StructuralHash.of(method2))) {
       return false;
     }
 
@@ -187,28 +205,4 @@ public class ChangeDetector {
       return Sources.readTypeDefFromStream(fis, context);
     }
   }
-
-  /**
-   * Normalizes code by removing comments and normalizing all formatting/whitespace.
-   * This allows comparison to focus on actual code changes rather than stylistic differences.
-   */
-  private static String normalizeCode(String code) {
-    if (code == null) {
-      return null;
-    }
-
-    // Remove single-line comments (//)
-    code = code.replaceAll("//.*?(?=\n|$)", "");
-
-    // Remove multi-line comments (/* ... */) including nested ones
-    code = code.replaceAll("/\\*.*?\\*/", "");
-
-    // Normalize all whitespace: replace any whitespace sequence with single space
-    code = code.replaceAll("\\s+", " ");
-
-    // Remove leading/trailing whitespace
-    code = code.trim();
-
-    return code;
-  }
 }
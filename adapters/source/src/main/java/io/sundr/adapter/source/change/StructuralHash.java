@@ -0,0 +1,190 @@
+package io.sundr.adapter.source.change;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.sundr.model.AttributeSupport;
+import io.sundr.model.Block;
+import io.sundr.model.Method;
+import io.sundr.model.StringStatement;
+
+/**
+ * Computes a hash over the structure of the statements and expressions of a method body.
+ * The hash only depends on the model tree, so formatting and comments don't affect it, and it's much cheaper than
+ * rendering and normalizing the code of the body.
+ *
+ * Hashes are cached per {@link Block} instance, as model objects are immutable.
+ */
+public final class StructuralHash {
+
+  private static final long OFFSET = 0xcbf29ce484222325L;
+  private static final long PRIME = 0x100000001b3L;
+
+  private static final long NULL = 0x9e3779b97f4a7c15L;
+  private static final long CYCLE = 0xc2b2ae3d27d4eb4fL;
+
+  // Block doesn't override equals, so this is an identity cache that doesn't keep blocks alive.
+  private static final Map<Block, Long> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+  private static final Map<Class<?>, List<java.lang.reflect.Field>> FIELDS = new ConcurrentHashMap<>();
+
+  private StructuralHash() {
+    //Utility class
+  }
+
+  /**
+   * Get the structural hash of the body of the specified method.
+   *
+   * @param method the method
+   * @return the hash of the method body, or null if the method has no body
+   */
+  public static Long of(Method method) {
+    return method.getBlock() != null ? of(method.getBlock()) : null;
+  }
+
+  /**
+   * Get the structural hash of the specified block.
+   *
+   * @param block the block
+   * @return the hash
+   */
+  public static long of(Block block) {
+    Long hash = CACHE.get(block);
+    if (hash == null) {
+      hash = hash(OFFSET, block, Collections.newSetFromMap(new IdentityHashMap<>()));
+      CACHE.put(block, hash);
+    }
+    return hash;
+  }
+
+  private static long mix(long hash, long value) {
+    return (hash ^ value) * PRIME;
+  }
+
+  private static long mix(long hash, String value) {
+    hash = mix(hash, value.length());
+    for (int i = 0; i < value.length(); i++) {
+      hash = mix(hash, value.charAt(i));
+    }
+    return hash;
+  }
+
+  private static long hash(long hash, Object value, Set<Object> path) {
+    if (value == null) {
+      return mix(hash, NULL);
+    }
+    if (value instanceof String) {
+      return mix(mix(hash, 's'), (String) value);
+    }
+    if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+      return mix(mix(hash, value.getClass().getName()), value.toString());
+    }
+    if (value instanceof Enum) {
+      return mix(mix(hash, value.getClass().getName()), ((Enum<?>) value).name());
+    }
+    if (value instanceof Class) {
+      return mix(mix(hash, 'c'), ((Class<?>) value).getName());
+    }
+    if (value instanceof StringStatement) {
+      // Raw code, so fall back to its normalized text
+      return mix(mix(hash, StringStatement.class.getName()), normalize(value.toString()));
+    }
+    if (value instanceof Optional) {
+      return hash(mix(hash, 'o'), ((Optional<?>) value).orElse(null), path);
+    }
+    if (value instanceof Supplier) {
+      return hash(hash, ((Supplier<?>) value).get(), path);
+    }
+    if (!path.add(value)) {
+      return mix(hash, CYCLE);
+    }
+    try {
+      if (value instanceof Set) {
+        // Order independent
+        long sum = 0;
+        for (Object item : (Set<?>) value) {
+          sum += hash(OFFSET, item, path);
+        }
+        return mix(mix(hash, 'S'), sum);
+      }
+      if (value instanceof Collection) {
+        hash = mix(mix(hash, 'L'), ((Collection<?>) value).size());
+        for (Object item : (Collection<?>) value) {
+          hash = hash(hash, item, path);
+        }
+        return hash;
+      }
+      if (value instanceof Map) {
+        long sum = 0;
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+          sum += hash(hash(OFFSET, entry.getKey(), path), entry.getValue(), path);
+        }
+        return mix(mix(hash, 'M'), sum);
+      }
+      if (value.getClass().isArray()) {
+        int length = Array.getLength(value);
+        hash = mix(mix(hash, 'A'), length);
+        for (int i = 0; i < length; i++) {
+          hash = hash(hash, Array.get(value, i), path);
+        }
+        return hash;
+      }
+      if (value.getClass().getName().startsWith("io.sundr.model.")) {
+        hash = mix(hash, value.getClass().getName());
+        for (java.lang.reflect.Field field : fieldsOf(value.getClass())) {
+          hash = hash(hash, field.get(value), path);
+        }
+        return hash;
+      }
+      return mix(mix(hash, value.getClass().getName()), normalize(String.valueOf(value)));
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Failed to read the structure of " + value.getClass().getName(), e);
+    } finally {
+      path.remove(value);
+    }
+  }
+
+  /**
+   * The fields that make up the structure of a model class: comments and attributes are not part of it.
+   */
+  private static List<java.lang.reflect.Field> fieldsOf(Class<?> type) {
+    return FIELDS.computeIfAbsent(type, t -> {
+      List<java.lang.reflect.Field> fields = new ArrayList<>();
+      for (Class<?> c = t; c != null && c != Object.class; c = c.getSuperclass()) {
+        if (c == AttributeSupport.class) {
+          continue;
+        }
+        for (java.lang.reflect.Field field : c.getDeclaredFields()) {
+          int modifiers = field.getModifiers();
+          if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()
+              || field.getName().equals("comments")) {
+            continue;
+          }
+          field.setAccessible(true);
+          fields.add(field);
+        }
+      }
+      return fields;
+    });
+  }
+
+  /**
+   * Normalizes code by removing comments and normalizing all formatting/whitespace.
+   */
+  static String normalize(String code) {
+    return code.replaceAll("//.*?(?=\n|$)", "")
+        .replaceAll("/\\*.*?\\*/", "")
+        .replaceAll("\\s+", " ")
+        .trim();
+  }
+}
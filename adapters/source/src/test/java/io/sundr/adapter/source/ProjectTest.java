@@ -3,21 +3,39 @@ package io.sundr.adapter.source;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.sundr.adapter.source.change.ChangeBatch;
+import io.sundr.adapter.source.change.ChangeSet;
+import io.sundr.model.TypeDef;
+import io.sundr.model.repo.DefinitionRepository;
 
 public class ProjectTest {
 
   private final Project project = Project.getProject();
 
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
   @Test
   public void shouldFindModuleRoot() {
     assertTrue(project.getModuleRoot().exists());
@@ -108,6 +126,114 @@ public class ProjectTest {
         customRoot.toFile(), customProject.getModuleRoot());
   }
 
+  @Test
+  public void shouldParseFilesInParallelAndCacheUnchanged() throws Exception {
+    Path sources = folder.newFolder("src", "main", "java", "com", "example").toPath();
+    for (int i = 0; i < 8; i++) {
+      Files.write(sources.resolve("Type" + i + ".java"),
+          ("package com.example;\npublic class Type" + i + " { public int value() { return " + i + "; } }\n").getBytes());
+    }
+    Files.write(sources.resolve("Broken.java"), "package com.example;\npublic class {".getBytes());
+
+    Project sample = Project.getProject(folder.getRoot().toPath());
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    Map<Path, TypeDef> first = DefinitionRepository.withRepository(repository)
+        .apply(r -> sample.parse(sample.listJavaSourceFiles(), 4));
+
+    assertEquals(8, first.size());
+    assertFalse(first.containsKey(sources.resolve("Broken.java")));
+    assertTrue(repository.hasDefinition("com.example.Type3"));
+
+    Path changed = sources.resolve("Type3.java");
+    Files.write(changed, "package com.example;\npublic class Type3 { public int value() { return 33; } }\n".getBytes());
+    Files.setLastModifiedTime(changed, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+
+    Map<Path, TypeDef> second = DefinitionRepository.withRepository(repository)
+        .apply(r -> sample.parse(sample.listJavaSourceFiles(), 4));
+    assertEquals(8, second.size());
+    assertSame(first.get(sources.resolve("Type1.java")), second.get(sources.resolve("Type1.java")));
+    assertNotSame(first.get(changed), second.get(changed));
+  }
+
+  @Test
+  public void shouldDetectChangesOfAllFilesInOneBatch() throws Exception {
+    Path sources = folder.newFolder("src", "main", "java", "com", "example").toPath();
+    for (String name : Arrays.asList("Kept", "Edited", "Deleted")) {
+      Files.write(sources.resolve(name + ".java"), source(name, 1).getBytes());
+    }
+
+    Project sample = Project.getProject(folder.getRoot().toPath());
+    Project.SourceSelector selector = sample.sources().parallelism(2);
+    Map<Path, TypeDef> previousStates = new HashMap<>(sample.parse(selector.list()));
+
+    Path edited = sources.resolve("Edited.java");
+    Files.write(edited, source("Edited", 22).getBytes());
+    Files.setLastModifiedTime(edited, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+    Files.delete(sources.resolve("Deleted.java"));
+    Files.write(sources.resolve("Created.java"), source("Created", 1).getBytes());
+
+    long firstEvent = System.nanoTime();
+    ChangeBatch batch = selector.detectChanges(Arrays.asList(sources.resolve("Kept.java"), edited,
+        sources.resolve("Deleted.java"), sources.resolve("Created.java")), previousStates, firstEvent);
+
+    Set<String> changed = batch.getChangeSets().stream()
+        .map(c -> c.getNewTypeDef() != null ? c.getNewTypeDef().getName() : c.getOldTypeDef().getName())
+        .collect(Collectors.toSet());
+    assertEquals(Set.of("Edited", "Deleted", "Created"), changed);
+    assertEquals(4, batch.getPaths().size());
+    assertTrue(batch.hasChanges());
+    assertFalse(batch.getLatency().isNegative());
+    assertFalse(previousStates.containsKey(sources.resolve("Deleted.java")));
+    assertTrue(previousStates.containsKey(sources.resolve("Created.java")));
+
+    ChangeSet edit = batch.getChangeSets().stream()
+        .filter(c -> c.getOldTypeDef() != null && c.getNewTypeDef() != null)
+        .findFirst().get();
+    assertEquals(1, edit.getMethodChanges().size());
+  }
+
+  @Test
+  public void shouldDetectEditsThatKeepSizeAndModificationTime() throws Exception {
+    Path sources = folder.newFolder("src", "main", "java", "com", "example").toPath();
+    Path edited = sources.resolve("Edited.java");
+    Files.write(edited, source("Edited", 1).getBytes());
+    FileTime lastModified = Files.getLastModifiedTime(edited);
+
+    Project sample = Project.getProject(folder.getRoot().toPath());
+    Project.SourceSelector selector = sample.sources();
+    Map<Path, TypeDef> previousStates = new HashMap<>(sample.parse(selector.list()));
+
+    Files.write(edited, source("Edited", 2).getBytes());
+    Files.setLastModifiedTime(edited, lastModified);
+
+    ChangeBatch batch = selector.detectChanges(Arrays.asList(edited), previousStates, System.nanoTime());
+    assertEquals(1, batch.getChangeSets().size());
+    assertEquals(1, batch.getChangeSets().get(0).getMethodChanges().size());
+  }
+
+  @Test
+  public void shouldDetectChangesWithTheRepositoryOfTheSelector() throws Exception {
+    Path sources = folder.newFolder("src", "main", "java", "com", "example").toPath();
+    Path created = sources.resolve("ScopedCreated.java");
+    Files.write(created, source("ScopedCreated", 1).getBytes());
+
+    Project sample = Project.getProject(folder.getRoot().toPath());
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    Project.SourceSelector selector = DefinitionRepository.withRepository(repository).apply(r -> sample.sources());
+
+    // Changes are detected on the watch thread, outside the scope of the repository
+    ChangeBatch batch = CompletableFuture
+        .supplyAsync(() -> selector.detectChanges(Arrays.asList(created), new HashMap<>(), System.nanoTime())).get();
+
+    assertEquals(1, batch.getChangeSets().size());
+    assertTrue(repository.hasDefinition("com.example.ScopedCreated"));
+    assertFalse(DefinitionRepository.getRepository().hasDefinition("com.example.ScopedCreated"));
+  }
+
+  private static String source(String name, int value) {
+    return "package com.example;\npublic class " + name + " { public int value() { return " + value + "; } }\n";
+  }
+
   // =================================================================
   // Fluent API Tests
   // =================================================================
@@ -5,6 +5,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Before;
@@ -356,6 +357,47 @@ public class ImpactAnalyzerTest {
     assertEquals(expected, result.getDependencyTree().render());
   }
 
+  @Test
+  public void testAnalyzeAllUpdatesCallerIndexForWholeBatch() {
+    TypeDef a = createCallingTypeDef("A", "caller");
+    TypeDef b = createCallingTypeDef("B", "caller");
+    repository.register(a);
+    repository.register(b);
+    analyzer.analyze(calleeChangeSet(a, a));
+
+    // All types of a batch are registered before any of them is analyzed
+    TypeDef newA = createCallingTypeDef("A", "newCaller");
+    TypeDef newB = createCallingTypeDef("B", "newCaller");
+    repository.register(newA);
+    repository.register(newB);
+    List<ImpactAnalysisResult> results = analyzer
+        .analyzeAll(List.of(calleeChangeSet(a, newA), calleeChangeSet(b, newB)));
+
+    assertEquals(2, results.size());
+    assertEquals("A.calleeA\n\\- A.newCaller", results.get(0).getDependencyTree().render());
+    assertEquals("B.calleeB\n\\- B.newCaller", results.get(1).getDependencyTree().render());
+  }
+
+  private static TypeDef createCallingTypeDef(String name, String callerName) {
+    return new TypeDefBuilder()
+        .withPackageName("com.example")
+        .withName(name)
+        .addNewMethod().withName("callee" + name).withReturnType(new VoidRef()).endMethod()
+        .addNewMethod()
+        .withName(callerName)
+        .withReturnType(new VoidRef())
+        .withNewBlock()
+        .withStatements(new This().call("callee" + name))
+        .endBlock()
+        .endMethod()
+        .build();
+  }
+
+  private static ChangeSet calleeChangeSet(TypeDef oldTypeDef, TypeDef newTypeDef) {
+    Change<Method> change = Change.modified(oldTypeDef.getMethods().get(0), newTypeDef.getMethods().get(0));
+    return new ChangeSet(oldTypeDef, newTypeDef, Set.of(change), Set.of());
+  }
+
   private TypeDef createSampleTypeDef(String fullyQualifiedName) {
     return new TypeDefBuilder()
         .withPackageName(fullyQualifiedName.substring(0, fullyQualifiedName.lastIndexOf('.')))
@@ -0,0 +1,87 @@
+package io.sundr.adapter.source.change;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import io.sundr.adapter.api.AdapterContext;
+import io.sundr.adapter.source.utils.Sources;
+import io.sundr.model.*;
+import io.sundr.model.repo.DefinitionRepository;
+
+public class StructuralHashTest {
+
+  @Test
+  public void testSameStructureSameHash() {
+    Method method1 = method(Return.value("test"));
+    Method method2 = method(Return.value("test"));
+
+    assertEquals(StructuralHash.of(method1), StructuralHash.of(method2));
+  }
+
+  @Test
+  public void testDifferentStructureDifferentHash() {
+    assertNotEquals(StructuralHash.of(method(Return.value("test"))), StructuralHash.of(method(Return.value("other"))));
+    assertNotEquals(StructuralHash.of(method(Return.value(1))), StructuralHash.of(method(Return.value(1L))));
+    assertNotEquals(StructuralHash.of(method(Return.call("a"))), StructuralHash.of(method(Return.call("b"))));
+  }
+
+  @Test
+  public void testNoBody() {
+    assertNull(StructuralHash.of(new MethodBuilder().withName("abstractMethod").build()));
+  }
+
+  @Test
+  public void testIgnoresFormattingAndComments() {
+    String source1 = "package com.example;\n"
+        + "public class Sample {\n"
+        + "  public int sum(int a, int b) {\n"
+        + "    int c = a + b;\n"
+        + "    return c;\n"
+        + "  }\n"
+        + "}\n";
+    String source2 = "package com.example;\n"
+        + "public class Sample {\n"
+        + "  public int sum(int a, int b) {\n"
+        + "    // add them up\n"
+        + "    int c =\n"
+        + "        a +   b;\n"
+        + "    /* and return */ return c;\n"
+        + "  }\n"
+        + "}\n";
+    String source3 = source1.replace("a + b", "a - b");
+
+    long hash1 = StructuralHash.of(parse(source1).getMethods().get(0));
+    long hash2 = StructuralHash.of(parse(source2).getMethods().get(0));
+    long hash3 = StructuralHash.of(parse(source3).getMethods().get(0));
+
+    assertEquals(hash1, hash2);
+    assertNotEquals(hash1, hash3);
+  }
+
+  @Test
+  public void testStringStatementsAreNormalized() {
+    assertEquals(StructuralHash.of(method(new StringStatement("foo( 1,\n 2 );"))),
+        StructuralHash.of(method(new StringStatement("foo( 1, 2 );"))));
+    assertNotEquals(StructuralHash.of(method(new StringStatement("foo(1, 2);"))),
+        StructuralHash.of(method(new StringStatement("foo(2, 1);"))));
+  }
+
+  private static Method method(Statement statement) {
+    return new MethodBuilder()
+        .withName("testMethod")
+        .withReturnType(ClassRef.forClass(String.class))
+        .withNewBlock()
+        .withStatements(statement)
+        .endBlock()
+        .build();
+  }
+
+  private static TypeDef parse(String source) {
+    AdapterContext context = AdapterContext.create(DefinitionRepository.createRepository());
+    return Sources.readTypeDefFromStream(new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8)), context);
+  }
+}
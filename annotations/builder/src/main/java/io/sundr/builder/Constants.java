@@ -70,6 +70,8 @@ public class Constants {
       "LAZY_COLLECTIONS_INIT_ENABLED", Boolean.class);
   public static final AttributeKey<Boolean> LAZY_MAP_INIT_ENABLED = new AttributeKey<Boolean>("LAZY_MAPS_INIT_ENABLED",
       Boolean.class);
+  public static final AttributeKey<Boolean> LAZY_COPY_ENABLED = new AttributeKey<Boolean>("LAZY_COPY_ENABLED",
+      Boolean.class);
 
   public static final AttributeKey<Boolean> EDITABLE_ENABLED = new AttributeKey<Boolean>("EDITABLE_ENABLED", Boolean.class);
   public static final AttributeKey<Boolean> BUILDABLE_ENABLED = new AttributeKey<Boolean>("BUILDABLE_ENABLED", Boolean.class);
@@ -92,6 +94,15 @@ public class Constants {
   public static final AttributeKey<Function<List<Expression>, Expression>> INIT_EXPRESSION_FUNCTION = new AttributeKey<Function<List<Expression>, Expression>>(
       "INIT_EXPRESSION_FUNCTION", Function.class);
 
+  /**
+   * The attribute keys above. Attribute keys are compared by identity, so definitions restored from a snapshot need to
+   * use these instances for their attributes to be found.
+   */
+  public static final List<AttributeKey<?>> ATTRIBUTE_KEYS = Arrays.asList(ORIGIN_TYPEDEF, OUTER_TYPE, GENERIC_TYPE_REF,
+      DESCENDANT_OF, DESCENDANTS, ADDITIONAL_BUILDABLES, ADDITIONAL_TYPES, VALIDATION_ENABLED,
+      LAZY_COLLECTIONS_INIT_ENABLED, LAZY_MAP_INIT_ENABLED, LAZY_COPY_ENABLED, EDITABLE_ENABLED, BUILDABLE_ENABLED, SKIP,
+      GENERATED, BUILDABLE, IGNORE_PROPERTIES, EXTERNAL_BUILDABLE, INIT_EXPRESSION, INIT_EXPRESSION_FUNCTION);
+
   public static final AnnotationRef BUILDABLE_ANNOTATION = new AnnotationRefBuilder()
       .withNewClassRef()
       .withFullyQualifiedName(Buildable.class.getName())
@@ -50,6 +50,16 @@ public @interface Buildable {
 
   boolean lazyMapInitEnabled() default true;
 
+  /**
+   * Copy lists of nested buildables lazily, when an instance is copied into a builder.
+   *
+   * The nested builders are only created when the list is edited, and otherwise the built instance reuses the items of
+   * the copied instance. This is only safe when the nested buildables are immutable.
+   *
+   * @return true if lazy copies should be enabled, false otherwise.
+   */
+  boolean lazyCopyEnabled() default false;
+
   boolean generateBuilderPackage() default false;
 
   String builderPackage() default Constants.DEFAULT_BUILDER_PACKAGE;
@@ -22,6 +22,7 @@ import static io.sundr.model.utils.Collections.SET;
 import static io.sundr.model.utils.Types.BOOLEAN_REF;
 import static io.sundr.model.utils.Types.CLASS;
 import static io.sundr.model.utils.Types.CLASS_REF_NO_ARG;
+import static io.sundr.model.utils.Types.INT_REF;
 import static io.sundr.model.utils.Types.OPTIONAL;
 import static io.sundr.model.utils.Types.PRIMITIVE_BOOLEAN_REF;
 import static io.sundr.model.utils.Types.PRIMITIVE_INT_REF;
@@ -30,11 +31,17 @@ import static io.sundr.model.utils.Types.TYPE;
 import static io.sundr.model.utils.Types.newTypeParamRef;
 
 import java.lang.reflect.Method;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Spliterator;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
@@ -77,8 +84,11 @@ public class BuilderContext {
   private final TypeDef nestedInterface;
   private final TypeDef editableInterface;
   private TypeDef visitableInterface;
+  private final TypeDef visitorPathClass;
   private final TypeDef visitableBuilderInterface;
   private final TypeDef visitableMapClass;
+  private final TypeDef visitableListClass;
+  private final TypeDef lazyBuilderListClass;
   private final TypeDef inlineableBase;
   private final TypeDef validationUtils;
   private final TypeDef baseFluentClass;
@@ -127,6 +137,14 @@ public class BuilderContext {
 
     TypeDef functionalInterfaceType = TypeDef.forName(FunctionalInterface.class.getName());
 
+    TypeDef classValueType = new TypeDefBuilder(TypeDef.forName(ClassValue.class.getName()))
+        .withParameters(T)
+        .build();
+
+    TypeDef functionType = new TypeDefBuilder(TypeDef.forName(Function.class.getName()))
+        .withParameters(T, V)
+        .build();
+
     builderInterface = new TypeDefBuilder()
         .withNewModifiers().withPublic().endModifiers()
         .withKind(Kind.INTERFACE)
@@ -153,6 +171,28 @@ public class BuilderContext {
         .withNewModifiers().withPrivate().endModifiers()
         .endConstructor()
 
+        .addNewField()
+        .withNewModifiers().withPrivate().withStatic().withFinal().endModifiers()
+        .withName("TYPE_ARGUMENTS")
+        .withTypeRef(classValueType.toReference(
+            Collections.MAP.toReference(CLASS_REF_NO_ARG, Collections.LIST.toReference(CLASS_REF_NO_ARG))))
+        .addToAttributes(Attributeable.INIT, "classValue(c -> new ConcurrentHashMap<>())")
+        .endField()
+
+        .addNewField()
+        .withNewModifiers().withPrivate().withStatic().withFinal().endModifiers()
+        .withName("VISIT_METHOD_ARGUMENTS")
+        .withTypeRef(classValueType.toReference(Collections.MAP.toReference(INT_REF, CLASS_REF_NO_ARG)))
+        .addToAttributes(Attributeable.INIT, "classValue(Visitors::findVisitMethodArguments)")
+        .endField()
+
+        .addNewField()
+        .withNewModifiers().withPrivate().withStatic().withFinal().endModifiers()
+        .withName("REQUIREMENTS")
+        .withTypeRef(classValueType.toReference(BOOLEAN_REF))
+        .addToAttributes(Attributeable.INIT, "classValue(Visitors::overridesRequirement)")
+        .endField()
+
         .addNewMethod()
         .withName("newVisitor")
         .withParameters(T)
@@ -184,6 +224,76 @@ public class BuilderContext {
         .endArgument()
         .endMethod()
 
+        .addNewMethod()
+        .withNewModifiers().withProtected().withStatic().endModifiers()
+        .withParameters(T)
+        .withName("getCachedTypeArguments")
+        .withReturnType(Collections.LIST.toReference(CLASS_REF_NO_ARG))
+        .addNewArgument()
+        .withTypeRef(CLASS.toReference(T.toReference()))
+        .withName("baseClass")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(CLASS.toReference(new WildcardRefBuilder().withBounds(T.toReference()).build()))
+        .withName("childClass")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().withStatic().endModifiers()
+        .withName("getVisitMethodArgument")
+        .withReturnType(CLASS.toReference(new WildcardRef()))
+        .addNewArgument()
+        .withTypeRef(CLASS.toReference(new WildcardRef()))
+        .withName("visitorClass")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("arity")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().withStatic().endModifiers()
+        .withName("hasRequirement")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(CLASS.toReference(new WildcardRef()))
+        .withName("visitorClass")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().withStatic().endModifiers()
+        .withName("findVisitMethodArguments")
+        .withReturnType(Collections.MAP.toReference(INT_REF, CLASS_REF_NO_ARG))
+        .addNewArgument()
+        .withTypeRef(CLASS.toReference(new WildcardRef()))
+        .withName("visitorClass")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().withStatic().endModifiers()
+        .withName("overridesRequirement")
+        .withReturnType(BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(CLASS.toReference(new WildcardRef()))
+        .withName("visitorClass")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().withStatic().endModifiers()
+        .withParameters(V)
+        .withName("classValue")
+        .withReturnType(classValueType.toReference(V.toReference()))
+        .addNewArgument()
+        .withTypeRef(functionType.toReference(CLASS.toReference(new WildcardRef()), V.toReference()))
+        .withName("function")
+        .endArgument()
+        .endMethod()
+
         // getRawName
         .addNewMethod()
         .withNewModifiers().withPrivate().withStatic().endModifiers()
@@ -314,6 +424,13 @@ public class BuilderContext {
         .endClassRefReturnType()
         .endMethod()
 
+        .addNewMethod()
+        .withDefaultMethod(true)
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("requiresPath")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .endMethod()
+
         .addNewMethod()
         .withDefaultMethod()
         .withParameters(I)
@@ -469,7 +586,7 @@ public class BuilderContext {
         .withName("listeners")
         .withNewModifiers().withStatic().endModifiers()
         .withTypeRef(SET.toReference(visitorListenerSelfRef))
-        .addToAttributes(Attributeable.INIT, "new HashSet<>()")
+        .addToAttributes(Attributeable.INIT, "new CopyOnWriteArraySet<>()")
         .endField()
 
         .addNewMethod()
@@ -774,6 +891,100 @@ public class BuilderContext {
         .accept(new ApplyImportsFromResources("io/sundr/builder/DelegatingVisitor.java"))
         .build();
 
+    ClassRef pathEntryRef = Collections.MAP_ENTRY.toReference(STRING_REF, TypeDef.OBJECT_REF);
+    ClassRef pathRef = Collections.LIST.toReference(pathEntryRef);
+    visitorPathClass = new TypeDefBuilder()
+        .withNewModifiers().withPublic().withFinal().endModifiers()
+        .withKind(Kind.CLASS)
+        .withPackageName("io.sundr.builder")
+        .withName("VisitorPath")
+        .withExtendsList(TypeDef.forName(AbstractList.class.getName()).toReference(pathEntryRef))
+
+        .addNewField()
+        .withNewModifiers().withPrivate().withFinal().endModifiers()
+        .withTypeRef(pathRef)
+        .withName("parent")
+        .endField()
+
+        .addNewField()
+        .withNewModifiers().withPrivate().withFinal().endModifiers()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endField()
+
+        .addNewField()
+        .withNewModifiers().withPrivate().withFinal().endModifiers()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("value")
+        .endField()
+
+        .addNewField()
+        .withNewModifiers().withPrivate().withFinal().endModifiers()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("size")
+        .endField()
+
+        .addNewConstructor()
+        .withNewModifiers().withPrivate().endModifiers()
+        .addNewArgument()
+        .withTypeRef(pathRef)
+        .withName("parent")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("value")
+        .endArgument()
+        .endConstructor()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().withStatic().endModifiers()
+        .withName("append")
+        .withReturnType(ClassRef.forName(builderPackage + ".VisitorPath"))
+        .addNewArgument()
+        .withTypeRef(pathRef)
+        .withName("path")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("value")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("get")
+        .withReturnType(pathEntryRef)
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("index")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("size")
+        .withReturnType(PRIMITIVE_INT_REF)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("iterator")
+        .withReturnType(Collections.ITERATOR.toReference(pathEntryRef))
+        .endMethod()
+
+        .accept(new ReplacePackage("io.sundr.builder", builderPackage))
+        .accept(new ApplyMethodBlockFromResources("VisitorPath", "io/sundr/builder/VisitorPath.java"))
+        .accept(new ApplyImportsFromResources("io/sundr/builder/VisitorPath.java"))
+        .build();
+
     visitableInterface = new TypeDefBuilder()
 
         .withNewModifiers().withPublic().endModifiers()
@@ -969,71 +1180,733 @@ public class BuilderContext {
         .accept(new ApplyImportsFromResources("io/sundr/builder/VisitableMap.java"))
         .build();
 
-    // rebuild visitable now that visitableMapClass is available
-    visitableInterface = new TypeDefBuilder(visitableInterface)
-        .addNewMethod()
-        .withDefaultMethod(true)
-        .withNewModifiers().withPublic().endModifiers()
-        .withName("getVisitableMap")
-        .withReturnType(OPTIONAL.toReference(visitableMapClass.toReference()))
-        .endMethod()
-        .accept(new ReplacePackage("io.sundr.builder", builderPackage))
-        .accept(new ApplyMethodBlockFromResources("Visitable", "io/sundr/builder/Visitable.java", true))
-        .accept(new ApplyImportsFromResources("io/sundr/builder/Visitable.java"))
-        .build();
-
-    baseFluentClass = new TypeDefBuilder()
+    ClassRef visitablesRef = Collections.LIST.toReference(visitableInterface.toReference());
+    visitableListClass = new TypeDefBuilder()
         .withNewModifiers().withPublic().endModifiers()
         .withKind(Kind.CLASS)
         .withPackageName("io.sundr.builder")
-        .withName("BaseFluent")
-        .addNewParameter()
-        .withName("F")
-        .endParameter()
+        .withName("VisitableList")
+        .withExtendsList(new ClassRefBuilder().withFullyQualifiedName(AbstractList.class.getName())
+            .withArguments(visitableInterface.toReference()).build())
 
         .addNewField()
-        .withNewModifiers().withPublic().withFinal().endModifiers()
+        .withNewModifiers().withPrivate().withStatic().withFinal().endModifiers()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("MIN_GAPS_TO_COMPACT")
+        .addToAttributes(Attributeable.INIT, "16")
+        .endField()
+
+        .addNewField()
+        .withNewModifiers().withPrivate().endModifiers()
         .withTypeRef(visitableMapClass.toReference())
-        .withName("_visitables")
-        .addToAttributes(Attributeable.INIT, "new VisitableMap()")
+        .withName("owner")
         .endField()
 
-        .addNewMethod()
-        .withNewModifiers().withPublic().withStatic().endModifiers()
-        .withName("builderOf")
-        .withParameters(T)
-        .withReturnType(visitableBuilderInterface.toReference(T.toReference(), new WildcardRef()))
+        .addNewField()
+        .withNewModifiers().withPrivate().withFinal().endModifiers()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endField()
+
+        .addNewField()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withTypeRef(visitablesRef)
+        .withName("elements")
+        .endField()
+
+        .addNewField()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withTypeRef(Collections.MAP.toReference(visitableInterface.toReference(), INT_REF))
+        .withName("positions")
+        .endField()
+
+        .addNewField()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("size")
+        .endField()
+
+        .addNewField()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("gaps")
+        .endField()
+
+        .addNewField()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("duplicates")
+        .endField()
+
+        .addNewField()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("compactions")
+        .endField()
+
+        .addNewField()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withTypeRef(Collections.COLLECTION.toReference(new WildcardRef()))
+        .withName("pending")
+        .endField()
+
+        .addNewConstructor()
+        .withNewModifiers().withPublic().endModifiers()
+        .endConstructor()
+
+        .addNewConstructor()
+        .withNewModifiers().withPublic().endModifiers()
         .addNewArgument()
-        .withTypeRef(T.toReference())
-        .withName("item")
+        .withTypeRef(Collections.COLLECTION.toReference(new WildcardRef()))
+        .withName("pending")
+        .endArgument()
+        .endConstructor()
+
+        .addNewConstructor()
+        .addNewArgument()
+        .withTypeRef(visitableMapClass.toReference())
+        .withName("owner")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
         .endArgument()
+        .endConstructor()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("size")
+        .withReturnType(PRIMITIVE_INT_REF)
         .endMethod()
 
         .addNewMethod()
-        .withNewModifiers().withPublic().withStatic().endModifiers()
-        .withName("build")
-        .withParameters(T)
-        .withReturnType(Collections.LIST.toReference(T.toReference()))
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("get")
+        .withReturnType(visitableInterface.toReference())
         .addNewArgument()
-        .withTypeRef(Collections.LIST.toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS)
-            .withBounds(builderInterface
-                .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(T.toReference()).build()))
-            .build()))
-        .withName("list")
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("index")
         .endArgument()
         .endMethod()
 
         .addNewMethod()
-        .withNewModifiers().withPublic().withStatic().endModifiers()
-        .withName("build")
-        .withParameters(T)
-        .withReturnType(Collections.SET.toReference(T.toReference()))
-        .addNewArgument()
-        .withTypeRef(Collections.SET.toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS)
-            .withBounds(builderInterface
-                .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(T.toReference()).build()))
-            .build()))
+        .withNewModifiers().withPublic().endModifiers()
         .withName("set")
+        .withReturnType(visitableInterface.toReference())
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("index")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(visitableInterface.toReference())
+        .withName("element")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("add")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(visitableInterface.toReference())
+        .withName("element")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("add")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("index")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(visitableInterface.toReference())
+        .withName("element")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("remove")
+        .withReturnType(visitableInterface.toReference())
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("index")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("remove")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("o")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("clear")
+        .withReturnType(new VoidRef())
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("iterator")
+        .withReturnType(Collections.ITERATOR.toReference(visitableInterface.toReference()))
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withName("target")
+        .withReturnType(new ClassRefBuilder().withFullyQualifiedName(List.class.getName()).build())
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withName("attach")
+        .withReturnType(new VoidRef())
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withName("removeAt")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("position")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withName("compact")
+        .withReturnType(new VoidRef())
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withName("reindex")
+        .withReturnType(new VoidRef())
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withName("checkIndex")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("index")
+        .endArgument()
+        .endMethod()
+
+        .accept(new ReplacePackage("io.sundr.builder", builderPackage))
+        .accept(new ApplyMethodBlockFromResources("VisitableList", "io/sundr/builder/VisitableList.java"))
+        .accept(new ApplyImportsFromResources("io/sundr/builder/VisitableList.java"))
+        .build();
+
+    TypeParamDef B = new TypeParamDefBuilder()
+        .withName("B")
+        .build();
+
+    TypeDef listIteratorType = new TypeDefBuilder(TypeDef.forName(ListIterator.class.getName()))
+        .withParameters(T)
+        .build();
+
+    TypeDef spliteratorType = new TypeDefBuilder(TypeDef.forName(Spliterator.class.getName()))
+        .withParameters(T)
+        .build();
+
+    TypeDef predicateType = new TypeDefBuilder(TypeDef.forName(Predicate.class.getName()))
+        .withParameters(T)
+        .build();
+
+    TypeDef unaryOperatorType = new TypeDefBuilder(TypeDef.forName(UnaryOperator.class.getName()))
+        .withParameters(T)
+        .build();
+
+    TypeDef comparatorType = new TypeDefBuilder(TypeDef.forName(Comparator.class.getName()))
+        .withParameters(T)
+        .build();
+
+    lazyBuilderListClass = new TypeDefBuilder()
+        .withNewModifiers().withPublic().endModifiers()
+        .withKind(Kind.CLASS)
+        .withPackageName("io.sundr.builder")
+        .withName("LazyBuilderList")
+        .withParameters(T, B)
+        .withExtendsList(Collections.ARRAY_LIST.toReference(B.toReference()))
+
+        .addNewField()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withTypeRef(Collections.LIST.toReference(T.toReference()))
+        .withName("source")
+        .endField()
+
+        .addNewField()
+        .withNewModifiers().withPrivate().withFinal().endModifiers()
+        .withTypeRef(functionType.toReference(T.toReference(), B.toReference()))
+        .withName("factory")
+        .endField()
+
+        .addNewConstructor()
+        .withNewModifiers().withPublic().endModifiers()
+        .addNewArgument()
+        .withTypeRef(Collections.LIST.toReference(T.toReference()))
+        .withName("source")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(functionType.toReference(T.toReference(), B.toReference()))
+        .withName("factory")
+        .endArgument()
+        .endConstructor()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("getSource")
+        .withReturnType(Collections.LIST.toReference(T.toReference()))
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withName("materialize")
+        .withReturnType(new VoidRef())
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("size")
+        .withReturnType(PRIMITIVE_INT_REF)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("isEmpty")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("clear")
+        .withReturnType(new VoidRef())
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("trimToSize")
+        .withReturnType(new VoidRef())
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("ensureCapacity")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("minCapacity")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("contains")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("o")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("indexOf")
+        .withReturnType(PRIMITIVE_INT_REF)
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("o")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("lastIndexOf")
+        .withReturnType(PRIMITIVE_INT_REF)
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("o")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("clone")
+        .withReturnType(TypeDef.OBJECT_REF)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("toArray")
+        .withReturnType(new ClassRefBuilder(TypeDef.OBJECT_REF).withDimensions(1).build())
+        .endMethod()
+
+        // toArray(T[]) is not mirrored, as array types of type parameters are rendered without their dimensions
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("get")
+        .withReturnType(B.toReference())
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("index")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("set")
+        .withReturnType(B.toReference())
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("index")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(B.toReference())
+        .withName("element")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("add")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(B.toReference())
+        .withName("element")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("add")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("index")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(B.toReference())
+        .withName("element")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("remove")
+        .withReturnType(B.toReference())
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("index")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("remove")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("o")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("addAll")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(Collections.COLLECTION
+            .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(B.toReference()).build()))
+        .withName("c")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("addAll")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("index")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(Collections.COLLECTION
+            .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(B.toReference()).build()))
+        .withName("c")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("removeAll")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(Collections.COLLECTION.toReference(new WildcardRef()))
+        .withName("c")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("retainAll")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(Collections.COLLECTION.toReference(new WildcardRef()))
+        .withName("c")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("listIterator")
+        .withReturnType(listIteratorType.toReference(B.toReference()))
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("index")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("listIterator")
+        .withReturnType(listIteratorType.toReference(B.toReference()))
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("iterator")
+        .withReturnType(Collections.ITERATOR.toReference(B.toReference()))
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("subList")
+        .withReturnType(Collections.LIST.toReference(B.toReference()))
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("fromIndex")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("toIndex")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("forEach")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(consumerInterface
+            .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.SUPER).withBounds(B.toReference()).build()))
+        .withName("action")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("spliterator")
+        .withReturnType(spliteratorType.toReference(B.toReference()))
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("removeIf")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(predicateType
+            .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.SUPER).withBounds(B.toReference()).build()))
+        .withName("filter")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("replaceAll")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(unaryOperatorType.toReference(B.toReference()))
+        .withName("operator")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("sort")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(comparatorType
+            .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.SUPER).withBounds(B.toReference()).build()))
+        .withName("c")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("equals")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("o")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("hashCode")
+        .withReturnType(PRIMITIVE_INT_REF)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("getFirst")
+        .withReturnType(B.toReference())
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("getLast")
+        .withReturnType(B.toReference())
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("removeFirst")
+        .withReturnType(B.toReference())
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("removeLast")
+        .withReturnType(B.toReference())
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("addFirst")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(B.toReference())
+        .withName("element")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("addLast")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(B.toReference())
+        .withName("element")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withName("writeReplace")
+        .withReturnType(TypeDef.OBJECT_REF)
+        .endMethod()
+
+        .accept(new ReplacePackage("io.sundr.builder", builderPackage))
+        .accept(new ApplyMethodBlockFromResources("LazyBuilderList", "io/sundr/builder/LazyBuilderList.java"))
+        .accept(new ApplyImportsFromResources("io/sundr/builder/LazyBuilderList.java"))
+        .build();
+
+    // rebuild visitable now that visitableMapClass is available
+    visitableInterface = new TypeDefBuilder(visitableInterface)
+        .addNewMethod()
+        .withDefaultMethod(true)
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("getVisitableMap")
+        .withReturnType(OPTIONAL.toReference(visitableMapClass.toReference()))
+        .endMethod()
+        .accept(new ReplacePackage("io.sundr.builder", builderPackage))
+        .accept(new ApplyMethodBlockFromResources("Visitable", "io/sundr/builder/Visitable.java", true))
+        .accept(new ApplyImportsFromResources("io/sundr/builder/Visitable.java"))
+        .build();
+
+    baseFluentClass = new TypeDefBuilder()
+        .withNewModifiers().withPublic().endModifiers()
+        .withKind(Kind.CLASS)
+        .withPackageName("io.sundr.builder")
+        .withName("BaseFluent")
+        .addNewParameter()
+        .withName("F")
+        .endParameter()
+
+        .addNewField()
+        .withNewModifiers().withPublic().withFinal().endModifiers()
+        .withTypeRef(visitableMapClass.toReference())
+        .withName("_visitables")
+        .addToAttributes(Attributeable.INIT, "new VisitableMap()")
+        .endField()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().withStatic().endModifiers()
+        .withName("builderOf")
+        .withParameters(T)
+        .withReturnType(visitableBuilderInterface.toReference(T.toReference(), new WildcardRef()))
+        .addNewArgument()
+        .withTypeRef(T.toReference())
+        .withName("item")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().withStatic().endModifiers()
+        .withName("build")
+        .withParameters(T)
+        .withReturnType(Collections.LIST.toReference(T.toReference()))
+        .addNewArgument()
+        .withTypeRef(Collections.LIST.toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS)
+            .withBounds(builderInterface
+                .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(T.toReference()).build()))
+            .build()))
+        .withName("list")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().withStatic().endModifiers()
+        .withName("build")
+        .withParameters(T)
+        .withReturnType(Collections.SET.toReference(T.toReference()))
+        .addNewArgument()
+        .withTypeRef(Collections.SET.toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS)
+            .withBounds(builderInterface
+                .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(T.toReference()).build()))
+            .build()))
+        .withName("set")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().endModifiers()
+        .withName("lazyCopyOf")
+        .withParameters(T, B)
+        .withReturnType(Collections.ARRAY_LIST.toReference(B.toReference()))
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("property")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(Collections.LIST.toReference(T.toReference()))
+        .withName("items")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(functionType.toReference(T.toReference(), B.toReference()))
+        .withName("factory")
         .endArgument()
         .endMethod()
 
@@ -1222,6 +2095,10 @@ public class BuilderContext {
     return visitableInterface;
   }
 
+  public TypeDef getVisitorPathClass() {
+    return visitorPathClass;
+  }
+
   public TypeDef getVisitableBuilderInterface() {
     return visitableBuilderInterface;
   }
@@ -1230,6 +2107,14 @@ public class BuilderContext {
     return visitableMapClass;
   }
 
+  public TypeDef getVisitableListClass() {
+    return visitableListClass;
+  }
+
+  public TypeDef getLazyBuilderListClass() {
+    return lazyBuilderListClass;
+  }
+
   public TypeDef getVisitorsClass() {
     return visitorsClass;
   }
@@ -22,6 +22,7 @@ import static io.sundr.model.utils.Types.isAbstract;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -59,6 +60,7 @@ import io.sundr.model.Expression;
 import io.sundr.model.Field;
 import io.sundr.model.FieldBuilder;
 import io.sundr.model.If;
+import io.sundr.model.Lambda;
 import io.sundr.model.LocalVariable;
 import io.sundr.model.Method;
 import io.sundr.model.MethodBuilder;
@@ -128,7 +130,7 @@ public class ClazzAs {
           .withNewModifiers().withProtected().endModifiers()
           .withReturnType(Types.VOID)
           .addNewArgument().withTypeRef(item.toInternalReference()).withName("instance").and().withNewBlock()
-          .withStatements(toInstanceConstructorBody(item, item, "")).endBlock().build();
+          .withStatements(toInstanceConstructorBody(item, item, "", true)).endBlock().build();
 
       allMethods.add(copyInstance);
       constructors.add(emptyConstructor);
@@ -344,7 +346,7 @@ public class ClazzAs {
           .addToStatements(switchStatement)
           .endBlock().build();
     }
-  });
+  }).concurrent();
 
   public static final Function<RichTypeDef, TypeDef> BUILDER = FunctionFactory.wrap(new Function<RichTypeDef, TypeDef>() {
     public TypeDef apply(final RichTypeDef item) {
@@ -416,14 +418,14 @@ public class ClazzAs {
 
         Method sourceInstanceAndFluentCosntructor = new MethodBuilder().withNewModifiers().withPublic().endModifiers()
             .addNewArgument().withTypeRef(fluent).withName("fluent").and().addNewArgument().withTypeRef(buildableInterfaceRef)
-            .withName("instance").and().withNewBlock().addAllToStatements(toInstanceConstructorBody(item, i, "fluent"))
+            .withName("instance").and().withNewBlock().addAllToStatements(toInstanceConstructorBody(item, i, "fluent", false))
             .endBlock()
             .build();
 
         Method sourceInstanceConstructor = new MethodBuilder().withNewModifiers().withPublic().endModifiers()
             .addNewArgument()
             .withTypeRef(buildableInterfaceRef).withName("instance").and().withNewBlock()
-            .addAllToStatements(toInstanceConstructorBody(item, i, "this")).endBlock()
+            .addAllToStatements(toInstanceConstructorBody(item, i, "this", false)).endBlock()
             .build();
 
         basicConstructors.add(sourceInstanceAndFluentCosntructor);
@@ -513,7 +515,7 @@ public class ClazzAs {
               .withMethods(methods).build());
     }
 
-  });
+  }).concurrent();
 
   public static final Function<RichTypeDef, TypeDef> EDITABLE_BUILDER = FunctionFactory
       .wrap(new Function<RichTypeDef, TypeDef>() {
@@ -568,10 +570,24 @@ public class ClazzAs {
 
   public static final Function<RichTypeDef, TypeDef> POJO = FunctionFactory.wrap(new ToPojo());
 
-  private static List<Statement> toInstanceConstructorBody(RichTypeDef clazz, TypeDef instanceType, String fluent) {
+  /**
+   * Creates the statements that copy an instance into a fluent.
+   *
+   * @param clazz the buildable type
+   * @param instanceType the type of the instance
+   * @param fluent the name of the fluent variable, or empty to use this
+   * @param lazyCopies true if lists of nested buildables owned by the fluent should be copied lazily
+   * @return the list of statements
+   */
+  private static List<Statement> toInstanceConstructorBody(RichTypeDef clazz, TypeDef instanceType, String fluent,
+      boolean lazyCopies) {
     Method constructor = findBuildableConstructor(clazz);
     List<Statement> statements = new ArrayList<Statement>();
     final String ref = fluent != null && !fluent.isEmpty() ? fluent : "this";
+    final Map<String, Field> lazyProperties = lazyCopies
+        ? clazz.getAllFields().stream().filter(isFieldApplicable(clazz)).filter(ClazzAs::isLazyCopyApplicable)
+            .collect(Collectors.toMap(Field::getName, p -> p, (l, r) -> l))
+        : new HashMap<>();
 
     //We may use a reference to fluent or we may use directly "this". So we need to check.
     if (fluent != null && !fluent.isEmpty()) {
@@ -604,7 +620,11 @@ public class ClazzAs {
         Expression finalExpression = field.getTypeRef() instanceof TypeParamRef ? new Cast(field.getTypeRef(), getterCall)
             : getterCall;
 
-        ifStatements.add(new MethodCall("with" + field.getNameCapitalized(), targetRef, finalExpression));
+        if (lazyProperties.containsKey(field.getName())) {
+          ifStatements.add(lazyCopy(lazyProperties.get(field.getName()), finalExpression));
+        } else {
+          ifStatements.add(new MethodCall("with" + field.getNameCapitalized(), targetRef, finalExpression));
+        }
       });
     }
 
@@ -618,7 +638,11 @@ public class ClazzAs {
           if (optionalGetter.isPresent()) {
             Expression targetRef = ref.equals("this") ? new This() : LocalVariable.newLocalVariable(ref);
             Expression getterCall = new MethodCall(optionalGetter.get().getName(), instance);
-            ifStatements.add(new MethodCall("with" + property.getNameCapitalized(), targetRef, getterCall));
+            if (lazyProperties.containsKey(property.getName())) {
+              ifStatements.add(lazyCopy(lazyProperties.get(property.getName()), getterCall));
+            } else {
+              ifStatements.add(new MethodCall("with" + property.getNameCapitalized(), targetRef, getterCall));
+            }
           }
         });
 
@@ -696,6 +720,39 @@ public class ClazzAs {
         .build();
   }
 
+  /**
+   * Checks if the property is a list of concrete buildables, which the fluent can copy lazily.
+   * Lazy copies reuse the items of the copied instance, so they need to be enabled for the buildable.
+   *
+   * @param property the property
+   * @return true if the property can be copied lazily
+   */
+  private static boolean isLazyCopyApplicable(Field property) {
+    if (!property.hasAttribute(LAZY_COPY_ENABLED) || !property.getAttribute(LAZY_COPY_ENABLED)) {
+      return false;
+    }
+    if (!Types.isList(property.getTypeRef())) {
+      return false;
+    }
+    TypeRef unwrapped = TypeAs.UNWRAP_COLLECTION_OF.apply(property.getTypeRef());
+    return unwrapped instanceof ClassRef && isBuildable(unwrapped) && !isAbstract(unwrapped);
+  }
+
+  /**
+   * Creates the statement that lazily copies a list of buildables into the nested builders of the property.
+   *
+   * @param property the property
+   * @param items the expression that provides the items to copy
+   * @return the statement
+   */
+  private static Statement lazyCopy(Field property, Expression items) {
+    ClassRef unwrapped = (ClassRef) TypeAs.UNWRAP_COLLECTION_OF.apply(property.getTypeRef());
+    Field item = Field.newField(unwrapped, "item");
+    return new Assign(This.ref(property.getName()),
+        new MethodCall("lazyCopyOf", new This(), ValueRef.from(property.getName()), items,
+            new Lambda("item", (Expression) Expression.createNew(TypeAs.BUILDER_REF.apply(unwrapped), item))));
+  }
+
   private static Predicate<Field> isFieldApplicable(RichTypeDef item) {
     return isFieldApplicable(item, true);
   }
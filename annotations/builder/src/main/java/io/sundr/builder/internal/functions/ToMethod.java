@@ -40,6 +40,8 @@ import static io.sundr.model.utils.Collections.IS_COLLECTION;
 import static io.sundr.model.utils.Collections.IS_LIST;
 import static io.sundr.model.utils.Collections.IS_MAP;
 import static io.sundr.model.utils.Collections.IS_SET;
+import static io.sundr.model.utils.Collections.MAP;
+import static io.sundr.model.utils.Collections.SET;
 import static io.sundr.model.utils.Optionals.OPTIONAL;
 import static io.sundr.model.utils.Types.N_REF;
 import static io.sundr.model.utils.Types.Q;
@@ -59,6 +61,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -79,12 +83,14 @@ import io.sundr.model.Block;
 import io.sundr.model.Break;
 import io.sundr.model.ClassRef;
 import io.sundr.model.ClassRefBuilder;
+import io.sundr.model.Construct;
 import io.sundr.model.Declare;
 import io.sundr.model.Expression;
 import io.sundr.model.Field;
 import io.sundr.model.FieldBuilder;
 import io.sundr.model.For;
 import io.sundr.model.Foreach;
+import io.sundr.model.GreaterThan;
 import io.sundr.model.GreaterThanOrEqual;
 import io.sundr.model.If;
 import io.sundr.model.InstanceOf;
@@ -103,7 +109,6 @@ import io.sundr.model.TypeDef;
 import io.sundr.model.TypeParamDef;
 import io.sundr.model.TypeRef;
 import io.sundr.model.ValueRef;
-import io.sundr.model.While;
 import io.sundr.model.functions.GetDefinition;
 import io.sundr.model.repo.DefinitionRepository;
 import io.sundr.model.utils.Getter;
@@ -382,9 +387,9 @@ class ToMethod {
       statements.add(new Return(Expression.cast(returnType, new This())));
       return statements;
     }
-  });
+  }).concurrent();
 
-  static final Function<Field, Method> WITH_ARRAY = FunctionFactory.cache(field -> {
+  static final Function<Field, Method> WITH_ARRAY = FunctionFactory.<Field, Method> cache(field -> {
     TypeRef returnType = field.hasAttribute(GENERIC_TYPE_REF) ? field.getAttribute(GENERIC_TYPE_REF) : T_REF;
 
     String methodName = "with" + field.getNameCapitalized();
@@ -416,9 +421,9 @@ class ToMethod {
             new Return(Expression.cast(returnType, new This())))
         .endBlock()
         .build();
-  });
+  }).concurrent();
 
-  static final Function<Field, List<Method>> WITH_OPTIONAL = FunctionFactory.cache(property -> {
+  static final Function<Field, List<Method>> WITH_OPTIONAL = FunctionFactory.<Field, List<Method>> cache(property -> {
     List<Method> methods = new ArrayList<>();
     TypeRef unwrapped = combine(UNWRAP_OPTIONAL_OF).apply(property.getTypeRef());
 
@@ -489,9 +494,9 @@ class ToMethod {
         .build());
 
     return methods;
-  });
+  }).concurrent();
 
-  static final Function<Field, Method> HAS = FunctionFactory.cache(property -> {
+  static final Function<Field, Method> HAS = FunctionFactory.<Field, Method> cache(property -> {
     String prefix = "has";
     String methodName = prefix + property.getNameCapitalized();
     List<Statement> statements = new ArrayList<>();
@@ -517,9 +522,9 @@ class ToMethod {
         .withStatements(statements)
         .endBlock()
         .build();
-  });
+  }).concurrent();
 
-  static final Function<Field, List<Method>> GETTER = FunctionFactory.cache(property -> {
+  static final Function<Field, List<Method>> GETTER = FunctionFactory.<Field, List<Method>> cache(property -> {
     List<Method> methods = new ArrayList<>();
     TypeRef unwrapped = combine(UNWRAP_COLLECTION_OF, UNWRAP_ARRAY_OF, UNWRAP_OPTIONAL_OF).apply(property.getTypeRef());
 
@@ -652,9 +657,9 @@ class ToMethod {
           Collections.emptyList()));
     }
     return methods;
-  });
+  }).concurrent();
 
-  static final Function<Field, List<Method>> GETTER_ARRAY = FunctionFactory.cache(property -> {
+  static final Function<Field, List<Method>> GETTER_ARRAY = FunctionFactory.<Field, List<Method>> cache(property -> {
     List<Method> methods = new ArrayList<>();
     List<AnnotationRef> annotations = new ArrayList<>();
     List<String> comments = new ArrayList<>();
@@ -719,7 +724,7 @@ class ToMethod {
           Collections.emptyList()));
     }
     return methods;
-  });
+  }).concurrent();
 
   static final Function<Field, List<Method>> ADD_TO_COLLECTION = FunctionFactory
       .cache(new Function<Field, List<Method>>() {
@@ -943,24 +948,16 @@ class ToMethod {
             //We need to do it more elegantly
             statements.add(nullCheck(returnType, propertyName));
             Field item = Field.newField(targetType, "item");
-            LocalVariable builder = LocalVariable.newLocalVariable(BUILDER_REF.apply(targetType), "builder");
-            statements.add(new Foreach(item, items,
-                Block.wrap(
-                    new Declare(builder, Expression.createNew(BUILDER_REF.apply(targetType), item)),
-                    Field.newField("_visitables").call("get", ValueRef.from(propertyName)).call("remove", builder),
-                    This.ref(propertyName).call("remove", builder))));
+            statements.addAll(removeBuilders(propertyName, elementBuilderType(property, unwrapped, baseType), item,
+                Expression.createNew(BUILDER_REF.apply(targetType), item)));
             statements.add(new Return(Expression.cast(returnType, new This())));
           } else if (!descendants.isEmpty()) {
             final ClassRef targetType = (ClassRef) unwrapped;
             parameters.addAll(GetDefinition.of(targetType).getParameters());
             statements.add(nullCheck(returnType, propertyName));
             Field item = Field.newField(targetType, "item");
-            LocalVariable builder = LocalVariable.newLocalVariable(VISITABLE_BUILDER_REF.apply(targetType), "builder");
-            statements.add(new Foreach(item, Argument.newArgument("items"),
-                Block.wrap(
-                    new Declare(builder, Expression.newCall("builder", item)),
-                    This.ref("_visitables").call("get", ValueRef.from(property.getName())).call("remove", builder),
-                    This.ref(property.getName()).call("remove", builder))));
+            statements.addAll(removeBuilders(property.getName(), elementBuilderType(property, unwrapped, baseType), item,
+                Expression.newCall("builder", item)));
             statements.add(new Return(Expression.cast(returnType, new This())));
 
             methods.add(new MethodBuilder().withNewModifiers().withPublic().endModifiers().withParameters(parameters)
@@ -994,22 +991,10 @@ class ToMethod {
           methods.add(removeAllFromCollection);
 
           if (!isSimple) {
-            ClassRef builder = null;
-            if (Types.isConcrete(unwrapped) && !property.hasAttribute(DESCENDANT_OF)) {
-              builder = BUILDER_REF.apply((ClassRef) unwrapped);
-            } else {
-              if (property.hasAttribute(DESCENDANT_OF)) {
-                builderType = VISITABLE_BUILDER_REF.apply((ClassRef) property.getAttribute(DESCENDANT_OF).getTypeRef());
-              }
-              builder = (ClassRef) builderType;
-            }
+            ClassRef builder = elementBuilderType(property, unwrapped, baseType);
             // Create field and local variable references for cleaner code
             Field propertyRef = Field.newField(propertyName);
-            LocalVariable eachProperty = LocalVariable.newLocalVariable(
-                new ClassRefBuilder().withFullyQualifiedName("java.util.Iterator").withArguments(builder).build(), "each");
-            LocalVariable visitablesProperty = LocalVariable
-                .newLocalVariable(new ClassRefBuilder().withFullyQualifiedName("java.util.List").build(), "visitables");
-
+            LocalVariable removedProperty = LocalVariable.newLocalVariable(SET.toReference(builder), "removed");
             LocalVariable builderProperty = LocalVariable.newLocalVariable(builder, "builder");
             Argument predicateProperty = Argument.newArgument("predicate");
 
@@ -1022,22 +1007,16 @@ class ToMethod {
                     If.isNull(propertyRef)
                         .then(new Return(Expression.cast(returnType, new This())))
                         .end(),
-                    // final Iterator<builder> each = propertyName.iterator();
-                    new Declare(eachProperty, propertyRef.call("iterator")),
-                    // final List visitables = _visitables.get("propertyName");
-                    new Declare(visitablesProperty,
-                        This.ref("_visitables").call("get", ValueRef.from(propertyName))),
-                    // while (each.hasNext()) { ... }
-                    While.condition(eachProperty.call("hasNext"))
-                        .body(
-                            // builder builder = each.next();
-                            new Declare(builderProperty, eachProperty.call("next")),
-                            // if (predicate.test(builder)) { visitables.remove(builder); each.remove(); }
-                            If.condition(predicateProperty.call("test", builderProperty))
-                                .then(
-                                    visitablesProperty.call("remove", builderProperty),
-                                    eachProperty.call("remove"))
-                                .end()),
+                    // final Set<B> removed = Collections.newSetFromMap(new IdentityHashMap<B, Boolean>());
+                    new Declare(removedProperty, newIdentitySet(builder)),
+                    // for (builder builder : propertyName) { if (predicate.test(builder)) { removed.add(builder); } }
+                    new Foreach(builderProperty, propertyRef,
+                        If.condition(predicateProperty.call("test", builderProperty))
+                            .then(removedProperty.call("add", builderProperty))
+                            .end()),
+                    // Removing by identity keeps the removal linear, both for the property and the visitables.
+                    propertyRef.call("removeAll", removedProperty),
+                    This.ref("_visitables").call("get", ValueRef.from(propertyName)).call("removeAll", removedProperty),
                     // return (returnType) this;
                     new Return(Expression.cast(returnType, new This())))
                 .endBlock().build());
@@ -1045,6 +1024,64 @@ class ToMethod {
           return methods;
         }
 
+        /**
+         * The type of the builders in the collection the property is stored in, which is the collection of the property it
+         * descends from, if any.
+         */
+        private ClassRef elementBuilderType(Field property, TypeRef unwrapped, ClassRef baseType) {
+          if (Types.isConcrete(unwrapped) && !property.hasAttribute(DESCENDANT_OF)) {
+            return BUILDER_REF.apply((ClassRef) unwrapped);
+          }
+          if (property.hasAttribute(DESCENDANT_OF)) {
+            return (ClassRef) VISITABLE_BUILDER_REF.apply((ClassRef) property.getAttribute(DESCENDANT_OF).getTypeRef());
+          }
+          return (ClassRef) VISITABLE_BUILDER_REF.apply(baseType);
+        }
+
+        /**
+         * Removes one builder equal to the builder of each item. The requested builders are counted by equality, so that
+         * the collection is scanned once and the builders found are removed by identity, from both the collection and the
+         * visitables, in a single pass each.
+         */
+        private List<Statement> removeBuilders(String propertyName, ClassRef builderType, Field item,
+            Expression newBuilder) {
+          LocalVariable requested = LocalVariable
+              .newLocalVariable(MAP.toReference(builderType, Types.INT_REF), "requested");
+          LocalVariable removed = LocalVariable.newLocalVariable(SET.toReference(builderType), "removed");
+          LocalVariable builder = LocalVariable.newLocalVariable(builderType, "builder");
+          LocalVariable count = LocalVariable.newLocalVariable(Types.INT_REF, "count");
+          ValueRef zero = ValueRef.from(0);
+          ValueRef one = ValueRef.from(1);
+          return Arrays.asList(
+              // Map<B, Integer> requested = new HashMap<B, Integer>();
+              new Declare(requested, new Construct(HashMap.class, Arrays.asList(builderType, Types.INT_REF),
+                  Collections.emptyList())),
+              // for (T item : items) { B builder = ...; Integer count = requested.get(builder); requested.put(...); }
+              new Foreach(item, Argument.newArgument("items"), Block.wrap(
+                  new Declare(builder, newBuilder),
+                  new Declare(count, requested.call("get", builder)),
+                  requested.call("put", builder, Expression.ternary(Expression.isNull(count), one,
+                      Expression.plus(count, one))))),
+              new Declare(removed, newIdentitySet(builderType)),
+              // for (B builder : property) { if (count != null && count > 0) { ...; removed.add(builder); } }
+              new Foreach(builder, This.ref(propertyName), Block.wrap(
+                  new Declare(count, requested.call("get", builder)),
+                  If.condition(Expression.and(Expression.notNull(count), new GreaterThan(count, zero)))
+                      .then(requested.call("put", builder, Expression.minus(count, one)),
+                          removed.call("add", builder))
+                      .end())),
+              This.ref(propertyName).call("removeAll", removed),
+              This.ref("_visitables").call("get", ValueRef.from(propertyName)).call("removeAll", removed));
+        }
+
+        /**
+         * Creates a set of the specified builder type, that compares its elements by identity.
+         */
+        private Expression newIdentitySet(ClassRef builderType) {
+          return Expression.call(Collections.class, "newSetFromMap", new Construct(IdentityHashMap.class,
+              Arrays.asList(builderType, Types.BOOLEAN_REF), Collections.emptyList()));
+        }
+
         private If nullCheck(TypeRef returnType, String propertyName) {
           return If.isNull(This.ref(propertyName))
               .then(new Return(Expression.cast(returnType, new This())))
@@ -1052,7 +1089,7 @@ class ToMethod {
         }
       });
 
-  static final Function<Field, Method> ADD_MAP_TO_MAP = FunctionFactory.cache(property -> {
+  static final Function<Field, Method> ADD_MAP_TO_MAP = FunctionFactory.<Field, Method> cache(property -> {
     TypeRef returnType = property.hasAttribute(GENERIC_TYPE_REF) ? property.getAttribute(GENERIC_TYPE_REF) : T_REF;
     TypeRef mapType = property.getTypeRef();
     Argument mapProperty = new FieldBuilder().withName("map").withTypeRef(mapType).build().asArgument();
@@ -1074,7 +1111,7 @@ class ToMethod {
             new Return(Expression.cast(returnType, new This())))
         .endBlock()
         .build();
-  });
+  }).concurrent();
 
   static final Function<Field, List<Method>> ADD_NEW_VALUE_TO_MAP = property -> {
     TypeRef returnType = property.hasAttribute(GENERIC_TYPE_REF) ? property.getAttribute(GENERIC_TYPE_REF) : T_REF;
@@ -1203,7 +1240,7 @@ class ToMethod {
     return Arrays.asList(addNewValueTo, addNewValueLikeTo, editValueIn, editOrAddValueIn);
   };
 
-  static final Function<Field, Method> ADD_TO_MAP = FunctionFactory.cache(property -> {
+  static final Function<Field, Method> ADD_TO_MAP = FunctionFactory.<Field, Method> cache(property -> {
     TypeRef returnType = property.hasAttribute(GENERIC_TYPE_REF) ? property.getAttribute(GENERIC_TYPE_REF) : T_REF;
     if (!(property.getTypeRef() instanceof ClassRef)) {
       throw new IllegalStateException("Expected Map type and found:" + property.getTypeRef());
@@ -1235,9 +1272,9 @@ class ToMethod {
             new Return(Expression.cast(returnType, new This())))
         .endBlock()
         .build();
-  });
+  }).concurrent();
 
-  static final Function<Field, Method> REMOVE_MAP_FROM_MAP = FunctionFactory.cache(property -> {
+  static final Function<Field, Method> REMOVE_MAP_FROM_MAP = FunctionFactory.<Field, Method> cache(property -> {
     TypeRef returnType = property.hasAttribute(GENERIC_TYPE_REF) ? property.getAttribute(GENERIC_TYPE_REF) : T_REF;
     TypeRef mapType = property.getTypeRef();
     Argument mapProperty = new FieldBuilder().withName("map").withTypeRef(mapType).build().asArgument();
@@ -1262,9 +1299,9 @@ class ToMethod {
             new Return(Expression.cast(returnType, new This())))
         .endBlock()
         .build();
-  });
+  }).concurrent();
 
-  static final Function<Field, Method> REMOVE_FROM_MAP = FunctionFactory.cache(property -> {
+  static final Function<Field, Method> REMOVE_FROM_MAP = FunctionFactory.<Field, Method> cache(property -> {
     TypeRef returnType = property.hasAttribute(GENERIC_TYPE_REF) ? property.getAttribute(GENERIC_TYPE_REF) : T_REF;
     ClassRef mapType = (ClassRef) property.getTypeRef();
     TypeRef keyType = mapType.getArguments().get(0);
@@ -1287,7 +1324,7 @@ class ToMethod {
             new Return(Expression.cast(returnType, new This())))
         .endBlock()
         .build();
-  });
+  }).concurrent();
 
   static final Function<Field, Method> WITH_NEW_NESTED = property -> {
     ClassRef baseType = (ClassRef) combine(UNWRAP_COLLECTION_OF, UNWRAP_ARRAY_OF, UNWRAP_OPTIONAL_OF)
@@ -1802,7 +1839,7 @@ class ToMethod {
 
   };
 
-  static final Function<Field, Method> END = FunctionFactory.cache(property -> {
+  static final Function<Field, Method> END = FunctionFactory.<Field, Method> cache(property -> {
     TypeDef originTypeDef = property.getAttribute(Constants.ORIGIN_TYPEDEF);
     boolean isCollection = IS_COLLECTION.apply(property.getTypeRef());
     String methodName = "end" + BuilderUtils.qualifyPropertyName(property, property.getTypeRef(), originTypeDef, isCollection);
@@ -1815,5 +1852,5 @@ class ToMethod {
         .withStatements(new Return(Expression.newCall("and")))
         .endBlock()
         .build();
-  });
+  }).concurrent();
 }
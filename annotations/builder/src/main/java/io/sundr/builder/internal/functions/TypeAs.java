@@ -131,10 +131,12 @@ public class TypeAs {
   };
 
   //TODO: Need a home for: .withDefaultImplementation(Constants.ARRAY_LIST)
-  private static final Function<TypeRef, TypeRef> LIST_OF = FunctionFactory.cache(Collections.LIST::toReference);
+  private static final Function<TypeRef, TypeRef> LIST_OF = FunctionFactory
+      .<TypeRef, TypeRef> cache(Collections.LIST::toReference)
+      .concurrent();
 
   public static final Function<TypeRef, TypeRef> ARRAY_AS_LIST = FunctionFactory
-      .cache(item -> LIST_OF.apply(UNWRAP_ARRAY_OF.apply(item)));
+      .<TypeRef, TypeRef> cache(item -> LIST_OF.apply(UNWRAP_ARRAY_OF.apply(item))).concurrent();
 
   public static final Function<TypeRef, TypeRef> UNWRAP_COLLECTION_OF = type -> Collections.getCollectionElementType(type)
       .orElse(type);
@@ -185,9 +187,9 @@ public class TypeAs {
     return type;
   };
 
-  public static final Function<TypeRef, TypeRef> BOXED_OF = FunctionFactory.cache(Types::box);
+  public static final Function<TypeRef, TypeRef> BOXED_OF = FunctionFactory.<TypeRef, TypeRef> cache(Types::box).concurrent();
 
-  static final Function<TypeRef, String> PARSER_OF = FunctionFactory.cache(type -> {
+  static final Function<TypeRef, String> PARSER_OF = FunctionFactory.<TypeRef, String> cache(type -> {
     int index = 0;
     for (TypeRef primitive : PRIMITIVE_TYPES) {
       if (primitive.equals(type)) {
@@ -196,7 +198,7 @@ public class TypeAs {
       index++;
     }
     return null;
-  });
+  }).concurrent();
 
   static Function<TypeRef, TypeRef> ARRAY_OF = type -> {
     if (type instanceof ClassRef) {
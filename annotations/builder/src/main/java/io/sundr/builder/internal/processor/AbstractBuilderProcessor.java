@@ -22,12 +22,25 @@ import static io.sundr.builder.Constants.BUILDABLE;
 import static io.sundr.builder.Constants.EDITABLE_ENABLED;
 import static io.sundr.builder.Constants.EXTERNAL_BUILDABLE;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
 
 import io.sundr.builder.Constants;
 import io.sundr.builder.Visitor;
@@ -53,18 +66,157 @@ import io.sundr.model.This;
 import io.sundr.model.TypeDef;
 import io.sundr.model.TypeDefBuilder;
 import io.sundr.model.TypeRef;
+import io.sundr.model.repo.DefinitionRepository;
+import io.sundr.model.repo.DefinitionSnapshot;
 import io.sundr.model.utils.TypeArguments;
 
 public abstract class AbstractBuilderProcessor extends AbstractCodeGeneratingProcessor {
 
   public static final String EMPTY = "";
 
+  /**
+   * The option that specifies the file where the definitions of library types are kept between compilations, so that they
+   * are not adapted again while the classpath doesn't change.
+   */
+  public static final String DEFINITION_SNAPSHOT = "sundrio.definitionSnapshot";
+
+  /**
+   * The option that specifies the compile classpath, which the definition snapshot is keyed by. The processor can't tell
+   * the compile classpath from the processor path, so the snapshot is only used when this option is set.
+   */
+  public static final String CLASSPATH = "sundrio.classpath";
+
+  // The builder processors of a compilation share the same processing environment and the same snapshot
+  private static final Map<ProcessingEnvironment, SnapshotState> SNAPSHOTS = Collections
+      .synchronizedMap(new WeakHashMap<>());
+
+  private SnapshotState snapshot;
+
+  /**
+   * The definition snapshot of a compilation, which is loaded and saved once for all the builder processors.
+   */
+  private static class SnapshotState {
+    private final File file;
+    private final File classOutput;
+    private final String classpathFingerprint;
+    private final Set<String> compiledTypes = new HashSet<>();
+    private boolean saved;
+
+    private SnapshotState(File file, File classOutput, String classpathFingerprint) {
+      this.file = file;
+      this.classOutput = classOutput;
+      this.classpathFingerprint = classpathFingerprint;
+    }
+  }
+
+  @Override
+  public Set<String> getSupportedOptions() {
+    Set<String> options = new HashSet<>(super.getSupportedOptions());
+    options.add(DEFINITION_SNAPSHOT);
+    options.add(CLASSPATH);
+    return options;
+  }
+
+  @Override
+  public synchronized void init(ProcessingEnvironment processingEnv) {
+    super.init(processingEnv);
+    String snapshot = processingEnv.getOptions().get(DEFINITION_SNAPSHOT);
+    if (snapshot == null || snapshot.isEmpty()) {
+      return;
+    }
+    String classpath = processingEnv.getOptions().get(CLASSPATH);
+    if (classpath == null) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+          "Ignoring definition snapshot " + snapshot + ", as option " + CLASSPATH + " is not set.");
+      return;
+    }
+    this.snapshot = SNAPSHOTS.computeIfAbsent(processingEnv, env -> {
+      File classOutput = getClassOutput(env.getFiler());
+      SnapshotState state = new SnapshotState(new File(snapshot), classOutput,
+          DefinitionSnapshot.fingerprint(getClasspath(classpath, classOutput)));
+      DefinitionRepository.getRepository().loadSnapshot(state.file, state.classpathFingerprint,
+          Constants.ATTRIBUTE_KEYS.toArray(new AttributeKey<?>[0]));
+      return state;
+    });
+  }
+
+  /**
+   * Keep track of the types that are being compiled and, after the last round, save the definitions of the library types
+   * to the snapshot.
+   *
+   * @param env the round environment
+   */
+  void updateDefinitionSnapshot(RoundEnvironment env) {
+    if (snapshot == null) {
+      return;
+    }
+    synchronized (snapshot) {
+      for (Element element : env.getRootElements()) {
+        if (element instanceof TypeElement) {
+          snapshot.compiledTypes.add(((TypeElement) element).getQualifiedName().toString());
+        }
+      }
+      // Only the first processor to see the last round saves the snapshot
+      if (!env.processingOver() || snapshot.saved) {
+        return;
+      }
+      snapshot.saved = true;
+      try {
+        DefinitionRepository.getRepository().saveSnapshot(snapshot.file, snapshot.classpathFingerprint,
+            this::isLibraryType);
+      } catch (IOException e) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+            "Failed to save definition snapshot to " + snapshot.file + ": " + e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Types that are compiled, or that were compiled before to the class output, are not library types.
+   */
+  private boolean isLibraryType(TypeDef typeDef) {
+    String name = typeDef.getFullyQualifiedName();
+    String packageName = typeDef.getPackageName();
+    int end = name.indexOf('.', packageName == null || packageName.isEmpty() ? 0 : packageName.length() + 1);
+    String topLevelName = end < 0 ? name : name.substring(0, end);
+    if (snapshot.compiledTypes.contains(topLevelName)) {
+      return false;
+    }
+    return snapshot.classOutput == null
+        || !new File(snapshot.classOutput, topLevelName.replace('.', File.separatorChar) + ".class").exists();
+  }
+
+  private static File getClassOutput(Filer filer) {
+    try {
+      return new File(filer.getResource(StandardLocation.CLASS_OUTPUT, "", DEFINITION_SNAPSHOT).toUri()).getParentFile();
+    } catch (IOException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * The entries of the compile classpath, without the class output that changes with every compilation.
+   */
+  static Set<File> getClasspath(String classpath, File classOutput) {
+    Set<File> entries = new LinkedHashSet<>();
+    for (String entry : classpath.split(File.pathSeparator)) {
+      if (!entry.isEmpty()) {
+        entries.add(new File(entry).getAbsoluteFile());
+      }
+    }
+    if (classOutput != null) {
+      entries.remove(classOutput.getAbsoluteFile());
+    }
+    return entries;
+  }
+
   void generateLocalDependenciesIfNeeded() {
     BuilderContext context = BuilderContextManager.getContext();
     try {
       if (context.getGenerateBuilderPackage() && !Constants.DEFAULT_BUILDER_PACKAGE.equals(context.getBuilderPackage())) {
 
         generate(context.getVisitableInterface());
+        generate(context.getVisitorPathClass());
         generate(context.getVisitorsClass());
         generate(context.getVisitorInterface());
         generate(context.getTypedVisitorInterface());
@@ -75,6 +227,8 @@ public abstract class AbstractBuilderProcessor extends AbstractCodeGeneratingPro
 
         generate(context.getVisitableBuilderInterface());
         generate(context.getVisitableMapClass());
+        generate(context.getVisitableListClass());
+        generate(context.getLazyBuilderListClass());
         generate(context.getBuilderInterface());
         generate(context.getBaseFluentClass());
         generate(context.getNestedInterface());
@@ -20,6 +20,7 @@ import static io.sundr.builder.Constants.BUILDABLE;
 import static io.sundr.builder.Constants.EDITABLE_ENABLED;
 import static io.sundr.builder.Constants.IGNORE_PROPERTIES;
 import static io.sundr.builder.Constants.LAZY_COLLECTIONS_INIT_ENABLED;
+import static io.sundr.builder.Constants.LAZY_COPY_ENABLED;
 import static io.sundr.builder.Constants.LAZY_MAP_INIT_ENABLED;
 import static io.sundr.builder.Constants.VALIDATION_ENABLED;
 
@@ -56,6 +57,7 @@ import io.sundr.model.repo.DefinitionRepository;
 public class BuildableProcessor extends AbstractBuilderProcessor {
   @Override
   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+    updateDefinitionSnapshot(env);
     Elements elements = processingEnv.getElementUtils();
     Types types = processingEnv.getTypeUtils();
     Filer filer = processingEnv.getFiler();
@@ -86,6 +88,7 @@ public class BuildableProcessor extends AbstractBuilderProcessor {
                   public void visit(FieldBuilder builder) {
                     builder.addToAttributes(LAZY_COLLECTIONS_INIT_ENABLED, buildable.lazyCollectionInitEnabled());
                     builder.addToAttributes(LAZY_MAP_INIT_ENABLED, buildable.lazyMapInitEnabled());
+                    builder.addToAttributes(LAZY_COPY_ENABLED, buildable.lazyCopyEnabled());
                   }
                 })
             .build();
@@ -105,6 +108,7 @@ public class BuildableProcessor extends AbstractBuilderProcessor {
                 public void visit(FieldBuilder builder) {
                   builder.addToAttributes(LAZY_COLLECTIONS_INIT_ENABLED, buildable.lazyCollectionInitEnabled());
                   builder.addToAttributes(LAZY_MAP_INIT_ENABLED, buildable.lazyMapInitEnabled());
+                  builder.addToAttributes(LAZY_COPY_ENABLED, buildable.lazyCopyEnabled());
                 }
               }).build();
 
@@ -20,6 +20,7 @@ import static io.sundr.builder.Constants.EDITABLE_ENABLED;
 import static io.sundr.builder.Constants.EXTERNAL_BUILDABLE;
 import static io.sundr.builder.Constants.IGNORE_PROPERTIES;
 import static io.sundr.builder.Constants.LAZY_COLLECTIONS_INIT_ENABLED;
+import static io.sundr.builder.Constants.LAZY_COPY_ENABLED;
 import static io.sundr.builder.Constants.LAZY_MAP_INIT_ENABLED;
 import static io.sundr.builder.Constants.VALIDATION_ENABLED;
 import static io.sundr.utils.Patterns.isExcluded;
@@ -60,6 +61,7 @@ import io.sundr.model.TypeDefBuilder;
 public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
   @Override
   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+    updateDefinitionSnapshot(env);
     Elements elements = processingEnv.getElementUtils();
     Types types = processingEnv.getTypeUtils();
     Filer filer = processingEnv.getFiler();
@@ -126,6 +128,7 @@ public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
                       builder.addToAttributes(VALIDATION_ENABLED, generated.validationEnabled());
                       builder.addToAttributes(LAZY_COLLECTIONS_INIT_ENABLED, isLazyCollectionInitEnabled);
                       builder.addToAttributes(LAZY_MAP_INIT_ENABLED, isLazyMapInitEnabled);
+                      builder.addToAttributes(LAZY_COPY_ENABLED, generated.lazyCopyEnabled());
                     }
                   }
                 }).build();
@@ -178,6 +181,7 @@ public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
                     builder.addToAttributes(IGNORE_PROPERTIES, generated.ignore());
                     builder.addToAttributes(LAZY_COLLECTIONS_INIT_ENABLED, isLazyCollectionInitEnabled);
                     builder.addToAttributes(LAZY_MAP_INIT_ENABLED, isLazyMapInitEnabled);
+                    builder.addToAttributes(LAZY_COPY_ENABLED, generated.lazyCopyEnabled());
                   }
                 }
               }).build();
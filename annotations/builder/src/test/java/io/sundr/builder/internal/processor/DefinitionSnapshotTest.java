@@ -0,0 +1,148 @@
+/*
+ * Copyright 2016 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.builder.internal.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.sundr.builder.Constants;
+import io.sundr.model.AttributeKey;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeDefBuilder;
+import io.sundr.model.repo.DefinitionRepository;
+import io.sundr.model.repo.DefinitionSnapshot;
+
+public class DefinitionSnapshotTest {
+
+  private static final String CLASSPATH = System.getProperty("java.class.path");
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File writeSource() throws Exception {
+    File source = new File(folder.newFolder("src", "test", "snapshot"), "Person.java");
+    Files.write(source.toPath(), ("package test.snapshot;\n\n"
+        + "@io.sundr.builder.annotations.Buildable\n"
+        + "public class Person {\n"
+        + "  private final String name;\n\n"
+        + "  public Person(String name) {\n"
+        + "    this.name = name;\n"
+        + "  }\n\n"
+        + "  public String getName() {\n"
+        + "    return name;\n"
+        + "  }\n"
+        + "}\n").getBytes(StandardCharsets.UTF_8));
+    return source;
+  }
+
+  private static boolean process(File source, File classes, List<String> options,
+      DiagnosticCollector<JavaFileObject> diagnostics) throws Exception {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+      Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(source);
+      List<String> arguments = new ArrayList<>(
+          Arrays.asList("-proc:only", "-d", classes.getPath(), "-classpath", CLASSPATH));
+      arguments.addAll(options);
+      JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, arguments, null, units);
+      task.setProcessors(Collections.singletonList(new BuildableProcessor()));
+      return task.call();
+    }
+  }
+
+  @Test
+  public void shouldSaveLibraryDefinitionsAfterProcessing() throws Exception {
+    File source = writeSource();
+    File classes = folder.newFolder("classes");
+    File generated = folder.newFolder("generated");
+    File snapshot = new File(folder.getRoot(), "sundrio/definitions.bin");
+
+    assertTrue(process(source, classes, Arrays.asList("-s", generated.getPath(),
+        "-A" + AbstractBuilderProcessor.DEFINITION_SNAPSHOT + "=" + snapshot.getPath(),
+        "-A" + AbstractBuilderProcessor.CLASSPATH + "=" + CLASSPATH), null));
+
+    assertTrue(snapshot.isFile());
+    try (InputStream in = new FileInputStream(snapshot)) {
+      DefinitionSnapshot definitions = DefinitionSnapshot.read(in);
+      assertFalse(definitions.getNames().isEmpty());
+      assertFalse(definitions.getNames().contains("test.snapshot.Person"));
+      assertFalse(definitions.getNames().contains("test.snapshot.PersonBuilder"));
+    }
+
+    String fingerprint = DefinitionSnapshot.fingerprint(AbstractBuilderProcessor.getClasspath(CLASSPATH, classes));
+    assertTrue(DefinitionRepository.createRepository().loadSnapshot(snapshot, fingerprint));
+    assertFalse(DefinitionRepository.createRepository().loadSnapshot(snapshot, "other"));
+  }
+
+  @Test
+  public void shouldRestoreBuilderAttributeKeys() throws Exception {
+    File snapshot = new File(folder.getRoot(), "sundrio/definitions.bin");
+    DefinitionRepository source = DefinitionRepository.createRepository();
+    source.register(new TypeDefBuilder()
+        .withPackageName("test.snapshot")
+        .withName("Address")
+        .addToAttributes(Constants.EDITABLE_ENABLED, true)
+        .addToAttributes(Constants.LAZY_COPY_ENABLED, false)
+        .build());
+    source.saveSnapshot(snapshot, "fp", t -> true);
+
+    DefinitionRepository target = DefinitionRepository.createRepository();
+    assertTrue(target.loadSnapshot(snapshot, "fp", Constants.ATTRIBUTE_KEYS.toArray(new AttributeKey<?>[0])));
+
+    TypeDef restored = target.getDefinition("test.snapshot.Address");
+    assertTrue(restored.hasAttribute(Constants.EDITABLE_ENABLED));
+    assertEquals(true, restored.getAttribute(Constants.EDITABLE_ENABLED));
+    assertEquals(false, restored.getAttribute(Constants.LAZY_COPY_ENABLED));
+  }
+
+  @Test
+  public void shouldIgnoreSnapshotWithoutClasspath() throws Exception {
+    File source = writeSource();
+    File classes = folder.newFolder("classes");
+    File generated = folder.newFolder("generated");
+    File snapshot = new File(folder.getRoot(), "sundrio/definitions.bin");
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+    assertTrue(process(source, classes, Arrays.asList("-s", generated.getPath(),
+        "-A" + AbstractBuilderProcessor.DEFINITION_SNAPSHOT + "=" + snapshot.getPath()), diagnostics));
+
+    assertFalse(snapshot.exists());
+    assertTrue(diagnostics.getDiagnostics().stream().anyMatch(d -> d.getKind() == Diagnostic.Kind.WARNING
+        && d.getMessage(null).contains(AbstractBuilderProcessor.CLASSPATH)));
+  }
+}
@@ -22,6 +22,7 @@ import java.io.InputStreamReader;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -151,10 +152,13 @@ public class TemplateTransformationProcessor extends AbstractCodeGeneratingProce
               TemplateRenderer<TypeDef> renderer = TemplateRenderers.getTemplateRenderer(TypeDef.class, templateUrl)
                   .orElseThrow(() -> new IllegalStateException("No template renderer found for:" + templateUrl));
 
+              //The identifier needs the rendered content, so let's make sure that the type is only rendered once.
+              Map<TypeDef, String> rendered = new IdentityHashMap<>();
+              Function<TypeDef, String> render = t -> rendered.computeIfAbsent(t, renderer::render);
               Function<TypeDef, String> identifier = t -> io.sundr.model.utils.Types
-                  .parseFullyQualifiedName(renderer.render(t));
+                  .parseFullyQualifiedName(render.apply(t));
               CodeGenerator.newGenerator(TypeDef.class)
-                  .withRenderer(renderer)
+                  .withRenderer(render)
                   .withIdentifier(identifier)
                   .withOutput(new TypeDefAptOutput(filer, renderer))
                   .skipping(t -> TypeLookup.lookup(identifier.apply(typeDef), AptContext.getContext()).isPresent())
@@ -30,7 +30,7 @@ import io.sundr.utils.Predicates;
 public class CodeGenerator<T> {
 
   private final Class<T> type;
-  private final Function<T, Writer> output;
+  private final Output<T> output;
   private final Function<T, String> identifier;
   private final Function<T, String> renderer;
   private final Predicate<T> skip;
@@ -43,7 +43,7 @@ public class CodeGenerator<T> {
   public static class Builder<T> {
 
     private final Class<T> type;
-    private final Function<T, Writer> output;
+    private final Output<T> output;
     private final Function<T, String> identifier;
     private final Function<T, String> renderer;
     private final Predicate<T> skip;
@@ -53,7 +53,7 @@ public class CodeGenerator<T> {
       this(type, null, null, null, null, null);
     }
 
-    private Builder(Class<T> type, Function<T, Writer> output, Function<T, String> identifier, Function<T, String> renderer,
+    private Builder(Class<T> type, Output<T> output, Function<T, String> identifier, Function<T, String> renderer,
         Predicate<T> skip,
         Consumer<T> onSkip) {
       this.type = type;
@@ -65,11 +65,11 @@ public class CodeGenerator<T> {
     }
 
     public Builder<T> withOutput(Output<T> output) {
-      return withOutput(output.getFunction());
+      return new Builder<>(type, output, identifier, renderer, skip, onSkip);
     }
 
     public Builder<T> withOutput(Function<T, Writer> output) {
-      return new Builder<>(type, output, identifier, renderer, skip, onSkip);
+      return withOutput((Output<T>) () -> output);
     }
 
     public Builder<T> withIdentifier(Identifier<T> identifier) {
@@ -101,10 +101,10 @@ public class CodeGenerator<T> {
     }
   }
 
-  private CodeGenerator(Class<T> type, Function<T, Writer> output, Function<T, String> identifier, Function<T, String> renderer,
+  private CodeGenerator(Class<T> type, Output<T> output, Function<T, String> identifier, Function<T, String> renderer,
       Predicate<T> skip, Consumer<T> onSkip) {
     this.type = type;
-    this.output = output != null ? output : new SystemOutput<T>().getFunction();
+    this.output = output != null ? output : new SystemOutput<T>();
     this.identifier = identifier != null ? identifier
         : Identifiers.findIdentifier(type).map(Identifier::getFunction).orElse(o -> String.valueOf(o.hashCode()));
     this.renderer = renderer != null ? renderer
@@ -139,8 +139,10 @@ public class CodeGenerator<T> {
         if (generated.contains(id)) {
           continue;
         }
-        try (Writer writer = output.apply(item)) {
-          writer.write(renderer.apply(item));
+        //Render each item once and let the output reuse the content, to figure out where it should be written.
+        String content = renderer.apply(item);
+        try (Writer writer = output.create(item, content)) {
+          writer.write(content);
           generated.add(id);
         } catch (IOException e) {
           return false;
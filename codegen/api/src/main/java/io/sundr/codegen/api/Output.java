@@ -28,4 +28,17 @@ public interface Output<T> {
   default Writer create(T item) {
     return getFunction().apply(item);
   }
+
+  /**
+   * Create the {@link Writer} for an item that has already been rendered.
+   * Outputs that need the rendered content in order to decide where the item should be written, should override this
+   * method, so that the item is not rendered again.
+   *
+   * @param item the item
+   * @param content the rendered content of the item
+   * @return the {@link Writer} the content should be written to
+   */
+  default Writer create(T item, String content) {
+    return create(item);
+  }
 }
@@ -0,0 +1,76 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.codegen.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+public class CodeGeneratorTest {
+
+  @Test
+  public void shouldRenderEachItemOnce() {
+    AtomicInteger renderings = new AtomicInteger();
+    Map<String, StringWriter> files = new HashMap<>();
+    Output<String> output = new Output<String>() {
+      @Override
+      public Function<String, Writer> getFunction() {
+        throw new IllegalStateException("Output should reuse the rendered content.");
+      }
+
+      @Override
+      public Writer create(String item, String content) {
+        return files.computeIfAbsent(content.substring(0, content.indexOf(':')), k -> new StringWriter());
+      }
+    };
+
+    assertTrue(CodeGenerator.newGenerator(String.class)
+        .withRenderer(s -> {
+          renderings.incrementAndGet();
+          return s.toUpperCase() + ": " + s;
+        })
+        .withIdentifier(s -> s)
+        .skipping(s -> false)
+        .withOutput(output)
+        .generate("a", "b"));
+
+    assertEquals(2, renderings.get());
+    assertEquals("A: a", files.get("A").toString());
+    assertEquals("B: b", files.get("B").toString());
+  }
+
+  @Test
+  public void shouldSupportOutputFunctions() {
+    StringWriter writer = new StringWriter();
+    assertTrue(CodeGenerator.newGenerator(String.class)
+        .withRenderer(s -> s + s)
+        .withIdentifier(s -> s)
+        .skipping(s -> false)
+        .withOutput(s -> writer)
+        .generate("a"));
+    assertEquals("aa", writer.toString());
+  }
+}
@@ -56,26 +56,28 @@ public class GenericAptOutput<T> implements Output<T> {
 
   @Override
   public Function<T, Writer> getFunction() {
-    return type -> {
-      try {
-        String rendered = renderer.render(type);
-        Optional<String> name = Types.parseName(rendered);
-        if ((name.isPresent())) {
-          String pkg = Types.parsePackage(rendered).orElse(moduleAndPackage);
-          String fqcn = Strings.isNullOrEmpty(pkg) ? name.get() : pkg + "." + name.get();
-          FileObject fileObject = filer.getResource(StandardLocation.SOURCE_OUTPUT, pkg, name.get() + ".java");
-          File file = Paths.get(fileObject.toUri()).toFile();
-          //If file exists just send output to /dev/null
-          return file.exists() ? DEV_NULL : filer.createSourceFile(fqcn).openWriter();
-        } else if (Strings.isNotNullOrEmpty(relativePath)) {
-          return filer.createResource(StandardLocation.CLASS_OUTPUT, moduleAndPackage, relativePath).openWriter();
-        } else {
-          throw new SundrException(
-              "Cannot generate resource. No output path specified and generated code does not correspond to a java class (so that output path can be inferred).");
-        }
-      } catch (IOException e) {
-        throw SundrException.launderThrowable(e);
+    return type -> create(type, renderer.render(type));
+  }
+
+  @Override
+  public Writer create(T type, String rendered) {
+    try {
+      Optional<String> name = Types.parseName(rendered);
+      if ((name.isPresent())) {
+        String pkg = Types.parsePackage(rendered).orElse(moduleAndPackage);
+        String fqcn = Strings.isNullOrEmpty(pkg) ? name.get() : pkg + "." + name.get();
+        FileObject fileObject = filer.getResource(StandardLocation.SOURCE_OUTPUT, pkg, name.get() + ".java");
+        File file = Paths.get(fileObject.toUri()).toFile();
+        //If file exists just send output to /dev/null
+        return file.exists() ? DEV_NULL : filer.createSourceFile(fqcn).openWriter();
+      } else if (Strings.isNotNullOrEmpty(relativePath)) {
+        return filer.createResource(StandardLocation.CLASS_OUTPUT, moduleAndPackage, relativePath).openWriter();
+      } else {
+        throw new SundrException(
+            "Cannot generate resource. No output path specified and generated code does not correspond to a java class (so that output path can be inferred).");
       }
-    };
+    } catch (IOException e) {
+      throw SundrException.launderThrowable(e);
+    }
   }
 }
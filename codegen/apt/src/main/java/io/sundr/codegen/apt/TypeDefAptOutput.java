@@ -53,28 +53,50 @@ public class TypeDefAptOutput implements Output<TypeDef> {
 
   @Override
   public Function<TypeDef, Writer> getFunction() {
-    return type -> {
-      try {
-        String rendered = renderer.render(type);
-        String pkg = Types.parsePackage(rendered).orElse("");
-        String name = Types.parseName(rendered)
+    return type -> isDefaultRenderer() ? create(type, null) : create(type, renderer.render(type));
+  }
+
+  /**
+   * Create the {@link Writer} for the specified type.
+   * When the type is rendered by {@link TypeDefRenderer} the package and the name of the type are used as is.
+   * Otherwise, they are parsed from the rendered content.
+   *
+   * @param type the type
+   * @param content the rendered content of the type
+   * @return the {@link Writer}
+   */
+  @Override
+  public Writer create(TypeDef type, String content) {
+    try {
+      String pkg;
+      String name;
+      if (isDefaultRenderer()) {
+        pkg = Strings.isNullOrEmpty(type.getPackageName()) ? "" : type.getPackageName();
+        name = type.getName();
+      } else {
+        pkg = Types.parsePackage(content).orElse("");
+        name = Types.parseName(content)
             .orElseThrow(() -> new IllegalStateException("Cannot extract fully qualified name from generated code."));
-        String fqcn = Strings.isNullOrEmpty(pkg) ? name : pkg + "." + name;
+      }
+      String fqcn = Strings.isNullOrEmpty(pkg) ? name : pkg + "." + name;
 
-        FileObject fileObject = filer.getResource(StandardLocation.SOURCE_OUTPUT, pkg, name + ".java");
-        boolean exists = false;
-        try {
-          exists = Paths.get(fileObject.toUri()).toFile().exists();
-        } catch (FileSystemNotFoundException fileSystemNotFoundException) {
-          if (!"Provider \"mem\" not installed".equals(fileSystemNotFoundException.getMessage())) {
-            throw fileSystemNotFoundException;
-          }
+      FileObject fileObject = filer.getResource(StandardLocation.SOURCE_OUTPUT, pkg, name + ".java");
+      boolean exists = false;
+      try {
+        exists = Paths.get(fileObject.toUri()).toFile().exists();
+      } catch (FileSystemNotFoundException fileSystemNotFoundException) {
+        if (!"Provider \"mem\" not installed".equals(fileSystemNotFoundException.getMessage())) {
+          throw fileSystemNotFoundException;
         }
-        //If file exists just send output to /dev/null
-        return exists ? DEV_NULL : filer.createSourceFile(fqcn).openWriter();
-      } catch (IOException e) {
-        throw SundrException.launderThrowable(e);
       }
-    };
+      //If file exists just send output to /dev/null
+      return exists ? DEV_NULL : filer.createSourceFile(fqcn).openWriter();
+    } catch (IOException e) {
+      throw SundrException.launderThrowable(e);
+    }
+  }
+
+  private boolean isDefaultRenderer() {
+    return renderer.getClass() == TypeDefRenderer.class;
   }
 }
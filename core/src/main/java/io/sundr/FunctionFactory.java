@@ -16,95 +16,269 @@
 
 package io.sundr;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 
+/**
+ * A {@link Function} wrapper that supports caching, recursion protection and fallbacks.
+ *
+ * By default calls to the function are serialized. A function created using {@link #concurrent()} is called without any
+ * locking, using a concurrent cache. A cache may also be bounded using {@link #withMaximumSize(long)} or
+ * {@link #withMaximumWeight(long, ToLongFunction)}, in which case the oldest entries are evicted first.
+ *
+ * Recursion levels and nesting depth are tracked per thread.
+ */
 public class FunctionFactory<X, Y> implements Function<X, Y> {
 
+  private static final ThreadLocal<Depth> NESTING_DEPTH = ThreadLocal.withInitial(Depth::new);
+
   private final Map<X, Y> cache;
   private final Function<X, Y> function;
   private final Function<X, Y> fallback;
   private final Predicate<X> fallbackPredicate;
   private final int maximumRecursionLevel;
   private final int maximumNestingDepth;
+  private final boolean concurrent;
+  private final long maximumWeight;
+  private final ToLongFunction<? super Y> weigher;
+
+  private final ThreadLocal<Map<X, Depth>> recursionLevels;
+  private final Queue<X> insertionOrder;
+  private final AtomicLong weight;
+  private final Statistics statistics;
+
+  private static final class Depth {
+    private int value;
+  }
+
+  /**
+   * The cache statistics of a function.
+   */
+  public static final class Statistics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public long getHits() {
+      return hits.sum();
+    }
+
+    public long getMisses() {
+      return misses.sum();
+    }
+
+    public long getEvictions() {
+      return evictions.sum();
+    }
 
-  private final Stack<X> ownStack;
-  private static final Stack globalStack = new Stack();
+    public double getHitRatio() {
+      long hits = getHits();
+      long lookups = hits + getMisses();
+      return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+      return "hits=" + getHits() + ", misses=" + getMisses() + ", evictions=" + getEvictions();
+    }
+  }
 
+  /**
+   * @deprecated the stack is no longer used, recursion levels are tracked per thread.
+   */
+  @Deprecated
   public FunctionFactory(Map<X, Y> cache, Function<X, Y> function, Function<X, Y> fallback, Predicate<X> fallbackPredicate,
       int maximumRecursionLevel, int maximumNestingDepth, Stack<X> ownStack) {
+    this(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth, false, 0, v -> 1,
+        ThreadLocal.withInitial(HashMap::new), new ConcurrentLinkedQueue<>(), new AtomicLong(), new Statistics());
+  }
+
+  private FunctionFactory(Map<X, Y> cache, Function<X, Y> function, Function<X, Y> fallback, Predicate<X> fallbackPredicate,
+      int maximumRecursionLevel, int maximumNestingDepth, boolean concurrent, long maximumWeight,
+      ToLongFunction<? super Y> weigher, ThreadLocal<Map<X, Depth>> recursionLevels, Queue<X> insertionOrder, AtomicLong weight,
+      Statistics statistics) {
     this.cache = cache;
     this.function = function;
     this.fallback = fallback;
     this.fallbackPredicate = fallbackPredicate;
     this.maximumRecursionLevel = maximumRecursionLevel;
     this.maximumNestingDepth = maximumNestingDepth;
-    this.ownStack = ownStack;
+    this.concurrent = concurrent;
+    this.maximumWeight = maximumWeight;
+    this.weigher = weigher;
+    this.recursionLevels = recursionLevels;
+    this.insertionOrder = insertionOrder;
+    this.weight = weight;
+    this.statistics = statistics;
   }
 
   public Y apply(X item) {
-    Y result;
+    if (concurrent) {
+      return doApply(item);
+    }
     synchronized (function) {
-      ownStack.push(item);
-      globalStack.push(item);
-      try {
-        result = cache != null ? cache.get(item) : null;
-        if (result == null) {
-          int recursionLevel = ownStack != null ? Collections.frequency(ownStack, item) : 0;
-          int nestingDepth = globalStack.size();
-          boolean recursionLevelExceeded = recursionLevel > maximumRecursionLevel && maximumRecursionLevel > 0;
-          boolean nestringDeptExceeded = nestingDepth > maximumNestingDepth && maximumNestingDepth > 0;
-          boolean predicateMatched = fallbackPredicate != null && fallbackPredicate.test(item);
-          if ((recursionLevelExceeded || nestringDeptExceeded || predicateMatched) && fallback != null) {
-            result = fallback.apply(item);
-          } else {
-            result = function.apply(item);
-            cacheIfEnabled(item, result);
-          }
+      return doApply(item);
+    }
+  }
+
+  private Y doApply(X item) {
+    Map<X, Depth> levels = recursionLevels.get();
+    // A result computed while the same item is being computed further up depends on the recursion level. Calls are
+    // serialized by default, so the outermost call overwrites those results before anyone else can see them. In
+    // concurrent mode they would be visible to other threads, so only the outermost call uses the cache.
+    boolean cacheable = cache != null && item != null && (!concurrent || !levels.containsKey(item));
+    Y result = cacheable ? cache.get(item) : null;
+    if (result != null) {
+      statistics.hits.increment();
+      return result;
+    }
+    if (cacheable) {
+      statistics.misses.increment();
+    }
+
+    Depth recursionLevel = levels.computeIfAbsent(item, i -> new Depth());
+    Depth nestingDepth = NESTING_DEPTH.get();
+    recursionLevel.value++;
+    nestingDepth.value++;
+    try {
+      boolean recursionLevelExceeded = recursionLevel.value > maximumRecursionLevel && maximumRecursionLevel > 0;
+      boolean nestringDeptExceeded = nestingDepth.value > maximumNestingDepth && maximumNestingDepth > 0;
+      boolean predicateMatched = fallbackPredicate != null && fallbackPredicate.test(item);
+      if ((recursionLevelExceeded || nestringDeptExceeded || predicateMatched) && fallback != null) {
+        result = fallback.apply(item);
+      } else {
+        result = function.apply(item);
+        if (cacheable) {
+          cacheIfEnabled(item, result);
         }
-      } finally {
-        ownStack.pop();
-        globalStack.pop();
       }
-      return result;
+    } finally {
+      nestingDepth.value--;
+      if (--recursionLevel.value == 0) {
+        levels.remove(item);
+      }
     }
+    return result;
   }
 
   private void cacheIfEnabled(X item, Y result) {
-    if (cache != null) {
-      cache.put(item, result);
+    if (cache == null || item == null || result == null) {
+      return;
+    }
+    Y previous = cache.put(item, result);
+    if (maximumWeight <= 0) {
+      return;
+    }
+    if (previous == null) {
+      insertionOrder.add(item);
+      weight.addAndGet(weigher.applyAsLong(result));
+    } else {
+      weight.addAndGet(weigher.applyAsLong(result) - weigher.applyAsLong(previous));
+    }
+    while (weight.get() > maximumWeight) {
+      X oldest = insertionOrder.poll();
+      if (oldest == null) {
+        break;
+      }
+      Y evicted = cache.remove(oldest);
+      if (evicted != null) {
+        weight.addAndGet(-weigher.applyAsLong(evicted));
+        statistics.evictions.increment();
+      }
     }
   }
 
+  /**
+   * Get the cache statistics of the function.
+   * The statistics are shared by all the functions derived from the same cache.
+   *
+   * @return the statistics
+   */
+  public Statistics getStatistics() {
+    return statistics;
+  }
+
+  /**
+   * Get the number of entries currently cached.
+   *
+   * @return the number of entries, or zero if caching is not enabled.
+   */
+  public int getCacheSize() {
+    return cache != null ? cache.size() : 0;
+  }
+
   public static <X, Y> FunctionFactory<X, Y> cache(Function<X, Y> function) {
-    return new FunctionFactory<X, Y>(new HashMap<X, Y>(), function, null, null, 0, 0, new Stack<X>());
+    return new FunctionFactory<X, Y>(new HashMap<X, Y>(), function, null, null, 0, 0, false, 0, v -> 1,
+        ThreadLocal.withInitial(HashMap::new), new ConcurrentLinkedQueue<>(), new AtomicLong(), new Statistics());
   }
 
   public static <X, Y> FunctionFactory<X, Y> wrap(Function<X, Y> function) {
-    return new FunctionFactory<X, Y>(null, function, null, null, 0, 0, new Stack<X>());
+    return new FunctionFactory<X, Y>(null, function, null, null, 0, 0, false, 0, v -> 1,
+        ThreadLocal.withInitial(HashMap::new), new ConcurrentLinkedQueue<>(), new AtomicLong(), new Statistics());
+  }
+
+  /**
+   * Create a function that is called without locking. The cache, if enabled, is replaced by a concurrent one.
+   * The wrapped function (and its fallback) should be safe to call from multiple threads. When two threads miss the same
+   * item at the same time, the function may be applied to the item more than once.
+   *
+   * @return the concurrent function
+   */
+  public FunctionFactory<X, Y> concurrent() {
+    Map<X, Y> concurrentCache = cache != null ? new ConcurrentHashMap<>(cache) : null;
+    return new FunctionFactory<X, Y>(concurrentCache, function, fallback, fallbackPredicate, maximumRecursionLevel,
+        maximumNestingDepth, true, maximumWeight, weigher, recursionLevels, insertionOrder, weight, statistics);
+  }
+
+  /**
+   * Bound the cache to the specified number of entries.
+   *
+   * @param maximumSize the maximum number of entries
+   * @return the bounded function
+   */
+  public FunctionFactory<X, Y> withMaximumSize(long maximumSize) {
+    return withMaximumWeight(maximumSize, v -> 1);
+  }
+
+  /**
+   * Bound the cache to the specified total weight of the cached values.
+   *
+   * @param maximumWeight the maximum weight
+   * @param weigher the function that calculates the weight of a value
+   * @return the bounded function
+   */
+  public FunctionFactory<X, Y> withMaximumWeight(long maximumWeight, ToLongFunction<? super Y> weigher) {
+    return new FunctionFactory<X, Y>(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth,
+        concurrent, maximumWeight, weigher, recursionLevels, insertionOrder, weight, statistics);
   }
 
   public FunctionFactory<X, Y> withFallback(Function<X, Y> fallback) {
     return new FunctionFactory<X, Y>(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth,
-        ownStack);
+        concurrent, maximumWeight, weigher, recursionLevels, insertionOrder, weight, statistics);
   }
 
   public FunctionFactory<X, Y> withMaximumRecursionLevel(int maximumRecursionLevel) {
     return new FunctionFactory<X, Y>(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth,
-        ownStack);
+        concurrent, maximumWeight, weigher, recursionLevels, insertionOrder, weight, statistics);
   }
 
   public FunctionFactory<X, Y> withMaximumNestingDepth(int maximumNestingDepth) {
     return new FunctionFactory<X, Y>(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth,
-        ownStack);
+        concurrent, maximumWeight, weigher, recursionLevels, insertionOrder, weight, statistics);
   }
 
   public FunctionFactory<X, Y> withFallbackPredicate(Predicate<X> fallbackPredicate) {
     return new FunctionFactory<X, Y>(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth,
-        ownStack);
+        concurrent, maximumWeight, weigher, recursionLevels, insertionOrder, weight, statistics);
   }
 }
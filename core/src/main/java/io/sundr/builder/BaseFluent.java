@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -73,12 +74,16 @@ public class BaseFluent<F> {
 
   /**
    * Builds a list of items from a list of builders.
+   * The items of a {@link LazyBuilderList} that has not been accessed are reused as they are.
    *
    * @param <T> the type of items to build
    * @param list the list of builders to build from
    * @return a list of built items, or null if the input list is null
    */
   public static <T> List<T> build(List<? extends Builder<? extends T>> list) {
+    if (list instanceof LazyBuilderList && ((LazyBuilderList) list).getSource() != null) {
+      return new ArrayList<T>(((LazyBuilderList) list).getSource());
+    }
     return list == null ? null : list.stream().map(Builder::build).collect(Collectors.toList());
   }
 
@@ -93,6 +98,31 @@ public class BaseFluent<F> {
     return set == null ? null : new LinkedHashSet<T>(set.stream().map(Builder::build).collect(Collectors.toSet()));
   }
 
+  /**
+   * Copies a list of items into a list of nested builders of the specified property.
+   * The builders are only created when either the returned list or the visitables of the property are accessed,
+   * so that copying an instance into a builder does not copy nested items that are never edited.
+   *
+   * @param <T> the type of the items
+   * @param <B> the type of the builders
+   * @param property the name of the property
+   * @param items the items to copy
+   * @param factory the function that creates a builder for an item
+   * @return the list of builders, or null if the input list is null
+   */
+  protected <T, B> ArrayList<B> lazyCopyOf(String property, List<T> items, Function<T, B> factory) {
+    _visitables.remove(property);
+    if (items == null) {
+      return null;
+    }
+    if (items.isEmpty()) {
+      return new ArrayList<B>();
+    }
+    LazyBuilderList<T, B> builders = new LazyBuilderList<T, B>(items, factory);
+    _visitables.put(property, new VisitableList(builders));
+    return builders;
+  }
+
   /**
    * Aggregates multiple lists into a single list, filtering out null lists.
    *
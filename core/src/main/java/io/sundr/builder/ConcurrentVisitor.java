@@ -0,0 +1,47 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.builder;
+
+/**
+ * A visitor that can safely visit independent subtrees concurrently.
+ * Visitors implementing this interface are eligible for {@link Visitable#acceptParallel(Visitor...)}.
+ * Stateless or thread-safe visitors only need to implement this interface. Visitors that accumulate state may instead
+ * provide a fresh copy for each subtree via {@link #fork()} and combine the copies via {@link #merge(ConcurrentVisitor)}.
+ * Copies are always merged in traversal order, so the merged result does not depend on thread scheduling.
+ *
+ * @param <T> the type of objects this visitor can visit
+ */
+public interface ConcurrentVisitor<T> extends Visitor<T> {
+
+  /**
+   * Creates the visitor that will visit an independent subtree.
+   *
+   * @return the visitor to use for the subtree, defaults to this visitor
+   */
+  default ConcurrentVisitor<T> fork() {
+    return this;
+  }
+
+  /**
+   * Merges a visitor previously created by {@link #fork()}, after it has visited its subtree.
+   *
+   * @param forked the forked visitor
+   */
+  default void merge(ConcurrentVisitor<T> forked) {
+  }
+}
@@ -54,6 +54,11 @@ public class DelegatingVisitor<T> implements Visitor<T> {
     return delegate.order();
   }
 
+  @Override
+  public boolean requiresPath() {
+    return delegate.requiresPath();
+  }
+
   @Override
   public void visit(T target) {
     delegate.visit(target);
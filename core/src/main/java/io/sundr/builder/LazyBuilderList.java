@@ -0,0 +1,315 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.builder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A list of nested builders that is copied from a list of instances on demand.
+ * The builders are only created when the list is first accessed, other than to check its size.
+ * The list of instances is copied, so that changes to it after the list is created are not reflected in the builders.
+ * Until then {@link BaseFluent#build(List)} can reuse the instances the list was created from, instead of building
+ * them again from their builders.
+ *
+ * The list extends {@link ArrayList}, as that's the type of the fields of generated fluents. Every {@link ArrayList}
+ * method that reads its storage directly is overridden to create the builders first, including the ones that were
+ * added in later Java versions, and the list is serialized as a plain {@link ArrayList}.
+ *
+ * @param <T> the type of the instances
+ * @param <B> the type of the builders
+ */
+public class LazyBuilderList<T, B> extends ArrayList<B> {
+
+  private List<T> source;
+  private final Function<T, B> factory;
+
+  public LazyBuilderList(List<T> source, Function<T, B> factory) {
+    this.source = new ArrayList<T>(source);
+    this.factory = factory;
+  }
+
+  /**
+   * Get the instances this list was created from, as long as no builder has been created yet.
+   *
+   * @return the list of instances or null, if the builders have been created.
+   */
+  public List<T> getSource() {
+    return source;
+  }
+
+  /**
+   * Create the builders for the instances the list was created from.
+   */
+  private void materialize() {
+    if (source == null) {
+      return;
+    }
+    List<T> items = source;
+    source = null;
+    super.ensureCapacity(items.size());
+    for (T item : items) {
+      super.add(factory.apply(item));
+    }
+  }
+
+  @Override
+  public int size() {
+    return source != null ? source.size() : super.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return source != null ? source.isEmpty() : super.isEmpty();
+  }
+
+  @Override
+  public void clear() {
+    source = null;
+    super.clear();
+  }
+
+  @Override
+  public void trimToSize() {
+    materialize();
+    super.trimToSize();
+  }
+
+  @Override
+  public void ensureCapacity(int minCapacity) {
+    materialize();
+    super.ensureCapacity(minCapacity);
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    materialize();
+    return super.contains(o);
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    materialize();
+    return super.indexOf(o);
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    materialize();
+    return super.lastIndexOf(o);
+  }
+
+  @Override
+  public Object clone() {
+    materialize();
+    return super.clone();
+  }
+
+  @Override
+  public Object[] toArray() {
+    materialize();
+    return super.toArray();
+  }
+
+  @Override
+  public <E> E[] toArray(E[] a) {
+    materialize();
+    return super.toArray(a);
+  }
+
+  @Override
+  public B get(int index) {
+    materialize();
+    return super.get(index);
+  }
+
+  @Override
+  public B set(int index, B element) {
+    materialize();
+    return super.set(index, element);
+  }
+
+  @Override
+  public boolean add(B element) {
+    materialize();
+    return super.add(element);
+  }
+
+  @Override
+  public void add(int index, B element) {
+    materialize();
+    super.add(index, element);
+  }
+
+  @Override
+  public B remove(int index) {
+    materialize();
+    return super.remove(index);
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    materialize();
+    return super.remove(o);
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends B> c) {
+    materialize();
+    return super.addAll(c);
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends B> c) {
+    materialize();
+    return super.addAll(index, c);
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    materialize();
+    return super.removeAll(c);
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    materialize();
+    return super.retainAll(c);
+  }
+
+  @Override
+  public ListIterator<B> listIterator(int index) {
+    materialize();
+    return super.listIterator(index);
+  }
+
+  @Override
+  public ListIterator<B> listIterator() {
+    materialize();
+    return super.listIterator();
+  }
+
+  @Override
+  public Iterator<B> iterator() {
+    materialize();
+    return super.iterator();
+  }
+
+  @Override
+  public List<B> subList(int fromIndex, int toIndex) {
+    materialize();
+    return super.subList(fromIndex, toIndex);
+  }
+
+  @Override
+  public void forEach(Consumer<? super B> action) {
+    materialize();
+    super.forEach(action);
+  }
+
+  @Override
+  public Spliterator<B> spliterator() {
+    materialize();
+    return super.spliterator();
+  }
+
+  @Override
+  public boolean removeIf(Predicate<? super B> filter) {
+    materialize();
+    return super.removeIf(filter);
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<B> operator) {
+    materialize();
+    super.replaceAll(operator);
+  }
+
+  @Override
+  public void sort(Comparator<? super B> c) {
+    materialize();
+    super.sort(c);
+  }
+
+  // The methods below override the ones ArrayList declares since Java 21.
+
+  public B getFirst() {
+    materialize();
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return get(0);
+  }
+
+  public B getLast() {
+    materialize();
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return get(size() - 1);
+  }
+
+  public B removeFirst() {
+    materialize();
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return remove(0);
+  }
+
+  public B removeLast() {
+    materialize();
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return remove(size() - 1);
+  }
+
+  public void addFirst(B element) {
+    add(0, element);
+  }
+
+  public void addLast(B element) {
+    add(element);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    materialize();
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    materialize();
+    return super.hashCode();
+  }
+
+  private Object writeReplace() {
+    return new ArrayList<B>(this);
+  }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.builder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Visits a visitable and its children with concurrent visitors, forking a task per child of large child lists.
+ */
+final class ParallelVisit extends RecursiveAction {
+
+  /**
+   * The minimum number of children in a list for them to be visited in forked tasks.
+   */
+  static final int FORK_THRESHOLD = 8;
+
+  private final Visitable<?> visitable;
+  private final List<Entry<String, Object>> path;
+  private final String currentKey;
+  private final List<ConcurrentVisitor> visitors;
+
+  ParallelVisit(Visitable<?> visitable, List<Entry<String, Object>> path, String currentKey,
+      List<ConcurrentVisitor> visitors) {
+    this.visitable = visitable;
+    this.path = path;
+    this.currentKey = currentKey;
+    this.visitors = visitors;
+  }
+
+  List<ConcurrentVisitor> getVisitors() {
+    return visitors;
+  }
+
+  @Override
+  protected void compute() {
+    List<Visitor> applicable = new ArrayList<>();
+    boolean requiresPath = false;
+    for (ConcurrentVisitor visitor : visitors) {
+      Visitor wrapped = VisitorListener.wrap(visitor);
+      if (wrapped.canVisit(path, visitable)) {
+        applicable.add(wrapped);
+      }
+      requiresPath = requiresPath || visitor.requiresPath();
+    }
+    applicable.sort((l, r) -> r.order() - l.order());
+    for (Visitor visitor : applicable) {
+      visitor.visit(path, visitable);
+    }
+
+    List<Entry<String, Object>> newPath = requiresPath ? VisitorPath.append(path, currentKey, visitable)
+        : Collections.emptyList();
+    if (!visitable.getVisitableMap().isPresent()) {
+      return;
+    }
+    for (Entry<String, List<Visitable>> entry : visitable.getVisitableMap().get().entrySet()) {
+      List<Visitable> children = new ArrayList<>(entry.getValue());
+      if (children.size() < FORK_THRESHOLD) {
+        // Forking and merging the visitors costs more than visiting a few children in place
+        for (Visitable child : children) {
+          new ParallelVisit(child, newPath, entry.getKey(), visitors).compute();
+        }
+      } else {
+        fork(children, newPath, entry.getKey());
+      }
+    }
+  }
+
+  private void fork(List<Visitable> children, List<Entry<String, Object>> newPath, String key) {
+    List<ParallelVisit> tasks = new ArrayList<>(children.size());
+    for (Visitable child : children) {
+      List<ConcurrentVisitor> forked = new ArrayList<>(visitors.size());
+      for (ConcurrentVisitor visitor : visitors) {
+        forked.add(visitor.fork());
+      }
+      tasks.add(new ParallelVisit(child, newPath, key, forked));
+    }
+    invokeAll(tasks);
+
+    // Merge in traversal order, before visiting the next children
+    for (ParallelVisit task : tasks) {
+      for (int i = 0; i < visitors.size(); i++) {
+        ConcurrentVisitor visitor = visitors.get(i);
+        ConcurrentVisitor forked = task.getVisitors().get(i);
+        if (forked != visitor) {
+          visitor.merge(forked);
+        }
+      }
+    }
+  }
+}
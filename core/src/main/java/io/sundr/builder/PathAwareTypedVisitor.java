@@ -16,7 +16,6 @@
 
 package io.sundr.builder;
 
-import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map.Entry;
 
@@ -26,7 +25,7 @@ public class PathAwareTypedVisitor<V, P> implements Visitor<V> {
   private final Class<P> parentType;
 
   public PathAwareTypedVisitor() {
-    List<Class> args = Visitors.getTypeArguments(PathAwareTypedVisitor.class, getClass());
+    List<Class> args = Visitors.getCachedTypeArguments(PathAwareTypedVisitor.class, getClass());
     if (args == null || args.isEmpty()) {
       throw new IllegalStateException("Could not determine type arguments for path aware typed visitor.");
     }
@@ -51,18 +50,8 @@ public class PathAwareTypedVisitor<V, P> implements Visitor<V> {
    * @return True if matching method was found.
    */
   public <F> Boolean hasVisitMethodMatching(F target) {
-    for (Method method : getClass().getMethods()) {
-      if (!method.getName().equals("visit") || method.getParameterTypes().length != 2) {
-        continue;
-      }
-      Class<?> visitorType = method.getParameterTypes()[1];
-      if (visitorType.isAssignableFrom(target.getClass())) {
-        return true;
-      } else {
-        return false;
-      }
-    }
-    return false;
+    Class<?> visitorType = Visitors.getVisitMethodArgument(getClass(), 2);
+    return visitorType != null && visitorType.isAssignableFrom(target.getClass());
   }
 
   public P getParent(List<Object> path) {
@@ -17,12 +17,12 @@
 
 package io.sundr.builder;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 public interface Visitable<T> {
 
@@ -67,13 +67,10 @@ public interface Visitable<T> {
       visitor.visit(path, this);
     }
 
-    List<Entry<String, Object>> copyOfPath = path != null ? new ArrayList(path) : new ArrayList<>();
-    copyOfPath.add(new AbstractMap.SimpleEntry<>(currentKey, this));
+    List<Entry<String, Object>> newPath = VisitorPath.append(path, currentKey, this);
 
     getVisitableMap().ifPresent(vm -> {
       for (Entry<String, ?> entry : vm.entrySet()) {
-        List<Entry<String, Object>> newPath = Collections.unmodifiableList(copyOfPath);
-
         // Copy visitables to avoid ConcurrentModificationException when Visitors add/remove Visitables
         for (Visitable<T> visitable : new ArrayList<>((List<Visitable<T>>) entry.getValue())) {
           for (Visitor visitor : visitors) {
@@ -94,6 +91,73 @@ public interface Visitable<T> {
     return (T) this;
   }
 
+  default T accept(VisitorPlan plan) {
+    return accept(Collections.emptyList(), "", plan);
+  }
+
+  default T accept(List<Entry<String, Object>> path, String currentKey, VisitorPlan plan) {
+    List<Visitor> candidates = plan.getVisitors(getClass());
+    List<Visitor> applicable = new ArrayList<>(candidates.size());
+    for (Visitor visitor : candidates) {
+      if (visitor.canVisit(path, this)) {
+        applicable.add(visitor);
+      }
+    }
+    for (Visitor visitor : applicable) {
+      visitor.visit(path, this);
+    }
+
+    List<Entry<String, Object>> newPath = plan.requiresPath() ? VisitorPath.append(path, currentKey, this)
+        : Collections.emptyList();
+
+    getVisitableMap().ifPresent(vm -> {
+      for (Entry<String, ?> entry : vm.entrySet()) {
+        // Copy visitables to avoid ConcurrentModificationException when Visitors add/remove Visitables
+        for (Visitable<T> visitable : new ArrayList<>((List<Visitable<T>>) entry.getValue())) {
+          for (VisitorPlan childPlan : plan.getChildPlans(visitable.getClass())) {
+            visitable.accept(newPath, entry.getKey(), childPlan);
+          }
+        }
+      }
+    });
+
+    return (T) this;
+  }
+
+  default T acceptParallel(Visitor<?>... visitors) {
+    return acceptParallel(ForkJoinPool.commonPool(), visitors);
+  }
+
+  /**
+   * Visits this visitable and its children using the specified pool.
+   * Visitors that implement {@link ConcurrentVisitor} visit independent subtrees concurrently, when a visitable has enough
+   * children for the forking to pay off.
+   * All other visitors are applied afterwards, using a regular sequential traversal.
+   *
+   * @param pool the pool that will run the traversal
+   * @param visitors the visitors
+   * @return the visited object
+   */
+  default T acceptParallel(ForkJoinPool pool, Visitor<?>... visitors) {
+    List<ConcurrentVisitor> concurrent = new ArrayList<>();
+    List<Visitor> sequential = new ArrayList<>();
+    for (Visitor visitor : visitors) {
+      if (visitor instanceof ConcurrentVisitor) {
+        concurrent.add((ConcurrentVisitor) visitor);
+      } else {
+        sequential.add(visitor);
+      }
+    }
+
+    if (!concurrent.isEmpty()) {
+      pool.invoke(new ParallelVisit(this, Collections.emptyList(), "", concurrent));
+    }
+    if (!sequential.isEmpty()) {
+      accept(VisitorPlan.compile(sequential));
+    }
+    return (T) this;
+  }
+
   default T getTarget(Visitable<T> visitable) {
     return (T) visitable;
   }
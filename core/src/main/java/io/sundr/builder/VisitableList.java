@@ -0,0 +1,348 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.builder;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The list of {@link Visitable} instances of a single property of a {@link VisitableMap}.
+ * Elements are indexed by identity, so removing an instance that is part of the list is a constant time operation.
+ * Removing an element that is only equal to an element of the list falls back to a linear scan.
+ * Removed elements leave a gap that is reclaimed lazily, either when the gaps outnumber the elements or when the list is
+ * accessed by index.
+ *
+ * A list obtained from a {@link VisitableMap} for a property that has no elements yet, is only added to the map when the
+ * first element is added to it. The storage of the list is also allocated on the first insertion.
+ * A list may also be created with pending elements, which are only added when the list is first accessed, unless it
+ * gets cleared before that.
+ * The list does not permit null elements.
+ */
+public class VisitableList extends AbstractList<Visitable> {
+
+  private static final int MIN_GAPS_TO_COMPACT = 16;
+
+  private VisitableMap owner;
+  private final String key;
+  private List<Visitable> elements;
+  private Map<Visitable, Integer> positions;
+  private int size;
+  private int gaps;
+  private int duplicates;
+  private int compactions;
+  private Collection<?> pending;
+
+  public VisitableList() {
+    this(null, null);
+  }
+
+  public VisitableList(Collection<?> pending) {
+    this(null, null);
+    this.pending = pending;
+  }
+
+  VisitableList(VisitableMap owner, String key) {
+    this.owner = owner;
+    this.key = key;
+  }
+
+  @Override
+  public int size() {
+    List target = target();
+    if (target != null) {
+      return target.size();
+    }
+    return size;
+  }
+
+  @Override
+  public Visitable get(int index) {
+    List target = target();
+    if (target != null) {
+      return (Visitable) target.get(index);
+    }
+    checkIndex(index);
+    compact();
+    return elements.get(index);
+  }
+
+  @Override
+  public Visitable set(int index, Visitable element) {
+    List target = target();
+    if (target != null) {
+      return (Visitable) target.set(index, element);
+    }
+    Objects.requireNonNull(element);
+    checkIndex(index);
+    compact();
+    Visitable previous = elements.set(index, element);
+    reindex();
+    return previous;
+  }
+
+  @Override
+  public boolean add(Visitable element) {
+    List target = target();
+    if (target != null) {
+      return target.add(element);
+    }
+    Objects.requireNonNull(element);
+    attach();
+    if (elements == null) {
+      elements = new ArrayList<>();
+      positions = new IdentityHashMap<>();
+    }
+    if (positions.putIfAbsent(element, elements.size()) != null) {
+      duplicates++;
+    }
+    elements.add(element);
+    size++;
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public void add(int index, Visitable element) {
+    List target = target();
+    if (target != null) {
+      target.add(index, element);
+      return;
+    }
+    if (index < 0 || index > size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    if (index == size) {
+      add(element);
+      return;
+    }
+    Objects.requireNonNull(element);
+    compact();
+    elements.add(index, element);
+    size++;
+    modCount++;
+    reindex();
+  }
+
+  @Override
+  public Visitable remove(int index) {
+    List target = target();
+    if (target != null) {
+      return (Visitable) target.remove(index);
+    }
+    checkIndex(index);
+    compact();
+    Visitable element = elements.get(index);
+    removeAt(index);
+    return element;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    List target = target();
+    if (target != null) {
+      return target.remove(o);
+    }
+    if (size == 0 || o == null) {
+      return false;
+    }
+    Integer position = positions.get(o);
+    if (position != null) {
+      removeAt(position);
+      return true;
+    }
+    for (int i = 0; i < elements.size(); i++) {
+      if (o.equals(elements.get(i))) {
+        removeAt(i);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void clear() {
+    pending = null;
+    List target = target();
+    if (target != null) {
+      target.clear();
+      return;
+    }
+    elements = null;
+    positions = null;
+    size = 0;
+    gaps = 0;
+    duplicates = 0;
+    modCount++;
+  }
+
+  @Override
+  public Iterator<Visitable> iterator() {
+    List target = target();
+    if (target != null) {
+      return target.iterator();
+    }
+    return new Iterator() {
+      private int cursor = 0;
+      private int index = 0;
+      private int last = -1;
+      private int expectedModCount = modCount;
+      private int expectedCompactions = compactions;
+
+      @Override
+      public boolean hasNext() {
+        synchronize();
+        while (elements != null && cursor < elements.size() && elements.get(cursor) == null) {
+          cursor++;
+        }
+        return elements != null && cursor < elements.size();
+      }
+
+      @Override
+      public Visitable next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        last = cursor++;
+        index++;
+        return elements.get(last);
+      }
+
+      @Override
+      public void remove() {
+        if (last < 0) {
+          throw new IllegalStateException();
+        }
+        synchronize();
+        removeAt(last);
+        last = -1;
+        index--;
+        expectedModCount = modCount;
+      }
+
+      private void synchronize() {
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        if (compactions != expectedCompactions) {
+          // once compacted, positions in the storage match the list indexes
+          cursor = index;
+          last = last >= 0 ? index - 1 : -1;
+          expectedCompactions = compactions;
+        }
+      }
+    };
+  }
+
+  /**
+   * Add the pending elements and get the list that is currently bound to the property in the owning map, if that's a
+   * different list.
+   *
+   * @return the bound list or null, if this list is the one that should be used.
+   */
+  private List target() {
+    if (pending != null) {
+      Collection<?> items = pending;
+      pending = null;
+      addAll((Collection) items);
+    }
+    if (owner != null && owner.containsKey(key)) {
+      List bound = owner.get(key);
+      if (bound != this) {
+        return bound;
+      }
+      owner = null;
+    }
+    return null;
+  }
+
+  /**
+   * Add this list to the owning map.
+   */
+  private void attach() {
+    if (owner != null) {
+      owner.put(key, this);
+      owner = null;
+    }
+  }
+
+  /**
+   * Remove the element found at the specified position of the underlying storage.
+   *
+   * @param position the position
+   */
+  private void removeAt(int position) {
+    Visitable element = elements.set(position, null);
+    size--;
+    gaps++;
+    modCount++;
+    if (positions.get(element) == position) {
+      positions.remove(element);
+      for (int i = position + 1; duplicates > 0 && i < elements.size(); i++) {
+        if (elements.get(i) == element) {
+          positions.put(element, i);
+          duplicates--;
+          break;
+        }
+      }
+    } else {
+      duplicates--;
+    }
+    if (gaps > MIN_GAPS_TO_COMPACT && gaps > size) {
+      compact();
+    }
+  }
+
+  /**
+   * Reclaim the gaps left by removed elements, so that positions in the underlying storage match the list indexes.
+   */
+  private void compact() {
+    if (gaps == 0) {
+      return;
+    }
+    elements.removeIf(Objects::isNull);
+    gaps = 0;
+    compactions++;
+    reindex();
+  }
+
+  /**
+   * Rebuild the identity index from the underlying storage.
+   */
+  private void reindex() {
+    positions.clear();
+    duplicates = 0;
+    for (int i = 0; i < elements.size(); i++) {
+      if (positions.putIfAbsent(elements.get(i), i) != null) {
+        duplicates++;
+      }
+    }
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+}
@@ -16,7 +16,6 @@
 
 package io.sundr.builder;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -28,10 +27,10 @@ public class VisitableMap extends HashMap<String, List<Visitable>> implements It
 
   @Override
   public List<Visitable> get(Object key) {
-    if (!containsKey(key)) {
-      put(String.valueOf(key), new ArrayList());
+    if (containsKey(key)) {
+      return super.get(key);
     }
-    return super.get(key);
+    return new VisitableList(this, String.valueOf(key));
   }
 
   public List<Visitable> aggregate() {
@@ -40,17 +39,17 @@ public class VisitableMap extends HashMap<String, List<Visitable>> implements It
 
   @Override
   public Iterator<Visitable> iterator() {
-    return aggregate().iterator();
+    return values().stream().flatMap(l -> l.stream()).iterator();
   }
 
   @Override
   public void forEach(Consumer<? super Visitable> action) {
-    aggregate().forEach(action);
+    values().forEach(l -> l.forEach(action));
   }
 
   @Override
   public Spliterator<Visitable> spliterator() {
-    return aggregate().spliterator();
+    return values().stream().flatMap(l -> l.stream()).spliterator();
   }
 
 }
@@ -16,7 +16,6 @@
 
 package io.sundr.builder;
 
-import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.function.Predicate;
@@ -51,12 +50,12 @@ public interface Visitor<T> {
 
   /**
    * Gets the type of objects this visitor can handle.
-   * Uses reflection to determine the generic type parameter.
+   * Uses reflection to determine the generic type parameter, which is only resolved once per visitor class.
    *
    * @return the class of objects this visitor handles, or null if not determinable
    */
   default Class<T> getType() {
-    List<Class> args = Visitors.getTypeArguments(Visitor.class, getClass());
+    List<Class> args = Visitors.getCachedTypeArguments(Visitor.class, getClass());
     if (args == null || args.isEmpty()) {
       return null;
     }
@@ -68,10 +67,13 @@ public interface Visitor<T> {
       return false;
     }
 
-    if (getType() == null) {
+    Class<T> type = getType();
+    if (type == null) {
       return hasVisitMethodMatching(target);
-    } else if (!getType().isAssignableFrom(target.getClass())) {
+    } else if (!type.isAssignableFrom(target.getClass())) {
       return false;
+    } else if (!Visitors.hasRequirement(getClass())) {
+      return true;
     }
 
     try {
@@ -108,18 +110,19 @@ public interface Visitor<T> {
    * @return True if matching method was found.
    */
   default <F> Boolean hasVisitMethodMatching(F target) {
-    for (Method method : getClass().getMethods()) {
-      if (!method.getName().equals("visit") || method.getParameterTypes().length != 1) {
-        continue;
-      }
-      Class<?> visitorType = method.getParameterTypes()[0];
-      if (visitorType.isAssignableFrom(target.getClass())) {
-        return true;
-      } else {
-        return false;
-      }
-    }
-    return false;
+    Class<?> visitorType = Visitors.getVisitMethodArgument(getClass(), 1);
+    return visitorType != null && visitorType.isAssignableFrom(target.getClass());
+  }
+
+  /**
+   * Checks if this visitor needs the path of the visited elements.
+   * Visitors that neither use the path in their requirements nor in their visit methods may return false,
+   * so that traversals can skip tracking the path. Such visitors are passed an empty path.
+   *
+   * @return true if the visitor needs the path, defaults to true
+   */
+  default boolean requiresPath() {
+    return true;
   }
 
   /**
@@ -142,6 +145,12 @@ public interface Visitor<T> {
       public Predicate<List<Object>> getRequirement() {
         return Visitor.this.getRequirement().and(predicate);
       }
+
+      @Override
+      public boolean requiresPath() {
+        // The added requirement is evaluated against the path
+        return true;
+      }
     };
   }
 }
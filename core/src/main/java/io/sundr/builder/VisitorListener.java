@@ -17,25 +17,26 @@
 
 package io.sundr.builder;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public interface VisitorListener {
 
   static AtomicBoolean loaded = new AtomicBoolean();
-  static Set<VisitorListener> listeners = new HashSet<>();
+  static Set<VisitorListener> listeners = new CopyOnWriteArraySet<>();
 
   public static Set<VisitorListener> getListeners() {
     if (loaded.get()) {
       return listeners;
     }
     synchronized (loaded) {
-      listeners.add(new VisitorListener() {
-      });
+      if (loaded.get()) {
+        return listeners;
+      }
       for (VisitorListener listener : ServiceLoader.load(VisitorListener.class,
           VisitorListener.class.getClassLoader())) {
         listeners.add(listener);
@@ -51,8 +52,20 @@ public interface VisitorListener {
     return listeners;
   }
 
+  /**
+   * Wraps the visitor so that the registered listeners get notified.
+   * When no listeners are registered, the visitor is returned as is, so that there is no overhead.
+   *
+   * @param visitor the visitor to wrap
+   * @param <T> the type of objects the visitor can visit
+   * @return the wrapped visitor, or the visitor itself if there are no listeners
+   */
   public static <T> Visitor<T> wrap(Visitor<T> visitor) {
-    return VisitorWiretap.create(visitor, getListeners());
+    Set<VisitorListener> current = getListeners();
+    if (current.isEmpty()) {
+      return visitor;
+    }
+    return VisitorWiretap.create(visitor, current);
   }
 
   public static void register(VisitorListener listener) {
@@ -60,7 +73,7 @@ public interface VisitorListener {
   }
 
   public static void unregister(VisitorListener listener) {
-    listeners.add(listener);
+    listeners.remove(listener);
   }
 
   default <T> void beforeVisit(Visitor<T> v, List<Entry<String, Object>> path, T target) {
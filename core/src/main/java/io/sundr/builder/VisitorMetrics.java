@@ -0,0 +1,153 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.builder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link VisitorListener} that records per visitor class the number of visits, the number of canVisit hits and misses
+ * and the cumulative time spent visiting.
+ *
+ * <pre>
+ * VisitorMetrics metrics = new VisitorMetrics();
+ * VisitorListener.register(metrics);
+ * builder.accept(visitors);
+ * VisitorListener.unregister(metrics);
+ * System.out.println(metrics.getReport());
+ * </pre>
+ */
+public class VisitorMetrics implements VisitorListener {
+
+  private final Map<Class<?>, Statistics> statistics = new ConcurrentHashMap<>();
+  private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+  /**
+   * The statistics of a single visitor class.
+   */
+  public static final class Statistics {
+
+    private final Class<?> visitorType;
+    private final LongAdder visits = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    private Statistics(Class<?> visitorType) {
+      this.visitorType = visitorType;
+    }
+
+    public Class<?> getVisitorType() {
+      return visitorType;
+    }
+
+    public long getVisits() {
+      return visits.sum();
+    }
+
+    public long getHits() {
+      return hits.sum();
+    }
+
+    public long getMisses() {
+      return misses.sum();
+    }
+
+    public double getHitRatio() {
+      long hits = getHits();
+      long checks = hits + getMisses();
+      return checks == 0 ? 0 : (double) hits / checks;
+    }
+
+    public long getNanos() {
+      return nanos.sum();
+    }
+  }
+
+  @Override
+  public <T> void beforeVisit(Visitor<T> v, List<Entry<String, Object>> path, T target) {
+    startTimes.get().push(System.nanoTime());
+  }
+
+  @Override
+  public <V, T> void onCheck(Visitor<V> v, boolean canVisit, T target) {
+    Statistics s = statisticsOf(v);
+    if (canVisit) {
+      s.hits.increment();
+    } else {
+      s.misses.increment();
+    }
+  }
+
+  @Override
+  public <T> void afterVisit(Visitor<T> v, List<Entry<String, Object>> path, T target) {
+    Deque<Long> started = startTimes.get();
+    if (started.isEmpty()) {
+      return;
+    }
+    Statistics s = statisticsOf(v);
+    s.nanos.add(System.nanoTime() - started.pop());
+    s.visits.increment();
+  }
+
+  /**
+   * Get the statistics recorded so far, sorted by cumulative time in descending order.
+   *
+   * @return the list of statistics
+   */
+  public List<Statistics> getStatistics() {
+    List<Statistics> result = new ArrayList<>(statistics.values());
+    result.sort((l, r) -> Long.compare(r.getNanos(), l.getNanos()));
+    return Collections.unmodifiableList(result);
+  }
+
+  /**
+   * Discard all statistics recorded so far.
+   */
+  public void reset() {
+    statistics.clear();
+  }
+
+  /**
+   * Get a human readable report of the statistics recorded so far, slowest visitors first.
+   *
+   * @return the report
+   */
+  public String getReport() {
+    StringBuilder sb = new StringBuilder();
+    sb.append(String.format("%-60s %12s %12s %12s %8s %12s%n", "Visitor", "Visits", "Hits", "Misses", "Hit %",
+        "Time (ms)"));
+    for (Statistics s : getStatistics()) {
+      sb.append(String.format("%-60s %12d %12d %12d %8.1f %12d%n", s.getVisitorType().getName(), s.getVisits(),
+          s.getHits(), s.getMisses(), s.getHitRatio() * 100, TimeUnit.NANOSECONDS.toMillis(s.getNanos())));
+    }
+    return sb.toString();
+  }
+
+  private Statistics statisticsOf(Visitor<?> visitor) {
+    return statistics.computeIfAbsent(visitor.getClass(), Statistics::new);
+  }
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.builder;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+
+/**
+ * An immutable visitor path that shares its parent path instead of copying it.
+ * Each instance is a single frame that points to its parent, so extending a path is a constant time operation.
+ * The entries of the path are only created when the path is actually read.
+ */
+public final class VisitorPath extends AbstractList<Entry<String, Object>> {
+
+  private final List<Entry<String, Object>> parent;
+  private final String key;
+  private final Object value;
+  private final int size;
+
+  private VisitorPath(List<Entry<String, Object>> parent, String key, Object value) {
+    this.parent = parent;
+    this.key = key;
+    this.value = value;
+    this.size = parent.size() + 1;
+  }
+
+  /**
+   * Creates a new path that extends the specified path with the specified key and value.
+   *
+   * @param path the parent path (may be null)
+   * @param key the key of the new entry
+   * @param value the value of the new entry
+   * @return the new path
+   */
+  public static VisitorPath append(List<Entry<String, Object>> path, String key, Object value) {
+    return new VisitorPath(path != null ? path : Collections.emptyList(), key, value);
+  }
+
+  @Override
+  public Entry<String, Object> get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    List<Entry<String, Object>> current = this;
+    while (current instanceof VisitorPath) {
+      VisitorPath frame = (VisitorPath) current;
+      if (index == frame.size - 1) {
+        return new AbstractMap.SimpleImmutableEntry<>(frame.key, frame.value);
+      }
+      current = frame.parent;
+    }
+    return current.get(index);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Iterator<Entry<String, Object>> iterator() {
+    List<VisitorPath> frames = new ArrayList<>();
+    List<Entry<String, Object>> current = this;
+    while (current instanceof VisitorPath) {
+      frames.add((VisitorPath) current);
+      current = ((VisitorPath) current).parent;
+    }
+    List<Entry<String, Object>> entries = new ArrayList<>(size);
+    entries.addAll(current);
+    for (int i = frames.size() - 1; i >= 0; i--) {
+      VisitorPath frame = frames.get(i);
+      entries.add(new AbstractMap.SimpleImmutableEntry<>(frame.key, frame.value));
+    }
+    return Collections.unmodifiableList(entries).iterator();
+  }
+}
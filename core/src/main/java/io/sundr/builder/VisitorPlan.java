@@ -0,0 +1,159 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.builder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A precompiled dispatch plan for a set of visitors.
+ * The plan wraps and sorts the visitors once and resolves, per visitable type, which visitors may visit an instance
+ * of that type and in which order the visitors are passed down to its children.
+ * A plan can be reused across a whole tree and across repeated traversals, as long as the type of each visitor does not
+ * change.
+ */
+public final class VisitorPlan {
+
+  private final List<Visitor> visitors;
+  private final List<Visitor> sortedVisitors;
+  private final List<VisitorPlan> singleVisitorPlans;
+  private final boolean requiresPath;
+  private final Map<Class<?>, List<Visitor>> visitorsByType = new ConcurrentHashMap<>();
+  private final Map<Class<?>, List<VisitorPlan>> childPlansByType = new ConcurrentHashMap<>();
+
+  private VisitorPlan(List<Visitor> visitors) {
+    this.visitors = visitors;
+    this.sortedVisitors = new ArrayList<>(visitors);
+    this.sortedVisitors.sort((l, r) -> r.order() - l.order());
+    this.requiresPath = visitors.stream().anyMatch(Visitor::requiresPath);
+    if (visitors.size() == 1) {
+      this.singleVisitorPlans = Collections.singletonList(this);
+    } else {
+      this.singleVisitorPlans = new ArrayList<>();
+      for (Visitor visitor : visitors) {
+        singleVisitorPlans.add(new VisitorPlan(Collections.singletonList(visitor)));
+      }
+    }
+  }
+
+  /**
+   * Compiles a plan for the specified visitors.
+   *
+   * @param visitors the visitors
+   * @return the plan
+   */
+  public static VisitorPlan compile(Visitor<?>... visitors) {
+    return compile(Arrays.asList(visitors));
+  }
+
+  /**
+   * Compiles a plan for the specified visitors.
+   *
+   * @param visitors the visitors
+   * @return the plan
+   */
+  public static VisitorPlan compile(List<? extends Visitor> visitors) {
+    List<Visitor> wrapped = new ArrayList<>(visitors.size());
+    for (Visitor visitor : visitors) {
+      wrapped.add(VisitorListener.wrap(visitor));
+    }
+    return new VisitorPlan(Collections.unmodifiableList(wrapped));
+  }
+
+  /**
+   * Compiles a plan for the specified visitors and resolves the dispatch for the specified root type upfront.
+   *
+   * @param rootType the type of the visitable the plan will be applied to
+   * @param visitors the visitors
+   * @return the plan
+   */
+  public static VisitorPlan compile(Class<?> rootType, Visitor<?>... visitors) {
+    VisitorPlan plan = compile(visitors);
+    plan.getVisitors(rootType);
+    plan.getChildPlans(rootType);
+    return plan;
+  }
+
+  /**
+   * Get all the visitors of the plan, in the order they were specified.
+   *
+   * @return the list of visitors
+   */
+  public List<Visitor> getVisitors() {
+    return visitors;
+  }
+
+  /**
+   * Checks if any of the visitors of the plan needs the path of the visited elements.
+   *
+   * @return true if the path needs to be tracked
+   */
+  public boolean requiresPath() {
+    return requiresPath;
+  }
+
+  /**
+   * Get the visitors that may visit an instance of the specified type, sorted by their order.
+   * Each visitor still needs to be checked via {@link Visitor#canVisit(List, Object)} as its requirements may depend on
+   * the path.
+   *
+   * @param type the type of the visitable
+   * @return the list of candidate visitors
+   */
+  public List<Visitor> getVisitors(Class<?> type) {
+    return visitorsByType.computeIfAbsent(type, t -> {
+      List<Visitor> result = new ArrayList<>();
+      for (Visitor visitor : sortedVisitors) {
+        Class visitorType = visitor.getType();
+        if (visitorType == null || visitorType.isAssignableFrom(t)) {
+          result.add(visitor);
+        }
+      }
+      return Collections.unmodifiableList(result);
+    });
+  }
+
+  /**
+   * Get the single visitor plans that should be applied to a child of the specified type, in the order they should be
+   * applied. Visitors that can visit the child itself come first, followed by the rest of the visitors that may still
+   * visit any of its descendants.
+   *
+   * @param type the type of the child visitable
+   * @return the list of plans
+   */
+  public List<VisitorPlan> getChildPlans(Class<?> type) {
+    return childPlansByType.computeIfAbsent(type, t -> {
+      List<VisitorPlan> matching = new ArrayList<>();
+      List<VisitorPlan> other = new ArrayList<>();
+      for (int i = 0; i < visitors.size(); i++) {
+        Class visitorType = visitors.get(i).getType();
+        if (visitorType != null && visitorType.isAssignableFrom(t)) {
+          matching.add(singleVisitorPlans.get(i));
+        } else {
+          other.add(singleVisitorPlans.get(i));
+        }
+      }
+      matching.addAll(other);
+      return Collections.unmodifiableList(matching);
+    });
+  }
+}
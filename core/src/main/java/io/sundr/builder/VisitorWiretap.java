@@ -60,14 +60,22 @@ public class VisitorWiretap<T> implements Visitor<T> {
     return delegate.order();
   }
 
+  @Override
+  public boolean requiresPath() {
+    return delegate.requiresPath();
+  }
+
   @Override
   public void visit(T target) {
     for (VisitorListener l : listeners) {
       l.beforeVisit(delegate, Collections.emptyList(), target);
     }
-    delegate.visit(target);
-    for (VisitorListener l : listeners) {
-      l.afterVisit(delegate, Collections.emptyList(), target);
+    try {
+      delegate.visit(target);
+    } finally {
+      for (VisitorListener l : listeners) {
+        l.afterVisit(delegate, Collections.emptyList(), target);
+      }
     }
   }
 
@@ -76,9 +84,12 @@ public class VisitorWiretap<T> implements Visitor<T> {
     for (VisitorListener l : listeners) {
       l.beforeVisit(delegate, path, target);
     }
-    delegate.visit(path, target);
-    for (VisitorListener l : listeners) {
-      l.afterVisit(delegate, path, target);
+    try {
+      delegate.visit(path, target);
+    } finally {
+      for (VisitorListener l : listeners) {
+        l.afterVisit(delegate, path, target);
+      }
     }
   }
 
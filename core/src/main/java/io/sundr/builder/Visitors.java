@@ -19,18 +19,27 @@ package io.sundr.builder;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 public final class Visitors {
 
+  private static final ClassValue<Map<Class, List<Class>>> TYPE_ARGUMENTS = classValue(c -> new ConcurrentHashMap<>());
+  private static final ClassValue<Map<Integer, Class>> VISIT_METHOD_ARGUMENTS = classValue(Visitors::findVisitMethodArguments);
+  private static final ClassValue<Boolean> REQUIREMENTS = classValue(Visitors::overridesRequirement);
+
   private Visitors() {
     //Utility Class
   }
@@ -103,6 +112,71 @@ public final class Visitors {
     return typeArgumentsAsClasses;
   }
 
+  /**
+   * Get the actual type arguments a child class has used to extend a generic base class.
+   * The arguments are resolved once per child class and base class and then served from a cache.
+   *
+   * @param <T> the type of the baseClass
+   * @param baseClass the base class
+   * @param childClass the child class
+   * @return an unmodifiable list of the raw classes for the actual type arguments.
+   */
+  protected static <T> List<Class> getCachedTypeArguments(Class<T> baseClass, Class<? extends T> childClass) {
+    return TYPE_ARGUMENTS.get(childClass).computeIfAbsent(baseClass,
+        b -> Collections.unmodifiableList(getTypeArguments(baseClass, childClass)));
+  }
+
+  /**
+   * Get the type of the last argument of the first public visit method that accepts the specified number of arguments.
+   *
+   * @param visitorClass the visitor class
+   * @param arity the number of arguments of the visit method (1 or 2)
+   * @return the argument type or null if no such method exists
+   */
+  protected static Class<?> getVisitMethodArgument(Class<?> visitorClass, int arity) {
+    return VISIT_METHOD_ARGUMENTS.get(visitorClass).get(arity);
+  }
+
+  /**
+   * Checks if the specified visitor class provides its own requirement.
+   * Visitors that don't, always use the default requirement that accepts every path, so it doesn't need to be evaluated.
+   *
+   * @param visitorClass the visitor class
+   * @return true if the visitor class overrides getRequirement
+   */
+  protected static boolean hasRequirement(Class<?> visitorClass) {
+    return REQUIREMENTS.get(visitorClass);
+  }
+
+  private static Map<Integer, Class> findVisitMethodArguments(Class<?> visitorClass) {
+    Map<Integer, Class> result = new HashMap<>();
+    for (Method method : visitorClass.getMethods()) {
+      int arity = method.getParameterTypes().length;
+      if (!method.getName().equals("visit") || arity == 0) {
+        continue;
+      }
+      result.putIfAbsent(arity, method.getParameterTypes()[arity - 1]);
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  private static Boolean overridesRequirement(Class<?> visitorClass) {
+    try {
+      return visitorClass.getMethod("getRequirement").getDeclaringClass() != Visitor.class;
+    } catch (NoSuchMethodException e) {
+      return true;
+    }
+  }
+
+  private static <V> ClassValue<V> classValue(Function<Class<?>, V> function) {
+    return new ClassValue<V>() {
+      @Override
+      protected V computeValue(Class<?> type) {
+        return function.apply(type);
+      }
+    };
+  }
+
   /**
    * Get the underlying class for a type, or null if the type is a variable type.
    *
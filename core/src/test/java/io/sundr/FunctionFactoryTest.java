@@ -16,6 +16,13 @@
 
 package io.sundr;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.junit.Assert;
@@ -23,6 +30,8 @@ import org.junit.Test;
 
 public class FunctionFactoryTest {
 
+  private static Function<String, String> RECURSIVE;
+
   private static final Function<String, String> TEST_FUNCTION = FunctionFactory.cache(new Function<String, String>() {
     public String apply(String item) {
       return "R" + TEST_FUNCTION.apply(item);
@@ -42,4 +51,67 @@ public class FunctionFactoryTest {
     result = TEST_FUNCTION.apply("");
     Assert.assertEquals(expectedResult, result);
   }
+
+  @Test
+  public void testConcurrentCachingWithOverflowProtection() throws Exception {
+    FunctionFactory<String, String> function = FunctionFactory
+        .<String, String> cache(item -> item.length() < 3 ? "R" + item : "overflow").concurrent();
+    Function<String, String> recursive = FunctionFactory.cache(new Function<String, String>() {
+      public String apply(String item) {
+        return "R" + RECURSIVE.apply(item);
+      }
+    }).withFallback(item -> "overflow").withMaximumRecursionLevel(10).concurrent();
+    RECURSIVE = recursive;
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        results.add(executor.submit(() -> recursive.apply("")));
+        results.add(executor.submit(() -> function.apply("a")));
+      }
+      for (int i = 0; i < results.size(); i += 2) {
+        Assert.assertEquals("RRRRRRRRRRoverflow", results.get(i).get(10, TimeUnit.SECONDS));
+        Assert.assertEquals("Ra", results.get(i + 1).get(10, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    Assert.assertEquals(100, function.getStatistics().getHits() + function.getStatistics().getMisses());
+  }
+
+  @Test
+  public void testBoundedCache() {
+    AtomicInteger calls = new AtomicInteger();
+    FunctionFactory<Integer, String> function = FunctionFactory.<Integer, String> cache(item -> {
+      calls.incrementAndGet();
+      return String.valueOf(item);
+    }).withMaximumSize(2);
+
+    function.apply(1);
+    function.apply(2);
+    function.apply(3);
+    Assert.assertEquals(2, function.getCacheSize());
+    Assert.assertEquals(1, function.getStatistics().getEvictions());
+
+    function.apply(3);
+    Assert.assertEquals(3, calls.get());
+    function.apply(1);
+    Assert.assertEquals(4, calls.get());
+    Assert.assertEquals(1, function.getStatistics().getHits());
+    Assert.assertEquals(4, function.getStatistics().getMisses());
+  }
+
+  @Test
+  public void testWeightBoundedCache() {
+    FunctionFactory<String, String> function = FunctionFactory.<String, String> cache(item -> item + item)
+        .withMaximumWeight(10, String::length).concurrent();
+
+    function.apply("aa");
+    function.apply("bbb");
+    Assert.assertEquals(2, function.getCacheSize());
+    function.apply("c");
+    Assert.assertEquals(1, function.getStatistics().getEvictions());
+    Assert.assertEquals(2, function.getCacheSize());
+  }
 }
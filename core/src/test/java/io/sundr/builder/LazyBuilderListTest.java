@@ -0,0 +1,111 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class LazyBuilderListTest {
+
+  private static LazyBuilderList<String, String> lazyList() {
+    return new LazyBuilderList<>(Arrays.asList("a", "b", "c"), String::toUpperCase);
+  }
+
+  @Test
+  public void shouldOverrideEveryPublicArrayListMethod() {
+    // Methods that are not overridden would see the storage of the ArrayList before the builders are created.
+    List<String> missing = new ArrayList<>();
+    for (Method method : ArrayList.class.getDeclaredMethods()) {
+      if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers())
+          || method.isSynthetic()) {
+        continue;
+      }
+      try {
+        LazyBuilderList.class.getDeclaredMethod(method.getName(), method.getParameterTypes());
+      } catch (NoSuchMethodException e) {
+        missing.add(method.toString());
+      }
+    }
+    assertEquals(new ArrayList<>(), missing);
+  }
+
+  @Test
+  public void shouldCreateBuildersForSequencedAccess() {
+    LazyBuilderList<String, String> list = lazyList();
+    assertEquals("A", list.getFirst());
+    assertNull(list.getSource());
+    assertEquals("C", list.getLast());
+
+    list = lazyList();
+    assertEquals("A", list.removeFirst());
+    assertEquals("C", list.removeLast());
+    list.addFirst("Z");
+    list.addLast("Y");
+    assertEquals(Arrays.asList("Z", "B", "Y"), list);
+  }
+
+  @Test
+  public void shouldSerializeAsArrayList() throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(lazyList());
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      Object read = in.readObject();
+      assertEquals(ArrayList.class, read.getClass());
+      assertEquals(Arrays.asList("A", "B", "C"), read);
+    }
+  }
+
+  @Test
+  public void shouldCreateBuildersForInheritedViews() {
+    LazyBuilderList<String, String> list = lazyList();
+    assertEquals("[A, B, C]", list.toString());
+    assertTrue(list.containsAll(Arrays.asList("A", "C")));
+    assertEquals(Arrays.asList("A", "B", "C"), lazyList().stream().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void shouldNotReflectChangesToTheSourceList() {
+    List<String> source = new ArrayList<>(Arrays.asList("a", "b"));
+    LazyBuilderList<String, Builder<String>> builders = new LazyBuilderList<>(source, item -> () -> item);
+    source.set(0, "z");
+    source.add("c");
+
+    List<String> built = BaseFluent.build(builders);
+    assertEquals(Arrays.asList("a", "b"), built);
+
+    source.clear();
+    assertEquals(Arrays.asList("a", "b"), built);
+    assertEquals(2, builders.size());
+  }
+}
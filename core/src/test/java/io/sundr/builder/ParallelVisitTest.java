@@ -0,0 +1,121 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.builder;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.sundr.builder.VisitorPlanTest.Leaf;
+import io.sundr.builder.VisitorPlanTest.Node;
+
+public class ParallelVisitTest {
+
+  private static class NameCollector implements ConcurrentVisitor<Node> {
+    private final List<String> names = new ArrayList<>();
+    private final AtomicInteger forks;
+
+    NameCollector() {
+      this(new AtomicInteger());
+    }
+
+    NameCollector(AtomicInteger forks) {
+      this.forks = forks;
+    }
+
+    @Override
+    public void visit(Node element) {
+      names.add(element.getName());
+    }
+
+    @Override
+    public ConcurrentVisitor<Node> fork() {
+      forks.incrementAndGet();
+      return new NameCollector(forks);
+    }
+
+    @Override
+    public void merge(ConcurrentVisitor<Node> forked) {
+      names.addAll(((NameCollector) forked).names);
+    }
+  }
+
+  private static Node tree() {
+    Node root = new Node("root");
+    for (int i = 0; i < 20; i++) {
+      root.getVisitableMap().get().get("children")
+          .add(new Node("n" + i, new Leaf("n" + i + "-a"), new Node("n" + i + "-b", new Leaf("n" + i + "-b-a"))));
+    }
+    return root;
+  }
+
+  @Test
+  public void shouldMergeInTraversalOrder() {
+    List<String> expected = new ArrayList<>();
+    tree().accept(new TypedVisitor<Node>() {
+      @Override
+      public void visit(Node element) {
+        expected.add(element.getName());
+      }
+    });
+
+    NameCollector collector = new NameCollector();
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      tree().acceptParallel(pool, collector);
+    } finally {
+      pool.shutdown();
+    }
+    assertEquals(expected, collector.names);
+    // Only the children of the root are enough to fork
+    assertEquals(20, collector.forks.get());
+  }
+
+  @Test
+  public void shouldVisitSmallTreesWithoutForking() {
+    NameCollector collector = new NameCollector();
+    new Node("root", new Node("a", new Leaf("a1")), new Leaf("b")).acceptParallel(collector);
+    assertEquals(Arrays.asList("root", "a", "a1", "b"), collector.names);
+    assertEquals(0, collector.forks.get());
+  }
+
+  @Test
+  public void shouldApplySequentialVisitorsToo() {
+    AtomicInteger leaves = new AtomicInteger();
+    List<String> names = new ArrayList<>();
+    tree().acceptParallel(new ConcurrentVisitor<Leaf>() {
+      @Override
+      public void visit(Leaf element) {
+        leaves.incrementAndGet();
+      }
+    }, new TypedVisitor<Leaf>() {
+      @Override
+      public void visit(Leaf element) {
+        names.add(element.getName());
+      }
+    });
+    assertEquals(40, leaves.get());
+    assertEquals(40, names.size());
+  }
+}
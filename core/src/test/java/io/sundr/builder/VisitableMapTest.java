@@ -0,0 +1,172 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.sundr.builder.VisitorPlanTest.Leaf;
+import io.sundr.builder.VisitorPlanTest.Node;
+
+public class VisitableMapTest {
+
+  public static class Named extends Leaf {
+    public Named(String name) {
+      super(name);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Named && ((Named) o).getName().equals(getName());
+    }
+
+    @Override
+    public int hashCode() {
+      return getName().hashCode();
+    }
+  }
+
+  private static List<String> names(Iterable<Visitable> visitables) {
+    List<String> result = new ArrayList<>();
+    for (Visitable visitable : visitables) {
+      result.add(((Node) visitable).getName());
+    }
+    return result;
+  }
+
+  @Test
+  public void shouldNotAddEmptySlots() {
+    VisitableMap map = new VisitableMap();
+    List<Visitable> children = map.get("children");
+    children.clear();
+    assertFalse(children.remove(new Leaf("a")));
+    assertTrue(map.isEmpty());
+
+    children.add(new Leaf("a"));
+    assertSame(children, map.get("children"));
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  public void shouldShareSlotAcrossDetachedLists() {
+    VisitableMap map = new VisitableMap();
+    List<Visitable> first = map.get("children");
+    List<Visitable> second = map.get("children");
+    first.add(new Leaf("a"));
+    second.add(new Leaf("b"));
+
+    assertEquals(Arrays.asList("a", "b"), names(map.get("children")));
+    assertEquals(2, second.size());
+  }
+
+  @Test
+  public void shouldRemoveByIdentityThenByEquality() {
+    VisitableMap map = new VisitableMap();
+    List<Visitable> children = map.get("children");
+    Leaf a = new Leaf("a");
+    Named b = new Named("b");
+    Leaf c = new Leaf("c");
+    children.addAll(Arrays.asList(a, b, c));
+
+    assertTrue(children.remove(a));
+    assertFalse(children.remove(new Leaf("c")));
+    assertTrue(children.remove(new Named("b")));
+    assertEquals(Arrays.asList("c"), names(children));
+    assertSame(c, children.get(0));
+  }
+
+  @Test
+  public void shouldKeepOrderAcrossManyRemovals() {
+    VisitableMap map = new VisitableMap();
+    List<Visitable> children = map.get("children");
+    List<Leaf> leaves = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      Leaf leaf = new Leaf(String.valueOf(i));
+      leaves.add(leaf);
+      children.add(leaf);
+    }
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      if (i % 3 == 0) {
+        expected.add(String.valueOf(i));
+      } else {
+        assertTrue(children.remove(leaves.get(i)));
+      }
+    }
+    assertEquals(expected, names(children));
+    assertEquals(expected.size(), children.size());
+    assertEquals("3", ((Node) children.get(1)).getName());
+  }
+
+  @Test
+  public void shouldRemoveDuplicatesOneAtATime() {
+    VisitableMap map = new VisitableMap();
+    List<Visitable> children = map.get("children");
+    Leaf a = new Leaf("a");
+    Leaf b = new Leaf("b");
+    children.addAll(Arrays.asList(a, b, a));
+
+    assertTrue(children.remove(a));
+    assertEquals(Arrays.asList("b", "a"), names(children));
+    assertTrue(children.remove(a));
+    assertFalse(children.remove(a));
+    assertEquals(Arrays.asList("b"), names(children));
+  }
+
+  @Test
+  public void shouldRemoveThroughIterator() {
+    VisitableMap map = new VisitableMap();
+    List<Visitable> children = map.get("children");
+    for (int i = 0; i < 50; i++) {
+      children.add(new Leaf(String.valueOf(i)));
+    }
+    Iterator<Visitable> iterator = children.iterator();
+    while (iterator.hasNext()) {
+      if (!"49".equals(((Node) iterator.next()).getName())) {
+        iterator.remove();
+      }
+    }
+    assertEquals(Arrays.asList("49"), names(children));
+  }
+
+  @Test
+  public void shouldIterateAcrossSlots() {
+    VisitableMap map = new VisitableMap();
+    map.get("first").add(new Leaf("a"));
+    map.get("second").add(new Leaf("b"));
+
+    List<String> visited = new ArrayList<>();
+    map.forEach(v -> visited.add(((Node) v).getName()));
+    visited.sort(String::compareTo);
+    assertEquals(Arrays.asList("a", "b"), visited);
+
+    List<String> iterated = names(map);
+    iterated.sort(String::compareTo);
+    assertEquals(Arrays.asList("a", "b"), iterated);
+    assertEquals(2, map.aggregate().size());
+  }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.sundr.builder.VisitorPlanTest.Leaf;
+import io.sundr.builder.VisitorPlanTest.Node;
+
+public class VisitorMetricsTest {
+
+  private static class LeafVisitor extends TypedVisitor<Leaf> {
+    @Override
+    public void visit(Leaf element) {
+    }
+  }
+
+  private final Set<VisitorListener> registered = new HashSet<>();
+
+  @Before
+  public void setUp() {
+    registered.addAll(VisitorListener.getListeners());
+    registered.forEach(VisitorListener::unregister);
+  }
+
+  @After
+  public void tearDown() {
+    registered.forEach(VisitorListener::register);
+  }
+
+  @Test
+  public void shouldNotWrapWithoutListeners() {
+    Visitor<Leaf> visitor = new LeafVisitor();
+    assertTrue(VisitorListener.getListeners().isEmpty());
+    assertSame(visitor, VisitorListener.wrap(visitor));
+  }
+
+  @Test
+  public void shouldRecordVisitsAndChecks() {
+    VisitorMetrics metrics = new VisitorMetrics();
+    VisitorListener.register(metrics);
+    try {
+      new Node("root", new Node("a", new Leaf("a1"), new Leaf("a2")), new Leaf("b")).accept(new LeafVisitor());
+    } finally {
+      VisitorListener.unregister(metrics);
+    }
+    assertFalse(VisitorListener.getListeners().contains(metrics));
+
+    assertEquals(1, metrics.getStatistics().size());
+    VisitorMetrics.Statistics statistics = metrics.getStatistics().get(0);
+    assertEquals(LeafVisitor.class, statistics.getVisitorType());
+    assertEquals(3, statistics.getVisits());
+    assertEquals(3, statistics.getHits());
+    assertEquals(2, statistics.getMisses());
+    assertTrue(metrics.getReport().contains(LeafVisitor.class.getName()));
+
+    metrics.reset();
+    assertTrue(metrics.getStatistics().isEmpty());
+  }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class VisitorPathTest {
+
+  @Test
+  public void shouldExtendPathWithoutCopying() {
+    List<Entry<String, Object>> root = VisitorPath.append(null, "", "root");
+    List<Entry<String, Object>> child = VisitorPath.append(root, "children", "child");
+    List<Entry<String, Object>> grandChild = VisitorPath.append(child, "children", "grandChild");
+
+    assertEquals(1, root.size());
+    assertEquals(3, grandChild.size());
+    assertEquals("child", grandChild.get(1).getValue());
+    assertEquals("children", grandChild.get(2).getKey());
+    assertEquals(Arrays.asList("root", "child", "grandChild"),
+        grandChild.stream().map(Entry::getValue).collect(Collectors.toList()));
+    assertEquals(Arrays.asList("root", "child"), child.stream().map(Entry::getValue).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void shouldExtendRegularLists() {
+    List<Entry<String, Object>> base = new ArrayList<>();
+    base.add(new AbstractMap.SimpleEntry<>("", "root"));
+    List<Entry<String, Object>> path = VisitorPath.append(base, "children", "child");
+
+    assertEquals(2, path.size());
+    assertEquals("root", path.get(0).getValue());
+    assertEquals(Arrays.asList("root", "child"), path.stream().map(Entry::getValue).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void shouldSkipPathWhenNotRequired() {
+    List<Integer> sizes = new ArrayList<>();
+    VisitorPlan plan = VisitorPlan.compile(new PathAwareTypedVisitor<VisitorPlanTest.Leaf, VisitorPlanTest.Node>() {
+      @Override
+      public void visit(List<Entry<String, Object>> path, VisitorPlanTest.Leaf element) {
+        sizes.add(path.size());
+      }
+
+      @Override
+      public boolean requiresPath() {
+        return false;
+      }
+    });
+
+    new VisitorPlanTest.Node("root", new VisitorPlanTest.Node("a", new VisitorPlanTest.Leaf("a1"))).accept(plan);
+    assertEquals(Collections.singletonList(0), sizes);
+    assertTrue(VisitorPlan.compile(new TypedVisitor<String>() {
+      @Override
+      public void visit(String element) {
+      }
+    }).requiresPath());
+  }
+
+  @Test
+  public void shouldTrackPathForAddedRequirement() {
+    List<String> visited = new ArrayList<>();
+    Visitor<VisitorPlanTest.Leaf> visitor = new TypedVisitor<VisitorPlanTest.Leaf>() {
+      @Override
+      public void visit(VisitorPlanTest.Leaf element) {
+        visited.add(element.getName());
+      }
+
+      @Override
+      public boolean requiresPath() {
+        return false;
+      }
+    };
+    Visitor<VisitorPlanTest.Leaf> underA = visitor.addRequirement(
+        visitor.hasItem(VisitorPlanTest.Node.class, n -> n.getName().equals("a")));
+
+    VisitorPlan plan = VisitorPlan.compile(underA);
+    assertTrue(plan.requiresPath());
+    new VisitorPlanTest.Node("root", new VisitorPlanTest.Node("a", new VisitorPlanTest.Leaf("a1")),
+        new VisitorPlanTest.Leaf("b")).accept(plan);
+    assertEquals(Collections.singletonList("a1"), visited);
+  }
+}
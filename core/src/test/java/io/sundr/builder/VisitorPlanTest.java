@@ -0,0 +1,135 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+public class VisitorPlanTest {
+
+  public static class Node implements Visitable<Node> {
+    private final String name;
+    private final VisitableMap children = new VisitableMap();
+
+    public Node(String name, Node... children) {
+      this.name = name;
+      this.children.get("children").addAll(Arrays.asList(children));
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public Optional<VisitableMap> getVisitableMap() {
+      return Optional.of(children);
+    }
+  }
+
+  public static class Leaf extends Node {
+    public Leaf(String name) {
+      super(name);
+    }
+  }
+
+  private static Node tree() {
+    return new Node("root", new Node("a", new Leaf("a1"), new Leaf("a2")), new Leaf("b"));
+  }
+
+  @Test
+  public void shouldVisitLikeUncompiledTraversal() {
+    List<String> expected = new ArrayList<>();
+    List<String> actual = new ArrayList<>();
+
+    tree().accept(new TypedVisitor<Node>() {
+      @Override
+      public void visit(Node node) {
+        expected.add(node.getName());
+      }
+    }, new TypedVisitor<Leaf>() {
+      @Override
+      public void visit(Leaf leaf) {
+        expected.add("leaf:" + leaf.getName());
+      }
+    });
+
+    tree().accept(VisitorPlan.compile(Node.class, new TypedVisitor<Node>() {
+      @Override
+      public void visit(Node node) {
+        actual.add(node.getName());
+      }
+    }, new TypedVisitor<Leaf>() {
+      @Override
+      public void visit(Leaf leaf) {
+        actual.add("leaf:" + leaf.getName());
+      }
+    }));
+
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void shouldReusePlanAcrossTraversals() {
+    List<String> visited = new ArrayList<>();
+    VisitorPlan plan = VisitorPlan.compile(new TypedVisitor<Leaf>() {
+      @Override
+      public void visit(Leaf leaf) {
+        visited.add(leaf.getName());
+      }
+    });
+
+    tree().accept(plan);
+    tree().accept(plan);
+
+    assertEquals(Arrays.asList("a1", "a2", "b", "a1", "a2", "b"), visited);
+    assertSame(plan.getChildPlans(Leaf.class), plan.getChildPlans(Leaf.class));
+    assertEquals(0, plan.getVisitors(Node.class).size());
+    assertEquals(1, plan.getVisitors(Leaf.class).size());
+  }
+
+  @Test
+  public void shouldSortVisitorsByOrder() {
+    List<String> visited = new ArrayList<>();
+    VisitorPlan plan = VisitorPlan.compile(new TypedVisitor<Leaf>() {
+      @Override
+      public void visit(Leaf leaf) {
+        visited.add("low");
+      }
+    }, new TypedVisitor<Leaf>() {
+      @Override
+      public void visit(Leaf leaf) {
+        visited.add("high");
+      }
+
+      @Override
+      public int order() {
+        return 10;
+      }
+    });
+
+    new Leaf("leaf").accept(plan);
+    assertEquals(Arrays.asList("high", "low"), visited);
+  }
+}
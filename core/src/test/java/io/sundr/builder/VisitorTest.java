@@ -18,6 +18,10 @@
 package io.sundr.builder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
 
 import org.junit.Test;
 
@@ -48,4 +52,36 @@ public class VisitorTest {
     };
     assertEquals(String.class, v.getType());
   }
+
+  @Test
+  public void cachedTypeShouldMatchResolvedType() {
+    TypedVisitor<String> v = new TypedVisitor<String>() {
+      @Override
+      public void visit(String element) {
+      }
+    };
+    assertEquals(String.class, v.getType());
+    assertEquals(String.class, v.getType());
+    assertEquals(Visitors.getTypeArguments(TypedVisitor.class, v.getClass()),
+        Visitors.getCachedTypeArguments(TypedVisitor.class, v.getClass()));
+  }
+
+  @Test
+  public void canVisitShouldHonorRequirement() {
+    Visitor<String> v = new Visitor<String>() {
+      @Override
+      public void visit(String element) {
+      }
+    };
+    assertTrue(v.canVisit(Collections.emptyList(), "foo"));
+    assertFalse(v.canVisit(Collections.emptyList(), 1));
+    assertFalse(v.addRequirement(p -> false).canVisit(Collections.emptyList(), "foo"));
+  }
+
+  @Test
+  public void shouldMatchVisitMethodWithoutType() {
+    Visitor v = item -> System.out.println("Item:" + item);
+    assertTrue(v.canVisit(Collections.emptyList(), "foo"));
+    assertTrue(v.canVisit(Collections.emptyList(), 1));
+  }
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.maven;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginExecution;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.eclipse.aether.artifact.DefaultArtifact;
+
+/**
+ * The settings of the maven-compiler-plugin execution that compiles the main or the test sources of a project, so
+ * that sources compiled outside of Maven are compiled the same way. Settings that are not configured are left to the
+ * defaults of javac.
+ */
+class CompilerSettings {
+
+  static final String COMPILER_PLUGIN = "org.apache.maven.plugins:maven-compiler-plugin";
+
+  private final Xpp3Dom configuration;
+  private final Properties properties;
+  private final DependencyManagement dependencyManagement;
+  private final boolean test;
+
+  private CompilerSettings(Xpp3Dom configuration, Properties properties, DependencyManagement dependencyManagement,
+      boolean test) {
+    this.configuration = configuration;
+    this.properties = properties;
+    this.dependencyManagement = dependencyManagement;
+    this.test = test;
+  }
+
+  /**
+   * Reads the settings of the default execution of the compile or the testCompile goal.
+   *
+   * @param project the project
+   * @param test whether to read the settings of the testCompile goal
+   * @return the settings
+   */
+  static CompilerSettings of(MavenProject project, boolean test) {
+    Xpp3Dom configuration = null;
+    Plugin plugin = project.getPlugin(COMPILER_PLUGIN);
+    if (plugin != null) {
+      configuration = (Xpp3Dom) plugin.getConfiguration();
+      PluginExecution execution = plugin.getExecutionsAsMap().get(test ? "default-testCompile" : "default-compile");
+      if (execution != null && execution.getConfiguration() != null) {
+        configuration = Xpp3Dom.mergeXpp3Dom(new Xpp3Dom((Xpp3Dom) execution.getConfiguration()), configuration);
+      }
+    }
+    return new CompilerSettings(configuration, project.getProperties(), project.getDependencyManagement(), test);
+  }
+
+  /**
+   * Returns the javac options for the settings. The annotation processor path is not included, as its artifacts need
+   * to be resolved first.
+   *
+   * @return the options
+   */
+  List<String> getOptions() {
+    List<String> options = new ArrayList<>();
+    String encoding = get("encoding", "project.build.sourceEncoding");
+    if (encoding != null) {
+      options.add("-encoding");
+      options.add(encoding);
+    }
+
+    String release = test ? get("testRelease", "maven.compiler.testRelease") : null;
+    if (release == null) {
+      release = get("release", "maven.compiler.release");
+    }
+    if (release != null) {
+      options.add("--release");
+      options.add(release);
+    } else {
+      String source = test ? get("testSource", "maven.compiler.testSource") : null;
+      String target = test ? get("testTarget", "maven.compiler.testTarget") : null;
+      source = source != null ? source : get("source", "maven.compiler.source");
+      target = target != null ? target : get("target", "maven.compiler.target");
+      if (source != null) {
+        options.add("-source");
+        options.add(source);
+      }
+      if (target != null) {
+        options.add("-target");
+        options.add(target);
+      }
+    }
+
+    if (!"false".equals(get("debug", "maven.compiler.debug"))) {
+      options.add("-g");
+    }
+    if ("true".equals(get("parameters", "maven.compiler.parameters"))) {
+      options.add("-parameters");
+    }
+    if ("true".equals(get("enablePreview", "maven.compiler.enablePreview"))) {
+      options.add("--enable-preview");
+    }
+    String proc = get("proc", "maven.compiler.proc");
+    if (proc != null) {
+      options.add("-proc:" + proc);
+    }
+    List<String> processors = getValues("annotationProcessors");
+    if (!processors.isEmpty()) {
+      options.add("-processor");
+      options.add(String.join(",", processors));
+    }
+    options.addAll(getValues("compilerArgs"));
+    String compilerArgument = get("compilerArgument", null);
+    if (compilerArgument != null) {
+      for (String arg : compilerArgument.trim().split("\\s+")) {
+        options.add(arg);
+      }
+    }
+    return options;
+  }
+
+  /**
+   * Returns the artifacts configured as the annotation processor path. Artifacts without a version get the version of
+   * the project's dependency management.
+   *
+   * @return the artifacts, or an empty list if the annotation processors are looked up in the classpath.
+   */
+  List<org.eclipse.aether.graph.Dependency> getAnnotationProcessorPaths() {
+    List<org.eclipse.aether.graph.Dependency> paths = new ArrayList<>();
+    Xpp3Dom annotationProcessorPaths = configuration != null
+        ? configuration.getChild("annotationProcessorPaths")
+        : null;
+    if (annotationProcessorPaths == null) {
+      return paths;
+    }
+    for (Xpp3Dom path : annotationProcessorPaths.getChildren()) {
+      String groupId = value(path.getChild("groupId"));
+      String artifactId = value(path.getChild("artifactId"));
+      String version = value(path.getChild("version"));
+      String classifier = value(path.getChild("classifier"));
+      String type = value(path.getChild("type"));
+      if (version == null) {
+        version = getManagedVersion(groupId, artifactId);
+      }
+      if (groupId == null || artifactId == null || version == null) {
+        throw new IllegalStateException("Can't resolve annotation processor path " + groupId + ":" + artifactId);
+      }
+      paths.add(new org.eclipse.aether.graph.Dependency(new DefaultArtifact(groupId, artifactId, classifier,
+          type != null ? type : "jar", version), "runtime"));
+    }
+    return paths;
+  }
+
+  private String getManagedVersion(String groupId, String artifactId) {
+    if (dependencyManagement == null) {
+      return null;
+    }
+    for (Dependency dependency : dependencyManagement.getDependencies()) {
+      if (dependency.getGroupId().equals(groupId) && dependency.getArtifactId().equals(artifactId)) {
+        return dependency.getVersion();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the value of a parameter, from the configuration of the plugin or from the property that sets its default.
+   */
+  private String get(String parameter, String property) {
+    String value = configuration != null ? value(configuration.getChild(parameter)) : null;
+    if (value == null && property != null) {
+      value = value(properties.getProperty(property));
+    }
+    return value;
+  }
+
+  private List<String> getValues(String parameter) {
+    List<String> values = new ArrayList<>();
+    Xpp3Dom list = configuration != null ? configuration.getChild(parameter) : null;
+    if (list != null) {
+      for (Xpp3Dom child : list.getChildren()) {
+        String value = value(child);
+        if (value != null) {
+          values.add(value);
+        }
+      }
+    }
+    return values;
+  }
+
+  private static String value(Xpp3Dom element) {
+    return element != null ? value(element.getValue()) : null;
+  }
+
+  /**
+   * Ignores empty values and expressions that could not be interpolated.
+   */
+  private static String value(String value) {
+    if (value == null || value.trim().isEmpty() || value.startsWith("${")) {
+      return null;
+    }
+    return value.trim();
+  }
+}
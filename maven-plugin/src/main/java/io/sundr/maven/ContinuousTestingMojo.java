@@ -27,24 +27,38 @@ import java.nio.file.Path;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
@@ -55,6 +69,13 @@ import org.apache.maven.shared.invoker.InvocationRequest;
 import org.apache.maven.shared.invoker.InvocationResult;
 import org.apache.maven.shared.invoker.Invoker;
 import org.apache.maven.shared.invoker.MavenInvocationException;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.eclipse.aether.resolution.DependencyRequest;
+import org.eclipse.aether.resolution.DependencyResolutionException;
 import org.fusesource.jansi.Ansi;
 import org.fusesource.jansi.AnsiConsole;
 
@@ -62,6 +83,7 @@ import io.sundr.adapter.api.AdapterContext;
 import io.sundr.adapter.source.Project;
 import io.sundr.adapter.source.analysis.ImpactAnalysisResult;
 import io.sundr.adapter.source.analysis.ImpactAnalyzer;
+import io.sundr.adapter.source.change.ChangeBatch;
 import io.sundr.adapter.source.change.ChangeSet;
 import io.sundr.adapter.source.utils.Sources;
 import io.sundr.model.Block;
@@ -83,6 +105,8 @@ import io.sundr.tui.TermFrame;
 @Mojo(name = "continuous-test", defaultPhase = LifecyclePhase.TEST, requiresDependencyResolution = ResolutionScope.TEST, threadSafe = false)
 public class ContinuousTestingMojo extends AbstractSundrioMojo {
 
+  private static final long REPORTS_POLL_MILLIS = 200;
+
   @Parameter(defaultValue = "${project.build.testSourceDirectory}")
   private File testSourceDirectory;
 
@@ -98,17 +122,89 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
   @Parameter(property = "test.goal", defaultValue = "test")
   private String testGoal;
 
+  /**
+   * The time in milliseconds without file events after which the accumulated changes are analyzed together.
+   */
+  @Parameter(property = "watch.quietPeriod", defaultValue = "100")
+  private long watchQuietPeriod;
+
+  /**
+   * Whether affected tests should be recompiled and run inside the plugin JVM. Requires JUnit 4 and a JDK. When not
+   * supported, tests are run by invoking Maven instead.
+   */
+  @Parameter(property = "test.inProcess", defaultValue = "true")
+  private boolean inProcess;
+
+  @Component
+  private RepositorySystem repositorySystem;
+
+  @Parameter(defaultValue = "${repositorySystemSession}", readonly = true, required = true)
+  private RepositorySystemSession repositorySession;
+
+  @Parameter(defaultValue = "${project.remoteProjectRepositories}", readonly = true, required = true)
+  private List<RemoteRepository> remoteRepositories;
+
+  @Parameter(property = "surefire.reportsDirectory", defaultValue = "${project.build.directory}/surefire-reports")
+  private File reportsDirectory;
+
+  /**
+   * The number of threads used to analyze source and test files. Defaults to the number of available processors.
+   */
+  @Parameter(property = "analysis.parallelism", defaultValue = "0")
+  private int analysisParallelism;
+
+  /**
+   * The file where the results of analyzing source and test files are kept between sessions.
+   */
+  @Parameter(property = "test.impactMap", defaultValue = "${project.build.directory}/sundrio/test-impact.map")
+  private File impactMapFile;
+
+  /**
+   * Whether affected tests should run in order of how likely they are to fail and how fast they are, based on the
+   * outcomes and durations of previous runs.
+   */
+  @Parameter(property = "test.prioritize", defaultValue = "true")
+  private boolean prioritizeTests;
+
+  /**
+   * Whether to skip the remaining affected tests after the first failure.
+   */
+  @Parameter(property = "test.failFast", defaultValue = "false")
+  private boolean failFast;
+
+  /**
+   * The file where the outcomes and durations of test methods are kept between sessions.
+   */
+  @Parameter(property = "test.history", defaultValue = "${project.build.directory}/sundrio/test-history.bin")
+  private File testHistoryFile;
+
   private Project sourceProject;
   private ImpactAnalyzer impactAnalyzer;
+  private InProcessTestRunner inProcessTestRunner;
+  private TestHistory testHistory = new TestHistory();
   private final Map<String, Set<String>> testToSourceMapping = new ConcurrentHashMap<>();
   private final Map<String, TypeDef> testTypeDefs = new ConcurrentHashMap<>();
   private final Map<String, TypeDef> sourceTypeDefs = new ConcurrentHashMap<>();
   private final Map<String, Map<String, String>> sourceFileMethodSnapshots = new ConcurrentHashMap<>();
   private final Map<String, Set<String>> sourceMethodToTestMethods = new ConcurrentHashMap<>();
+  private final Map<String, String> sourceFilesByType = new ConcurrentHashMap<>();
+  private final Map<String, String> sourceTypesBySimpleName = new ConcurrentHashMap<>();
+  private final Map<String, String> testClassNames = new ConcurrentHashMap<>();
+  private final Map<String, List<String>> testMethodsByClass = new ConcurrentHashMap<>();
+  // Changed files that haven't been compiled in process yet
+  private final Set<Path> uncompiledSources = new LinkedHashSet<>();
 
   // File event debouncing
   private final Map<String, ConcurrentLinkedQueue<FileChangeEvent>> pendingFileEvents = new ConcurrentHashMap<>();
   private final ScheduledExecutorService debounceExecutor = Executors.newSingleThreadScheduledExecutor();
+  // Shared by all the analyses of the session, bounded by the analysis parallelism
+  private ExecutorService analysisExecutor;
+  // Collects the surefire reports while Maven runs the tests, independently of the events that trigger the runs
+  private final ScheduledExecutorService reportsExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "sundrio-test-reports");
+    thread.setDaemon(true);
+    return thread;
+  });
   private final AtomicBoolean running = new AtomicBoolean(true);
 
   // Store the last change set for dependency tree display
@@ -136,10 +232,6 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
   // Current run individual test tracking
   private final Map<String, TestCaseResult> currentRunTestCases = new ConcurrentHashMap<>();
 
-  // Track which specific test methods were requested for the current run
-  private final Set<String> requestedTestMethods = ConcurrentHashMap.newKeySet();
-  private boolean runningSpecificMethods = false;
-
   // TUI Components
   private TermFrame termFrame;
 
@@ -264,14 +356,16 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
     // Start file watching in a background thread
     Thread watcherThread = new Thread(() -> {
       try {
-        sourceProject.allSources().watch(changeSet -> {
-          try {
-            handleChangeSetWithImpactAnalysis(changeSet);
-            // No need to call updateStatusDisplay - header/footer will update automatically
-          } catch (Exception e) {
-            termFrame.println("❌ Error handling file changes: " + e.getMessage());
-          }
-        }).get(); // Wait for the watch to complete (which it never will unless interrupted)
+        sourceProject.allSources()
+            .coalescing(java.time.Duration.ofMillis(watchQuietPeriod))
+            .watchBatches(batch -> {
+              try {
+                handleChangeBatchWithImpactAnalysis(batch);
+                // No need to call updateStatusDisplay - header/footer will update automatically
+              } catch (Exception e) {
+                termFrame.println("❌ Error handling file changes: " + e.getMessage());
+              }
+            }).get(); // Wait for the watch to complete (which it never will unless interrupted)
       } catch (Exception e) {
         termFrame.println("❌ File watcher error: " + e.getMessage());
       }
@@ -352,15 +446,8 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
       // Initialize Project DSL and Impact Analyzer
       initializeProject();
 
-      // Analyze project structure using legacy methods for compatibility
-      analyzeTestFiles();
-      analyzeSourceFiles();
-      mapTestDependencies();
-      createMethodSnapshots();
-      buildMethodToTestMapping();
-
-      // Analyze project structure using DSL
-      analyzeProjectStructure();
+      // Analyze the files that changed since the previous session, reuse the rest
+      analyzeProject();
 
       // Initialize test case data before first status display
       initializeTestCaseData();
@@ -377,6 +464,11 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
     } catch (Exception e) {
       throw new MojoExecutionException("Error during continuous testing", e);
     } finally {
+      closeInProcessTestRunner();
+      reportsExecutor.shutdownNow();
+      if (analysisExecutor != null) {
+        analysisExecutor.shutdownNow();
+      }
       // Close TermFrame (this will restore terminal state automatically)
       if (termFrame != null) {
         try {
@@ -396,69 +488,80 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
     impactAnalyzer = new ImpactAnalyzer(sourceProject, DefinitionRepository.getRepository());
 
     getLog().info("Project initialized: " + sourceProject.getModuleRoot());
-  }
-
-  private void analyzeProjectStructure() {
-    getLog().debug("Analyzing project structure...");
-
-    // Analyze test files and their dependencies to source files
-    var testFiles = sourceProject.testSources()
-        .including(testIncludes.split(","))
-        .list();
-
-    var sourceFiles = sourceProject.sources().list();
-
-    getLog().debug("Found " + testFiles.size() + " test files");
-    getLog().debug("Found " + sourceFiles.size() + " source files");
+    testHistory = TestHistory.load(testHistoryFile);
+
+    int parallelism = getAnalysisParallelism();
+    if (parallelism > 1) {
+      analysisExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+        Thread thread = new Thread(runnable, "sundrio-analysis");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
 
-    // Build mapping of test files to source dependencies
-    buildTestSourceMapping(testFiles, sourceFiles);
+    if (inProcess) {
+      initializeInProcessTestRunner();
+    }
   }
 
-  private void buildTestSourceMapping(java.util.List<Path> testFiles, java.util.List<Path> sourceFiles) {
-    getLog().debug("Building test to source mapping...");
-
-    AdapterContext context = AdapterContext.create(DefinitionRepository.getRepository());
+  private void initializeInProcessTestRunner() {
+    try {
+      File buildDirectory = new File(getProject().getBuild().getDirectory());
+      inProcessTestRunner = new InProcessTestRunner(
+          new File(getProject().getBuild().getOutputDirectory()),
+          new File(getProject().getBuild().getTestOutputDirectory()),
+          getProject().getTestClasspathElements(),
+          new File(buildDirectory, "generated-sources/annotations"),
+          new File(buildDirectory, "generated-test-sources/test-annotations"),
+          getCompilerOptions(false),
+          getCompilerOptions(true),
+          getLog());
+      if (inProcessTestRunner.isSupported()) {
+        getLog().info("Affected tests will be run in process");
+      } else {
+        getLog().info("In process test execution is not supported, falling back to Maven invocations");
+        closeInProcessTestRunner();
+      }
+    } catch (Exception e) {
+      getLog().warn("Failed to set up in process test execution, falling back to Maven invocations", e);
+      closeInProcessTestRunner();
+    }
+  }
 
-    for (Path testFile : testFiles) {
+  /**
+   * Returns the javac options of the compiler plugin execution that compiles the main or the test sources.
+   */
+  private List<String> getCompilerOptions(boolean test) throws DependencyResolutionException {
+    CompilerSettings settings = CompilerSettings.of(getProject(), test);
+    List<String> options = new ArrayList<>(settings.getOptions());
+    List<org.eclipse.aether.graph.Dependency> processorPaths = settings.getAnnotationProcessorPaths();
+    if (!processorPaths.isEmpty()) {
+      CollectRequest collectRequest = new CollectRequest(processorPaths, null, remoteRepositories);
+      List<ArtifactResult> artifacts = repositorySystem
+          .resolveDependencies(repositorySession, new DependencyRequest(collectRequest, null))
+          .getArtifactResults();
+      options.add("-processorpath");
+      options.add(artifacts.stream()
+          .map(a -> a.getArtifact().getFile().getAbsolutePath())
+          .collect(Collectors.joining(File.pathSeparator)));
+    }
+    getLog().debug("Compiler options for " + (test ? "test" : "main") + " sources: " + options);
+    return options;
+  }
+
+  private void closeInProcessTestRunner() {
+    if (inProcessTestRunner != null) {
       try {
-        TypeDef testTypeDef;
-        try (java.io.FileInputStream fis = new java.io.FileInputStream(testFile.toFile())) {
-          testTypeDef = Sources.readTypeDefFromStream(fis, context);
-          DefinitionRepository.getRepository().registerIfAbsent(testTypeDef);
-        }
-
-        Set<String> referencedSources = new HashSet<>();
-
-        // Use MethodReference analysis to find dependencies
-        for (Method method : testTypeDef.getMethods()) {
-          Set<MethodReference> methodRefs = MethodReference.getMethodReferences(method);
-
-          for (MethodReference methodRef : methodRefs) {
-            // Find source file for this method's owning type
-            sourceProject.sources()
-                .find(methodRef.getOwningType())
-                .ifPresent(sourcePath -> referencedSources.add(sourcePath.toString()));
-          }
-        }
-
-        if (!referencedSources.isEmpty()) {
-          testToSourceMapping.put(testFile.toString(), referencedSources);
-          getLog().info("Test " + testFile.getFileName() + " -> " + referencedSources.size() + " sources");
-        }
-
-      } catch (Exception e) {
-        getLog().warn("Failed to analyze test file: " + testFile, e);
+        inProcessTestRunner.close();
+      } catch (IOException e) {
+        getLog().debug("Error closing in process test runner", e);
       }
+      inProcessTestRunner = null;
     }
-
-    getLog().debug("Built mappings for " + testToSourceMapping.size() + " test files");
   }
 
   private void runAllTests() throws MavenInvocationException {
     getLog().info("Running all tests...");
-    runningSpecificMethods = false;
-    requestedTestMethods.clear();
     resetTestCounters();
     runMavenGoal(testGoal);
   }
@@ -468,17 +571,136 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
       return;
     }
 
-    runningSpecificMethods = false;
-    requestedTestMethods.clear();
+    List<String> orderedTestClasses = prioritizeTests
+        ? TestHistory.prioritize(testClasses, testFile -> testHistory.getClassStats(findTestClassName(testFile)))
+        : new ArrayList<>(testClasses);
 
-    String testClassNames = testClasses.stream()
+    String testClassNames = orderedTestClasses.stream()
         .map(this::extractClassName)
         .collect(Collectors.joining(","));
 
     resetTestCounters();
+    if (inProcessTestRunner != null) {
+      Map<String, Set<String>> tests = new LinkedHashMap<>();
+      orderedTestClasses.forEach(testFile -> tests.put(findTestClassName(testFile), Collections.emptySet()));
+      if (runTestsInProcess(tests)) {
+        return;
+      }
+    }
     runMavenGoal(testGoal, "-Dtest=" + testClassNames);
   }
 
+  private String findTestClassName(String testFile) {
+    String testClassName = testClassNames.get(testFile);
+    if (testClassName != null) {
+      return testClassName;
+    }
+    String relative = testSourceDirectory.toPath().relativize(Path.of(testFile)).toString();
+    return relative.substring(0, relative.lastIndexOf(".java")).replace(File.separatorChar, '.');
+  }
+
+  /**
+   * Runs the specified tests in process.
+   *
+   * @param tests the test methods per test class, in the order they should run. An empty set of methods runs the whole
+   *        class.
+   * @return true if the tests were run, false if they need to be run by invoking Maven instead.
+   */
+  private boolean runTestsInProcess(Map<String, Set<String>> tests) {
+    List<TestClassOutcome> results;
+    try {
+      results = inProcessTestRunner.run(tests, failFast, new InProcessTestRunner.Listener() {
+        @Override
+        public void testFinished(TestClassOutcome.Outcome outcome) {
+          recordTestOutcome(outcome);
+        }
+
+        @Override
+        public void testClassFinished(TestClassOutcome outcome) {
+          recordTestClassSummary(outcome);
+        }
+      });
+    } catch (Exception e) {
+      getLog().warn("Failed to run tests in process, falling back to Maven invocations", e);
+      closeInProcessTestRunner();
+      return false;
+    }
+
+    saveTestHistory();
+    if (failFast && results.size() < tests.size()) {
+      getLog().warn("Stopped at the first failure, skipped " + (tests.size() - results.size()) + " test classes");
+    }
+
+    recalculateSessionTotals();
+    updateSessionTestCases();
+    if (termFrame != null) {
+      termFrame.println("");
+    }
+    return true;
+  }
+
+  private void recordTestClassOutcome(TestClassOutcome result) {
+    result.outcomes.forEach(this::recordTestOutcome);
+    recordTestClassSummary(result);
+  }
+
+  /**
+   * Records the outcome of a test method, as soon as it completes.
+   */
+  private void recordTestOutcome(TestClassOutcome.Outcome outcome) {
+    TestStatus status = TestStatus.valueOf(outcome.status.name());
+    TestCaseResult testCase = new TestCaseResult(outcome.testClass, outcome.testMethod, status, outcome.message);
+    currentRunTestCases.put(testCase.getFullName(), testCase);
+    totalTests.incrementAndGet();
+    switch (status) {
+      case FAILED:
+        failedTests.incrementAndGet();
+        break;
+      case ERROR:
+        errorTests.incrementAndGet();
+        break;
+      case SKIPPED:
+        skippedTests.incrementAndGet();
+        break;
+      default:
+        passedTests.incrementAndGet();
+    }
+    if (status == TestStatus.FAILED || status == TestStatus.ERROR) {
+      getLog().warn("  ❌ " + testCase.getFullName() + ": " + outcome.message);
+    }
+    if (status != TestStatus.SKIPPED) {
+      testHistory.record(outcome.testClass, outcome.testMethod,
+          status == TestStatus.FAILED || status == TestStatus.ERROR, outcome.timeMillis);
+    }
+  }
+
+  /**
+   * Records the summary of a test class, after all of its test methods completed.
+   */
+  private void recordTestClassSummary(TestClassOutcome result) {
+    int failures = result.count(TestClassOutcome.Status.FAILED);
+    int errors = result.count(TestClassOutcome.Status.ERROR);
+    int skipped = result.count(TestClassOutcome.Status.SKIPPED);
+    int testsRun = result.outcomes.size();
+    int passed = testsRun - failures - errors - skipped;
+    String summary = "Tests run: " + testsRun + ", Failures: " + failures + ", Errors: " + errors + ", Skipped: "
+        + skipped + ", Time elapsed: " + result.timeMillis / 1000.0 + " s -- in " + result.testClass;
+    if (failures + errors > 0) {
+      getLog().warn("❌ " + summary);
+    } else {
+      getLog().info(summary);
+    }
+    sessionTestResults.put(result.testClass, new TestClassResult(testsRun, passed, failures, errors, skipped));
+  }
+
+  private void saveTestHistory() {
+    try {
+      testHistory.save(testHistoryFile);
+    } catch (IOException e) {
+      getLog().warn("Failed to save test history: " + testHistoryFile, e);
+    }
+  }
+
   private void runMavenGoal(String goal, String... additionalArgs) throws MavenInvocationException {
     InvocationRequest request = new DefaultInvocationRequest();
     request.setPomFile(getProject().getFile());
@@ -486,15 +708,12 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
     request.setBatchMode(true);
     // Don't use quiet mode as it suppresses test output we need
 
-    // Capture both standard output and error output
-    java.io.ByteArrayOutputStream outputStream = new java.io.ByteArrayOutputStream();
-    java.io.ByteArrayOutputStream errorStream = new java.io.ByteArrayOutputStream();
-    java.io.PrintStream outputPrintStream = new java.io.PrintStream(outputStream);
-    java.io.PrintStream errorPrintStream = new java.io.PrintStream(errorStream);
+    // Results are read from the reports surefire writes for each test class, as soon as the class completes.
+    // The reports directory is polled while Maven runs, so collecting doesn't depend on the console output.
+    Map<Path, Long> seenReports = SurefireReports.list(reportsDirectory);
 
     request.setOutputHandler(line -> {
-      outputPrintStream.println(line);
-      // Also display in TermFrame if available, filtering Maven noise
+      // Display in TermFrame if available, filtering Maven noise
       if (termFrame != null && line != null) {
         String trimmed = line.trim();
         if (!trimmed.isEmpty() &&
@@ -508,108 +727,66 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
       }
     });
     request.setErrorHandler(line -> {
-      errorPrintStream.println(line);
-      // Also display errors in TermFrame if available
+      // Display errors in TermFrame if available
       if (termFrame != null && line != null && !line.trim().isEmpty()) {
         termFrame.println("❌ " + line);
       }
     });
 
-    if (additionalArgs.length > 0) {
-      Properties props = new Properties();
-      props.setProperty("test", additionalArgs[0].substring(additionalArgs[0].indexOf('=') + 1));
-      request.setProperties(props);
+    Properties props = new Properties();
+    for (String arg : additionalArgs) {
+      int separator = arg.indexOf('=');
+      props.setProperty(arg.substring(2, separator), arg.substring(separator + 1));
+    }
+    // Surefire only orders test classes, using the statistics it keeps itself
+    if (prioritizeTests) {
+      props.setProperty("surefire.runOrder", "failedfirst");
     }
+    if (failFast) {
+      props.setProperty("surefire.skipAfterFailureCount", "1");
+    }
+    request.setProperties(props);
 
     Invoker invoker = new DefaultInvoker();
 
     // Clear current run test cases before execution
     currentRunTestCases.clear();
 
-    InvocationResult result = invoker.execute(request);
-
-    // Extract and display only test summaries from both output streams
-    String output = outputStream.toString();
-    String errorOutput = errorStream.toString();
-    String fullOutput = output + "\n" + errorOutput;
+    ScheduledFuture<?> collection = reportsExecutor.scheduleWithFixedDelay(
+        () -> collectSurefireReports(seenReports), REPORTS_POLL_MILLIS, REPORTS_POLL_MILLIS, TimeUnit.MILLISECONDS);
+    InvocationResult result;
+    try {
+      result = invoker.execute(request);
+    } finally {
+      collection.cancel(false);
+    }
 
-    // Parse individual test cases first, then summaries
-    parseIndividualTestResults(fullOutput);
-    extractAndLogTestSummary(fullOutput);
+    // Pick up the reports written since the last poll, once the forked build exited
+    collectSurefireReports(seenReports);
+    saveTestHistory();
+    recalculateSessionTotals();
 
     // Update session test cases with current run results
     updateSessionTestCases();
 
     // Status display updates automatically via header/footer suppliers
+    if (termFrame != null) {
+      termFrame.println(""); // Add spacing after test output
+    }
 
     if (result.getExitCode() != 0 && termFrame != null) {
       termFrame.println("⚠️ Test execution failed with exit code: " + result.getExitCode());
     }
   }
 
-  private void extractAndLogTestSummary(String mavenOutput) {
-    if (mavenOutput == null || mavenOutput.trim().isEmpty()) {
-      getLog().info("✅ Test execution completed (no output captured)");
-      return;
-    }
-
-    String[] lines = mavenOutput.split("\n");
-    boolean inTestResults = false;
-    boolean foundTestOutput = false;
-
-    for (String line : lines) {
-      String trimmedLine = line.trim();
-
-      // Look for test result lines like "Tests run: 1, Failures: 0, Errors: 0, Skipped: 0"
-      if (trimmedLine.contains("Tests run:") && trimmedLine.contains("Time elapsed:")) {
-        getLog().info(trimmedLine);
-        parseTestResults(trimmedLine);
-        foundTestOutput = true;
-      }
-      // Capture test failures with more detail
-      else if (trimmedLine.contains("FAILURE") || trimmedLine.contains("ERROR")) {
-        getLog().warn("❌ " + trimmedLine);
-        markTestCaseAsFailed(trimmedLine);
-        foundTestOutput = true;
-      }
-      // Capture final summary line
-      else if (trimmedLine.startsWith("Results:")) {
-        inTestResults = true;
-        getLog().info("🏁 " + trimmedLine);
-        foundTestOutput = true;
-      } else if (inTestResults
-          && (trimmedLine.startsWith("Tests run:") || trimmedLine.contains("Failed:") || trimmedLine.contains("Errors:"))) {
-        getLog().info("📈 " + trimmedLine);
-        foundTestOutput = true;
-        if (trimmedLine.isEmpty()) {
-          inTestResults = false;
-        }
-      }
-      // Look for Surefire plugin output pattern
-      else if (trimmedLine.contains("[INFO]") && trimmedLine.contains("Surefire") && trimmedLine.contains("Test")) {
-        getLog().info("🧪 " + trimmedLine.substring(trimmedLine.indexOf("]") + 1).trim());
-        foundTestOutput = true;
-      }
-      // Look for test class execution messages
-      else if (trimmedLine.contains("Running ") && trimmedLine.contains("Test")) {
-        getLog().info(trimmedLine);
-        foundTestOutput = true;
-      }
-    }
-    termFrame.println(""); // Add spacing after test output
-  }
-
-  private void markTestCaseAsFailed(String failureLine) {
-    // Try to extract test method from failure line
-    // Patterns like "testMethod(ClassName)" or "ClassName.testMethod"
-    for (TestCaseResult testCase : currentRunTestCases.values()) {
-      if (failureLine.contains(testCase.testMethod) || failureLine.contains(testCase.testClass)) {
-        // Update the test case status to failed
-        String testKey = testCase.getFullName();
-        currentRunTestCases.put(testKey,
-            new TestCaseResult(testCase.testClass, testCase.testMethod, TestStatus.FAILED, failureLine));
-        getLog().debug("Marked test case as failed: " + testKey);
-        break;
+  private synchronized void collectSurefireReports(Map<Path, Long> seenReports) {
+    for (Path report : SurefireReports.findUpdated(reportsDirectory, seenReports)) {
+      try {
+        recordTestClassOutcome(SurefireReports.read(report));
+      } catch (IOException e) {
+        // The report may still be being written, so retry on the next collection
+        seenReports.remove(report);
+        getLog().debug("Failed to read test report: " + report, e);
       }
     }
   }
@@ -650,183 +827,292 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
     }
   }
 
-  private void analyzeTestFiles() throws IOException {
-    getLog().debug("Analyzing test files...");
-    if (!testSourceDirectory.exists()) {
-      getLog().warn("Test source directory does not exist: " + testSourceDirectory);
-      return;
+  private void analyzeProject() throws IOException {
+    long start = System.nanoTime();
+    testToSourceMapping.clear();
+    sourceMethodToTestMethods.clear();
+    sourceFileMethodSnapshots.clear();
+    sourceFilesByType.clear();
+    sourceTypesBySimpleName.clear();
+    testClassNames.clear();
+    testMethodsByClass.clear();
+
+    int parallelism = getAnalysisParallelism();
+    long parseTime = 0;
+    long analysisTime = 0;
+
+    TestImpactMap previous = TestImpactMap.load(impactMapFile, testIncludes);
+    TestImpactMap current = new TestImpactMap(testIncludes);
+
+    // Reuse the entries of unchanged source files and parse the rest
+    List<Path> sourceFiles = listJavaFiles(sourceDirectory, "Source");
+    Map<Path, TestImpactMap.Fingerprint> sourceFingerprints = fingerprints(sourceFiles);
+    List<Path> changedSources = new ArrayList<>();
+    for (Path path : sourceFiles) {
+      TestImpactMap.SourceEntry entry = previous.getSource(path.toString(), sourceFingerprints.get(path));
+      if (entry != null) {
+        current.put(entry);
+      } else {
+        changedSources.add(path);
+      }
     }
 
-    AdapterContext context = AdapterContext.create(DefinitionRepository.getRepository());
-
-    getLog().debug("Test source directory: " + testSourceDirectory);
-    getLog().debug("Test includes pattern: " + testIncludes);
-
-    Files.walk(testSourceDirectory.toPath())
-        .filter(path -> path.toString().endsWith(".java"))
-        .forEach(path -> {
-          boolean isTest = isTestFile(path);
-          getLog().debug("🔍 Checking file: " + path + " -> isTest: " + isTest);
-          if (isTest) {
-            try (FileInputStream fis = new FileInputStream(path.toFile())) {
-              TypeDef typeDef = Sources.readTypeDefFromStream(fis, context);
-              testTypeDefs.put(path.toString(), typeDef);
-              DefinitionRepository.getRepository().registerIfAbsent(typeDef);
-              String fqn = typeDef.getPackageName() + "." + typeDef.getName();
-              getLog().debug("🧪 Test: " + typeDef.getName() + " (" + fqn + ") -> " + path);
-            } catch (Exception e) {
-              getLog().warn("Failed to analyze test file: " + path, e);
-            }
-          }
+    Set<String> changedSourcePaths = new HashSet<>();
+    boolean typesChanged = false;
+    long parseStart = System.nanoTime();
+    Map<Path, TypeDef> parsedSources = sourceProject.parse(changedSources, parallelism);
+    parseTime += System.nanoTime() - parseStart;
+    List<Path> parsedSourcePaths = changedSources.stream()
+        .filter(parsedSources::containsKey)
+        .collect(Collectors.toList());
+    long analysisStart = System.nanoTime();
+    analyzeInParallel(parsedSourcePaths, path -> createMethodSnapshots(parsedSources.get(path)),
+        (sourcePath, snapshots) -> {
+          String path = sourcePath.toString();
+          TypeDef typeDef = parsedSources.get(sourcePath);
+          sourceTypeDefs.put(path, typeDef);
+          current.put(new TestImpactMap.SourceEntry(path, sourceFingerprints.get(sourcePath),
+              typeDef.getFullyQualifiedName(), snapshots));
+          changedSourcePaths.add(path);
         });
-
-    getLog().debug("Analyzed " + testTypeDefs.size() + " test files");
-  }
-
-  private void analyzeSourceFiles() throws IOException {
-    getLog().debug("Analyzing source files...");
-    if (!sourceDirectory.exists()) {
-      getLog().warn("Source directory does not exist: " + sourceDirectory);
-      return;
+    analysisTime += System.nanoTime() - analysisStart;
+    for (Path sourcePath : parsedSourcePaths) {
+      TestImpactMap.SourceEntry previousEntry = previous.getSource(sourcePath.toString());
+      typesChanged |= previousEntry == null
+          || !previousEntry.type.equals(parsedSources.get(sourcePath).getFullyQualifiedName());
+    }
+    for (TestImpactMap.SourceEntry entry : previous.getSources()) {
+      typesChanged |= current.getSource(entry.path) == null;
     }
 
-    AdapterContext context = AdapterContext.create(DefinitionRepository.getRepository());
-
-    Files.walk(sourceDirectory.toPath())
-        .filter(path -> path.toString().endsWith(".java"))
-        .forEach(path -> {
-          try (FileInputStream fis = new FileInputStream(path.toFile())) {
-            TypeDef typeDef = Sources.readTypeDefFromStream(fis, context);
-            sourceTypeDefs.put(path.toString(), typeDef);
-            DefinitionRepository.getRepository().registerIfAbsent(typeDef);
-            String fqn = typeDef.getPackageName() + "." + typeDef.getName();
-          } catch (Exception e) {
-            getLog().debug("Failed to analyze source file: " + path + " - " + e.getMessage());
-            // Continue processing other files despite individual failures
-          }
-        });
-  }
-
-  private void mapTestDependencies() {
-    for (Map.Entry<String, TypeDef> testEntry : testTypeDefs.entrySet()) {
-      String testFile = testEntry.getKey();
-      TypeDef testTypeDef = testEntry.getValue();
-      Set<String> referencedSources = new HashSet<>();
-      Set<String> allFoundDependencies = new HashSet<>();
+    // Entries are merged as their analysis completes, so they are indexed in the order of the files
+    for (Path sourcePath : sourceFiles) {
+      TestImpactMap.SourceEntry entry = current.getSource(sourcePath.toString());
+      if (entry == null) {
+        continue;
+      }
+      sourceFilesByType.put(entry.type, entry.path);
+      sourceTypesBySimpleName.putIfAbsent(entry.type.substring(entry.type.lastIndexOf('.') + 1), entry.type);
+      sourceFileMethodSnapshots.put(entry.path, entry.methodSnapshots);
+    }
+
+    // Tests need to be analyzed again if they changed or if any of the sources they depend on changed.
+    // Adding, removing or renaming source types may change how any test resolves, so all of them are analyzed then.
+    List<Path> testFiles = listJavaFiles(testSourceDirectory, "Test").stream()
+        .filter(this::isTestFile)
+        .collect(Collectors.toList());
+    Map<Path, TestImpactMap.Fingerprint> testFingerprints = fingerprints(testFiles);
+    List<Path> changedTests = new ArrayList<>();
+    for (Path path : testFiles) {
+      TestImpactMap.TestEntry entry = typesChanged ? null
+          : previous.getTest(path.toString(), testFingerprints.get(path));
+      if (entry != null && entry.dependencies.stream().noneMatch(changedSourcePaths::contains)) {
+        current.put(entry);
+      } else {
+        changedTests.add(path);
+      }
+    }
 
-      String testClassName = extractClassName(testFile);
+    if (!changedTests.isEmpty()) {
+      // Method references of tests are followed into the sources, so all of them need to be registered.
+      // Sources that were just parsed are cached by the project.
+      parseStart = System.nanoTime();
+      sourceProject.parse(sourceFiles, parallelism)
+          .forEach((path, typeDef) -> sourceTypeDefs.put(path.toString(), typeDef));
+      Map<Path, TypeDef> parsedTests = sourceProject.parse(changedTests, parallelism);
+      parseTime += System.nanoTime() - parseStart;
 
-      // Analyze test methods and their dependencies
-      for (Method method : testTypeDef.getMethods()) {
-        Set<String> methodDependencies = extractTypeDependencies(method);
-        allFoundDependencies.addAll(methodDependencies);
-        for (String dependency : methodDependencies) {
-          String sourceFile = findSourceFileForType(dependency);
-          if (sourceFile != null) {
-            referencedSources.add(sourceFile);
-          }
+      // Tests are analyzed independently, so only the repository needs to be passed to the workers
+      DefinitionRepository repository = DefinitionRepository.getRepository();
+      List<Path> parsedTestPaths = changedTests.stream()
+          .filter(parsedTests::containsKey)
+          .collect(Collectors.toList());
+      analysisStart = System.nanoTime();
+      analyzeInParallel(parsedTestPaths, path -> {
+        try {
+          return analyzeTest(path.toString(), testFingerprints.get(path), parsedTests.get(path), repository);
+        } catch (Exception e) {
+          getLog().warn("Failed to analyze test file: " + path, e);
+          return null;
         }
+      }, (path, entry) -> {
+        testTypeDefs.put(path.toString(), parsedTests.get(path));
+        if (entry != null) {
+          current.put(entry);
+        }
+      });
+      analysisTime += System.nanoTime() - analysisStart;
+    }
+
+    for (TestImpactMap.TestEntry entry : current.getTests()) {
+      if (!entry.referencedSources.isEmpty()) {
+        testToSourceMapping.put(entry.path, entry.referencedSources);
       }
+      testClassNames.put(entry.path, entry.type);
+      testMethodsByClass.put(entry.type, entry.testMethods);
+      entry.sourceMethodToTestMethods.forEach((sourceMethod, testMethods) -> sourceMethodToTestMethods
+          .computeIfAbsent(sourceMethod, k -> ConcurrentHashMap.newKeySet()).addAll(testMethods));
+    }
 
-      // Analyze test class fields and constructor dependencies
-      Set<String> classDependencies = extractClassDependencies(testTypeDef);
-      allFoundDependencies.addAll(classDependencies);
+    try {
+      current.save(impactMapFile);
+    } catch (IOException e) {
+      getLog().warn("Failed to save test impact map: " + impactMapFile, e);
+    }
 
-      for (String dependency : classDependencies) {
-        String sourceFile = findSourceFileForType(dependency);
-        if (sourceFile != null) {
-          referencedSources.add(sourceFile);
-          getLog().debug("    ✅ " + dependency + " -> " + sourceFile);
-        } else {
-          getLog().debug("    ❌ " + dependency + " -> NOT FOUND in source files");
-        }
-      }
+    getLog().info("Analyzed " + changedSources.size() + " of " + sourceFiles.size() + " source files and "
+        + changedTests.size() + " of " + testFiles.size() + " test files in " + (System.nanoTime() - start) / 1000000
+        + "ms (parsing: " + parseTime / 1000000 + "ms, analysis: " + analysisTime / 1000000 + "ms, threads: "
+        + parallelism + ")");
 
-      if (!referencedSources.isEmpty()) {
-        testToSourceMapping.put(testFile, referencedSources);
-      }
+    if (sourceMethodToTestMethods.isEmpty()) {
+      getLog().warn("⚠️  WARNING: No method-to-test mappings were created!");
+      getLog().info("This means method-level test execution will always fall back to file-level execution.");
     }
   }
 
-  private void createMethodSnapshots() {
-    for (Map.Entry<String, TypeDef> entry : sourceTypeDefs.entrySet()) {
-      String sourceFile = entry.getKey();
-      TypeDef typeDef = entry.getValue();
-
-      Map<String, String> methodSnapshots = new HashMap<>();
+  private int getAnalysisParallelism() {
+    return analysisParallelism > 0 ? analysisParallelism : Runtime.getRuntime().availableProcessors();
+  }
 
-      for (Method method : typeDef.getMethods()) {
-        // Create a simple signature for change detection
-        String methodSignature = createMethodSignature(method);
-        methodSnapshots.put(method.getName(), methodSignature);
-        getLog().debug("📸 Snapshot: " + typeDef.getName() + "." + method.getName() + " -> " + methodSignature.hashCode());
+  /**
+   * Apply the analysis to each of the items using the shared pool of analysis workers. The results are merged on the
+   * calling thread as soon as each analysis completes, so in no particular order.
+   *
+   * @param items the items to analyze
+   * @param analysis the analysis, that may run on any worker
+   * @param merge the function that merges the result of the analysis of an item, on the calling thread
+   */
+  private <T, R> void analyzeInParallel(List<T> items, Function<T, R> analysis, BiConsumer<T, R> merge) {
+    if (analysisExecutor == null || items.size() < 2) {
+      items.forEach(item -> merge.accept(item, analysis.apply(item)));
+      return;
+    }
+    CompletionService<Map.Entry<T, R>> completionService = new ExecutorCompletionService<>(analysisExecutor);
+    List<Future<Map.Entry<T, R>>> futures = new ArrayList<>();
+    try {
+      for (T item : items) {
+        futures.add(completionService
+            .submit(() -> new AbstractMap.SimpleImmutableEntry<>(item, analysis.apply(item))));
       }
-
-      sourceFileMethodSnapshots.put(sourceFile, methodSnapshots);
+      for (int i = 0; i < items.size(); i++) {
+        Map.Entry<T, R> result = completionService.take().get();
+        merge.accept(result.getKey(), result.getValue());
+      }
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed to analyze project files", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while analyzing project files", e);
+    } finally {
+      // Only has an effect when the analysis failed
+      futures.forEach(future -> future.cancel(true));
     }
   }
 
-  private void buildMethodToTestMapping() {
-    getLog().debug("🔧 Building method-to-test mapping for fine-grained test execution...");
+  private List<Path> listJavaFiles(File directory, String kind) throws IOException {
+    if (!directory.exists()) {
+      getLog().warn(kind + " directory does not exist: " + directory);
+      return new ArrayList<>();
+    }
+    try (java.util.stream.Stream<Path> paths = Files.walk(directory.toPath())) {
+      return paths.filter(path -> path.toString().endsWith(".java")).collect(Collectors.toList());
+    }
+  }
 
-    // For each test method, determine which source methods it depends on
-    for (Map.Entry<String, TypeDef> testEntry : testTypeDefs.entrySet()) {
-      String testFile = testEntry.getKey();
-      TypeDef testTypeDef = testEntry.getValue();
+  private static Map<Path, TestImpactMap.Fingerprint> fingerprints(List<Path> paths) throws IOException {
+    Map<Path, TestImpactMap.Fingerprint> fingerprints = new HashMap<>();
+    for (Path path : paths) {
+      fingerprints.put(path, TestImpactMap.Fingerprint.of(path.toFile()));
+    }
+    return fingerprints;
+  }
 
-      getLog().debug("🔍 Analyzing test class: " + testTypeDef.getFullyQualifiedName());
+  private Map<String, String> createMethodSnapshots(TypeDef typeDef) {
+    Map<String, String> methodSnapshots = new HashMap<>();
+    for (Method method : typeDef.getMethods()) {
+      // Create a simple signature for change detection
+      methodSnapshots.put(method.getName(), createMethodSignature(method));
+    }
+    return methodSnapshots;
+  }
 
-      for (Method testMethod : testTypeDef.getMethods()) {
-        String testMethodKey = testTypeDef.getFullyQualifiedName() + "." + testMethod.getName();
+  /**
+   * Analyze a test class to find the source files and the source methods its tests depend on.
+   */
+  private TestImpactMap.TestEntry analyzeTest(String testFile, TestImpactMap.Fingerprint fingerprint,
+      TypeDef testTypeDef, DefinitionRepository repository) {
+    getLog().debug("🔍 Analyzing test class: " + testTypeDef.getFullyQualifiedName());
+    Set<String> referencedSources = new HashSet<>();
+    Set<String> dependencies = new HashSet<>();
+    Map<String, Set<String>> methodMapping = new HashMap<>();
 
-        getLog().debug("  📋 Analyzing test method: " + testMethod.getName());
+    // Map the test to sources by the types its methods and class refer to
+    for (Method method : testTypeDef.getMethods()) {
+      for (String dependency : extractTypeDependencies(method)) {
+        String sourceFile = findSourceFileForType(dependency);
+        if (sourceFile != null) {
+          referencedSources.add(sourceFile);
+        }
+      }
+    }
+    Set<String> classDependencies = extractClassDependencies(testTypeDef);
+    for (String dependency : classDependencies) {
+      String sourceFile = findSourceFileForType(dependency);
+      if (sourceFile != null) {
+        referencedSources.add(sourceFile);
+      }
+    }
 
-        // Extract method dependencies from the test method
-        Set<String> methodDependencies = extractMethodCallDependencies(testMethod);
-        getLog().debug("    🔗 Method call dependencies: " + methodDependencies);
+    // Method references are more accurate, so they take precedence when found
+    Set<String> methodReferenceSources = new HashSet<>();
+    for (Method method : testTypeDef.getMethods()) {
+      for (MethodReference methodRef : MethodReference.getMethodReferences(method, repository)) {
+        String sourceFile = sourceFilesByType.get(methodRef.getOwningType().getFullyQualifiedName());
+        if (sourceFile != null) {
+          methodReferenceSources.add(sourceFile);
+        }
+      }
+    }
+    dependencies.addAll(referencedSources);
+    dependencies.addAll(methodReferenceSources);
+    if (!methodReferenceSources.isEmpty()) {
+      referencedSources = methodReferenceSources;
+    }
 
-        // Map each source method to this test method
-        for (String sourceMethodCall : methodDependencies) {
-          sourceMethodToTestMethods.computeIfAbsent(sourceMethodCall, k -> new HashSet<>()).add(testMethodKey);
-          getLog().debug("    ✅ Mapped: " + sourceMethodCall + " -> " + testMethodKey);
+    // Map source methods to the test methods that depend on them
+    for (Method testMethod : testTypeDef.getMethods()) {
+      String testMethodKey = testTypeDef.getFullyQualifiedName() + "." + testMethod.getName();
+      for (String sourceMethodCall : extractMethodCallDependencies(testMethod)) {
+        methodMapping.computeIfAbsent(sourceMethodCall, k -> new HashSet<>()).add(testMethodKey);
+        String sourceFile = sourceFilesByType
+            .get(sourceMethodCall.substring(0, Math.max(0, sourceMethodCall.lastIndexOf('.'))));
+        if (sourceFile != null) {
+          dependencies.add(sourceFile);
         }
+      }
 
-        // Also add dependencies from class-level analysis
-        Set<String> classDependencies = extractClassDependencies(testTypeDef);
-        getLog().debug("    🏗️  Class-level dependencies: " + classDependencies);
-
-        for (String dependency : classDependencies) {
-          // Find all methods in the dependent class
-          for (Map.Entry<String, TypeDef> sourceEntry : sourceTypeDefs.entrySet()) {
-            TypeDef sourceTypeDef = sourceEntry.getValue();
-            if (sourceTypeDef.getFullyQualifiedName().equals(dependency)) {
-              getLog()
-                  .debug(
-                      "    🎯 Found source class: " + dependency + " with " + sourceTypeDef.getMethods().size() + " methods");
-              // Add dependency to all methods in this class
-              for (Method sourceMethod : sourceTypeDef.getMethods()) {
-                String sourceMethodKey = dependency + "." + sourceMethod.getName();
-                sourceMethodToTestMethods.computeIfAbsent(sourceMethodKey, k -> new HashSet<>()).add(testMethodKey);
-                getLog().debug("      ✅ Mapped (class-level): " + sourceMethodKey + " -> " + testMethodKey);
-              }
-            }
+      // Depending on a class means depending on all of its methods
+      for (String dependency : classDependencies) {
+        String sourceFile = sourceFilesByType.get(dependency);
+        if (sourceFile != null) {
+          Map<String, String> sourceMethods = sourceFileMethodSnapshots.getOrDefault(sourceFile, Collections.emptyMap());
+          for (String sourceMethod : sourceMethods.keySet()) {
+            methodMapping.computeIfAbsent(dependency + "." + sourceMethod, k -> new HashSet<>()).add(testMethodKey);
           }
         }
       }
     }
 
-    getLog().debug("Built method-to-test mapping with " + sourceMethodToTestMethods.size() + " source method entries");
+    List<String> testMethods = testTypeDef.getMethods().stream()
+        .filter(method -> method.getAnnotations().stream()
+            .anyMatch(ann -> ann.getClassRef().getName().equals("Test")))
+        .map(method -> method.getName())
+        .collect(Collectors.toList());
 
-    // Log complete mapping for debugging
-    getLog().debug("🗂️  COMPLETE METHOD-TO-TEST MAPPING:");
-    for (Map.Entry<String, Set<String>> entry : sourceMethodToTestMethods.entrySet()) {
-      getLog().debug("  📋 " + entry.getKey() + " -> " + entry.getValue().size() + " test method(s): " + entry.getValue());
-    }
-
-    if (sourceMethodToTestMethods.isEmpty()) {
-      getLog().warn("⚠️  WARNING: No method-to-test mappings were created!");
-      getLog().info("This means method-level test execution will always fall back to file-level execution.");
-    }
+    getLog().debug("Test " + testTypeDef.getName() + " -> " + referencedSources.size() + " sources");
+    return new TestImpactMap.TestEntry(testFile, fingerprint, testTypeDef.getFullyQualifiedName(), testMethods,
+        referencedSources, dependencies, methodMapping);
   }
 
   private String createMethodSignature(Method method) {
@@ -1091,23 +1377,10 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
   }
 
   private String findFullyQualifiedName(String className) {
-    getLog().debug("              🔎 Looking for FQN of: " + className);
-
-    // First try to find it in our source files
-    for (Map.Entry<String, TypeDef> entry : sourceTypeDefs.entrySet()) {
-      TypeDef typeDef = entry.getValue();
-      getLog().debug("              📋 Checking source type: " + typeDef.getName());
-
-      if (typeDef.getName().equals(className)) {
-        String fqn = typeDef.getPackageName() + "." + typeDef.getName();
-        getLog().debug("              ✅ Match found: " + className + " -> " + fqn);
-        return fqn;
-      }
-    }
-
-    // If not found in sources, return null (could be a built-in type)
-    getLog().debug("              ❌ No match found for: " + className);
-    return null;
+    // Look it up in our source files, if not found it could be a built-in type
+    String fqn = sourceTypesBySimpleName.get(className);
+    getLog().debug("              🔎 FQN of: " + className + " -> " + fqn);
+    return fqn;
   }
 
   private Set<String> extractClassDependencies(TypeDef typeDef) {
@@ -1130,14 +1403,7 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
   }
 
   private String findSourceFileForType(String fullyQualifiedName) {
-    for (Map.Entry<String, TypeDef> entry : sourceTypeDefs.entrySet()) {
-      TypeDef typeDef = entry.getValue();
-      String typeFullName = typeDef.getPackageName() + "." + typeDef.getName();
-      if (typeFullName.equals(fullyQualifiedName)) {
-        return entry.getKey();
-      }
-    }
-    return null;
+    return sourceFilesByType.get(fullyQualifiedName);
   }
 
   private boolean isTestFile(Path path) {
@@ -1202,30 +1468,66 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
 
     // Use Project DSL's watch capability and wait for it to complete
     try {
-      sourceProject.allSources().watch(changeSet -> {
-        try {
-          handleChangeSetWithImpactAnalysis(changeSet);
-        } catch (Exception e) {
-          getLog().error("Error handling change set", e);
-        }
-      }).get(); // Wait for the watch to complete (which it never will unless interrupted)
+      sourceProject.allSources()
+          .coalescing(java.time.Duration.ofMillis(watchQuietPeriod))
+          .watchBatches(batch -> {
+            try {
+              handleChangeBatchWithImpactAnalysis(batch);
+            } catch (Exception e) {
+              getLog().error("Error handling change batch", e);
+            }
+          }).get(); // Wait for the watch to complete (which it never will unless interrupted)
     } catch (java.util.concurrent.ExecutionException e) {
       throw new RuntimeException("Error during file watching", e.getCause());
     }
   }
 
-  private void handleChangeSetWithImpactAnalysis(ChangeSet changeSet) throws MavenInvocationException {
-    getLog().info("🚀 Processing change set with impact analysis...");
+  private void handleChangeBatchWithImpactAnalysis(ChangeBatch batch) throws MavenInvocationException {
+    getLog().info("🚀 Processing " + batch.getChangeSets().size() + " change set(s) from " + batch.getPaths().size()
+        + " file(s) with impact analysis (detected in " + batch.getLatency().toMillis() + "ms, parsed in "
+        + batch.getProcessingTime().toMillis() + "ms)...");
+
+    // Analyze all change sets first, so that affected tests are only run once per batch
+    List<ChangeSet> changeSets = batch.getChangeSets();
+    List<ImpactAnalysisResult> impacts = impactAnalyzer.analyzeAll(changeSets);
+    Set<String> affectedTestMethods = new LinkedHashSet<>();
+    Set<String> affectedTestFiles = new LinkedHashSet<>();
+    for (int i = 0; i < changeSets.size(); i++) {
+      ImpactAnalysisResult impact = reportImpact(changeSets.get(i), impacts.get(i));
+      if (impact.hasAnyImpact()) {
+        Set<String> testMethods = findTestMethodsAffectedByImpact(impact);
+        if (!testMethods.isEmpty()) {
+          affectedTestMethods.addAll(testMethods);
+        } else {
+          affectedTestFiles.addAll(findTestsAffectedByImpact(impact));
+        }
+      }
+    }
+    // Every batch is compiled, so that the output stays in sync with the sources even if no tests are affected.
+    // Files that fail to compile are compiled again with the next batch.
+    uncompiledSources.addAll(batch.getPaths());
+    if (inProcessTestRunner != null) {
+      try {
+        if (!inProcessTestRunner.compile(sourceDirectory, testSourceDirectory, uncompiledSources)) {
+          getLog().error("❌ Compilation failed, skipping test execution");
+          return;
+        }
+        uncompiledSources.clear();
+      } catch (Exception e) {
+        getLog().warn("Failed to compile changes in process, falling back to Maven invocations", e);
+        closeInProcessTestRunner();
+      }
+    }
+    runAffectedTests(affectedTestMethods, affectedTestFiles);
+  }
 
+  private ImpactAnalysisResult reportImpact(ChangeSet changeSet, ImpactAnalysisResult impact) {
     // Store for dependency tree display
     this.lastChangeSet = changeSet;
 
     // Report detected file changes
     reportFileChanges(changeSet);
 
-    // Use ImpactAnalyzer to determine full impact
-    ImpactAnalysisResult impact = impactAnalyzer.analyze(changeSet);
-
     // Store for dependency tree display
     this.lastImpactAnalysis = impact;
 
@@ -1233,26 +1535,24 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
 
     if (!impact.hasAnyImpact()) {
       getLog().info("No impact detected, skipping test execution");
-      return;
     }
+    return impact;
+  }
 
-    // Try method-level test execution first
-    Set<String> affectedTestMethods = findTestMethodsAffectedByImpact(impact);
-
+  private void runAffectedTests(Set<String> affectedTestMethods, Set<String> affectedTestFiles)
+      throws MavenInvocationException {
     if (!affectedTestMethods.isEmpty()) {
       reportAffectedTestMethods(affectedTestMethods);
       runSpecificTestMethods(affectedTestMethods);
-    } else {
+    }
+
+    if (!affectedTestFiles.isEmpty()) {
       // Fall back to file-level test execution
       getLog().info("💡 No method-level dependencies found, falling back to file-level test execution");
-      Set<String> testsToRun = findTestsAffectedByImpact(impact);
-
-      if (!testsToRun.isEmpty()) {
-        reportAffectedTestFiles(testsToRun);
-        runSpecificTests(testsToRun);
-      } else {
-        getLog().info("❌ No tests affected by changes");
-      }
+      reportAffectedTestFiles(affectedTestFiles);
+      runSpecificTests(affectedTestFiles);
+    } else if (affectedTestMethods.isEmpty()) {
+      getLog().info("❌ No tests affected by changes");
     }
   }
 
@@ -1583,9 +1883,7 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
     // Re-analyze all files since we have a new source
     try {
       // Add to our source collection and re-map dependencies
-      analyzeSourceFiles();
-      mapTestDependencies();
-      createMethodSnapshots();
+      analyzeProject();
 
       // Run all tests as we don't know what might depend on the new file
       runAllTests();
@@ -1757,19 +2055,22 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
       return;
     }
 
-    // Track that we're running specific methods and which ones
-    runningSpecificMethods = true;
-    requestedTestMethods.clear();
-    requestedTestMethods.addAll(testMethods);
+    // Run the test methods most likely to fail and the fastest ones first
+    Collection<String> orderedTestMethods = !prioritizeTests ? testMethods
+        : TestHistory.prioritize(testMethods, testMethod -> {
+          int separator = testMethod.lastIndexOf('.');
+          return separator < 0 ? null
+              : testHistory.get(testMethod.substring(0, separator), testMethod.substring(separator + 1));
+        });
 
-    // Group test methods by test class
-    Map<String, Set<String>> testFileToMethods = new HashMap<>();
-    for (String testMethod : testMethods) {
+    // Group test methods by test class, keeping the order
+    Map<String, Set<String>> testFileToMethods = new LinkedHashMap<>();
+    for (String testMethod : orderedTestMethods) {
       String[] parts = testMethod.split("\\.");
       if (parts.length >= 2) {
         String methodName = parts[parts.length - 1];
         String testFile = testMethod.substring(0, testMethod.lastIndexOf("."));
-        testFileToMethods.computeIfAbsent(testFile, k -> new HashSet<>()).add(methodName);
+        testFileToMethods.computeIfAbsent(testFile, k -> new LinkedHashSet<>()).add(methodName);
       }
     }
 
@@ -1796,6 +2097,9 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
       String testSpecification = String.join(",", testSpecs);
       getLog().info("Running test methods: " + testSpecification);
       resetTestCounters();
+      if (inProcessTestRunner != null && runTestsInProcess(testFileToMethods)) {
+        return;
+      }
       runMavenGoal(testGoal, "-Dtest=" + testSpecification);
     }
   }
@@ -1858,65 +2162,6 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
     currentRunTestCases.clear();
   }
 
-  private void parseTestResults(String testResultLine) {
-    // Parse line like: "Tests run: 6, Failures: 0, Errors: 0, Skipped: 0, Time elapsed: 0.001 s -- in io.sundr.examples.CalculatorTest"
-    try {
-      int testsRun = extractNumber(testResultLine, "Tests run:");
-      int failures = extractNumber(testResultLine, "Failures:");
-      int errors = extractNumber(testResultLine, "Errors:");
-      int skipped = extractNumber(testResultLine, "Skipped:");
-
-      // Update current run counters
-      totalTests.addAndGet(testsRun);
-      failedTests.addAndGet(failures);
-      errorTests.addAndGet(errors);
-      skippedTests.addAndGet(skipped);
-      passedTests.addAndGet(testsRun - failures - errors - skipped);
-
-      // Update session state for this test class
-      updateSessionTestResult(testResultLine, testsRun, failures, errors, skipped);
-
-    } catch (Exception e) {
-      getLog().debug("Failed to parse test results: " + testResultLine, e);
-    }
-  }
-
-  private int extractNumber(String line, String prefix) {
-    int startIndex = line.indexOf(prefix);
-    if (startIndex == -1)
-      return 0;
-
-    startIndex += prefix.length();
-    int endIndex = line.indexOf(',', startIndex);
-    if (endIndex == -1)
-      endIndex = line.indexOf(' ', startIndex);
-    if (endIndex == -1)
-      return 0;
-
-    String numberStr = line.substring(startIndex, endIndex).trim();
-    return Integer.parseInt(numberStr);
-  }
-
-  private void updateSessionTestResult(String testResultLine, int testsRun, int failures, int errors, int skipped) {
-    // Extract test class name from line like: "Tests run: 6, Failures: 0, Errors: 0, Skipped: 0, Time elapsed: 0.001 s -- in io.sundr.examples.CalculatorTest"
-    String testClassName = null;
-    int inIndex = testResultLine.lastIndexOf(" -- in ");
-    if (inIndex > 0) {
-      testClassName = testResultLine.substring(inIndex + 7).trim();
-    }
-
-    if (testClassName != null) {
-      int passed = testsRun - failures - errors - skipped;
-      TestClassResult newResult = new TestClassResult(testsRun, passed, failures, errors, skipped);
-
-      // Store or update the result for this test class
-      sessionTestResults.put(testClassName, newResult);
-
-      // Recalculate session totals
-      recalculateSessionTotals();
-    }
-  }
-
   private void recalculateSessionTotals() {
     int total = 0, passed = 0, failed = 0, errors = 0, skipped = 0;
 
@@ -1935,152 +2180,12 @@ public class ContinuousTestingMojo extends AbstractSundrioMojo {
     sessionSkippedTests.set(skipped);
   }
 
-  private void parseIndividualTestResults(String mavenOutput) {
-    if (mavenOutput == null || mavenOutput.trim().isEmpty()) {
-      return;
-    }
-
-    String[] lines = mavenOutput.split("\n");
-    String currentTestClass = null;
-
-    for (String line : lines) {
-      String trimmedLine = line.trim();
-
-      // Look for test class execution start
-      if (trimmedLine.contains("Running ") && trimmedLine.contains("Test")) {
-        // Extract test class name like "Running io.sundr.examples.CalculatorTest"
-        String[] parts = trimmedLine.split("Running ");
-        if (parts.length > 1) {
-          currentTestClass = parts[1].trim();
-          getLog().debug("Found test class: " + currentTestClass);
-        }
-      }
-      // Look for test summary lines like "Tests run: 1, Failures: 0, Errors: 0, Skipped: 0"
-      else if (currentTestClass != null && trimmedLine.contains("Tests run:") && trimmedLine.contains("Time elapsed:")) {
-        parseTestClassResult(trimmedLine, currentTestClass);
-        currentTestClass = null; // Reset for next class
-      }
-    }
-  }
-
-  private void parseTestClassResult(String testResultLine, String testClass) {
-    try {
-      int testsRun = extractNumber(testResultLine, "Tests run:");
-      int failures = extractNumber(testResultLine, "Failures:");
-      int errors = extractNumber(testResultLine, "Errors:");
-      int skipped = extractNumber(testResultLine, "Skipped:");
-
-      getLog().debug("Parsing class " + testClass + ": " + testsRun + " tests, " + failures + " failures, " + errors
-          + " errors, " + skipped + " skipped");
-
-      List<String> testMethodsToUpdate;
-
-      if (runningSpecificMethods) {
-        // Only update the specific methods that were requested for this class
-        testMethodsToUpdate = requestedTestMethods.stream()
-            .filter(methodKey -> methodKey.startsWith(testClass + "."))
-            .map(methodKey -> methodKey.substring(methodKey.lastIndexOf('.') + 1))
-            .collect(Collectors.toList());
-
-        getLog().debug("Running specific methods for " + testClass + ": " + testMethodsToUpdate);
-
-        if (testMethodsToUpdate.isEmpty()) {
-          getLog().debug("No requested methods found for class: " + testClass);
-          return;
-        }
-      } else {
-        // Running all methods in the class
-        testMethodsToUpdate = getTestMethodsForClass(testClass);
-
-        if (testMethodsToUpdate.isEmpty()) {
-          getLog().debug("No test methods found for class: " + testClass);
-          return;
-        }
-      }
-
-      // If all tests passed, mark all relevant methods as passed
-      if (failures == 0 && errors == 0) {
-        for (String methodName : testMethodsToUpdate) {
-          String testKey = testClass + "#" + methodName;
-          currentRunTestCases.put(testKey, new TestCaseResult(testClass, methodName, TestStatus.PASSED, null));
-          getLog().debug("Recorded passed test case: " + testKey);
-        }
-      } else {
-        // Some tests failed - we can't tell which specific ones without detailed output
-        // Mark the first (failures + errors) methods as failed, rest as passed
-        int failureCount = failures + errors;
-        for (int i = 0; i < testMethodsToUpdate.size(); i++) {
-          String methodName = testMethodsToUpdate.get(i);
-          String testKey = testClass + "#" + methodName;
-          TestStatus status = i < failureCount ? TestStatus.FAILED : TestStatus.PASSED;
-          String errorMsg = status == TestStatus.FAILED ? "Test failed (details in Maven output)" : null;
-          currentRunTestCases.put(testKey, new TestCaseResult(testClass, methodName, status, errorMsg));
-          getLog().debug("Recorded test case: " + testKey + " -> " + status);
-        }
-      }
-
-      // Handle skipped tests
-      if (skipped > 0) {
-        // Mark the last 'skipped' number of tests as skipped
-        List<String> methodsCopy = new ArrayList<>(testMethodsToUpdate);
-        for (int i = Math.max(0, methodsCopy.size() - skipped); i < methodsCopy.size(); i++) {
-          String methodName = methodsCopy.get(i);
-          String testKey = testClass + "#" + methodName;
-          currentRunTestCases.put(testKey, new TestCaseResult(testClass, methodName, TestStatus.SKIPPED, null));
-          getLog().debug("Recorded skipped test case: " + testKey);
-        }
-      }
-
-    } catch (Exception e) {
-      getLog().warn("Failed to parse test class result: " + testResultLine, e);
-    }
-  }
-
-  private List<String> getTestMethodsForClass(String testClassName) {
-    // Look up the test methods for this class from our analysis
-    for (Map.Entry<String, TypeDef> entry : testTypeDefs.entrySet()) {
-      TypeDef typeDef = entry.getValue();
-      String fqn = typeDef.getPackageName() + "." + typeDef.getName();
-
-      if (fqn.equals(testClassName)) {
-        return typeDef.getMethods().stream()
-            .filter(method -> isTestMethod(method))
-            .map(method -> method.getName())
-            .collect(Collectors.toList());
-      }
-    }
-
-    // If not found in our analysis, try to extract from the simple class name
-    String simpleClassName = testClassName.substring(testClassName.lastIndexOf('.') + 1);
-    for (Map.Entry<String, TypeDef> entry : testTypeDefs.entrySet()) {
-      TypeDef typeDef = entry.getValue();
-
-      if (typeDef.getName().equals(simpleClassName)) {
-        return typeDef.getMethods().stream()
-            .filter(method -> isTestMethod(method))
-            .map(method -> method.getName())
-            .collect(Collectors.toList());
-      }
-    }
-
-    getLog().debug("Could not find test methods for class: " + testClassName);
-    return new ArrayList<>();
-  }
-
   private void initializeTestCaseData() {
 
     // Initialize all test cases as PENDING before any test runs
-    for (Map.Entry<String, TypeDef> entry : testTypeDefs.entrySet()) {
-      TypeDef typeDef = entry.getValue();
-      String testClassName = typeDef.getPackageName() + "." + typeDef.getName();
-
-      List<String> testMethods = typeDef.getMethods().stream()
-          .filter(method -> method.getAnnotations().stream()
-              .anyMatch(ann -> ann.getClassRef().getName().equals("Test")))
-          .map(method -> method.getName())
-          .collect(Collectors.toList());
-
-      for (String methodName : testMethods) {
+    for (Map.Entry<String, List<String>> entry : testMethodsByClass.entrySet()) {
+      String testClassName = entry.getKey();
+      for (String methodName : entry.getValue()) {
         String testKey = testClassName + "#" + methodName;
         // Initialize as PENDING status - will be updated after first test run
         sessionTestCases.put(testKey, new TestCaseResult(testClassName, methodName, TestStatus.PENDING, null));
@@ -0,0 +1,593 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.maven;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.apache.maven.plugin.logging.Log;
+
+import io.sundr.maven.TestClassOutcome.Outcome;
+import io.sundr.maven.TestClassOutcome.Status;
+
+/**
+ * Runs JUnit 4 tests inside the plugin JVM, instead of forking a complete Maven build for every change.
+ *
+ * The project dependencies are loaded once by a long lived class loader, while the output directories are loaded by
+ * a fresh class loader for each run, so that recompiled classes are picked up. Changed sources are recompiled
+ * against the existing output directories, with the options of the project's compiler plugin. When the signatures of
+ * the recompiled classes change, the classes that depend on them are recompiled too.
+ *
+ * JUnit is accessed reflectively, as it needs to be the version the project depends on.
+ */
+class InProcessTestRunner implements Closeable {
+
+  private static final String JUNIT_CORE = "org.junit.runner.JUnitCore";
+  private static final String REQUEST = "org.junit.runner.Request";
+  private static final String RUNNER = "org.junit.runner.Runner";
+  private static final String RUN_NOTIFIER = "org.junit.runner.notification.RunNotifier";
+  private static final String STOPPED_BY_USER = "org.junit.runner.notification.StoppedByUserException";
+  private static final String METHOD_FILTER = "io.sundr.maven.JUnitMethodFilter";
+  private static final String RUN_LISTENER = "io.sundr.maven.JUnitRunListener";
+  private static final String OUTCOME_LISTENER = TestOutcomeListener.class.getName();
+
+  private final File outputDirectory;
+  private final File testOutputDirectory;
+  private final List<File> dependencies;
+  private final File generatedSourcesDirectory;
+  private final File generatedTestSourcesDirectory;
+  private final List<String> compilerOptions;
+  private final List<String> testCompilerOptions;
+  private final Log log;
+  private final JavaCompiler compiler;
+  private final URLClassLoader dependencyClassLoader;
+  private final ClassLoader junitSupportClassLoader;
+
+  /**
+   * Creates a runner.
+   *
+   * @param outputDirectory the directory of the compiled main classes
+   * @param testOutputDirectory the directory of the compiled test classes
+   * @param testClasspathElements the test classpath of the project
+   * @param generatedSourcesDirectory the directory of the sources generated while compiling main sources
+   * @param generatedTestSourcesDirectory the directory of the sources generated while compiling test sources
+   * @param compilerOptions the javac options for main sources, see {@link CompilerSettings}
+   * @param testCompilerOptions the javac options for test sources
+   * @param log the log
+   */
+  InProcessTestRunner(File outputDirectory, File testOutputDirectory, List<String> testClasspathElements,
+      File generatedSourcesDirectory, File generatedTestSourcesDirectory, List<String> compilerOptions,
+      List<String> testCompilerOptions, Log log) {
+    this.outputDirectory = outputDirectory;
+    this.testOutputDirectory = testOutputDirectory;
+    this.dependencies = testClasspathElements.stream()
+        .map(File::new)
+        .filter(f -> !f.equals(outputDirectory) && !f.equals(testOutputDirectory))
+        .collect(Collectors.toList());
+    this.generatedSourcesDirectory = generatedSourcesDirectory;
+    this.generatedTestSourcesDirectory = generatedTestSourcesDirectory;
+    this.compilerOptions = compilerOptions;
+    this.testCompilerOptions = testCompilerOptions;
+    this.log = log;
+    this.compiler = ToolProvider.getSystemJavaCompiler();
+    this.dependencyClassLoader = new URLClassLoader(toUrls(dependencies), ClassLoader.getPlatformClassLoader());
+    this.junitSupportClassLoader = new JUnitSupportClassLoader(dependencyClassLoader);
+  }
+
+  /**
+   * Checks if tests can be run in process: a compiler needs to be available and the project needs to depend on JUnit 4.
+   *
+   * @return true if supported, false otherwise.
+   */
+  boolean isSupported() {
+    if (compiler == null) {
+      log.debug("No system java compiler available");
+      return false;
+    }
+    try {
+      dependencyClassLoader.loadClass(JUNIT_CORE);
+      return true;
+    } catch (ClassNotFoundException e) {
+      log.debug("JUnit 4 not found in the test classpath");
+      return false;
+    }
+  }
+
+  /**
+   * Recompiles the specified source files. Main sources are compiled first, so that test sources see their changes.
+   * The classes of files that no longer exist are deleted from the output directories. Files that are neither under the
+   * main or the test source directory are ignored.
+   *
+   * Other classes may have been compiled against the previous signatures of the changed classes, or may have inlined
+   * their constants. So when a class is removed or its signature changes, all main and test sources are recompiled if
+   * it's a main class, and all test sources if it's a test class.
+   *
+   * @param mainSourceDirectory the main source directory
+   * @param testSourceDirectory the test source directory
+   * @param sources the changed source files
+   * @return true if compilation succeeded, false if there were compilation errors.
+   */
+  boolean compile(File mainSourceDirectory, File testSourceDirectory, Collection<Path> sources) {
+    List<File> mainSources = new ArrayList<>();
+    List<File> testSources = new ArrayList<>();
+    boolean mainRemoved = false;
+    boolean testRemoved = false;
+    for (Path source : sources) {
+      if (!source.toString().endsWith(".java")) {
+        continue;
+      }
+      boolean exists = Files.isRegularFile(source);
+      if (source.startsWith(testSourceDirectory.toPath())) {
+        if (exists) {
+          testSources.add(source.toFile());
+        } else {
+          testRemoved |= deleteClasses(testSourceDirectory.toPath().relativize(source), testOutputDirectory);
+        }
+      } else if (source.startsWith(mainSourceDirectory.toPath())) {
+        if (exists) {
+          mainSources.add(source.toFile());
+        } else {
+          mainRemoved |= deleteClasses(mainSourceDirectory.toPath().relativize(source), outputDirectory);
+        }
+      }
+    }
+
+    List<File> mainClasspath = new ArrayList<>();
+    mainClasspath.add(outputDirectory);
+    mainClasspath.addAll(dependencies);
+
+    List<File> testClasspath = new ArrayList<>();
+    testClasspath.add(testOutputDirectory);
+    testClasspath.addAll(mainClasspath);
+
+    Map<String, String> mainSignatures = getSignatures(
+        getClassNames(mainSourceDirectory, mainSources, outputDirectory), mainClasspath);
+    if (!compile(mainSources, outputDirectory, generatedSourcesDirectory, mainClasspath, compilerOptions)) {
+      return false;
+    }
+    if (mainRemoved || !mainSignatures.equals(getSignatures(mainSignatures.keySet(), mainClasspath))) {
+      log.info("Signatures of main classes changed, recompiling all sources");
+      return compile(listSources(mainSourceDirectory), outputDirectory, generatedSourcesDirectory, mainClasspath,
+          compilerOptions)
+          && compile(listSources(testSourceDirectory), testOutputDirectory, generatedTestSourcesDirectory,
+              testClasspath, testCompilerOptions);
+    }
+
+    Map<String, String> testSignatures = getSignatures(
+        getClassNames(testSourceDirectory, testSources, testOutputDirectory), testClasspath);
+    if (!compile(testSources, testOutputDirectory, generatedTestSourcesDirectory, testClasspath,
+        testCompilerOptions)) {
+      return false;
+    }
+    if (testRemoved || !testSignatures.equals(getSignatures(testSignatures.keySet(), testClasspath))) {
+      log.info("Signatures of test classes changed, recompiling all test sources");
+      return compile(listSources(testSourceDirectory), testOutputDirectory, generatedTestSourcesDirectory,
+          testClasspath, testCompilerOptions);
+    }
+    return true;
+  }
+
+  private static List<File> listSources(File sourceDirectory) {
+    if (!sourceDirectory.isDirectory()) {
+      return Collections.emptyList();
+    }
+    try (Stream<Path> paths = Files.walk(sourceDirectory.toPath())) {
+      return paths.filter(p -> p.toString().endsWith(".java") && Files.isRegularFile(p))
+          .map(Path::toFile)
+          .collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to list the sources of " + sourceDirectory, e);
+    }
+  }
+
+  /**
+   * Returns the names of the classes named after the specified source files, that were already compiled.
+   */
+  private static List<String> getClassNames(File sourceDirectory, List<File> sources, File output) {
+    List<String> classNames = new ArrayList<>();
+    for (File source : sources) {
+      String relative = sourceDirectory.toPath().relativize(source.toPath()).toString();
+      relative = relative.substring(0, relative.length() - ".java".length());
+      if (new File(output, relative + ".class").isFile()) {
+        classNames.add(relative.replace(File.separatorChar, '.'));
+      }
+    }
+    return classNames;
+  }
+
+  /**
+   * Reads the signatures of compiled classes: everything other classes are compiled against, i.e. the non private
+   * members and the values of constants, which get inlined.
+   *
+   * @param classNames the names of the classes
+   * @param classpath the classpath to read the classes from
+   * @return the signature per class name, without the classes that could not be read.
+   */
+  private Map<String, String> getSignatures(Collection<String> classNames, List<File> classpath) {
+    Map<String, String> signatures = new HashMap<>();
+    if (classNames.isEmpty()) {
+      return signatures;
+    }
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+      List<String> options = List.of("-proc:only", "-classpath", toClasspath(classpath));
+      JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, classNames, null);
+      task.setProcessors(List.of(new SignatureReader(signatures)));
+      task.call();
+      return signatures;
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read compiled classes", e);
+    }
+  }
+
+  /**
+   * Describes the signatures of the classes passed to the compilation.
+   */
+  private static class SignatureReader extends AbstractProcessor {
+    private final Map<String, String> signatures;
+
+    SignatureReader(Map<String, String> signatures) {
+      this.signatures = signatures;
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+      return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+      return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+      for (Element element : env.getRootElements()) {
+        if (element instanceof TypeElement) {
+          StringBuilder signature = new StringBuilder();
+          describe((TypeElement) element, signature);
+          signatures.put(((TypeElement) element).getQualifiedName().toString(), signature.toString());
+        }
+      }
+      return false;
+    }
+
+    private static void describe(TypeElement type, StringBuilder signature) {
+      signature.append(type.getKind()).append(' ').append(type.getModifiers()).append(' ')
+          .append(type.getQualifiedName());
+      describe(type.getTypeParameters(), signature);
+      signature.append(" extends ").append(type.getSuperclass()).append(" implements ")
+          .append(type.getInterfaces()).append('\n');
+      for (Element member : type.getEnclosedElements()) {
+        if (member.getModifiers().contains(Modifier.PRIVATE)) {
+          continue;
+        }
+        if (member instanceof TypeElement) {
+          describe((TypeElement) member, signature);
+          continue;
+        }
+        signature.append(member.getKind()).append(' ').append(member.getModifiers()).append(' ')
+            .append(member.getSimpleName()).append(' ').append(member.asType());
+        if (member instanceof VariableElement) {
+          signature.append(" = ").append(((VariableElement) member).getConstantValue());
+        } else if (member instanceof ExecutableElement) {
+          ExecutableElement method = (ExecutableElement) member;
+          describe(method.getTypeParameters(), signature);
+          signature.append(" throws ").append(method.getThrownTypes())
+              .append(" default ").append(method.getDefaultValue());
+        }
+        signature.append('\n');
+      }
+    }
+
+    private static void describe(List<? extends TypeParameterElement> parameters, StringBuilder signature) {
+      for (TypeParameterElement parameter : parameters) {
+        signature.append(' ').append(parameter.getSimpleName()).append(" extends ").append(parameter.getBounds());
+      }
+    }
+  }
+
+  /**
+   * Deletes the classes compiled from a removed source file: the class named after the file and its nested classes.
+   *
+   * @return true if any class was deleted.
+   */
+  private boolean deleteClasses(Path source, File output) {
+    String fileName = source.getFileName().toString();
+    String className = fileName.substring(0, fileName.length() - ".java".length());
+    File directory = source.getParent() != null ? new File(output, source.getParent().toString()) : output;
+    File[] classes = directory.listFiles((dir, name) -> name.endsWith(".class")
+        && (name.equals(className + ".class") || name.startsWith(className + "$")));
+    if (classes == null) {
+      return false;
+    }
+    boolean deleted = false;
+    for (File c : classes) {
+      if (c.delete()) {
+        log.debug("Deleted " + c + " of removed source " + source);
+        deleted = true;
+      }
+    }
+    return deleted;
+  }
+
+  private boolean compile(List<File> sources, File output, File generatedSources, List<File> classpath,
+      List<String> compilerOptions) {
+    if (sources.isEmpty()) {
+      return true;
+    }
+
+    long start = System.nanoTime();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+      generatedSources.mkdirs();
+      List<String> options = new ArrayList<>();
+      options.add("-d");
+      options.add(output.getAbsolutePath());
+      options.add("-s");
+      options.add(generatedSources.getAbsolutePath());
+      options.add("-classpath");
+      options.add(toClasspath(classpath));
+      options.addAll(compilerOptions);
+
+      boolean success = compiler
+          .getTask(null, fileManager, diagnostics, options, null, fileManager.getJavaFileObjectsFromFiles(sources))
+          .call();
+
+      for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+        String source = diagnostic.getSource() != null ? diagnostic.getSource().getName() : "";
+        String message = source + ":[" + diagnostic.getLineNumber() + "] " + diagnostic.getMessage(null);
+        if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+          log.error(message);
+        } else {
+          log.debug(message);
+        }
+      }
+      log.info("Compiled " + sources.size() + " source file(s) in " + (System.nanoTime() - start) / 1000000 + "ms");
+      return success;
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to compile sources", e);
+    }
+  }
+
+  /**
+   * Receives the outcomes of the tests as they complete.
+   */
+  interface Listener {
+
+    /**
+     * Called as soon as a test method completes.
+     */
+    void testFinished(Outcome outcome);
+
+    /**
+     * Called after all the requested test methods of a class completed.
+     */
+    void testClassFinished(TestClassOutcome outcome);
+  }
+
+  /**
+   * Runs the specified tests.
+   *
+   * @param tests the test methods to run per test class name, in the order they should run. An empty set of methods
+   *        runs the whole class. The methods of a class run together, so the class level setup runs once.
+   * @param stopAtFirstFailure whether to skip the remaining tests, of the same and of the following classes, after a
+   *        test fails.
+   * @param listener the listener that receives the outcomes as the tests complete
+   * @return the outcome of each test class that ran.
+   */
+  List<TestClassOutcome> run(Map<String, Set<String>> tests, boolean stopAtFirstFailure, Listener listener) {
+    List<TestClassOutcome> results = new ArrayList<>();
+    Thread thread = Thread.currentThread();
+    ClassLoader original = thread.getContextClassLoader();
+    try (URLClassLoader classLoader = new URLClassLoader(toUrls(List.of(testOutputDirectory, outputDirectory)),
+        dependencyClassLoader)) {
+      thread.setContextClassLoader(classLoader);
+      JUnit junit = new JUnit(classLoader, junitSupportClassLoader);
+
+      for (Map.Entry<String, Set<String>> entry : tests.entrySet()) {
+        String testClassName = entry.getKey();
+        List<Outcome> outcomes = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+          Class<?> testClass = classLoader.loadClass(testClassName);
+          junit.run(junit.request(testClass, entry.getValue()), testClassName, stopAtFirstFailure, outcome -> {
+            outcomes.add(outcome);
+            listener.testFinished(outcome);
+          });
+        } catch (ClassNotFoundException | LinkageError e) {
+          Outcome outcome = new Outcome(testClassName, "initializationError", Status.ERROR, String.valueOf(e), 0);
+          outcomes.add(outcome);
+          listener.testFinished(outcome);
+        }
+
+        TestClassOutcome result = new TestClassOutcome(testClassName, outcomes, (System.nanoTime() - start) / 1000000);
+        results.add(result);
+        listener.testClassFinished(result);
+        if (stopAtFirstFailure && hasFailures(outcomes)) {
+          break;
+        }
+      }
+      return results;
+    } catch (ReflectiveOperationException | IOException e) {
+      throw new IllegalStateException("Failed to run tests in process", e);
+    } finally {
+      thread.setContextClassLoader(original);
+    }
+  }
+
+  private static boolean hasFailures(List<Outcome> outcomes) {
+    return outcomes.stream().anyMatch(o -> o.status == Status.FAILED || o.status == Status.ERROR);
+  }
+
+  /**
+   * The parts of the JUnit 4 API used to run tests, resolved from the public types of the project's JUnit version.
+   */
+  private static class JUnit {
+    private final java.lang.reflect.Method getRunner;
+    private final java.lang.reflect.Method run;
+    private final java.lang.reflect.Constructor<?> runNotifier;
+    private final java.lang.reflect.Method addListener;
+    private final Class<?> stoppedByUser;
+    private final java.lang.reflect.Method aClass;
+    private final java.lang.reflect.Method filterWith;
+    private final java.lang.reflect.Method sortWith;
+    private final java.lang.reflect.Constructor<?> methodFilter;
+    private final java.lang.reflect.Constructor<?> runListener;
+
+    JUnit(ClassLoader classLoader, ClassLoader supportClassLoader) throws ReflectiveOperationException {
+      Class<?> requestClass = classLoader.loadClass(REQUEST);
+      Class<?> runnerClass = classLoader.loadClass(RUNNER);
+      Class<?> runNotifierClass = classLoader.loadClass(RUN_NOTIFIER);
+      Class<?> filterClass = classLoader.loadClass("org.junit.runner.manipulation.Filter");
+      Class<?> runListenerClass = classLoader.loadClass("org.junit.runner.notification.RunListener");
+
+      this.getRunner = requestClass.getMethod("getRunner");
+      this.run = runnerClass.getMethod("run", runNotifierClass);
+      this.runNotifier = runNotifierClass.getConstructor();
+      this.addListener = runNotifierClass.getMethod("addListener", runListenerClass);
+      this.stoppedByUser = classLoader.loadClass(STOPPED_BY_USER);
+      this.aClass = requestClass.getMethod("aClass", Class.class);
+      this.filterWith = requestClass.getMethod("filterWith", filterClass);
+      this.sortWith = requestClass.getMethod("sortWith", Comparator.class);
+      this.methodFilter = supportClassLoader.loadClass(METHOD_FILTER).getConstructor(Collection.class);
+      this.runListener = supportClassLoader.loadClass(RUN_LISTENER).getConstructor(TestOutcomeListener.class,
+          runNotifierClass, boolean.class);
+    }
+
+    /**
+     * Creates a request for the specified methods of a test class, in the specified order.
+     *
+     * @param testClass the test class
+     * @param testMethods the test methods, or an empty set to run all of them in the order of the test class
+     * @return the request
+     */
+    Object request(Class<?> testClass, Set<String> testMethods) throws ReflectiveOperationException {
+      Object request = aClass.invoke(null, testClass);
+      if (testMethods.isEmpty()) {
+        return request;
+      }
+      Object filter = methodFilter.newInstance(testMethods);
+      return sortWith.invoke(filterWith.invoke(request, filter), filter);
+    }
+
+    /**
+     * Runs a request, passing the outcome of each test method to the consumer as soon as it completes.
+     * When stopping at the first failure, the tests of the request that didn't start yet are not run.
+     */
+    void run(Object request, String testClassName, boolean stopAtFirstFailure, Consumer<Outcome> consumer)
+        throws ReflectiveOperationException {
+      TestOutcomeListener outcomeListener = (testClass, testMethod, status, message, timeMillis) -> consumer
+          .accept(new Outcome(testClass, testMethod, Status.valueOf(status), message, timeMillis));
+      Object notifier = runNotifier.newInstance();
+      addListener.invoke(notifier, runListener.newInstance(outcomeListener, notifier, stopAtFirstFailure));
+      try {
+        run.invoke(getRunner.invoke(request), notifier);
+      } catch (InvocationTargetException e) {
+        if (!stoppedByUser.isInstance(e.getCause())) {
+          throw new IllegalStateException("Failed to run " + testClassName, e.getCause());
+        }
+      }
+    }
+  }
+
+  /**
+   * Defines the classes of the plugin that extend the JUnit API, using the JUnit version of the project.
+   */
+  private static class JUnitSupportClassLoader extends ClassLoader {
+
+    JUnitSupportClassLoader(ClassLoader junitClassLoader) {
+      super(junitClassLoader);
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+      // The listener the plugin passes to the JUnit listener needs to be the type the plugin knows
+      if (name.equals(OUTCOME_LISTENER)) {
+        return TestOutcomeListener.class;
+      }
+      if (!name.equals(METHOD_FILTER) && !name.equals(RUN_LISTENER)) {
+        throw new ClassNotFoundException(name);
+      }
+      try (InputStream in = InProcessTestRunner.class.getResourceAsStream("/" + name.replace('.', '/') + ".class")) {
+        if (in == null) {
+          throw new ClassNotFoundException(name);
+        }
+        byte[] bytes = in.readAllBytes();
+        return defineClass(name, bytes, 0, bytes.length);
+      } catch (IOException e) {
+        throw new ClassNotFoundException(name, e);
+      }
+    }
+  }
+
+  private static String toClasspath(List<File> files) {
+    return files.stream().map(File::getAbsolutePath).collect(Collectors.joining(File.pathSeparator));
+  }
+
+  private static URL[] toUrls(List<File> files) {
+    URL[] urls = new URL[files.size()];
+    for (int i = 0; i < files.size(); i++) {
+      try {
+        urls[i] = files.get(i).toURI().toURL();
+      } catch (MalformedURLException e) {
+        throw new IllegalArgumentException("Invalid classpath element: " + files.get(i), e);
+      }
+    }
+    return urls;
+  }
+
+  @Override
+  public void close() throws IOException {
+    dependencyClassLoader.close();
+  }
+}
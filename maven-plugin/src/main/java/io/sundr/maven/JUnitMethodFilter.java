@@ -0,0 +1,63 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.maven;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+
+/**
+ * Selects the specified test methods of a test class and orders them as specified.
+ *
+ * JUnit is not available to the plugin at runtime, so this class is never loaded by the plugin: the
+ * {@link InProcessTestRunner} defines it in a class loader of the project's JUnit version.
+ */
+public class JUnitMethodFilter extends Filter implements Comparator<Description> {
+
+  private final List<String> methods;
+
+  public JUnitMethodFilter(Collection<String> methods) {
+    this.methods = new ArrayList<>(methods);
+  }
+
+  @Override
+  public boolean shouldRun(Description description) {
+    if (description.isTest()) {
+      return methods.contains(description.getMethodName());
+    }
+    for (Description child : description.getChildren()) {
+      if (shouldRun(child)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public String describe() {
+    return "methods " + methods;
+  }
+
+  @Override
+  public int compare(Description left, Description right) {
+    return Integer.compare(methods.indexOf(left.getMethodName()), methods.indexOf(right.getMethodName()));
+  }
+}
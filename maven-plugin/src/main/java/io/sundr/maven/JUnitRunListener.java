@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.maven;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+
+/**
+ * Reports the outcome and the duration of each test method to a {@link TestOutcomeListener}, as soon as it completes.
+ * When it should stop at the first failure, it asks the notifier of the run to stop after a test fails, so that the
+ * remaining tests don't start.
+ *
+ * JUnit is not available to the plugin at runtime, so this class is never loaded by the plugin: the
+ * {@link InProcessTestRunner} defines it in a class loader of the project's JUnit version.
+ */
+public class JUnitRunListener extends RunListener {
+
+  private static final String INITIALIZATION_ERROR = "initializationError";
+
+  private final TestOutcomeListener listener;
+  private final RunNotifier notifier;
+  private final boolean stopAtFirstFailure;
+  private final Map<Description, Long> startTimes = new ConcurrentHashMap<>();
+  private final Map<Description, Failure> failures = new ConcurrentHashMap<>();
+  private final Map<Description, Failure> assumptionFailures = new ConcurrentHashMap<>();
+
+  public JUnitRunListener(TestOutcomeListener listener, RunNotifier notifier, boolean stopAtFirstFailure) {
+    this.listener = listener;
+    this.notifier = notifier;
+    this.stopAtFirstFailure = stopAtFirstFailure;
+  }
+
+  @Override
+  public void testStarted(Description description) {
+    startTimes.put(description, System.nanoTime());
+  }
+
+  @Override
+  public void testFailure(Failure failure) {
+    Description description = failure.getDescription();
+    if (description.isTest() && startTimes.containsKey(description)) {
+      failures.put(description, failure);
+      return;
+    }
+    // Class level failures (e.g. in @BeforeClass) don't belong to a running test method
+    listener.testFinished(description.getClassName(), methodName(description), "ERROR",
+        String.valueOf(failure.getException()), 0);
+    failed();
+  }
+
+  @Override
+  public void testAssumptionFailure(Failure failure) {
+    assumptionFailures.put(failure.getDescription(), failure);
+  }
+
+  @Override
+  public void testIgnored(Description description) {
+    if (description.isTest()) {
+      listener.testFinished(description.getClassName(), methodName(description), "SKIPPED", null, 0);
+      return;
+    }
+    for (Description child : description.getChildren()) {
+      testIgnored(child);
+    }
+  }
+
+  @Override
+  public void testFinished(Description description) {
+    Long start = startTimes.remove(description);
+    long timeMillis = start != null ? (System.nanoTime() - start) / 1000000 : 0;
+    Failure failure = failures.remove(description);
+    Failure assumptionFailure = assumptionFailures.remove(description);
+    if (failure != null) {
+      Throwable exception = failure.getException();
+      listener.testFinished(description.getClassName(), methodName(description),
+          exception instanceof AssertionError ? "FAILED" : "ERROR", String.valueOf(exception), timeMillis);
+      failed();
+    } else if (assumptionFailure != null) {
+      listener.testFinished(description.getClassName(), methodName(description), "SKIPPED",
+          String.valueOf(assumptionFailure.getException()), timeMillis);
+    } else {
+      listener.testFinished(description.getClassName(), methodName(description), "PASSED", null, timeMillis);
+    }
+  }
+
+  private void failed() {
+    if (stopAtFirstFailure) {
+      notifier.pleaseStop();
+    }
+  }
+
+  private static String methodName(Description description) {
+    String methodName = description.getMethodName();
+    return methodName != null ? methodName : INITIALIZATION_ERROR;
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import io.sundr.maven.TestClassOutcome.Outcome;
+import io.sundr.maven.TestClassOutcome.Status;
+
+/**
+ * Utility class to read the XML reports that surefire writes for each test class.
+ */
+final class SurefireReports {
+
+  private static final String PREFIX = "TEST-";
+  private static final String SUFFIX = ".xml";
+
+  private static final XMLInputFactory FACTORY = XMLInputFactory.newInstance();
+
+  static {
+    FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+  }
+
+  private SurefireReports() {
+    //Utility class
+  }
+
+  /**
+   * List the reports found in the specified directory, along with their last modification time.
+   *
+   * @param reportsDirectory The surefire reports directory.
+   * @return A map with the last modification time of each report.
+   */
+  static Map<Path, Long> list(File reportsDirectory) {
+    if (!reportsDirectory.isDirectory()) {
+      return new HashMap<>();
+    }
+    try (Stream<Path> paths = Files.list(reportsDirectory.toPath())) {
+      return paths
+          .filter(p -> p.getFileName().toString().startsWith(PREFIX) && p.getFileName().toString().endsWith(SUFFIX))
+          .collect(Collectors.toMap(p -> p, p -> p.toFile().lastModified()));
+    } catch (IOException e) {
+      return new HashMap<>();
+    }
+  }
+
+  /**
+   * Find the reports that have been written since the specified listing and update the listing.
+   *
+   * @param reportsDirectory The surefire reports directory.
+   * @param seen The reports already seen along with their last modification time.
+   * @return The reports that are new or have been modified.
+   */
+  static List<Path> findUpdated(File reportsDirectory, Map<Path, Long> seen) {
+    List<Path> updated = new ArrayList<>();
+    for (Map.Entry<Path, Long> entry : list(reportsDirectory).entrySet()) {
+      Long previous = seen.put(entry.getKey(), entry.getValue());
+      if (previous == null || !previous.equals(entry.getValue())) {
+        updated.add(entry.getKey());
+      }
+    }
+    return updated;
+  }
+
+  /**
+   * Read the outcomes of a test class from a surefire report.
+   *
+   * @param report The path to the report.
+   * @return The outcomes of the test class.
+   * @throws IOException if the report can't be read or parsed.
+   */
+  static TestClassOutcome read(Path report) throws IOException {
+    String testClass = null;
+    long time = 0;
+    List<Outcome> outcomes = new ArrayList<>();
+
+    try (InputStream is = Files.newInputStream(report)) {
+      XMLStreamReader reader = FACTORY.createXMLStreamReader(is);
+      try {
+        String testCaseClass = null;
+        String testCaseName = null;
+        long testCaseTime = 0;
+        Status status = null;
+        String message = null;
+
+        while (reader.hasNext()) {
+          int event = reader.next();
+          if (event == XMLStreamReader.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+              case "testsuite":
+                testClass = reader.getAttributeValue(null, "name");
+                time = parseTime(reader.getAttributeValue(null, "time"));
+                break;
+              case "testcase":
+                testCaseClass = reader.getAttributeValue(null, "classname");
+                testCaseName = reader.getAttributeValue(null, "name");
+                testCaseTime = parseTime(reader.getAttributeValue(null, "time"));
+                status = Status.PASSED;
+                message = null;
+                break;
+              case "failure":
+              case "error":
+              case "skipped":
+                if (status == Status.PASSED) {
+                  status = reader.getLocalName().equals("failure") ? Status.FAILED
+                      : reader.getLocalName().equals("error") ? Status.ERROR : Status.SKIPPED;
+                  message = reader.getAttributeValue(null, "message");
+                  if (message == null) {
+                    message = reader.getAttributeValue(null, "type");
+                  }
+                }
+                break;
+              default:
+                //Flaky and rerun failures, properties and output are not relevant.
+                break;
+            }
+          } else if (event == XMLStreamReader.END_ELEMENT && reader.getLocalName().equals("testcase")) {
+            outcomes.add(new Outcome(testCaseClass != null ? testCaseClass : testClass, testCaseName, status, message,
+                testCaseTime));
+          }
+        }
+      } finally {
+        reader.close();
+      }
+    } catch (XMLStreamException e) {
+      throw new IOException("Failed to parse surefire report: " + report, e);
+    }
+
+    if (testClass == null) {
+      String fileName = report.getFileName().toString();
+      testClass = fileName.substring(PREFIX.length(), fileName.length() - SUFFIX.length());
+    }
+    return new TestClassOutcome(testClass, outcomes, time);
+  }
+
+  private static long parseTime(String time) {
+    if (time == null || time.isEmpty()) {
+      return 0;
+    }
+    try {
+      return Math.round(Double.parseDouble(time.replace(",", "")) * 1000);
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.maven;
+
+import java.util.List;
+
+/**
+ * The outcomes of the test methods of a test class, along with the time it took to run them.
+ */
+class TestClassOutcome {
+
+  enum Status {
+    PASSED, FAILED, ERROR, SKIPPED
+  }
+
+  /**
+   * The outcome of a single test method.
+   */
+  static class Outcome {
+    final String testClass;
+    final String testMethod;
+    final Status status;
+    final String message;
+    final long timeMillis;
+
+    Outcome(String testClass, String testMethod, Status status, String message, long timeMillis) {
+      this.testClass = testClass;
+      this.testMethod = testMethod;
+      this.status = status;
+      this.message = message;
+      this.timeMillis = timeMillis;
+    }
+  }
+
+  final String testClass;
+  final List<Outcome> outcomes;
+  final long timeMillis;
+
+  TestClassOutcome(String testClass, List<Outcome> outcomes, long timeMillis) {
+    this.testClass = testClass;
+    this.outcomes = outcomes;
+    this.timeMillis = timeMillis;
+  }
+
+  int count(Status status) {
+    return (int) outcomes.stream().filter(o -> o.status == status).count();
+  }
+}
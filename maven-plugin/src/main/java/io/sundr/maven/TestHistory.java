@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.maven;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The outcomes and durations of test methods across continuous testing sessions, used to run the tests that are most
+ * likely to fail and the fastest ones first.
+ */
+class TestHistory {
+
+  private static final int MAGIC = 0x53544853;
+  private static final int VERSION = 1;
+
+  /**
+   * The statistics of a test method, or of all the test methods of a class.
+   */
+  static class Stats {
+    private int runs;
+    private int failures;
+    private boolean lastFailed;
+    private long averageMillis;
+
+    double getFailureRate() {
+      return runs == 0 ? 0 : (double) failures / runs;
+    }
+  }
+
+  /**
+   * Tests that failed on their last run come first, followed by tests that never ran (they are likely new), then tests
+   * with a higher failure rate and finally faster tests.
+   */
+  static final Comparator<Stats> PRIORITY = Comparator
+      .comparing((Stats s) -> s == null || !s.lastFailed ? 1 : 0)
+      .thenComparing(s -> s == null ? 0 : 1)
+      .thenComparing(s -> s == null ? 0 : -s.getFailureRate())
+      .thenComparing(s -> s == null ? 0 : s.averageMillis);
+
+  // The statistics of the test methods, per test class
+  private final Map<String, Map<String, Stats>> stats = new HashMap<>();
+
+  /**
+   * Record the outcome of a test method. Recent durations weigh more than older ones.
+   *
+   * @param testClass the name of the test class
+   * @param testMethod the name of the test method
+   * @param failed true if the test failed or had an error
+   * @param timeMillis the duration of the test
+   */
+  synchronized void record(String testClass, String testMethod, boolean failed, long timeMillis) {
+    Stats s = stats.computeIfAbsent(testClass, k -> new HashMap<>()).computeIfAbsent(testMethod, k -> new Stats());
+    s.averageMillis = s.runs == 0 ? timeMillis : (s.averageMillis * 3 + timeMillis) / 4;
+    s.runs++;
+    if (failed) {
+      s.failures++;
+    }
+    s.lastFailed = failed;
+  }
+
+  /**
+   * Get the statistics of a test method.
+   *
+   * @return the statistics, or null if the test method never ran.
+   */
+  synchronized Stats get(String testClass, String testMethod) {
+    Map<String, Stats> methodStats = stats.get(testClass);
+    return methodStats != null ? methodStats.get(testMethod) : null;
+  }
+
+  /**
+   * Get the statistics of all the test methods of a class: the class failed if any of its methods failed, and its
+   * duration is the sum of the durations of its methods.
+   *
+   * @return the statistics, or null if no test method of the class ever ran.
+   */
+  synchronized Stats getClassStats(String testClass) {
+    Map<String, Stats> methodStats = stats.get(testClass);
+    if (methodStats == null) {
+      return null;
+    }
+    Stats result = new Stats();
+    for (Stats s : methodStats.values()) {
+      result.runs = Math.max(result.runs, s.runs);
+      result.failures = Math.max(result.failures, s.failures);
+      result.lastFailed |= s.lastFailed;
+      result.averageMillis += s.averageMillis;
+    }
+    return result;
+  }
+
+  /**
+   * Sort the specified items by priority.
+   *
+   * @param items the items
+   * @param statsOf the function that provides the statistics of an item
+   * @return a new list with the items sorted by priority
+   */
+  static <T> List<T> prioritize(Collection<T> items, Function<T, Stats> statsOf) {
+    Map<T, Stats> itemStats = new HashMap<>();
+    items.forEach(item -> itemStats.put(item, statsOf.apply(item)));
+    List<T> sorted = new ArrayList<>(items);
+    sorted.sort(Comparator.comparing(itemStats::get, PRIORITY));
+    return sorted;
+  }
+
+  /**
+   * Load the history from the specified file.
+   *
+   * @param file the file
+   * @return the history, or an empty history if the file is missing or invalid.
+   */
+  static TestHistory load(File file) {
+    TestHistory history = new TestHistory();
+    if (!file.isFile()) {
+      return history;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        return history;
+      }
+      int size = in.readInt();
+      for (int i = 0; i < size; i++) {
+        String key = in.readUTF();
+        int separator = key.lastIndexOf('#');
+        Stats s = new Stats();
+        s.runs = in.readInt();
+        s.failures = in.readInt();
+        s.lastFailed = in.readBoolean();
+        s.averageMillis = in.readLong();
+        history.stats.computeIfAbsent(key.substring(0, separator), k -> new HashMap<>())
+            .put(key.substring(separator + 1), s);
+      }
+      return history;
+    } catch (IOException | RuntimeException e) {
+      return new TestHistory();
+    }
+  }
+
+  /**
+   * Save the history to the specified file.
+   *
+   * @param file the file
+   * @throws IOException if the file can't be written.
+   */
+  synchronized void save(File file) throws IOException {
+    File parent = file.getAbsoluteFile().getParentFile();
+    if (parent != null) {
+      parent.mkdirs();
+    }
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(stats.values().stream().mapToInt(Map::size).sum());
+      for (Map.Entry<String, Map<String, Stats>> classEntry : stats.entrySet()) {
+        for (Map.Entry<String, Stats> entry : classEntry.getValue().entrySet()) {
+          out.writeUTF(classEntry.getKey() + "#" + entry.getKey());
+          out.writeInt(entry.getValue().runs);
+          out.writeInt(entry.getValue().failures);
+          out.writeBoolean(entry.getValue().lastFailed);
+          out.writeLong(entry.getValue().averageMillis);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.maven;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The results of analyzing the source and test files of a module, that are persisted between continuous testing
+ * sessions. Each entry is keyed by the path of the file and carries the fingerprint of the file it was created from,
+ * so that only files that changed since the previous session need to be analyzed again.
+ */
+class TestImpactMap {
+
+  private static final int MAGIC = 0x53544D50;
+  private static final int VERSION = 2;
+  private static final int MAX_STRING_LENGTH = 16 * 1024 * 1024;
+
+  /**
+   * The size and the SHA-256 digest of the content of a file. The content is compared rather than the modification
+   * time, as an edit that keeps the size may not change the modification time either (e.g. on file systems with coarse
+   * timestamps), which would keep a stale entry and skip the affected tests.
+   */
+  static class Fingerprint {
+    final long size;
+    final byte[] digest;
+
+    Fingerprint(long size, byte[] digest) {
+      this.size = size;
+      this.digest = digest;
+    }
+
+    static Fingerprint of(byte[] content) {
+      try {
+        return new Fingerprint(content.length, MessageDigest.getInstance("SHA-256").digest(content));
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    static Fingerprint of(File file) throws IOException {
+      return of(Files.readAllBytes(file.toPath()));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Fingerprint)) {
+        return false;
+      }
+      Fingerprint that = (Fingerprint) o;
+      return size == that.size && Arrays.equals(digest, that.digest);
+    }
+
+    @Override
+    public int hashCode() {
+      return Long.hashCode(size) * 31 + Arrays.hashCode(digest);
+    }
+  }
+
+  /**
+   * The type declared in a source file, along with the snapshots of its methods.
+   */
+  static class SourceEntry {
+    final String path;
+    final Fingerprint fingerprint;
+    final String type;
+    final Map<String, String> methodSnapshots;
+
+    SourceEntry(String path, Fingerprint fingerprint, String type, Map<String, String> methodSnapshots) {
+      this.path = path;
+      this.fingerprint = fingerprint;
+      this.type = type;
+      this.methodSnapshots = methodSnapshots;
+    }
+  }
+
+  /**
+   * The test class declared in a test file, along with the sources and source methods it depends on.
+   */
+  static class TestEntry {
+    final String path;
+    final Fingerprint fingerprint;
+    final String type;
+    final List<String> testMethods;
+    final Set<String> referencedSources;
+    final Set<String> dependencies;
+    final Map<String, Set<String>> sourceMethodToTestMethods;
+
+    /**
+     * @param path the path of the test file
+     * @param fingerprint the fingerprint of the test file
+     * @param type the fully qualified name of the test class
+     * @param testMethods the names of the test methods
+     * @param referencedSources the source files the test is mapped to
+     * @param dependencies the source files the analysis of the test depends on
+     * @param sourceMethodToTestMethods the test methods of the test class per source method they depend on
+     */
+    TestEntry(String path, Fingerprint fingerprint, String type, List<String> testMethods,
+        Set<String> referencedSources, Set<String> dependencies, Map<String, Set<String>> sourceMethodToTestMethods) {
+      this.path = path;
+      this.fingerprint = fingerprint;
+      this.type = type;
+      this.testMethods = testMethods;
+      this.referencedSources = referencedSources;
+      this.dependencies = dependencies;
+      this.sourceMethodToTestMethods = sourceMethodToTestMethods;
+    }
+  }
+
+  private final String configuration;
+  private final Map<String, SourceEntry> sources = new LinkedHashMap<>();
+  private final Map<String, TestEntry> tests = new LinkedHashMap<>();
+
+  /**
+   * @param configuration a key for the configuration that affects the analysis. Maps with a different configuration
+   *        are not loaded.
+   */
+  TestImpactMap(String configuration) {
+    this.configuration = configuration;
+  }
+
+  Collection<SourceEntry> getSources() {
+    return sources.values();
+  }
+
+  Collection<TestEntry> getTests() {
+    return tests.values();
+  }
+
+  /**
+   * Get the entry of the source file with the specified path, if the file didn't change.
+   *
+   * @param path the path of the file
+   * @param fingerprint the current fingerprint of the file
+   * @return the entry, or null if missing or outdated.
+   */
+  SourceEntry getSource(String path, Fingerprint fingerprint) {
+    SourceEntry entry = sources.get(path);
+    return entry != null && entry.fingerprint.equals(fingerprint) ? entry : null;
+  }
+
+  /**
+   * Get the entry of the test file with the specified path, if the file didn't change.
+   *
+   * @param path the path of the file
+   * @param fingerprint the current fingerprint of the file
+   * @return the entry, or null if missing or outdated.
+   */
+  TestEntry getTest(String path, Fingerprint fingerprint) {
+    TestEntry entry = tests.get(path);
+    return entry != null && entry.fingerprint.equals(fingerprint) ? entry : null;
+  }
+
+  /**
+   * Get the entry of the source file with the specified path, regardless of its fingerprint.
+   *
+   * @param path the path of the file
+   * @return the entry, or null if missing.
+   */
+  SourceEntry getSource(String path) {
+    return sources.get(path);
+  }
+
+  void put(SourceEntry entry) {
+    sources.put(entry.path, entry);
+  }
+
+  void put(TestEntry entry) {
+    tests.put(entry.path, entry);
+  }
+
+  /**
+   * Load the map from the specified file.
+   *
+   * @param file the file
+   * @param configuration the current configuration
+   * @return the map, or an empty map if the file is missing, invalid or was saved with a different configuration.
+   */
+  static TestImpactMap load(File file, String configuration) {
+    TestImpactMap map = new TestImpactMap(configuration);
+    if (!file.isFile()) {
+      return map;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION || !readString(in).equals(configuration)) {
+        return map;
+      }
+      int sourceCount = in.readInt();
+      for (int i = 0; i < sourceCount; i++) {
+        map.put(new SourceEntry(readString(in), readFingerprint(in), readString(in), readMap(in)));
+      }
+      int testCount = in.readInt();
+      for (int i = 0; i < testCount; i++) {
+        String path = readString(in);
+        Fingerprint fingerprint = readFingerprint(in);
+        String type = readString(in);
+        List<String> testMethods = new ArrayList<>(readStrings(in));
+        Set<String> referencedSources = readStrings(in);
+        Set<String> dependencies = readStrings(in);
+        Map<String, Set<String>> sourceMethodToTestMethods = new LinkedHashMap<>();
+        int methodCount = in.readInt();
+        for (int j = 0; j < methodCount; j++) {
+          sourceMethodToTestMethods.put(readString(in), readStrings(in));
+        }
+        map.put(new TestEntry(path, fingerprint, type, testMethods, referencedSources, dependencies,
+            sourceMethodToTestMethods));
+      }
+      return map;
+    } catch (IOException | RuntimeException e) {
+      return new TestImpactMap(configuration);
+    }
+  }
+
+  /**
+   * Save the map to the specified file.
+   *
+   * @param file the file
+   * @throws IOException if the file can't be written.
+   */
+  void save(File file) throws IOException {
+    File parent = file.getAbsoluteFile().getParentFile();
+    if (parent != null) {
+      parent.mkdirs();
+    }
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      writeString(out, configuration);
+      out.writeInt(sources.size());
+      for (SourceEntry entry : sources.values()) {
+        writeString(out, entry.path);
+        writeFingerprint(out, entry.fingerprint);
+        writeString(out, entry.type);
+        writeMap(out, entry.methodSnapshots);
+      }
+      out.writeInt(tests.size());
+      for (TestEntry entry : tests.values()) {
+        writeString(out, entry.path);
+        writeFingerprint(out, entry.fingerprint);
+        writeString(out, entry.type);
+        writeStrings(out, entry.testMethods);
+        writeStrings(out, entry.referencedSources);
+        writeStrings(out, entry.dependencies);
+        out.writeInt(entry.sourceMethodToTestMethods.size());
+        for (Map.Entry<String, Set<String>> methods : entry.sourceMethodToTestMethods.entrySet()) {
+          writeString(out, methods.getKey());
+          writeStrings(out, methods.getValue());
+        }
+      }
+    }
+  }
+
+  // Not using writeUTF, as method snapshots may exceed its length limit.
+  private static String readString(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0 || length > MAX_STRING_LENGTH) {
+      throw new IOException("Invalid string length: " + length);
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeString(DataOutputStream out, String s) throws IOException {
+    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static Fingerprint readFingerprint(DataInputStream in) throws IOException {
+    long size = in.readLong();
+    byte[] digest = new byte[in.readUnsignedByte()];
+    in.readFully(digest);
+    return new Fingerprint(size, digest);
+  }
+
+  private static void writeFingerprint(DataOutputStream out, Fingerprint fingerprint) throws IOException {
+    out.writeLong(fingerprint.size);
+    out.writeByte(fingerprint.digest.length);
+    out.write(fingerprint.digest);
+  }
+
+  private static Set<String> readStrings(DataInputStream in) throws IOException {
+    int size = in.readInt();
+    Set<String> strings = new LinkedHashSet<>();
+    for (int i = 0; i < size; i++) {
+      strings.add(readString(in));
+    }
+    return strings;
+  }
+
+  private static void writeStrings(DataOutputStream out, Collection<String> strings) throws IOException {
+    out.writeInt(strings.size());
+    for (String s : strings) {
+      writeString(out, s);
+    }
+  }
+
+  private static Map<String, String> readMap(DataInputStream in) throws IOException {
+    int size = in.readInt();
+    Map<String, String> map = new LinkedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      map.put(readString(in), readString(in));
+    }
+    return map;
+  }
+
+  private static void writeMap(DataOutputStream out, Map<String, String> map) throws IOException {
+    out.writeInt(map.size());
+    for (Map.Entry<String, String> entry : map.entrySet()) {
+      writeString(out, entry.getKey());
+      writeString(out, entry.getValue());
+    }
+  }
+}
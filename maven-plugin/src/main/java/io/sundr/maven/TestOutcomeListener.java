@@ -0,0 +1,37 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.maven;
+
+/**
+ * Receives the outcome of each test method as soon as it completes.
+ *
+ * The {@link JUnitRunListener} reports to it from the class loader of the project's JUnit version, so it only uses
+ * types of the JDK.
+ */
+public interface TestOutcomeListener {
+
+  /**
+   * Called when a test method completes.
+   *
+   * @param testClass the name of the test class
+   * @param testMethod the name of the test method
+   * @param status the name of the {@link TestClassOutcome.Status} of the test
+   * @param message the failure message, or null if the test didn't fail
+   * @param timeMillis the time the test took
+   */
+  void testFinished(String testClass, String testMethod, String status, String message, long timeMillis);
+}
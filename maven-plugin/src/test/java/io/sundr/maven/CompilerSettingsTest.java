@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.maven;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginExecution;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.xml.Xpp3DomBuilder;
+import org.junit.Test;
+
+public class CompilerSettingsTest {
+
+  @Test
+  public void shouldUseTheCompilerProperties() throws Exception {
+    MavenProject project = project(null);
+    project.getProperties().setProperty("project.build.sourceEncoding", "UTF-8");
+    project.getProperties().setProperty("maven.compiler.source", "11");
+    project.getProperties().setProperty("maven.compiler.target", "11");
+
+    assertEquals(Arrays.asList("-encoding", "UTF-8", "-source", "11", "-target", "11", "-g"),
+        CompilerSettings.of(project, false).getOptions());
+  }
+
+  @Test
+  public void shouldUseThePluginConfiguration() throws Exception {
+    MavenProject project = project("<configuration>"
+        + "<release>17</release>"
+        + "<testRelease>21</testRelease>"
+        + "<parameters>true</parameters>"
+        + "<compilerArgs><arg>-Xlint:all</arg></compilerArgs>"
+        + "</configuration>");
+    project.getProperties().setProperty("maven.compiler.release", "11");
+
+    assertEquals(Arrays.asList("--release", "17", "-g", "-parameters", "-Xlint:all"),
+        CompilerSettings.of(project, false).getOptions());
+    assertEquals(Arrays.asList("--release", "21", "-g", "-parameters", "-Xlint:all"),
+        CompilerSettings.of(project, true).getOptions());
+  }
+
+  @Test
+  public void shouldUseTheConfigurationOfTheDefaultExecution() throws Exception {
+    MavenProject project = project("<configuration><release>17</release><proc>none</proc></configuration>");
+    PluginExecution execution = new PluginExecution();
+    execution.setId("default-testCompile");
+    execution.setConfiguration(
+        Xpp3DomBuilder.build(new StringReader("<configuration><proc>full</proc></configuration>")));
+    project.getPlugin(CompilerSettings.COMPILER_PLUGIN).addExecution(execution);
+
+    assertEquals(Arrays.asList("--release", "17", "-g", "-proc:none"),
+        CompilerSettings.of(project, false).getOptions());
+    assertEquals(Arrays.asList("--release", "17", "-g", "-proc:full"),
+        CompilerSettings.of(project, true).getOptions());
+  }
+
+  @Test
+  public void shouldUseTheManagedVersionOfAnnotationProcessorPaths() throws Exception {
+    MavenProject project = project("<configuration><annotationProcessorPaths>"
+        + "<path><groupId>io.sundr</groupId><artifactId>builder-annotations</artifactId></path>"
+        + "<path><groupId>org.example</groupId><artifactId>processor</artifactId><version>1.0</version></path>"
+        + "</annotationProcessorPaths></configuration>");
+    Dependency managed = new Dependency();
+    managed.setGroupId("io.sundr");
+    managed.setArtifactId("builder-annotations");
+    managed.setVersion("0.200.0");
+    DependencyManagement dependencyManagement = new DependencyManagement();
+    dependencyManagement.addDependency(managed);
+    project.getModel().setDependencyManagement(dependencyManagement);
+
+    List<org.eclipse.aether.graph.Dependency> paths = CompilerSettings.of(project, false).getAnnotationProcessorPaths();
+    assertEquals(2, paths.size());
+    assertEquals("io.sundr:builder-annotations:jar:0.200.0", paths.get(0).getArtifact().toString());
+    assertEquals("org.example:processor:jar:1.0", paths.get(1).getArtifact().toString());
+  }
+
+  private static MavenProject project(String configuration) throws Exception {
+    Model model = new Model();
+    model.setBuild(new Build());
+    if (configuration != null) {
+      Plugin plugin = new Plugin();
+      plugin.setGroupId("org.apache.maven.plugins");
+      plugin.setArtifactId("maven-compiler-plugin");
+      plugin.setConfiguration(Xpp3DomBuilder.build(new StringReader(configuration)));
+      model.getBuild().addPlugin(plugin);
+    }
+    return new MavenProject(model);
+  }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.maven;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.hamcrest.Matcher;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.sundr.maven.TestClassOutcome.Outcome;
+import io.sundr.maven.TestClassOutcome.Status;
+
+public class InProcessTestRunnerTest {
+
+  private static final List<String> OPTIONS = Arrays.asList("-encoding", "UTF-8");
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldDeleteClassesOfRemovedSources() throws Exception {
+    File sources = folder.newFolder("src", "main", "java");
+    File testSources = folder.newFolder("src", "test", "java");
+    File classes = folder.newFolder("classes");
+    File testClasses = folder.newFolder("test-classes");
+    Path source = new File(folder.newFolder("src", "main", "java", "example"), "Shape.java").toPath();
+    Files.write(source, ("package example;\n\n"
+        + "public class Shape {\n"
+        + "  public static class Point {\n"
+        + "  }\n"
+        + "}\n").getBytes(StandardCharsets.UTF_8));
+    File other = new File(classes, "example/ShapeFactory.class");
+
+    try (InProcessTestRunner runner = new InProcessTestRunner(classes, testClasses, Collections.emptyList(),
+        folder.newFolder("generated"), folder.newFolder("generated-test"), OPTIONS, OPTIONS, new SystemStreamLog())) {
+      assertTrue(runner.compile(sources, testSources, Collections.singleton(source)));
+      assertTrue(new File(classes, "example/Shape.class").isFile());
+      assertTrue(new File(classes, "example/Shape$Point.class").isFile());
+      assertTrue(other.createNewFile());
+
+      Files.delete(source);
+      assertTrue(runner.compile(sources, testSources, Collections.singleton(source)));
+      assertFalse(new File(classes, "example/Shape.class").exists());
+      assertFalse(new File(classes, "example/Shape$Point.class").exists());
+      assertTrue(other.isFile());
+    }
+  }
+
+  @Test
+  public void shouldCompileWithTheCompilerOptions() throws Exception {
+    File sources = folder.newFolder("src", "main", "java");
+    Path source = write(sources, "example/Counter.java", "package example;\n\n"
+        + "public class Counter {\n"
+        + "  public int next() {\n"
+        + "    var next = 1;\n"
+        + "    return next;\n"
+        + "  }\n"
+        + "}\n");
+
+    try (InProcessTestRunner runner = new InProcessTestRunner(folder.newFolder("classes"),
+        folder.newFolder("test-classes"), Collections.emptyList(), folder.newFolder("generated"),
+        folder.newFolder("generated-test"), Arrays.asList("-encoding", "UTF-8", "--release", "8"), OPTIONS,
+        new SystemStreamLog())) {
+      assertFalse(runner.compile(sources, folder.newFolder("src", "test", "java"), Collections.singleton(source)));
+    }
+  }
+
+  @Test
+  public void shouldRecompileDependentsWhenSignaturesChange() throws Exception {
+    File sources = folder.newFolder("src", "main", "java");
+    File classes = folder.newFolder("classes");
+    Path constants = write(sources, "example/Constants.java", "package example;\n\n"
+        + "public class Constants {\n"
+        + "  public static final int VALUE = 1;\n"
+        + "}\n");
+    Path user = write(sources, "example/User.java", "package example;\n\n"
+        + "public class User {\n"
+        + "  public static int value() {\n"
+        + "    return Constants.VALUE;\n"
+        + "  }\n"
+        + "}\n");
+
+    try (InProcessTestRunner runner = new InProcessTestRunner(classes, folder.newFolder("test-classes"),
+        Collections.emptyList(), folder.newFolder("generated"), folder.newFolder("generated-test"), OPTIONS, OPTIONS,
+        new SystemStreamLog())) {
+      File testSources = folder.newFolder("src", "test", "java");
+      assertTrue(runner.compile(sources, testSources, Arrays.asList(constants, user)));
+      assertEquals(1, value(classes));
+
+      File userClass = new File(classes, "example/User.class");
+      assertTrue(userClass.setLastModified(0));
+      write(sources, "example/Constants.java", "package example;\n\n"
+          + "public class Constants {\n"
+          + "  public static final int VALUE = 1;\n\n"
+          + "  private static int other() {\n"
+          + "    return VALUE;\n"
+          + "  }\n"
+          + "}\n");
+      assertTrue(runner.compile(sources, testSources, Collections.singleton(constants)));
+      assertEquals(0, userClass.lastModified());
+
+      write(sources, "example/Constants.java", "package example;\n\n"
+          + "public class Constants {\n"
+          + "  public static final int VALUE = 2;\n"
+          + "}\n");
+      assertTrue(runner.compile(sources, testSources, Collections.singleton(constants)));
+      assertEquals(2, value(classes));
+    }
+  }
+
+  @Test
+  public void shouldRunTheSelectedMethodsOfAClassTogether() throws Exception {
+    File testSources = folder.newFolder("src", "test", "java");
+    File testClasses = folder.newFolder("test-classes");
+    Path source = write(testSources, "example/LifecycleTest.java", "package example;\n\n"
+        + "import org.junit.Assert;\n"
+        + "import org.junit.BeforeClass;\n"
+        + "import org.junit.Test;\n\n"
+        + "public class LifecycleTest {\n"
+        + "  @BeforeClass\n"
+        + "  public static void setUpClass() {\n"
+        + "    System.setProperty(\"example.setups\", String.valueOf(Integer.getInteger(\"example.setups\", 0) + 1));\n"
+        + "  }\n\n"
+        + "  @Test\n"
+        + "  public void first() {\n"
+        + "  }\n\n"
+        + "  @Test\n"
+        + "  public void second() {\n"
+        + "  }\n\n"
+        + "  @Test\n"
+        + "  public void third() {\n"
+        + "    Assert.fail();\n"
+        + "  }\n"
+        + "}\n");
+    List<String> classpath = Arrays.asList(location(Test.class), location(Matcher.class));
+
+    try (InProcessTestRunner runner = new InProcessTestRunner(folder.newFolder("classes"), testClasses, classpath,
+        folder.newFolder("generated"), folder.newFolder("generated-test"), OPTIONS, OPTIONS,
+        new SystemStreamLog())) {
+      assertTrue(runner.isSupported());
+      assertTrue(runner.compile(folder.newFolder("src", "main", "java"), testSources, Collections.singleton(source)));
+
+      List<TestClassOutcome> results = runner.run(
+          Map.of("example.LifecycleTest", new LinkedHashSet<>(Arrays.asList("second", "first"))), false,
+          new RecordingListener());
+      assertEquals(1, results.size());
+      List<Outcome> outcomes = results.get(0).outcomes;
+      assertEquals(Arrays.asList("second", "first"),
+          outcomes.stream().map(o -> o.testMethod).collect(Collectors.toList()));
+      assertTrue(outcomes.stream().allMatch(o -> o.status == Status.PASSED));
+      assertEquals("1", System.getProperty("example.setups"));
+    } finally {
+      System.clearProperty("example.setups");
+    }
+  }
+
+  @Test
+  public void shouldReportTheTimeOfEachTestAsItCompletes() throws Exception {
+    File testSources = folder.newFolder("src", "test", "java");
+    Path source = write(testSources, "example/TimedTest.java", "package example;\n\n"
+        + "import org.junit.Assert;\n"
+        + "import org.junit.Ignore;\n"
+        + "import org.junit.Test;\n\n"
+        + "public class TimedTest {\n"
+        + "  @Test\n"
+        + "  public void slow() throws Exception {\n"
+        + "    Thread.sleep(300);\n"
+        + "  }\n\n"
+        + "  @Test\n"
+        + "  public void failing() {\n"
+        + "    Assert.fail(\"expected\");\n"
+        + "  }\n\n"
+        + "  @Ignore\n"
+        + "  @Test\n"
+        + "  public void ignored() {\n"
+        + "  }\n"
+        + "}\n");
+
+    try (InProcessTestRunner runner = createJUnitRunner()) {
+      assertTrue(runner.compile(folder.newFolder("src", "main", "java"), testSources, Collections.singleton(source)));
+
+      RecordingListener listener = new RecordingListener();
+      List<TestClassOutcome> results = runner.run(
+          Map.of("example.TimedTest", new LinkedHashSet<>(Arrays.asList("slow", "failing", "ignored"))), false,
+          listener);
+
+      assertEquals(Arrays.asList("slow", "failing", "ignored", "example.TimedTest"), listener.events);
+      Map<String, Outcome> outcomes = results.get(0).outcomes.stream()
+          .collect(Collectors.toMap(o -> o.testMethod, o -> o));
+      assertEquals(Status.PASSED, outcomes.get("slow").status);
+      assertEquals(Status.FAILED, outcomes.get("failing").status);
+      assertEquals(Status.SKIPPED, outcomes.get("ignored").status);
+      assertTrue(outcomes.get("slow").timeMillis >= 300);
+      assertTrue(outcomes.get("failing").timeMillis < 300);
+    }
+  }
+
+  @Test
+  public void shouldRunTheMethodsOfAClassFastestFirst() throws Exception {
+    File testSources = folder.newFolder("src", "test", "java");
+    Path source = write(testSources, "example/DurationTest.java", "package example;\n\n"
+        + "import org.junit.Test;\n\n"
+        + "public class DurationTest {\n"
+        + "  @Test\n"
+        + "  public void slow() throws Exception {\n"
+        + "    Thread.sleep(400);\n"
+        + "  }\n\n"
+        + "  @Test\n"
+        + "  public void medium() throws Exception {\n"
+        + "    Thread.sleep(200);\n"
+        + "  }\n\n"
+        + "  @Test\n"
+        + "  public void fast() {\n"
+        + "  }\n"
+        + "}\n");
+    List<String> methods = Arrays.asList("slow", "medium", "fast");
+
+    try (InProcessTestRunner runner = createJUnitRunner()) {
+      assertTrue(runner.compile(folder.newFolder("src", "main", "java"), testSources, Collections.singleton(source)));
+
+      TestHistory history = new TestHistory();
+      runner.run(Map.of("example.DurationTest", new LinkedHashSet<>(methods)), false, new RecordingListener() {
+        @Override
+        public void testFinished(Outcome outcome) {
+          history.record(outcome.testClass, outcome.testMethod, outcome.status != Status.PASSED, outcome.timeMillis);
+        }
+      });
+
+      List<String> prioritized = TestHistory.prioritize(methods, m -> history.get("example.DurationTest", m));
+      assertEquals(Arrays.asList("fast", "medium", "slow"), prioritized);
+
+      RecordingListener listener = new RecordingListener();
+      runner.run(Map.of("example.DurationTest", new LinkedHashSet<>(prioritized)), false, listener);
+      assertEquals(Arrays.asList("fast", "medium", "slow", "example.DurationTest"), listener.events);
+    }
+  }
+
+  @Test
+  public void shouldStopAtTheFirstFailedMethodOfAClass() throws Exception {
+    File testSources = folder.newFolder("src", "test", "java");
+    Path source = write(testSources, "example/FailFastTest.java", "package example;\n\n"
+        + "import org.junit.Assert;\n"
+        + "import org.junit.Test;\n\n"
+        + "public class FailFastTest {\n"
+        + "  @Test\n"
+        + "  public void failing() {\n"
+        + "    Assert.fail(\"expected\");\n"
+        + "  }\n\n"
+        + "  @Test\n"
+        + "  public void next() {\n"
+        + "  }\n"
+        + "}\n");
+
+    try (InProcessTestRunner runner = createJUnitRunner()) {
+      assertTrue(runner.compile(folder.newFolder("src", "main", "java"), testSources, Collections.singleton(source)));
+      Map<String, Set<String>> tests = Map.of("example.FailFastTest",
+          new LinkedHashSet<>(Arrays.asList("failing", "next")));
+
+      RecordingListener listener = new RecordingListener();
+      List<TestClassOutcome> results = runner.run(tests, true, listener);
+      assertEquals(Arrays.asList("failing", "example.FailFastTest"), listener.events);
+      assertEquals(1, results.get(0).outcomes.size());
+      assertEquals(Status.FAILED, results.get(0).outcomes.get(0).status);
+
+      listener = new RecordingListener();
+      runner.run(tests, false, listener);
+      assertEquals(Arrays.asList("failing", "next", "example.FailFastTest"), listener.events);
+    }
+  }
+
+  private InProcessTestRunner createJUnitRunner() throws Exception {
+    List<String> classpath = Arrays.asList(location(Test.class), location(Matcher.class));
+    return new InProcessTestRunner(folder.newFolder("classes"), folder.newFolder("test-classes"), classpath,
+        folder.newFolder("generated"), folder.newFolder("generated-test"), OPTIONS, OPTIONS, new SystemStreamLog());
+  }
+
+  /**
+   * Records the tests and the test classes in the order they are reported.
+   */
+  private static class RecordingListener implements InProcessTestRunner.Listener {
+    private final List<String> events = new ArrayList<>();
+
+    @Override
+    public void testFinished(Outcome outcome) {
+      events.add(outcome.testMethod);
+    }
+
+    @Override
+    public void testClassFinished(TestClassOutcome outcome) {
+      events.add(outcome.testClass);
+    }
+  }
+
+  private static Path write(File directory, String path, String content) throws Exception {
+    Path file = new File(directory, path).toPath();
+    Files.createDirectories(file.getParent());
+    Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  private static int value(File classes) throws Exception {
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classes.toURI().toURL() }, null)) {
+      return (Integer) classLoader.loadClass("example.User").getMethod("value").invoke(null);
+    }
+  }
+
+  private static String location(Class<?> type) throws Exception {
+    return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).getAbsolutePath();
+  }
+}
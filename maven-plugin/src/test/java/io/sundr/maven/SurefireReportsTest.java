@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.maven;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.sundr.maven.TestClassOutcome.Outcome;
+import io.sundr.maven.TestClassOutcome.Status;
+
+public class SurefireReportsTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldReadOutcomesOfEachTestCase() throws Exception {
+    Path report = new File(folder.getRoot(), "TEST-example.ShapeTest.xml").toPath();
+    Files.write(report, ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+        + "<testsuite name=\"example.ShapeTest\" time=\"1,234.5\" tests=\"4\" failures=\"1\" errors=\"1\" skipped=\"1\">\n"
+        + "  <properties>\n"
+        + "    <property name=\"java.version\" value=\"17\"/>\n"
+        + "  </properties>\n"
+        + "  <testcase name=\"shouldPass\" classname=\"example.ShapeTest\" time=\"0.01\"/>\n"
+        + "  <testcase name=\"shouldFail\" classname=\"example.ShapeTest\" time=\"0.2\">\n"
+        + "    <failure message=\"expected:&lt;1&gt; but was:&lt;2&gt;\" type=\"java.lang.AssertionError\">trace</failure>\n"
+        + "    <system-out>output</system-out>\n"
+        + "  </testcase>\n"
+        + "  <testcase name=\"shouldNotThrow\" classname=\"example.ShapeTest\" time=\"0.003\">\n"
+        + "    <error type=\"java.lang.IllegalStateException\">trace</error>\n"
+        + "  </testcase>\n"
+        + "  <testcase name=\"shouldBeSkipped\" classname=\"example.ShapeTest\" time=\"0\">\n"
+        + "    <skipped message=\"not ready\"/>\n"
+        + "  </testcase>\n"
+        + "</testsuite>\n").getBytes(StandardCharsets.UTF_8));
+
+    TestClassOutcome outcome = SurefireReports.read(report);
+
+    assertEquals("example.ShapeTest", outcome.testClass);
+    assertEquals(1234500, outcome.timeMillis);
+    assertEquals(4, outcome.outcomes.size());
+    assertEquals(1, outcome.count(Status.PASSED));
+    assertEquals(1, outcome.count(Status.FAILED));
+    assertEquals(1, outcome.count(Status.ERROR));
+    assertEquals(1, outcome.count(Status.SKIPPED));
+
+    Outcome passed = outcome.outcomes.get(0);
+    assertEquals("example.ShapeTest", passed.testClass);
+    assertEquals("shouldPass", passed.testMethod);
+    assertEquals(Status.PASSED, passed.status);
+    assertNull(passed.message);
+    assertEquals(10, passed.timeMillis);
+
+    Outcome failed = outcome.outcomes.get(1);
+    assertEquals("shouldFail", failed.testMethod);
+    assertEquals(Status.FAILED, failed.status);
+    assertEquals("expected:<1> but was:<2>", failed.message);
+    assertEquals(200, failed.timeMillis);
+
+    Outcome error = outcome.outcomes.get(2);
+    assertEquals("shouldNotThrow", error.testMethod);
+    assertEquals(Status.ERROR, error.status);
+    assertEquals("java.lang.IllegalStateException", error.message);
+    assertEquals(3, error.timeMillis);
+
+    Outcome skipped = outcome.outcomes.get(3);
+    assertEquals("shouldBeSkipped", skipped.testMethod);
+    assertEquals(Status.SKIPPED, skipped.status);
+    assertEquals("not ready", skipped.message);
+  }
+
+  @Test
+  public void shouldUseFileNameWithoutTestSuiteName() throws Exception {
+    Path report = new File(folder.getRoot(), "TEST-example.EmptyTest.xml").toPath();
+    Files.write(report, "<testsuite tests=\"0\"/>".getBytes(StandardCharsets.UTF_8));
+
+    TestClassOutcome outcome = SurefireReports.read(report);
+
+    assertEquals("example.EmptyTest", outcome.testClass);
+    assertEquals(0, outcome.outcomes.size());
+  }
+}
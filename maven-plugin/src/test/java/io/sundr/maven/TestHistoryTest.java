@@ -0,0 +1,96 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.maven;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestHistoryTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private static TestHistory createHistory() {
+    TestHistory history = new TestHistory();
+    // Failed on its last run, but is slow and rarely fails.
+    history.record("example.LastFailedTest", "shouldWork", false, 900);
+    history.record("example.LastFailedTest", "shouldWork", false, 900);
+    history.record("example.LastFailedTest", "shouldWork", false, 900);
+    history.record("example.LastFailedTest", "shouldWork", true, 900);
+    // Failed half of its runs, but passed on its last one.
+    history.record("example.FlakyTest", "shouldWork", true, 500);
+    history.record("example.FlakyTest", "shouldWork", false, 500);
+    // Never failed: the faster one comes first.
+    history.record("example.SlowTest", "shouldWork", false, 300);
+    history.record("example.FastTest", "shouldWork", false, 10);
+    return history;
+  }
+
+  @Test
+  public void shouldPrioritizeLastFailedThenNeverRunThenFailureRateThenDuration() {
+    TestHistory history = createHistory();
+    List<String> testClasses = Arrays.asList("example.SlowTest", "example.FastTest", "example.FlakyTest",
+        "example.NewTest", "example.LastFailedTest");
+
+    List<String> sorted = TestHistory.prioritize(testClasses, history::getClassStats);
+
+    assertEquals(Arrays.asList("example.LastFailedTest", "example.NewTest", "example.FlakyTest", "example.FastTest",
+        "example.SlowTest"), sorted);
+  }
+
+  @Test
+  public void shouldCombineStatsOfClassMethods() {
+    TestHistory history = new TestHistory();
+    history.record("example.ShapeTest", "shouldCalculateArea", false, 100);
+    history.record("example.ShapeTest", "shouldScale", true, 50);
+    history.record("example.ShapeTestSuite", "shouldRun", false, 1000);
+    TestHistory expected = new TestHistory();
+    expected.record("example.ShapeTest", "all", true, 150);
+
+    TestHistory.Stats stats = history.getClassStats("example.ShapeTest");
+
+    assertEquals(1.0, stats.getFailureRate(), 0);
+    assertEquals(0, TestHistory.PRIORITY.compare(stats, expected.get("example.ShapeTest", "all")));
+    assertTrue(TestHistory.PRIORITY.compare(stats, history.get("example.ShapeTest", "shouldScale")) > 0);
+    assertTrue(TestHistory.PRIORITY.compare(stats, history.get("example.ShapeTest", "shouldCalculateArea")) < 0);
+    assertNull(history.getClassStats("example.PointTest"));
+  }
+
+  @Test
+  public void shouldRoundTripHistory() throws Exception {
+    File file = new File(folder.getRoot(), "sundrio/test-history.bin");
+    createHistory().save(file);
+
+    TestHistory loaded = TestHistory.load(file);
+
+    assertEquals(0.25, loaded.get("example.LastFailedTest", "shouldWork").getFailureRate(), 0);
+    assertEquals(0.5, loaded.get("example.FlakyTest", "shouldWork").getFailureRate(), 0);
+    assertNull(loaded.get("example.NewTest", "shouldWork"));
+    assertEquals(Arrays.asList("example.LastFailedTest", "example.FlakyTest", "example.FastTest"),
+        TestHistory.prioritize(Arrays.asList("example.FastTest", "example.FlakyTest", "example.LastFailedTest"),
+            loaded::getClassStats));
+  }
+}
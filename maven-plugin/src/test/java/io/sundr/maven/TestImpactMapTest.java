@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.maven;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.sundr.maven.TestImpactMap.Fingerprint;
+import io.sundr.maven.TestImpactMap.SourceEntry;
+import io.sundr.maven.TestImpactMap.TestEntry;
+
+public class TestImpactMapTest {
+
+  private static final String CONFIGURATION = "**/*Test.java";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private static Fingerprint fingerprint(String content) {
+    return Fingerprint.of(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static TestImpactMap createMap() {
+    Map<String, String> methodSnapshots = new LinkedHashMap<>();
+    methodSnapshots.put("area()", "return width * height;");
+    methodSnapshots.put("scale(int)", "width *= factor;\nheight *= factor;");
+
+    Map<String, Set<String>> sourceMethodToTestMethods = new LinkedHashMap<>();
+    sourceMethodToTestMethods.put("example.Shape.area", new LinkedHashSet<>(Arrays.asList("shouldCalculateArea")));
+    sourceMethodToTestMethods.put("example.Shape.scale",
+        new LinkedHashSet<>(Arrays.asList("shouldScale", "shouldCalculateArea")));
+
+    TestImpactMap map = new TestImpactMap(CONFIGURATION);
+    map.put(new SourceEntry("src/main/java/example/Shape.java", fingerprint("class Shape {}"), "example.Shape",
+        methodSnapshots));
+    map.put(new TestEntry("src/test/java/example/ShapeTest.java", fingerprint("class ShapeTest {}"), "example.ShapeTest",
+        Arrays.asList("shouldCalculateArea", "shouldScale"),
+        Collections.singleton("src/main/java/example/Shape.java"),
+        new LinkedHashSet<>(Arrays.asList("src/main/java/example/Shape.java", "src/main/java/example/Point.java")),
+        sourceMethodToTestMethods));
+    return map;
+  }
+
+  @Test
+  public void shouldRoundTripEntries() throws Exception {
+    File file = new File(folder.getRoot(), "sundrio/test-impact.map");
+    createMap().save(file);
+
+    TestImpactMap loaded = TestImpactMap.load(file, CONFIGURATION);
+
+    assertEquals(1, loaded.getSources().size());
+    SourceEntry source = loaded.getSource("src/main/java/example/Shape.java", fingerprint("class Shape {}"));
+    assertNotNull(source);
+    assertEquals("example.Shape", source.type);
+    assertEquals(createMap().getSource("src/main/java/example/Shape.java").methodSnapshots, source.methodSnapshots);
+
+    assertEquals(1, loaded.getTests().size());
+    TestEntry test = loaded.getTest("src/test/java/example/ShapeTest.java", fingerprint("class ShapeTest {}"));
+    assertNotNull(test);
+    assertEquals("example.ShapeTest", test.type);
+    assertEquals(Arrays.asList("shouldCalculateArea", "shouldScale"), test.testMethods);
+    assertEquals(Collections.singleton("src/main/java/example/Shape.java"), test.referencedSources);
+    assertEquals(Arrays.asList("src/main/java/example/Shape.java", "src/main/java/example/Point.java"),
+        Arrays.asList(test.dependencies.toArray()));
+    assertEquals(Arrays.asList("example.Shape.area", "example.Shape.scale"),
+        Arrays.asList(test.sourceMethodToTestMethods.keySet().toArray()));
+    assertEquals(Arrays.asList("shouldScale", "shouldCalculateArea"),
+        Arrays.asList(test.sourceMethodToTestMethods.get("example.Shape.scale").toArray()));
+  }
+
+  @Test
+  public void shouldNotReturnOutdatedEntries() throws Exception {
+    File file = new File(folder.getRoot(), "test-impact.map");
+    createMap().save(file);
+
+    TestImpactMap loaded = TestImpactMap.load(file, CONFIGURATION);
+
+    assertNull(loaded.getSource("src/main/java/example/Shape.java", fingerprint("class Shape { }")));
+    assertNull(loaded.getTest("src/test/java/example/ShapeTest.java", fingerprint("class ShapeTEST {}")));
+    assertNotNull(loaded.getSource("src/main/java/example/Shape.java"));
+  }
+
+  @Test
+  public void shouldIgnoreMapWithDifferentConfiguration() throws Exception {
+    File file = new File(folder.getRoot(), "test-impact.map");
+    createMap().save(file);
+
+    TestImpactMap loaded = TestImpactMap.load(file, "**/*IT.java");
+
+    assertTrue(loaded.getSources().isEmpty());
+    assertTrue(loaded.getTests().isEmpty());
+  }
+
+  @Test
+  public void shouldIgnoreMissingOrInvalidFile() throws Exception {
+    File file = new File(folder.getRoot(), "test-impact.map");
+    assertTrue(TestImpactMap.load(file, CONFIGURATION).getSources().isEmpty());
+
+    Files.write(file.toPath(), "not a map".getBytes(StandardCharsets.UTF_8));
+    assertTrue(TestImpactMap.load(file, CONFIGURATION).getSources().isEmpty());
+  }
+}
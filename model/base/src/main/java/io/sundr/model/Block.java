@@ -69,9 +69,14 @@ public class Block implements Statement {
   @Override
   public String render() {
     StringBuilder sb = new StringBuilder();
+    render(sb, new IndentState());
+    return sb.toString();
+  }
+
+  @Override
+  public void render(Appendable out, IndentState indent) {
     for (Statement statement : statements) {
-      sb.append(tab(statement.renderStatement()));
+      indent.tab(out, statement);
     }
-    return sb.toString();
   }
 }
@@ -147,7 +147,8 @@ public class ClassRef extends TypeRef implements WithFullyQualifiedName, Express
   @Override
   public String render() {
     StringBuilder sb = new StringBuilder();
-    sb.append(fullyQualifiedName);
+    Imports imports = Imports.current();
+    sb.append(imports != null ? imports.shorten(fullyQualifiedName) : fullyQualifiedName);
     if (arguments.size() > 0) {
       sb.append(LT);
       sb.append(arguments.stream().map(a -> a.render()).collect(Collectors.joining(COMA)));
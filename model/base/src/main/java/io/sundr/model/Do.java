@@ -35,9 +35,16 @@ public class Do implements Statement {
 
   public String render() {
     StringBuilder sb = new StringBuilder();
-    sb.append("do").append(SPACE).append(OB).append(NEWLINE);
-    sb.append(tab(statement.renderStatement()));
-    sb.append(CB).append(" while ").append(OP).append(condition.render()).append(CP).append(SEMICOLN).append(NEWLINE);
+    render(sb, new IndentState());
     return sb.toString();
   }
+
+  @Override
+  public void render(Appendable out, IndentState indent) {
+    indent.append(out, "do").append(out, SPACE).append(out, OB).append(out, NEWLINE);
+    indent.tab(out, statement);
+    StringBuilder sb = new StringBuilder();
+    sb.append(CB).append(" while ").append(OP).append(condition.render()).append(CP).append(SEMICOLN).append(NEWLINE);
+    indent.append(out, sb);
+  }
 }
@@ -6,4 +6,9 @@ public interface ExpressionOrStatement extends Expression, Statement {
   default String renderStatement() {
     return renderExpression() + SEMICOLN;
   }
+
+  @Override
+  default void renderStatement(Appendable out, IndentState indent) {
+    indent.append(out, renderStatement());
+  }
 }
@@ -71,6 +71,13 @@ public class For implements Statement {
 
   @Override
   public String render() {
+    StringBuilder sb = new StringBuilder();
+    render(sb, new IndentState());
+    return sb.toString();
+  }
+
+  @Override
+  public void render(Appendable out, IndentState indent) {
     StringBuilder sb = new StringBuilder();
     sb.append("for").append(SPACE).append(OP);
     sb.append(init.stream().map(e -> e.renderExpression()).map(Renderable::noSemicolon).collect(Collectors.joining(",")));
@@ -80,9 +87,9 @@ public class For implements Statement {
     sb.append(update.stream().map(e -> e.renderExpression()).collect(Collectors.joining(",")));
     sb.append(CP);
     sb.append(SPACE).append(OB).append(NEWLINE);
-    sb.append(tab(body.renderStatement()));
-    sb.append(CB).append(NEWLINE);
-    return sb.toString();
+    indent.append(out, sb);
+    indent.tab(out, body);
+    indent.append(out, CB).append(out, NEWLINE);
   }
 
   //
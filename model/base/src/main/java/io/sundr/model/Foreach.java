@@ -54,6 +54,13 @@ public class Foreach implements Statement {
 
   @Override
   public String render() {
+    StringBuilder sb = new StringBuilder();
+    render(sb, new IndentState());
+    return sb.toString();
+  }
+
+  @Override
+  public void render(Appendable out, IndentState indent) {
     StringBuilder sb = new StringBuilder();
     sb.append("for").append(SPACE).append(OP);
     sb.append(declare.render().replaceAll(";$", ""));
@@ -61,8 +68,8 @@ public class Foreach implements Statement {
     sb.append(expression.renderExpression());
     sb.append(CP);
     sb.append(SPACE).append(OB).append(NEWLINE);
-    sb.append(tab(body.renderStatement()));
-    sb.append(CB).append(NEWLINE);
-    return sb.toString();
+    indent.append(out, sb);
+    indent.tab(out, body);
+    indent.append(out, CB).append(out, NEWLINE);
   }
 }
@@ -46,26 +46,33 @@ public class If implements Statement {
   }
 
   public String render() {
+    StringBuilder sb = new StringBuilder();
+    render(sb, new IndentState());
+    return sb.toString();
+  }
+
+  @Override
+  public void render(Appendable out, IndentState indent) {
     StringBuilder sb = new StringBuilder();
     sb.append("if").append(SPACE)
         .append(OP).append(condition.renderExpression()).append(CP)
         .append(SPACE).append(OB).append(NEWLINE);
+    indent.append(out, sb);
 
-    sb.append(tab(statement.renderStatement()));
-    sb.append(CB);
+    indent.tab(out, statement);
+    indent.append(out, CB);
     elseStatement.ifPresent(e -> {
-      sb.append(" else ");
+      indent.append(out, " else ");
       if (e instanceof If) {
-        sb.append(e.render());
+        e.render(out, indent);
       } else {
-        sb.append(OB);
-        sb.append(NEWLINE);
-        sb.append(tab(e.renderStatement()));
-        sb.append(CB);
+        indent.append(out, OB);
+        indent.append(out, NEWLINE);
+        indent.tab(out, e);
+        indent.append(out, CB);
       }
     });
-    sb.append(NEWLINE);
-    return sb.toString();
+    indent.append(out, NEWLINE);
   }
 
   //
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2016 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.model;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The import table of a {@link TypeDef} that is being rendered.
+ * The table maps each fully qualified name that can be shortened to the name that should be rendered instead: the
+ * simple name for imported classes and the class name (including outer classes) for classes of the same package.
+ *
+ * While a table is in use, {@link ClassRef#render()} writes the short name directly. Fully qualified names that are not
+ * rendered through a {@link ClassRef} (e.g. inside string statements) are shortened while the content is streamed through
+ * the section opened by {@link #open(IndentState)}, which scans the content once.
+ * A name is matched wherever it appears, as long as it's not followed by a letter or digit.
+ */
+final class Imports {
+
+  private static final ThreadLocal<Imports> CURRENT = new ThreadLocal<>();
+
+  private final Map<String, String> shortNames;
+  private final Trie root = new Trie();
+  private final boolean ambiguous;
+
+  private static final class Trie {
+    private final Map<Character, Trie> children = new HashMap<>();
+    private String fullyQualifiedName;
+  }
+
+  Imports(Map<String, String> shortNames) {
+    this.shortNames = new LinkedHashMap<>(shortNames);
+    this.ambiguous = hasNestedNames(shortNames);
+    for (String fullyQualifiedName : shortNames.keySet()) {
+      Trie node = root;
+      for (int i = 0; i < fullyQualifiedName.length(); i++) {
+        node = node.children.computeIfAbsent(fullyQualifiedName.charAt(i), c -> new Trie());
+      }
+      node.fullyQualifiedName = fullyQualifiedName;
+    }
+  }
+
+  /**
+   * Get the table of the type that is currently rendered in this thread.
+   *
+   * @return the table or null, if no type is rendered.
+   */
+  static Imports current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Make this the table of the current thread.
+   *
+   * @return the table that was previously in use, so that it can be restored.
+   */
+  Imports enter() {
+    Imports previous = CURRENT.get();
+    CURRENT.set(this);
+    return previous;
+  }
+
+  static void exit(Imports previous) {
+    if (previous != null) {
+      CURRENT.set(previous);
+    } else {
+      CURRENT.remove();
+    }
+  }
+
+  /**
+   * Checks if any name of the table is matched inside another name of the table, in a way that the result depends on the
+   * order the names are replaced (e.g. an imported nested class along with its outer class), so a single pass can't be
+   * used. Nested classes of the same package are not ambiguous, as they are shortened to the short name of their outer
+   * class, followed by their own name.
+   *
+   * @return true if the table contains nested names that are shortened differently.
+   */
+  boolean isAmbiguous() {
+    return ambiguous;
+  }
+
+  /**
+   * Get the name that should be rendered for the specified fully qualified name.
+   * Names are never shortened by an ambiguous table, they are left to be replaced after the content is rendered.
+   *
+   * @param fullyQualifiedName the fully qualified name
+   * @return the short name or the fully qualified name, if it can't be shortened.
+   */
+  String shorten(String fullyQualifiedName) {
+    if (ambiguous) {
+      return fullyQualifiedName;
+    }
+    return shortNames.getOrDefault(fullyQualifiedName, fullyQualifiedName);
+  }
+
+  String apply(CharSequence content) {
+    StringBuilder sb = new StringBuilder(content.length());
+    apply(content, sb);
+    return sb.toString();
+  }
+
+  /**
+   * Write the content to the specified output, shortening all the fully qualified names of the table.
+   *
+   * @param content the content
+   * @param out the output
+   */
+  void apply(CharSequence content, Appendable out) {
+    IndentState state = new IndentState();
+    open(state);
+    state.append(out, content);
+    state.close(out);
+  }
+
+  /**
+   * Open a section in the specified state, that shortens all the fully qualified names of the table.
+   * The names are shortened when they are written to the section, so content is scanned only once, as it streams.
+   *
+   * @param state the state
+   */
+  void open(IndentState state) {
+    state.open(new Filter(state.current()));
+  }
+
+  private final class Filter extends IndentState.Section {
+
+    // The characters that may be the beginning of a name
+    private final StringBuilder candidate = new StringBuilder();
+    private Trie node = root;
+
+    Filter(IndentState.Section parent) {
+      super(parent);
+    }
+
+    @Override
+    void content(Appendable out, CharSequence content, int start, int end) throws IOException {
+      int from = start;
+      for (int i = start; i < end; i++) {
+        char c = content.charAt(i);
+        if (candidate.length() == 0 && !root.children.containsKey(c)) {
+          continue;
+        }
+        if (i > from) {
+          emit(out, content, from, i);
+        }
+        feed(out, c);
+        from = i + 1;
+      }
+      if (end > from) {
+        emit(out, content, from, end);
+      }
+    }
+
+    @Override
+    void separator(Appendable out, char separator) throws IOException {
+      feed(out, separator);
+    }
+
+    @Override
+    void close(Appendable out) throws IOException {
+      while (candidate.length() > 0) {
+        if (node.fullyQualifiedName != null) {
+          replace(out);
+        } else {
+          skip(out);
+        }
+      }
+    }
+
+    private void feed(Appendable out, char c) throws IOException {
+      if (candidate.length() > 0 && node.fullyQualifiedName != null && !isAsciiAlphanumeric(c)) {
+        replace(out);
+      }
+      Trie next = (candidate.length() == 0 ? root : node).children.get(c);
+      if (next != null) {
+        candidate.append(c);
+        node = next;
+      } else if (candidate.length() == 0) {
+        emit(out, String.valueOf(c));
+      } else {
+        skip(out);
+        feed(out, c);
+      }
+    }
+
+    /**
+     * Write the short name of the matched name.
+     */
+    private void replace(Appendable out) throws IOException {
+      emit(out, shortNames.get(node.fullyQualifiedName));
+      candidate.setLength(0);
+      node = root;
+    }
+
+    /**
+     * Write the first character of the candidate as is and look for a name in the characters that follow.
+     */
+    private void skip(Appendable out) throws IOException {
+      String rest = candidate.substring(1);
+      emit(out, candidate.subSequence(0, 1));
+      candidate.setLength(0);
+      node = root;
+      for (int i = 0; i < rest.length(); i++) {
+        feed(out, rest.charAt(i));
+      }
+    }
+  }
+
+  private static boolean isAsciiAlphanumeric(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+  }
+
+  private static boolean hasNestedNames(Map<String, String> shortNames) {
+    for (Map.Entry<String, String> name : shortNames.entrySet()) {
+      for (Map.Entry<String, String> other : shortNames.entrySet()) {
+        if (!name.getKey().equals(other.getKey()) && !shortensAlike(name, other)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks if the other name is shortened alike, regardless of whether the name is replaced inside it first.
+   * That's the case when the name is not matched inside the other name, i.e. if it only appears there followed by a
+   * letter or digit (e.g. {@code a.Foo} inside {@code a.FooBuilder}), or when the other name starts with the name and its
+   * short name is the short name of the name followed by the rest (e.g. {@code a.Outer.Inner} that is shortened to
+   * {@code Outer.Inner} in package {@code a}).
+   */
+  private static boolean shortensAlike(Map.Entry<String, String> name, Map.Entry<String, String> other) {
+    String n = name.getKey();
+    String o = other.getKey();
+    for (int i = o.indexOf(n); i >= 0; i = o.indexOf(n, i + 1)) {
+      int end = i + n.length();
+      if (end < o.length() && isAsciiAlphanumeric(o.charAt(end))) {
+        continue;
+      }
+      if (i > 0 || !other.getValue().equals(name.getValue() + o.substring(end))) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2016 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Tracks the indentation of content that is streamed to an {@link Appendable}.
+ * Content is written through the sections that are currently open. Each indented section adds {@link Node#INDENT} in
+ * front of every line written to it, exactly like {@link Node#indent(String)} does for a {@link String}:
+ * <ul>
+ * <li>both '\n' and '\r' terminate a line and every line is terminated by a {@link Node#NEWLINE}</li>
+ * <li>empty lines at the end of a section are dropped</li>
+ * <li>a section that receives no content at all, renders a single empty line</li>
+ * </ul>
+ *
+ * The same {@link Appendable} should be passed to all methods of a state.
+ */
+public class IndentState {
+
+  private static final String INDENT = Node.INDENT;
+  private static final String NEWLINE = Node.NEWLINE;
+
+  private Section current;
+
+  /**
+   * A section of the output that transforms the content written to it, before passing it to its parent.
+   */
+  abstract static class Section {
+
+    private final Section parent;
+
+    Section(Section parent) {
+      this.parent = parent;
+    }
+
+    /**
+     * Receive content that contains no line separators.
+     */
+    abstract void content(Appendable out, CharSequence content, int start, int end) throws IOException;
+
+    abstract void separator(Appendable out, char separator) throws IOException;
+
+    abstract void close(Appendable out) throws IOException;
+
+    void emit(Appendable out, CharSequence content) throws IOException {
+      write(parent, out, content, 0, content.length());
+    }
+
+    void emit(Appendable out, CharSequence content, int start, int end) throws IOException {
+      write(parent, out, content, start, end);
+    }
+  }
+
+  private static class IndentSection extends Section {
+
+    private boolean started;
+    private boolean lineOpen;
+    private int pendingLines;
+
+    IndentSection(Section parent) {
+      super(parent);
+    }
+
+    @Override
+    void content(Appendable out, CharSequence content, int start, int end) throws IOException {
+      started = true;
+      if (!lineOpen || pendingLines > 0) {
+        if (lineOpen) {
+          emit(out, NEWLINE);
+          pendingLines--;
+        }
+        for (; pendingLines > 0; pendingLines--) {
+          emit(out, INDENT);
+          emit(out, NEWLINE);
+        }
+        emit(out, INDENT);
+        lineOpen = true;
+      }
+      emit(out, content, start, end);
+    }
+
+    @Override
+    void separator(Appendable out, char separator) {
+      started = true;
+      pendingLines++;
+    }
+
+    @Override
+    void close(Appendable out) throws IOException {
+      if (!started) {
+        emit(out, INDENT);
+        emit(out, NEWLINE);
+      } else if (lineOpen) {
+        emit(out, NEWLINE);
+      }
+    }
+  }
+
+  /**
+   * Write content through the open sections.
+   *
+   * @param out the output
+   * @param content the content
+   * @return this state
+   */
+  public IndentState append(Appendable out, CharSequence content) {
+    try {
+      write(current, out, content, 0, content.length());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return this;
+  }
+
+  /**
+   * Open an indented section. All content written until the section is closed, is indented.
+   *
+   * @return this state
+   */
+  public IndentState indent() {
+    current = new IndentSection(current);
+    return this;
+  }
+
+  /**
+   * Close the most recently opened section.
+   *
+   * @param out the output
+   * @return this state
+   */
+  public IndentState unindent(Appendable out) {
+    return close(out);
+  }
+
+  /**
+   * Render the specified statement in an indented section.
+   *
+   * @param out the output
+   * @param statement the statement
+   * @return this state
+   */
+  public IndentState tab(Appendable out, Statement statement) {
+    indent();
+    statement.renderStatement(out, this);
+    return unindent(out);
+  }
+
+  /**
+   * Write the specified content in an indented section.
+   *
+   * @param out the output
+   * @param content the content
+   * @return this state
+   */
+  public IndentState tab(Appendable out, CharSequence content) {
+    indent();
+    append(out, content);
+    return unindent(out);
+  }
+
+  /**
+   * Get the number of indented sections that are currently open.
+   *
+   * @return the number of indented sections
+   */
+  public int getDepth() {
+    int depth = 0;
+    for (Section s = current; s != null; s = s.parent) {
+      if (s instanceof IndentSection) {
+        depth++;
+      }
+    }
+    return depth;
+  }
+
+  IndentState open(Section section) {
+    if (section.parent != current) {
+      throw new IllegalArgumentException("Section should be nested in the current section.");
+    }
+    current = section;
+    return this;
+  }
+
+  Section current() {
+    return current;
+  }
+
+  IndentState close(Appendable out) {
+    if (current == null) {
+      throw new IllegalStateException("No open section.");
+    }
+    try {
+      current.close(out);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      current = current.parent;
+    }
+    return this;
+  }
+
+  /**
+   * Write content to the specified section, splitting it into lines.
+   */
+  static void write(Section section, Appendable out, CharSequence content, int start, int end) throws IOException {
+    if (section == null) {
+      out.append(content, start, end);
+      return;
+    }
+    int from = start;
+    for (int i = start; i < end; i++) {
+      char c = content.charAt(i);
+      if (c == '\n' || c == '\r') {
+        if (i > from) {
+          section.content(out, content, from, i);
+        }
+        section.separator(out, c);
+        from = i + 1;
+      }
+    }
+    if (end > from) {
+      section.content(out, content, from, end);
+    }
+  }
+}
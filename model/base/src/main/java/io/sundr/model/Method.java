@@ -312,6 +312,17 @@ public class Method extends ModifierSupport implements Renderable, WithReference
   }
 
   public String render(TypeDef enclosingType) {
+    StringBuilder sb = new StringBuilder();
+    render(sb, new IndentState(), enclosingType);
+    return sb.toString();
+  }
+
+  @Override
+  public void render(Appendable out, IndentState indent) {
+    render(out, indent, null);
+  }
+
+  public void render(Appendable out, IndentState indent, TypeDef enclosingType) {
     StringBuilder sb = new StringBuilder();
     renderDefinition(sb, enclosingType);
     boolean renderBody = isDefaultMethod() || isStatic()
@@ -319,14 +330,15 @@ public class Method extends ModifierSupport implements Renderable, WithReference
 
     if (renderBody) {
       sb.append(SPACE).append(OB).append(NEWLINE);
+      indent.append(out, sb);
       if (getBlock() != null) {
-        sb.append(getBlock().render());
+        getBlock().render(out, indent);
       }
-      sb.append(CB).append(NEWLINE);
+      indent.append(out, CB).append(out, NEWLINE);
     } else {
       sb.append(SEMICOLN);
+      indent.append(out, sb);
     }
-    return sb.toString();
   }
 
   @Override
@@ -64,9 +64,7 @@ public interface Node {
 
   default String indent(String s) {
     StringBuilder sb = new StringBuilder();
-    for (String line : s.split(NEWLINE_PATTERN)) {
-      sb.append(INDENT).append(line).append(NEWLINE);
-    }
+    new IndentState().tab(sb, s);
     return sb.toString();
   }
 }
@@ -33,6 +33,17 @@ public interface Renderable extends Node {
     return toString();
   }
 
+  /**
+   * Render the type into the specified {@link Appendable}, applying the indentation of the specified {@link IndentState}.
+   * This is the streaming counterpart of {@link #render()} and should yield the exact same content.
+   *
+   * @param out the output
+   * @param indent the indentation state
+   */
+  default void render(Appendable out, IndentState indent) {
+    indent.append(out, render());
+  }
+
   /**
    * Render the specified content adding a tab as indentation for each line.
    * Tab does not refer to the actual tab character but to two space characters.
@@ -43,11 +54,9 @@ public interface Renderable extends Node {
    **/
   default String tab(String... content) {
     StringBuilder sb = new StringBuilder();
+    IndentState indent = new IndentState();
     for (String c : content) {
-      String[] lines = c.split(NEWLINE_PATTERN);
-      for (String line : lines) {
-        sb.append(INDENT).append(line).append(NEWLINE);
-      }
+      indent.tab(sb, c);
     }
     return sb.toString();
   }
@@ -25,4 +25,14 @@ public interface Statement extends Renderable, WithReferences {
   default String renderStatement() {
     return render();
   }
+
+  /**
+   * Render the statement into the specified {@link Appendable}.
+   *
+   * @param out the output
+   * @param indent the indentation state
+   */
+  default void renderStatement(Appendable out, IndentState indent) {
+    render(out, indent);
+  }
 }
@@ -54,6 +54,13 @@ public class Switch implements Statement {
   }
 
   public String render() {
+    StringBuilder sb = new StringBuilder();
+    render(sb, new IndentState());
+    return sb.toString();
+  }
+
+  @Override
+  public void render(Appendable out, IndentState indent) {
     StringBuilder sb = new StringBuilder();
     sb.append("switch");
     sb.append(SPACE);
@@ -62,25 +69,29 @@ public class Switch implements Statement {
     sb.append(CP);
     sb.append(SPACE);
     sb.append(OB);
+    indent.append(out, sb);
     for (Map.Entry<ValueRef, Block> entry : cases.entrySet()) {
-      sb.append(NEWLINE);
-      sb.append(tab("case " + entry.getKey().render() + ":"));
-      sb.append(NEWLINE);
-      sb.append(tab(tab(entry.getValue().render())));
+      indent.append(out, NEWLINE);
+      indent.tab(out, "case " + entry.getKey().render() + ":");
+      indent.append(out, NEWLINE);
+      indent.indent().indent();
+      entry.getValue().render(out, indent);
+      indent.unindent(out).unindent(out);
       if (!blockReturns(entry.getValue())) {
-        sb.append(NEWLINE);
-        sb.append(tab(tab("break;")));
+        indent.append(out, NEWLINE);
+        indent.indent().tab(out, "break;").unindent(out);
       }
     }
     defaultCase.ifPresent(d -> {
-      sb.append(NEWLINE);
-      sb.append(tab("default:"));
-      sb.append(NEWLINE);
-      sb.append(tab(tab(d.render())));
+      indent.append(out, NEWLINE);
+      indent.tab(out, "default:");
+      indent.append(out, NEWLINE);
+      indent.indent().indent();
+      d.render(out, indent);
+      indent.unindent(out).unindent(out);
     });
-    sb.append(NEWLINE);
-    sb.append(CB);
-    return sb.toString();
+    indent.append(out, NEWLINE);
+    indent.append(out, CB);
   }
 
   //
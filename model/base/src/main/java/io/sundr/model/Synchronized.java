@@ -31,12 +31,19 @@ public class Synchronized implements Statement {
   }
 
   public String render() {
+    StringBuilder sb = new StringBuilder();
+    render(sb, new IndentState());
+    return sb.toString();
+  }
+
+  @Override
+  public void render(Appendable out, IndentState indent) {
     StringBuilder sb = new StringBuilder();
     sb.append("synchronized").append(SPACE).append(OP).append(lockExpression.render()).append(CP)
         .append(SPACE).append(OB).append(NEWLINE);
-    sb.append(tab(body.renderStatement()));
-    sb.append(CB).append(NEWLINE);
-    return sb.toString();
+    indent.append(out, sb);
+    indent.tab(out, body);
+    indent.append(out, CB).append(out, NEWLINE);
   }
 
   //
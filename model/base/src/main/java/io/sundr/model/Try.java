@@ -65,6 +65,13 @@ public class Try implements Statement {
   }
 
   public String render() {
+    StringBuilder sb = new StringBuilder();
+    render(sb, new IndentState());
+    return sb.toString();
+  }
+
+  @Override
+  public void render(Appendable out, IndentState indent) {
     StringBuilder sb = new StringBuilder();
     sb.append("try");
 
@@ -82,21 +89,20 @@ public class Try implements Statement {
     }
 
     sb.append(SPACE);
-    sb.append(tryBlock.render());
+    indent.append(out, sb);
+    tryBlock.render(out, indent);
 
     for (Catch catchBlock : catchBlocks) {
-      sb.append(SPACE);
-      sb.append(catchBlock.render());
+      indent.append(out, SPACE);
+      catchBlock.render(out, indent);
     }
 
     finallyBlock.ifPresent(block -> {
-      sb.append(SPACE);
-      sb.append("finally");
-      sb.append(SPACE);
-      sb.append(block.render());
+      indent.append(out, SPACE);
+      indent.append(out, "finally");
+      indent.append(out, SPACE);
+      block.render(out, indent);
     });
-
-    return sb.toString();
   }
 
   public static class Catch {
@@ -128,6 +134,12 @@ public class Try implements Statement {
     }
 
     public String render() {
+      StringBuilder sb = new StringBuilder();
+      render(sb, new IndentState());
+      return sb.toString();
+    }
+
+    public void render(Appendable out, IndentState indent) {
       StringBuilder sb = new StringBuilder();
       sb.append("catch");
       sb.append(SPACE);
@@ -135,8 +147,8 @@ public class Try implements Statement {
       sb.append(parameter.render());
       sb.append(CP);
       sb.append(SPACE);
-      sb.append(block.render());
-      return sb.toString();
+      indent.append(out, sb);
+      block.render(out, indent);
     }
   }
 }
\ No newline at end of file
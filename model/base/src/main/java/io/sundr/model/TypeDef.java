@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -436,103 +437,177 @@ public class TypeDef extends ModifierSupport
 
   @Override
   public String render() {
-    boolean hasNewline = false;
-    StringBuilder tb = new StringBuilder(); // Top StringBuffer: (package and imports).
     StringBuilder sb = new StringBuilder();
+    render(sb, new IndentState());
+    return sb.toString();
+  }
+
+  @Override
+  public void render(Appendable out, IndentState indent) {
+    StringBuilder tb = new StringBuilder(); // Top StringBuffer: (package and imports).
     Collection<ClassRef> references = getReferenceMap().values();
+    Set<String> imports = Collections.emptySet();
 
     // We only need to render those for the outermost type
     if (outerTypeName == null) {
       tb.append("package ").append(getPackageName()).append(SEMICOLN).append(NEWLINE);
       tb.append(NEWLINE);
+      imports = getImports(references);
       // Sort imports alphabetically
-      List<String> sortedImports = new ArrayList<>(getImports(references));
+      List<String> sortedImports = new ArrayList<>(imports);
       Collections.sort(sortedImports);
       for (String i : sortedImports) {
         tb.append("import ").append(i).append(SEMICOLN).append(NEWLINE);
       }
     }
 
+    String top = tb.toString();
+    indent.append(out, top);
+    Imports table = createImports(references, imports);
+    Imports previous = table.enter();
+    try {
+      if (table.isAmbiguous()) {
+        StringBuilder sb = new StringBuilder();
+        renderContent(sb, new IndentState());
+        indent.append(out, applyImports(sb.toString(), top, references));
+      } else {
+        table.open(indent);
+        try {
+          renderContent(out, indent);
+        } finally {
+          indent.close(out);
+        }
+      }
+    } finally {
+      Imports.exit(previous);
+    }
+  }
+
+  /**
+   * Render the type, without package and imports.
+   * Class references are rendered using the current {@link Imports} table.
+   */
+  private void renderContent(Appendable out, IndentState indent) {
+    boolean hasNewline = false;
+
     if (comments != null && !comments.isEmpty()) {
-      sb.append(renderComments());
+      indent.append(out, renderComments());
     }
 
     if (annotations != null && !annotations.isEmpty()) {
-      sb.append(renderAnnotations());
+      indent.append(out, renderAnnotations());
     }
 
+    StringBuilder sb = new StringBuilder();
     renderDefinition(sb);
     sb.append(OB).append(NEWLINE).append(NEWLINE);
+    indent.append(out, sb);
     hasNewline = true;
 
-    StringBuilder pb = new StringBuilder();
+    indent.indent();
     // Sort fields alphabetically by name
     List<Field> sortedFields = new ArrayList<>(fields);
     Collections.sort(sortedFields, Comparator.comparing(Field::getName));
     for (Field field : sortedFields) {
-      pb.append(field.renderComments());
-      pb.append(field.renderAnnotations());
-      pb.append(field.render());
+      indent.append(out, field.renderComments());
+      indent.append(out, field.renderAnnotations());
+      indent.append(out, field.render());
       if (field.getAttribute(INIT) != null) {
-        pb.append(" = ").append(field.getAttribute(INIT));
+        indent.append(out, " = ").append(out, String.valueOf(field.getAttribute(INIT)));
       }
-      pb.append(SEMICOLN).append(NEWLINE);
+      indent.append(out, SEMICOLN).append(out, NEWLINE);
       hasNewline = false;
     }
-    sb.append(indent(pb.toString()));
+    indent.unindent(out);
 
     if (!hasNewline) {
-      sb.append(NEWLINE);
+      indent.append(out, NEWLINE);
       hasNewline = true;
     }
 
     if (kind != Kind.INTERFACE) {
-      StringBuilder cb = new StringBuilder();
+      indent.indent();
       // Sort constructors by parameter count (fewer to more arguments)
       List<Method> sortedConstructors = new ArrayList<>(getConstructors());
       Collections.sort(sortedConstructors, Comparator.comparingInt(m -> m.getArguments().size()));
       for (Method constructor : sortedConstructors) {
-        cb.append(constructor.renderComments());
-        cb.append(constructor.renderAnnotations());
-        cb.append(constructor.render(this));
-        cb.append(NEWLINE);
+        indent.append(out, constructor.renderComments());
+        indent.append(out, constructor.renderAnnotations());
+        constructor.render(out, indent, this);
+        indent.append(out, NEWLINE);
         hasNewline = false;
       }
-      sb.append(indent(cb.toString()));
+      indent.unindent(out);
     }
 
     if (!hasNewline) {
-      sb.append(NEWLINE);
+      indent.append(out, NEWLINE);
       hasNewline = true;
     }
 
-    StringBuilder mb = new StringBuilder();
+    indent.indent();
     // Sort methods by: 1) method name alphabetically, 2) argument count, 3) argument names alphabetically
     List<Method> sortedMethods = new ArrayList<>(getMethods());
     Collections.sort(sortedMethods, createMethodComparator());
     for (Method method : sortedMethods) {
-      mb.append(method.renderComments());
-      mb.append(method.renderAnnotations());
-      mb.append(method.render(this));
-      mb.append(NEWLINE);
+      indent.append(out, method.renderComments());
+      indent.append(out, method.renderAnnotations());
+      method.render(out, indent, this);
+      indent.append(out, NEWLINE);
     }
-    sb.append(indent(mb.toString()));
+    indent.unindent(out);
 
-    StringBuilder ib = new StringBuilder();
+    indent.indent();
     // Sort nested classes alphabetically by name
     List<TypeDef> sortedInnerTypes = new ArrayList<>(innerTypes);
     Collections.sort(sortedInnerTypes, Comparator.comparing(TypeDef::getName));
     for (TypeDef innerType : sortedInnerTypes) {
-      ib.append(innerType.render());
-      ib.append(NEWLINE);
+      innerType.render(out, indent);
+      indent.append(out, NEWLINE);
     }
-    sb.append(indent(ib.toString()));
+    indent.unindent(out);
 
-    sb.append(CB);
-    String top = tb.toString();
-    String content = sb.toString();
-    content = applyImports(content, top, references);
-    return top + content;
+    indent.append(out, CB);
+  }
+
+  /**
+   * Create the import table of the type: classes of the same package are referred to by their class name and imported
+   * classes by their simple name.
+   *
+   * @param references the references of the type
+   * @param imports the imported classes
+   * @return the table
+   */
+  /**
+   * Get the import table that is used to render this type.
+   *
+   * @return the table
+   */
+  Imports getImportTable() {
+    Collection<ClassRef> references = getReferenceMap().values();
+    return createImports(references, outerTypeName == null ? getImports(references) : Collections.emptySet());
+  }
+
+  private Imports createImports(Collection<ClassRef> references, Set<String> imports) {
+    Map<String, String> shortNames = new LinkedHashMap<>();
+    for (ClassRef ref : references) {
+      // Skip if no package (primitive types, etc.)
+      if (ref.getPackageName() == null || ref.getPackageName().isEmpty()) {
+        continue;
+      }
+      // Nested classes under the same package will retain the outer class.
+      if (ref.getPackageName().equals(getPackageName())) {
+        shortNames.put(ref.getFullyQualifiedName(), ref.getName());
+      } else if (imports.contains(ref.getFullyQualifiedName())) {
+        shortNames.put(ref.getFullyQualifiedName(), WithFullyQualifiedName.getInnerTypeName(ref.getName()));
+      }
+    }
+    for (String i : imports) {
+      if (i.contains(DOT)) {
+        shortNames.putIfAbsent(i, WithFullyQualifiedName.getInnerTypeName(i));
+      }
+    }
+    return new Imports(shortNames);
   }
 
   private Comparator<Method> createMethodComparator() {
@@ -544,6 +619,10 @@ public class TypeDef extends ModifierSupport
             .collect(Collectors.joining(",")));
   }
 
+  /**
+   * Replace the fully qualified names of the content, one name at a time.
+   * This is only used when the result depends on the order of the replacements, see {@link Imports#isAmbiguous()}.
+   */
   private String applyImports(String content, String importsSection, Collection<ClassRef> references) {
     // First, process known references
     for (ClassRef ref : references) {
@@ -0,0 +1,86 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+public class ImportsTest {
+
+  private static Map<String, String> table(String... names) {
+    Map<String, String> shortNames = new LinkedHashMap<>();
+    for (String name : names) {
+      shortNames.put(name, name.substring(name.lastIndexOf('.') + 1));
+    }
+    return shortNames;
+  }
+
+  /**
+   * The replacement as it is done for ambiguous tables, one name at a time.
+   */
+  private static String replaceEach(Map<String, String> shortNames, String content) {
+    for (Map.Entry<String, String> entry : shortNames.entrySet()) {
+      content = content.replaceAll(Pattern.quote(entry.getKey()) + "(?![a-zA-Z0-9])", entry.getValue());
+    }
+    return content;
+  }
+
+  @Test
+  public void shouldUseSinglePassForBuilderAndFluentNames() {
+    Map<String, String> shortNames = table("a.b.Foo", "a.b.FooBuilder", "a.b.FooFluent");
+    Imports imports = new Imports(shortNames);
+    assertFalse(imports.isAmbiguous());
+    assertEquals("FooBuilder", imports.shorten("a.b.FooBuilder"));
+
+    String content = "new a.b.FooBuilder(a.b.Foo.of()).build(); a.b.FooFluent<?> f; a.b.Foox a.b.Foo";
+    assertEquals(replaceEach(shortNames, content), imports.apply(content));
+    assertEquals("new FooBuilder(Foo.of()).build(); FooFluent<?> f; a.b.Foox Foo", imports.apply(content));
+  }
+
+  @Test
+  public void shouldDetectNamesMatchedInsideOtherNames() {
+    assertFalse(new Imports(table("java.util.List", "java.util.ArrayList")).isAmbiguous());
+    assertTrue(new Imports(table("a.b.Outer", "a.b.Outer.Inner")).isAmbiguous());
+    assertTrue(new Imports(table("b.Foo", "a.b.Foo")).isAmbiguous());
+    assertFalse(new Imports(table("a.Foo", "a.FooBuilder", "a.Foo2Builder")).isAmbiguous());
+  }
+
+  @Test
+  public void shouldUseSinglePassForNestedClassesOfTheSamePackage() {
+    Map<String, String> shortNames = new LinkedHashMap<>();
+    shortNames.put("a.b.FooFluent", "FooFluent");
+    shortNames.put("a.b.FooFluent.BarsNested", "FooFluent.BarsNested");
+    Imports imports = new Imports(shortNames);
+    assertFalse(imports.isAmbiguous());
+
+    String content = "class a.b.FooFluent<A extends a.b.FooFluent<A>> { a.b.FooFluent.BarsNested<A> n; a.b.FooFluent.this }";
+    assertEquals(replaceEach(shortNames, content), imports.apply(content));
+    assertEquals("class FooFluent<A extends FooFluent<A>> { FooFluent.BarsNested<A> n; FooFluent.this }",
+        imports.apply(content));
+
+    shortNames.put("a.b.FooFluent.BarsNested", "BarsNested");
+    assertTrue(new Imports(shortNames).isAmbiguous());
+  }
+}
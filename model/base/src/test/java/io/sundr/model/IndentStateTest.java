@@ -0,0 +1,102 @@
+package io.sundr.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class IndentStateTest {
+
+  private static final String ALPHABET = "a \n\r";
+
+  /**
+   * The indentation as it was applied before {@link IndentState}, by splitting on line separators.
+   */
+  private static String splitAndIndent(String s) {
+    StringBuilder sb = new StringBuilder();
+    for (String line : s.split(Node.NEWLINE_PATTERN)) {
+      sb.append(Node.INDENT).append(line).append(Node.NEWLINE);
+    }
+    return sb.toString();
+  }
+
+  private static List<String> allStrings(int maxLength) {
+    List<String> result = new ArrayList<>();
+    result.add("");
+    List<String> previous = result;
+    for (int length = 1; length <= maxLength; length++) {
+      List<String> current = new ArrayList<>();
+      for (String s : previous) {
+        for (char c : ALPHABET.toCharArray()) {
+          current.add(s + c);
+        }
+      }
+      result.addAll(current);
+      previous = current;
+    }
+    return result;
+  }
+
+  @Test
+  public void shouldIndentLikeSplittingLines() {
+    for (String s : allStrings(6)) {
+      StringBuilder sb = new StringBuilder();
+      new IndentState().tab(sb, s);
+      assertEquals(splitAndIndent(s), sb.toString());
+    }
+  }
+
+  @Test
+  public void shouldIndentNestedSectionsLikeSplittingLines() {
+    for (String s : allStrings(5)) {
+      StringBuilder sb = new StringBuilder();
+      IndentState indent = new IndentState();
+      indent.append(sb, s).indent().append(sb, s).indent();
+      // Write one character at a time, to make sure that the result doesn't depend on how the content is split
+      for (char c : s.toCharArray()) {
+        indent.append(sb, String.valueOf(c));
+      }
+      indent.unindent(sb).append(sb, s).unindent(sb).append(sb, s);
+      assertEquals(s + splitAndIndent(s + splitAndIndent(s) + s) + s, sb.toString());
+    }
+  }
+
+  @Test
+  public void shouldTrackDepth() {
+    StringBuilder sb = new StringBuilder();
+    IndentState indent = new IndentState();
+    assertEquals(0, indent.getDepth());
+    indent.indent().indent();
+    assertEquals(2, indent.getDepth());
+    indent.unindent(sb);
+    assertEquals(1, indent.getDepth());
+  }
+
+  @Test
+  public void shouldStreamStatements() {
+    Block block = new Block(Arrays.asList(
+        new If(new ValueRef(true), new Block(new StringStatement("a();"), new StringStatement("b();\n\n"))),
+        new While(new ValueRef(false), new Block(new StringStatement("c();"))),
+        new Block(new StringStatement("d();"))));
+
+    StringWriter writer = new StringWriter();
+    IndentState indent = new IndentState();
+    indent.indent();
+    block.render(writer, indent);
+    indent.unindent(writer);
+
+    assertEquals(block.indent(block.render()), writer.toString());
+    assertEquals("    if (true) {\n" +
+        "        a();\n" +
+        "        b();\n" +
+        "    }\n" +
+        "    while (false) {\n" +
+        "        c();\n" +
+        "    }\n" +
+        "      d();\n", writer.toString());
+  }
+}
@@ -1,15 +1,21 @@
 package io.sundr.model;
 
+import java.lang.Boolean;
 import java.lang.Class;
+import java.lang.Integer;
 import java.lang.Object;
 import java.lang.String;
 import java.lang.StringBuilder;
 import java.lang.SuppressWarnings;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import io.sundr.builder.BaseFluent;
@@ -855,11 +861,23 @@ public class BlockFluent<A extends io.sundr.model.BlockFluent<A>> extends BaseFl
     if (this.statements == null) {
       return (A) this;
     }
+    Map<VisitableBuilder<? extends Statement, ?>, Integer> requested = new HashMap<VisitableBuilder<? extends Statement, ?>, Integer>();
     for (Statement item : items) {
       VisitableBuilder<? extends Statement, ?> builder = builder(item);
-      _visitables.get("statements").remove(builder);
-      this.statements.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<VisitableBuilder<? extends Statement, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends Statement, ?>, Boolean>());
+    for (VisitableBuilder<? extends Statement, ?> builder : this.statements) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.statements.removeAll(removed);
+    this._visitables.get("statements").removeAll(removed);
     return (A) this;
   }
 
@@ -876,11 +894,23 @@ public class BlockFluent<A extends io.sundr.model.BlockFluent<A>> extends BaseFl
     if (this.statements == null) {
       return (A) this;
     }
+    Map<VisitableBuilder<? extends Statement, ?>, Integer> requested = new HashMap<VisitableBuilder<? extends Statement, ?>, Integer>();
     for (Statement item : items) {
       VisitableBuilder<? extends Statement, ?> builder = builder(item);
-      _visitables.get("statements").remove(builder);
-      this.statements.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<VisitableBuilder<? extends Statement, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends Statement, ?>, Boolean>());
+    for (VisitableBuilder<? extends Statement, ?> builder : this.statements) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.statements.removeAll(removed);
+    this._visitables.get("statements").removeAll(removed);
     return (A) this;
   }
 
@@ -888,15 +918,15 @@ public class BlockFluent<A extends io.sundr.model.BlockFluent<A>> extends BaseFl
     if (statements == null) {
       return (A) this;
     }
-    Iterator<VisitableBuilder<? extends Statement, ?>> each = statements.iterator();
-    List visitables = _visitables.get("statements");
-    while (each.hasNext()) {
-      VisitableBuilder<? extends Statement, ?> builder = each.next();
+    Set<VisitableBuilder<? extends Statement, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends Statement, ?>, Boolean>());
+    for (VisitableBuilder<? extends Statement, ?> builder : statements) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    statements.removeAll(removed);
+    this._visitables.get("statements").removeAll(removed);
     return (A) this;
   }
 
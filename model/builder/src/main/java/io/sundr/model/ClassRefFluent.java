@@ -1,14 +1,20 @@
 package io.sundr.model;
 
+import java.lang.Boolean;
+import java.lang.Integer;
 import java.lang.Object;
 import java.lang.String;
 import java.lang.StringBuilder;
 import java.lang.SuppressWarnings;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import io.sundr.builder.Nested;
@@ -256,11 +262,23 @@ public class ClassRefFluent<A extends io.sundr.model.ClassRefFluent<A>> extends
     if (this.arguments == null) {
       return (A) this;
     }
+    Map<VisitableBuilder<? extends TypeRef, ?>, Integer> requested = new HashMap<VisitableBuilder<? extends TypeRef, ?>, Integer>();
     for (TypeRef item : items) {
       VisitableBuilder<? extends TypeRef, ?> builder = builder(item);
-      _visitables.get("arguments").remove(builder);
-      this.arguments.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<VisitableBuilder<? extends TypeRef, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends TypeRef, ?>, Boolean>());
+    for (VisitableBuilder<? extends TypeRef, ?> builder : this.arguments) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.arguments.removeAll(removed);
+    this._visitables.get("arguments").removeAll(removed);
     return (A) this;
   }
 
@@ -277,11 +295,23 @@ public class ClassRefFluent<A extends io.sundr.model.ClassRefFluent<A>> extends
     if (this.arguments == null) {
       return (A) this;
     }
+    Map<VisitableBuilder<? extends TypeRef, ?>, Integer> requested = new HashMap<VisitableBuilder<? extends TypeRef, ?>, Integer>();
     for (TypeRef item : items) {
       VisitableBuilder<? extends TypeRef, ?> builder = builder(item);
-      _visitables.get("arguments").remove(builder);
-      this.arguments.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<VisitableBuilder<? extends TypeRef, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends TypeRef, ?>, Boolean>());
+    for (VisitableBuilder<? extends TypeRef, ?> builder : this.arguments) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.arguments.removeAll(removed);
+    this._visitables.get("arguments").removeAll(removed);
     return (A) this;
   }
 
@@ -289,15 +319,15 @@ public class ClassRefFluent<A extends io.sundr.model.ClassRefFluent<A>> extends
     if (arguments == null) {
       return (A) this;
     }
-    Iterator<VisitableBuilder<? extends TypeRef, ?>> each = arguments.iterator();
-    List visitables = _visitables.get("arguments");
-    while (each.hasNext()) {
-      VisitableBuilder<? extends TypeRef, ?> builder = each.next();
+    Set<VisitableBuilder<? extends TypeRef, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends TypeRef, ?>, Boolean>());
+    for (VisitableBuilder<? extends TypeRef, ?> builder : arguments) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    arguments.removeAll(removed);
+    this._visitables.get("arguments").removeAll(removed);
     return (A) this;
   }
 
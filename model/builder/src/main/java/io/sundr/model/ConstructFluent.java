@@ -1,5 +1,6 @@
 package io.sundr.model;
 
+import java.lang.Boolean;
 import java.lang.Class;
 import java.lang.Integer;
 import java.lang.Object;
@@ -8,10 +9,14 @@ import java.lang.StringBuilder;
 import java.lang.SuppressWarnings;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import io.sundr.builder.BaseFluent;
@@ -1079,11 +1084,23 @@ public class ConstructFluent<A extends io.sundr.model.ConstructFluent<A>> extend
     if (this.arguments == null) {
       return (A) this;
     }
+    Map<VisitableBuilder<? extends Expression, ?>, Integer> requested = new HashMap<VisitableBuilder<? extends Expression, ?>, Integer>();
     for (Expression item : items) {
       VisitableBuilder<? extends Expression, ?> builder = builder(item);
-      _visitables.get("arguments").remove(builder);
-      this.arguments.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<VisitableBuilder<? extends Expression, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends Expression, ?>, Boolean>());
+    for (VisitableBuilder<? extends Expression, ?> builder : this.arguments) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.arguments.removeAll(removed);
+    this._visitables.get("arguments").removeAll(removed);
     return (A) this;
   }
 
@@ -1091,11 +1108,23 @@ public class ConstructFluent<A extends io.sundr.model.ConstructFluent<A>> extend
     if (this.parameters == null) {
       return (A) this;
     }
+    Map<VisitableBuilder<? extends TypeRef, ?>, Integer> requested = new HashMap<VisitableBuilder<? extends TypeRef, ?>, Integer>();
     for (TypeRef item : items) {
       VisitableBuilder<? extends TypeRef, ?> builder = builder(item);
-      _visitables.get("parameters").remove(builder);
-      this.parameters.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<VisitableBuilder<? extends TypeRef, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends TypeRef, ?>, Boolean>());
+    for (VisitableBuilder<? extends TypeRef, ?> builder : this.parameters) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.parameters.removeAll(removed);
+    this._visitables.get("parameters").removeAll(removed);
     return (A) this;
   }
 
@@ -1112,11 +1141,23 @@ public class ConstructFluent<A extends io.sundr.model.ConstructFluent<A>> extend
     if (this.arguments == null) {
       return (A) this;
     }
+    Map<VisitableBuilder<? extends Expression, ?>, Integer> requested = new HashMap<VisitableBuilder<? extends Expression, ?>, Integer>();
     for (Expression item : items) {
       VisitableBuilder<? extends Expression, ?> builder = builder(item);
-      _visitables.get("arguments").remove(builder);
-      this.arguments.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<VisitableBuilder<? extends Expression, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends Expression, ?>, Boolean>());
+    for (VisitableBuilder<? extends Expression, ?> builder : this.arguments) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.arguments.removeAll(removed);
+    this._visitables.get("arguments").removeAll(removed);
     return (A) this;
   }
 
@@ -1133,11 +1174,23 @@ public class ConstructFluent<A extends io.sundr.model.ConstructFluent<A>> extend
     if (this.parameters == null) {
       return (A) this;
     }
+    Map<VisitableBuilder<? extends TypeRef, ?>, Integer> requested = new HashMap<VisitableBuilder<? extends TypeRef, ?>, Integer>();
     for (TypeRef item : items) {
       VisitableBuilder<? extends TypeRef, ?> builder = builder(item);
-      _visitables.get("parameters").remove(builder);
-      this.parameters.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<VisitableBuilder<? extends TypeRef, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends TypeRef, ?>, Boolean>());
+    for (VisitableBuilder<? extends TypeRef, ?> builder : this.parameters) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.parameters.removeAll(removed);
+    this._visitables.get("parameters").removeAll(removed);
     return (A) this;
   }
 
@@ -1145,15 +1198,15 @@ public class ConstructFluent<A extends io.sundr.model.ConstructFluent<A>> extend
     if (arguments == null) {
       return (A) this;
     }
-    Iterator<VisitableBuilder<? extends Expression, ?>> each = arguments.iterator();
-    List visitables = _visitables.get("arguments");
-    while (each.hasNext()) {
-      VisitableBuilder<? extends Expression, ?> builder = each.next();
+    Set<VisitableBuilder<? extends Expression, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends Expression, ?>, Boolean>());
+    for (VisitableBuilder<? extends Expression, ?> builder : arguments) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    arguments.removeAll(removed);
+    this._visitables.get("arguments").removeAll(removed);
     return (A) this;
   }
 
@@ -1161,15 +1214,15 @@ public class ConstructFluent<A extends io.sundr.model.ConstructFluent<A>> extend
     if (parameters == null) {
       return (A) this;
     }
-    Iterator<VisitableBuilder<? extends TypeRef, ?>> each = parameters.iterator();
-    List visitables = _visitables.get("parameters");
-    while (each.hasNext()) {
-      VisitableBuilder<? extends TypeRef, ?> builder = each.next();
+    Set<VisitableBuilder<? extends TypeRef, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends TypeRef, ?>, Boolean>());
+    for (VisitableBuilder<? extends TypeRef, ?> builder : parameters) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    parameters.removeAll(removed);
+    this._visitables.get("parameters").removeAll(removed);
     return (A) this;
   }
 
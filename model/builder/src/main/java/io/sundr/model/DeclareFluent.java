@@ -1,5 +1,6 @@
 package io.sundr.model;
 
+import java.lang.Boolean;
 import java.lang.Class;
 import java.lang.Integer;
 import java.lang.Object;
@@ -9,10 +10,14 @@ import java.lang.StringBuilder;
 import java.lang.SuppressWarnings;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import io.sundr.builder.BaseFluent;
@@ -330,7 +335,8 @@ public class DeclareFluent<A extends io.sundr.model.DeclareFluent<A>> extends Ba
 
   protected void copyInstance(Declare instance) {
     if (instance != null) {
-      this.withLocalVariables(instance.getLocalVariables());
+      this.localVariables = this.lazyCopyOf("localVariables", instance.getLocalVariables(),
+          item -> new LocalVariableBuilder(item));
       this.withValue(instance.getValue());
     }
   }
@@ -416,11 +422,22 @@ public class DeclareFluent<A extends io.sundr.model.DeclareFluent<A>> extends Ba
     if (this.localVariables == null) {
       return (A) this;
     }
+    Map<LocalVariableBuilder, Integer> requested = new HashMap<LocalVariableBuilder, Integer>();
     for (LocalVariable item : items) {
       LocalVariableBuilder builder = new LocalVariableBuilder(item);
-      _visitables.get("localVariables").remove(builder);
-      this.localVariables.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<LocalVariableBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<LocalVariableBuilder, Boolean>());
+    for (LocalVariableBuilder builder : this.localVariables) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.localVariables.removeAll(removed);
+    this._visitables.get("localVariables").removeAll(removed);
     return (A) this;
   }
 
@@ -428,11 +445,22 @@ public class DeclareFluent<A extends io.sundr.model.DeclareFluent<A>> extends Ba
     if (this.localVariables == null) {
       return (A) this;
     }
+    Map<LocalVariableBuilder, Integer> requested = new HashMap<LocalVariableBuilder, Integer>();
     for (LocalVariable item : items) {
       LocalVariableBuilder builder = new LocalVariableBuilder(item);
-      _visitables.get("localVariables").remove(builder);
-      this.localVariables.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<LocalVariableBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<LocalVariableBuilder, Boolean>());
+    for (LocalVariableBuilder builder : this.localVariables) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.localVariables.removeAll(removed);
+    this._visitables.get("localVariables").removeAll(removed);
     return (A) this;
   }
 
@@ -440,15 +468,14 @@ public class DeclareFluent<A extends io.sundr.model.DeclareFluent<A>> extends Ba
     if (localVariables == null) {
       return (A) this;
     }
-    Iterator<LocalVariableBuilder> each = localVariables.iterator();
-    List visitables = _visitables.get("localVariables");
-    while (each.hasNext()) {
-      LocalVariableBuilder builder = each.next();
+    Set<LocalVariableBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<LocalVariableBuilder, Boolean>());
+    for (LocalVariableBuilder builder : localVariables) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    localVariables.removeAll(removed);
+    this._visitables.get("localVariables").removeAll(removed);
     return (A) this;
   }
 
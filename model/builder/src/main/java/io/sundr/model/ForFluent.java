@@ -1,5 +1,6 @@
 package io.sundr.model;
 
+import java.lang.Boolean;
 import java.lang.Class;
 import java.lang.Integer;
 import java.lang.Object;
@@ -8,9 +9,13 @@ import java.lang.StringBuilder;
 import java.lang.SuppressWarnings;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import io.sundr.builder.BaseFluent;
@@ -1603,11 +1608,23 @@ public class ForFluent<A extends io.sundr.model.ForFluent<A>> extends BaseFluent
     if (this.init == null) {
       return (A) this;
     }
+    Map<VisitableBuilder<? extends Expression, ?>, Integer> requested = new HashMap<VisitableBuilder<? extends Expression, ?>, Integer>();
     for (Expression item : items) {
       VisitableBuilder<? extends Expression, ?> builder = builder(item);
-      _visitables.get("init").remove(builder);
-      this.init.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<VisitableBuilder<? extends Expression, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends Expression, ?>, Boolean>());
+    for (VisitableBuilder<? extends Expression, ?> builder : this.init) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.init.removeAll(removed);
+    this._visitables.get("init").removeAll(removed);
     return (A) this;
   }
 
@@ -1615,11 +1632,23 @@ public class ForFluent<A extends io.sundr.model.ForFluent<A>> extends BaseFluent
     if (this.update == null) {
       return (A) this;
     }
+    Map<VisitableBuilder<? extends Expression, ?>, Integer> requested = new HashMap<VisitableBuilder<? extends Expression, ?>, Integer>();
     for (Expression item : items) {
       VisitableBuilder<? extends Expression, ?> builder = builder(item);
-      _visitables.get("update").remove(builder);
-      this.update.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<VisitableBuilder<? extends Expression, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends Expression, ?>, Boolean>());
+    for (VisitableBuilder<? extends Expression, ?> builder : this.update) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.update.removeAll(removed);
+    this._visitables.get("update").removeAll(removed);
     return (A) this;
   }
 
@@ -1636,11 +1665,23 @@ public class ForFluent<A extends io.sundr.model.ForFluent<A>> extends BaseFluent
     if (this.init == null) {
       return (A) this;
     }
+    Map<VisitableBuilder<? extends Expression, ?>, Integer> requested = new HashMap<VisitableBuilder<? extends Expression, ?>, Integer>();
     for (Expression item : items) {
       VisitableBuilder<? extends Expression, ?> builder = builder(item);
-      _visitables.get("init").remove(builder);
-      this.init.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<VisitableBuilder<? extends Expression, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends Expression, ?>, Boolean>());
+    for (VisitableBuilder<? extends Expression, ?> builder : this.init) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.init.removeAll(removed);
+    this._visitables.get("init").removeAll(removed);
     return (A) this;
   }
 
@@ -1657,11 +1698,23 @@ public class ForFluent<A extends io.sundr.model.ForFluent<A>> extends BaseFluent
     if (this.update == null) {
       return (A) this;
     }
+    Map<VisitableBuilder<? extends Expression, ?>, Integer> requested = new HashMap<VisitableBuilder<? extends Expression, ?>, Integer>();
     for (Expression item : items) {
       VisitableBuilder<? extends Expression, ?> builder = builder(item);
-      _visitables.get("update").remove(builder);
-      this.update.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<VisitableBuilder<? extends Expression, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends Expression, ?>, Boolean>());
+    for (VisitableBuilder<? extends Expression, ?> builder : this.update) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.update.removeAll(removed);
+    this._visitables.get("update").removeAll(removed);
     return (A) this;
   }
 
@@ -1669,15 +1722,15 @@ public class ForFluent<A extends io.sundr.model.ForFluent<A>> extends BaseFluent
     if (init == null) {
       return (A) this;
     }
-    Iterator<VisitableBuilder<? extends Expression, ?>> each = init.iterator();
-    List visitables = _visitables.get("init");
-    while (each.hasNext()) {
-      VisitableBuilder<? extends Expression, ?> builder = each.next();
+    Set<VisitableBuilder<? extends Expression, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends Expression, ?>, Boolean>());
+    for (VisitableBuilder<? extends Expression, ?> builder : init) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    init.removeAll(removed);
+    this._visitables.get("init").removeAll(removed);
     return (A) this;
   }
 
@@ -1685,15 +1738,15 @@ public class ForFluent<A extends io.sundr.model.ForFluent<A>> extends BaseFluent
     if (update == null) {
       return (A) this;
     }
-    Iterator<VisitableBuilder<? extends Expression, ?>> each = update.iterator();
-    List visitables = _visitables.get("update");
-    while (each.hasNext()) {
-      VisitableBuilder<? extends Expression, ?> builder = each.next();
+    Set<VisitableBuilder<? extends Expression, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends Expression, ?>, Boolean>());
+    for (VisitableBuilder<? extends Expression, ?> builder : update) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    update.removeAll(removed);
+    this._visitables.get("update").removeAll(removed);
     return (A) this;
   }
 
@@ -1,5 +1,6 @@
 package io.sundr.model;
 
+import java.lang.Boolean;
 import java.lang.Class;
 import java.lang.Integer;
 import java.lang.Object;
@@ -8,9 +9,13 @@ import java.lang.StringBuilder;
 import java.lang.SuppressWarnings;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import io.sundr.builder.BaseFluent;
@@ -949,11 +954,23 @@ public class IfDslThenStepFluent<A extends io.sundr.model.IfDslThenStepFluent<A>
     if (this.statements == null) {
       return (A) this;
     }
+    Map<VisitableBuilder<? extends Statement, ?>, Integer> requested = new HashMap<VisitableBuilder<? extends Statement, ?>, Integer>();
     for (Statement item : items) {
       VisitableBuilder<? extends Statement, ?> builder = builder(item);
-      _visitables.get("statements").remove(builder);
-      this.statements.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<VisitableBuilder<? extends Statement, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends Statement, ?>, Boolean>());
+    for (VisitableBuilder<? extends Statement, ?> builder : this.statements) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.statements.removeAll(removed);
+    this._visitables.get("statements").removeAll(removed);
     return (A) this;
   }
 
@@ -970,11 +987,23 @@ public class IfDslThenStepFluent<A extends io.sundr.model.IfDslThenStepFluent<A>
     if (this.statements == null) {
       return (A) this;
     }
+    Map<VisitableBuilder<? extends Statement, ?>, Integer> requested = new HashMap<VisitableBuilder<? extends Statement, ?>, Integer>();
     for (Statement item : items) {
       VisitableBuilder<? extends Statement, ?> builder = builder(item);
-      _visitables.get("statements").remove(builder);
-      this.statements.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<VisitableBuilder<? extends Statement, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends Statement, ?>, Boolean>());
+    for (VisitableBuilder<? extends Statement, ?> builder : this.statements) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.statements.removeAll(removed);
+    this._visitables.get("statements").removeAll(removed);
     return (A) this;
   }
 
@@ -982,15 +1011,15 @@ public class IfDslThenStepFluent<A extends io.sundr.model.IfDslThenStepFluent<A>
     if (statements == null) {
       return (A) this;
     }
-    Iterator<VisitableBuilder<? extends Statement, ?>> each = statements.iterator();
-    List visitables = _visitables.get("statements");
-    while (each.hasNext()) {
-      VisitableBuilder<? extends Statement, ?> builder = each.next();
+    Set<VisitableBuilder<? extends Statement, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends Statement, ?>, Boolean>());
+    for (VisitableBuilder<? extends Statement, ?> builder : statements) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    statements.removeAll(removed);
+    this._visitables.get("statements").removeAll(removed);
     return (A) this;
   }
 
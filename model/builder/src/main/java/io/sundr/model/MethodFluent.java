@@ -1,5 +1,7 @@
 package io.sundr.model;
 
+import java.lang.Boolean;
+import java.lang.Integer;
 import java.lang.Object;
 import java.lang.RuntimeException;
 import java.lang.String;
@@ -7,10 +9,14 @@ import java.lang.StringBuilder;
 import java.lang.SuppressWarnings;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import io.sundr.builder.Nested;
@@ -396,13 +402,13 @@ public class MethodFluent<A extends io.sundr.model.MethodFluent<A>> extends Modi
   protected void copyInstance(Method instance) {
     if (instance != null) {
       this.withComments(instance.getComments());
-      this.withAnnotations(instance.getAnnotations());
-      this.withParameters(instance.getParameters());
+      this.annotations = this.lazyCopyOf("annotations", instance.getAnnotations(), item -> new AnnotationRefBuilder(item));
+      this.parameters = this.lazyCopyOf("parameters", instance.getParameters(), item -> new TypeParamDefBuilder(item));
       this.withName(instance.getName());
       this.withReturnType(instance.getReturnType());
-      this.withArguments(instance.getArguments());
+      this.arguments = this.lazyCopyOf("arguments", instance.getArguments(), item -> new ArgumentBuilder(item));
       this.withVarArgPreferred(instance.isVarArgPreferred());
-      this.withExceptions(instance.getExceptions());
+      this.exceptions = this.lazyCopyOf("exceptions", instance.getExceptions(), item -> new ClassRefBuilder(item));
       this.withDefaultMethod(instance.isDefaultMethod());
       this.withBlock(instance.getBlock());
       this.withModifiers(instance.getModifiers());
@@ -741,11 +747,22 @@ public class MethodFluent<A extends io.sundr.model.MethodFluent<A>> extends Modi
     if (this.annotations == null) {
       return (A) this;
     }
+    Map<AnnotationRefBuilder, Integer> requested = new HashMap<AnnotationRefBuilder, Integer>();
     for (AnnotationRef item : items) {
       AnnotationRefBuilder builder = new AnnotationRefBuilder(item);
-      _visitables.get("annotations").remove(builder);
-      this.annotations.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<AnnotationRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<AnnotationRefBuilder, Boolean>());
+    for (AnnotationRefBuilder builder : this.annotations) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.annotations.removeAll(removed);
+    this._visitables.get("annotations").removeAll(removed);
     return (A) this;
   }
 
@@ -753,11 +770,22 @@ public class MethodFluent<A extends io.sundr.model.MethodFluent<A>> extends Modi
     if (this.arguments == null) {
       return (A) this;
     }
+    Map<ArgumentBuilder, Integer> requested = new HashMap<ArgumentBuilder, Integer>();
     for (Argument item : items) {
       ArgumentBuilder builder = new ArgumentBuilder(item);
-      _visitables.get("arguments").remove(builder);
-      this.arguments.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<ArgumentBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<ArgumentBuilder, Boolean>());
+    for (ArgumentBuilder builder : this.arguments) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.arguments.removeAll(removed);
+    this._visitables.get("arguments").removeAll(removed);
     return (A) this;
   }
 
@@ -775,11 +803,22 @@ public class MethodFluent<A extends io.sundr.model.MethodFluent<A>> extends Modi
     if (this.exceptions == null) {
       return (A) this;
     }
+    Map<ClassRefBuilder, Integer> requested = new HashMap<ClassRefBuilder, Integer>();
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("exceptions").remove(builder);
-      this.exceptions.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<ClassRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<ClassRefBuilder, Boolean>());
+    for (ClassRefBuilder builder : this.exceptions) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.exceptions.removeAll(removed);
+    this._visitables.get("exceptions").removeAll(removed);
     return (A) this;
   }
 
@@ -787,11 +826,22 @@ public class MethodFluent<A extends io.sundr.model.MethodFluent<A>> extends Modi
     if (this.parameters == null) {
       return (A) this;
     }
+    Map<TypeParamDefBuilder, Integer> requested = new HashMap<TypeParamDefBuilder, Integer>();
     for (TypeParamDef item : items) {
       TypeParamDefBuilder builder = new TypeParamDefBuilder(item);
-      _visitables.get("parameters").remove(builder);
-      this.parameters.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<TypeParamDefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<TypeParamDefBuilder, Boolean>());
+    for (TypeParamDefBuilder builder : this.parameters) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.parameters.removeAll(removed);
+    this._visitables.get("parameters").removeAll(removed);
     return (A) this;
   }
 
@@ -799,11 +849,22 @@ public class MethodFluent<A extends io.sundr.model.MethodFluent<A>> extends Modi
     if (this.annotations == null) {
       return (A) this;
     }
+    Map<AnnotationRefBuilder, Integer> requested = new HashMap<AnnotationRefBuilder, Integer>();
     for (AnnotationRef item : items) {
       AnnotationRefBuilder builder = new AnnotationRefBuilder(item);
-      _visitables.get("annotations").remove(builder);
-      this.annotations.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<AnnotationRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<AnnotationRefBuilder, Boolean>());
+    for (AnnotationRefBuilder builder : this.annotations) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.annotations.removeAll(removed);
+    this._visitables.get("annotations").removeAll(removed);
     return (A) this;
   }
 
@@ -811,11 +872,22 @@ public class MethodFluent<A extends io.sundr.model.MethodFluent<A>> extends Modi
     if (this.arguments == null) {
       return (A) this;
     }
+    Map<ArgumentBuilder, Integer> requested = new HashMap<ArgumentBuilder, Integer>();
     for (Argument item : items) {
       ArgumentBuilder builder = new ArgumentBuilder(item);
-      _visitables.get("arguments").remove(builder);
-      this.arguments.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<ArgumentBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<ArgumentBuilder, Boolean>());
+    for (ArgumentBuilder builder : this.arguments) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.arguments.removeAll(removed);
+    this._visitables.get("arguments").removeAll(removed);
     return (A) this;
   }
 
@@ -833,11 +905,22 @@ public class MethodFluent<A extends io.sundr.model.MethodFluent<A>> extends Modi
     if (this.exceptions == null) {
       return (A) this;
     }
+    Map<ClassRefBuilder, Integer> requested = new HashMap<ClassRefBuilder, Integer>();
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("exceptions").remove(builder);
-      this.exceptions.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<ClassRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<ClassRefBuilder, Boolean>());
+    for (ClassRefBuilder builder : this.exceptions) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.exceptions.removeAll(removed);
+    this._visitables.get("exceptions").removeAll(removed);
     return (A) this;
   }
 
@@ -845,11 +928,22 @@ public class MethodFluent<A extends io.sundr.model.MethodFluent<A>> extends Modi
     if (this.parameters == null) {
       return (A) this;
     }
+    Map<TypeParamDefBuilder, Integer> requested = new HashMap<TypeParamDefBuilder, Integer>();
     for (TypeParamDef item : items) {
       TypeParamDefBuilder builder = new TypeParamDefBuilder(item);
-      _visitables.get("parameters").remove(builder);
-      this.parameters.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<TypeParamDefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<TypeParamDefBuilder, Boolean>());
+    for (TypeParamDefBuilder builder : this.parameters) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.parameters.removeAll(removed);
+    this._visitables.get("parameters").removeAll(removed);
     return (A) this;
   }
 
@@ -857,15 +951,14 @@ public class MethodFluent<A extends io.sundr.model.MethodFluent<A>> extends Modi
     if (annotations == null) {
       return (A) this;
     }
-    Iterator<AnnotationRefBuilder> each = annotations.iterator();
-    List visitables = _visitables.get("annotations");
-    while (each.hasNext()) {
-      AnnotationRefBuilder builder = each.next();
+    Set<AnnotationRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<AnnotationRefBuilder, Boolean>());
+    for (AnnotationRefBuilder builder : annotations) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    annotations.removeAll(removed);
+    this._visitables.get("annotations").removeAll(removed);
     return (A) this;
   }
 
@@ -873,15 +966,14 @@ public class MethodFluent<A extends io.sundr.model.MethodFluent<A>> extends Modi
     if (arguments == null) {
       return (A) this;
     }
-    Iterator<ArgumentBuilder> each = arguments.iterator();
-    List visitables = _visitables.get("arguments");
-    while (each.hasNext()) {
-      ArgumentBuilder builder = each.next();
+    Set<ArgumentBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<ArgumentBuilder, Boolean>());
+    for (ArgumentBuilder builder : arguments) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    arguments.removeAll(removed);
+    this._visitables.get("arguments").removeAll(removed);
     return (A) this;
   }
 
@@ -889,15 +981,14 @@ public class MethodFluent<A extends io.sundr.model.MethodFluent<A>> extends Modi
     if (exceptions == null) {
       return (A) this;
     }
-    Iterator<ClassRefBuilder> each = exceptions.iterator();
-    List visitables = _visitables.get("exceptions");
-    while (each.hasNext()) {
-      ClassRefBuilder builder = each.next();
+    Set<ClassRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<ClassRefBuilder, Boolean>());
+    for (ClassRefBuilder builder : exceptions) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    exceptions.removeAll(removed);
+    this._visitables.get("exceptions").removeAll(removed);
     return (A) this;
   }
 
@@ -905,15 +996,14 @@ public class MethodFluent<A extends io.sundr.model.MethodFluent<A>> extends Modi
     if (parameters == null) {
       return (A) this;
     }
-    Iterator<TypeParamDefBuilder> each = parameters.iterator();
-    List visitables = _visitables.get("parameters");
-    while (each.hasNext()) {
-      TypeParamDefBuilder builder = each.next();
+    Set<TypeParamDefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<TypeParamDefBuilder, Boolean>());
+    for (TypeParamDefBuilder builder : parameters) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    parameters.removeAll(removed);
+    this._visitables.get("parameters").removeAll(removed);
     return (A) this;
   }
 
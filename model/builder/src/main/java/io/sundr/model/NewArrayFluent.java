@@ -1,5 +1,6 @@
 package io.sundr.model;
 
+import java.lang.Boolean;
 import java.lang.Class;
 import java.lang.Integer;
 import java.lang.Object;
@@ -8,9 +9,13 @@ import java.lang.StringBuilder;
 import java.lang.SuppressWarnings;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import io.sundr.builder.BaseFluent;
@@ -921,11 +926,23 @@ public class NewArrayFluent<A extends io.sundr.model.NewArrayFluent<A>> extends
     if (this.expressions == null) {
       return (A) this;
     }
+    Map<VisitableBuilder<? extends Expression, ?>, Integer> requested = new HashMap<VisitableBuilder<? extends Expression, ?>, Integer>();
     for (Expression item : items) {
       VisitableBuilder<? extends Expression, ?> builder = builder(item);
-      _visitables.get("expressions").remove(builder);
-      this.expressions.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<VisitableBuilder<? extends Expression, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends Expression, ?>, Boolean>());
+    for (VisitableBuilder<? extends Expression, ?> builder : this.expressions) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.expressions.removeAll(removed);
+    this._visitables.get("expressions").removeAll(removed);
     return (A) this;
   }
 
@@ -942,11 +959,23 @@ public class NewArrayFluent<A extends io.sundr.model.NewArrayFluent<A>> extends
     if (this.expressions == null) {
       return (A) this;
     }
+    Map<VisitableBuilder<? extends Expression, ?>, Integer> requested = new HashMap<VisitableBuilder<? extends Expression, ?>, Integer>();
     for (Expression item : items) {
       VisitableBuilder<? extends Expression, ?> builder = builder(item);
-      _visitables.get("expressions").remove(builder);
-      this.expressions.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<VisitableBuilder<? extends Expression, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends Expression, ?>, Boolean>());
+    for (VisitableBuilder<? extends Expression, ?> builder : this.expressions) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.expressions.removeAll(removed);
+    this._visitables.get("expressions").removeAll(removed);
     return (A) this;
   }
 
@@ -954,15 +983,15 @@ public class NewArrayFluent<A extends io.sundr.model.NewArrayFluent<A>> extends
     if (expressions == null) {
       return (A) this;
     }
-    Iterator<VisitableBuilder<? extends Expression, ?>> each = expressions.iterator();
-    List visitables = _visitables.get("expressions");
-    while (each.hasNext()) {
-      VisitableBuilder<? extends Expression, ?> builder = each.next();
+    Set<VisitableBuilder<? extends Expression, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends Expression, ?>, Boolean>());
+    for (VisitableBuilder<? extends Expression, ?> builder : expressions) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    expressions.removeAll(removed);
+    this._visitables.get("expressions").removeAll(removed);
     return (A) this;
   }
 
@@ -1,5 +1,6 @@
 package io.sundr.model;
 
+import java.lang.Boolean;
 import java.lang.Class;
 import java.lang.Integer;
 import java.lang.Object;
@@ -9,10 +10,14 @@ import java.lang.StringBuilder;
 import java.lang.SuppressWarnings;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import io.sundr.builder.Nested;
@@ -385,7 +390,7 @@ public class PropertyFluent<A extends io.sundr.model.PropertyFluent<A>> extends
       this.withModifiers(instance.getModifiers());
       this.withAttributes(instance.getAttributes());
       this.withComments(instance.getComments());
-      this.withAnnotations(instance.getAnnotations());
+      this.annotations = this.lazyCopyOf("annotations", instance.getAnnotations(), item -> new AnnotationRefBuilder(item));
       this.withTypeRef(instance.getTypeRef());
       this.withName(instance.getName());
       this.withInitialValue(instance.getInitialValue());
@@ -556,11 +561,22 @@ public class PropertyFluent<A extends io.sundr.model.PropertyFluent<A>> extends
     if (this.annotations == null) {
       return (A) this;
     }
+    Map<AnnotationRefBuilder, Integer> requested = new HashMap<AnnotationRefBuilder, Integer>();
     for (AnnotationRef item : items) {
       AnnotationRefBuilder builder = new AnnotationRefBuilder(item);
-      _visitables.get("annotations").remove(builder);
-      this.annotations.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<AnnotationRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<AnnotationRefBuilder, Boolean>());
+    for (AnnotationRefBuilder builder : this.annotations) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.annotations.removeAll(removed);
+    this._visitables.get("annotations").removeAll(removed);
     return (A) this;
   }
 
@@ -578,11 +594,22 @@ public class PropertyFluent<A extends io.sundr.model.PropertyFluent<A>> extends
     if (this.annotations == null) {
       return (A) this;
     }
+    Map<AnnotationRefBuilder, Integer> requested = new HashMap<AnnotationRefBuilder, Integer>();
     for (AnnotationRef item : items) {
       AnnotationRefBuilder builder = new AnnotationRefBuilder(item);
-      _visitables.get("annotations").remove(builder);
-      this.annotations.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<AnnotationRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<AnnotationRefBuilder, Boolean>());
+    for (AnnotationRefBuilder builder : this.annotations) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.annotations.removeAll(removed);
+    this._visitables.get("annotations").removeAll(removed);
     return (A) this;
   }
 
@@ -600,15 +627,14 @@ public class PropertyFluent<A extends io.sundr.model.PropertyFluent<A>> extends
     if (annotations == null) {
       return (A) this;
     }
-    Iterator<AnnotationRefBuilder> each = annotations.iterator();
-    List visitables = _visitables.get("annotations");
-    while (each.hasNext()) {
-      AnnotationRefBuilder builder = each.next();
+    Set<AnnotationRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<AnnotationRefBuilder, Boolean>());
+    for (AnnotationRefBuilder builder : annotations) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    annotations.removeAll(removed);
+    this._visitables.get("annotations").removeAll(removed);
     return (A) this;
   }
 
@@ -1,5 +1,7 @@
 package io.sundr.model;
 
+import java.lang.Boolean;
+import java.lang.Integer;
 import java.lang.Object;
 import java.lang.RuntimeException;
 import java.lang.String;
@@ -7,9 +9,13 @@ import java.lang.StringBuilder;
 import java.lang.SuppressWarnings;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import io.sundr.builder.BaseFluent;
@@ -109,7 +115,7 @@ public class SourceFluent<A extends io.sundr.model.SourceFluent<A>> extends Base
   protected void copyInstance(Source instance) {
     instance = instance != null ? instance : new Source();
     if (instance != null) {
-      this.withTypes(instance.getTypes());
+      this.types = this.lazyCopyOf("types", instance.getTypes(), item -> new TypeDefBuilder(item));
     }
   }
 
@@ -187,11 +193,22 @@ public class SourceFluent<A extends io.sundr.model.SourceFluent<A>> extends Base
     if (this.types == null) {
       return (A) this;
     }
+    Map<TypeDefBuilder, Integer> requested = new HashMap<TypeDefBuilder, Integer>();
     for (TypeDef item : items) {
       TypeDefBuilder builder = new TypeDefBuilder(item);
-      _visitables.get("types").remove(builder);
-      this.types.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<TypeDefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<TypeDefBuilder, Boolean>());
+    for (TypeDefBuilder builder : this.types) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.types.removeAll(removed);
+    this._visitables.get("types").removeAll(removed);
     return (A) this;
   }
 
@@ -199,11 +216,22 @@ public class SourceFluent<A extends io.sundr.model.SourceFluent<A>> extends Base
     if (this.types == null) {
       return (A) this;
     }
+    Map<TypeDefBuilder, Integer> requested = new HashMap<TypeDefBuilder, Integer>();
     for (TypeDef item : items) {
       TypeDefBuilder builder = new TypeDefBuilder(item);
-      _visitables.get("types").remove(builder);
-      this.types.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<TypeDefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<TypeDefBuilder, Boolean>());
+    for (TypeDefBuilder builder : this.types) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.types.removeAll(removed);
+    this._visitables.get("types").removeAll(removed);
     return (A) this;
   }
 
@@ -211,15 +239,14 @@ public class SourceFluent<A extends io.sundr.model.SourceFluent<A>> extends Base
     if (types == null) {
       return (A) this;
     }
-    Iterator<TypeDefBuilder> each = types.iterator();
-    List visitables = _visitables.get("types");
-    while (each.hasNext()) {
-      TypeDefBuilder builder = each.next();
+    Set<TypeDefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<TypeDefBuilder, Boolean>());
+    for (TypeDefBuilder builder : types) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    types.removeAll(removed);
+    this._visitables.get("types").removeAll(removed);
     return (A) this;
   }
 
@@ -1,5 +1,7 @@
 package io.sundr.model;
 
+import java.lang.Boolean;
+import java.lang.Integer;
 import java.lang.Object;
 import java.lang.RuntimeException;
 import java.lang.String;
@@ -7,9 +9,13 @@ import java.lang.StringBuilder;
 import java.lang.SuppressWarnings;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import io.sundr.builder.Nested;
@@ -655,15 +661,15 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
       this.withPackageName(instance.getPackageName());
       this.withName(instance.getName());
       this.withComments(instance.getComments());
-      this.withAnnotations(instance.getAnnotations());
-      this.withExtendsList(instance.getExtendsList());
-      this.withImplementsList(instance.getImplementsList());
-      this.withParameters(instance.getParameters());
-      this.withFields(instance.getFields());
-      this.withConstructors(instance.getConstructors());
-      this.withMethods(instance.getMethods());
+      this.annotations = this.lazyCopyOf("annotations", instance.getAnnotations(), item -> new AnnotationRefBuilder(item));
+      this.extendsList = this.lazyCopyOf("extendsList", instance.getExtendsList(), item -> new ClassRefBuilder(item));
+      this.implementsList = this.lazyCopyOf("implementsList", instance.getImplementsList(), item -> new ClassRefBuilder(item));
+      this.parameters = this.lazyCopyOf("parameters", instance.getParameters(), item -> new TypeParamDefBuilder(item));
+      this.fields = this.lazyCopyOf("fields", instance.getFields(), item -> new FieldBuilder(item));
+      this.constructors = this.lazyCopyOf("constructors", instance.getConstructors(), item -> new MethodBuilder(item));
+      this.methods = this.lazyCopyOf("methods", instance.getMethods(), item -> new MethodBuilder(item));
       this.withOuterTypeName(instance.getOuterTypeName());
-      this.withInnerTypes(instance.getInnerTypes());
+      this.innerTypes = this.lazyCopyOf("innerTypes", instance.getInnerTypes(), item -> new TypeDefBuilder(item));
       this.withModifiers(instance.getModifiers());
       this.withAttributes(instance.getAttributes());
     }
@@ -1193,11 +1199,22 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (this.annotations == null) {
       return (A) this;
     }
+    Map<AnnotationRefBuilder, Integer> requested = new HashMap<AnnotationRefBuilder, Integer>();
     for (AnnotationRef item : items) {
       AnnotationRefBuilder builder = new AnnotationRefBuilder(item);
-      _visitables.get("annotations").remove(builder);
-      this.annotations.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<AnnotationRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<AnnotationRefBuilder, Boolean>());
+    for (AnnotationRefBuilder builder : this.annotations) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.annotations.removeAll(removed);
+    this._visitables.get("annotations").removeAll(removed);
     return (A) this;
   }
 
@@ -1215,11 +1232,22 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (this.constructors == null) {
       return (A) this;
     }
+    Map<MethodBuilder, Integer> requested = new HashMap<MethodBuilder, Integer>();
     for (Method item : items) {
       MethodBuilder builder = new MethodBuilder(item);
-      _visitables.get("constructors").remove(builder);
-      this.constructors.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<MethodBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<MethodBuilder, Boolean>());
+    for (MethodBuilder builder : this.constructors) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.constructors.removeAll(removed);
+    this._visitables.get("constructors").removeAll(removed);
     return (A) this;
   }
 
@@ -1227,11 +1255,22 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (this.extendsList == null) {
       return (A) this;
     }
+    Map<ClassRefBuilder, Integer> requested = new HashMap<ClassRefBuilder, Integer>();
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("extendsList").remove(builder);
-      this.extendsList.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<ClassRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<ClassRefBuilder, Boolean>());
+    for (ClassRefBuilder builder : this.extendsList) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.extendsList.removeAll(removed);
+    this._visitables.get("extendsList").removeAll(removed);
     return (A) this;
   }
 
@@ -1239,11 +1278,22 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (this.fields == null) {
       return (A) this;
     }
+    Map<FieldBuilder, Integer> requested = new HashMap<FieldBuilder, Integer>();
     for (Field item : items) {
       FieldBuilder builder = new FieldBuilder(item);
-      _visitables.get("fields").remove(builder);
-      this.fields.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<FieldBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<FieldBuilder, Boolean>());
+    for (FieldBuilder builder : this.fields) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.fields.removeAll(removed);
+    this._visitables.get("fields").removeAll(removed);
     return (A) this;
   }
 
@@ -1251,11 +1301,22 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (this.implementsList == null) {
       return (A) this;
     }
+    Map<ClassRefBuilder, Integer> requested = new HashMap<ClassRefBuilder, Integer>();
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("implementsList").remove(builder);
-      this.implementsList.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<ClassRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<ClassRefBuilder, Boolean>());
+    for (ClassRefBuilder builder : this.implementsList) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.implementsList.removeAll(removed);
+    this._visitables.get("implementsList").removeAll(removed);
     return (A) this;
   }
 
@@ -1263,11 +1324,22 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (this.innerTypes == null) {
       return (A) this;
     }
+    Map<TypeDefBuilder, Integer> requested = new HashMap<TypeDefBuilder, Integer>();
     for (TypeDef item : items) {
       TypeDefBuilder builder = new TypeDefBuilder(item);
-      _visitables.get("innerTypes").remove(builder);
-      this.innerTypes.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<TypeDefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<TypeDefBuilder, Boolean>());
+    for (TypeDefBuilder builder : this.innerTypes) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.innerTypes.removeAll(removed);
+    this._visitables.get("innerTypes").removeAll(removed);
     return (A) this;
   }
 
@@ -1275,11 +1347,22 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (this.methods == null) {
       return (A) this;
     }
+    Map<MethodBuilder, Integer> requested = new HashMap<MethodBuilder, Integer>();
     for (Method item : items) {
       MethodBuilder builder = new MethodBuilder(item);
-      _visitables.get("methods").remove(builder);
-      this.methods.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<MethodBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<MethodBuilder, Boolean>());
+    for (MethodBuilder builder : this.methods) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.methods.removeAll(removed);
+    this._visitables.get("methods").removeAll(removed);
     return (A) this;
   }
 
@@ -1287,11 +1370,22 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (this.parameters == null) {
       return (A) this;
     }
+    Map<TypeParamDefBuilder, Integer> requested = new HashMap<TypeParamDefBuilder, Integer>();
     for (TypeParamDef item : items) {
       TypeParamDefBuilder builder = new TypeParamDefBuilder(item);
-      _visitables.get("parameters").remove(builder);
-      this.parameters.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<TypeParamDefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<TypeParamDefBuilder, Boolean>());
+    for (TypeParamDefBuilder builder : this.parameters) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.parameters.removeAll(removed);
+    this._visitables.get("parameters").removeAll(removed);
     return (A) this;
   }
 
@@ -1299,11 +1393,22 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (this.annotations == null) {
       return (A) this;
     }
+    Map<AnnotationRefBuilder, Integer> requested = new HashMap<AnnotationRefBuilder, Integer>();
     for (AnnotationRef item : items) {
       AnnotationRefBuilder builder = new AnnotationRefBuilder(item);
-      _visitables.get("annotations").remove(builder);
-      this.annotations.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<AnnotationRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<AnnotationRefBuilder, Boolean>());
+    for (AnnotationRefBuilder builder : this.annotations) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.annotations.removeAll(removed);
+    this._visitables.get("annotations").removeAll(removed);
     return (A) this;
   }
 
@@ -1321,11 +1426,22 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (this.constructors == null) {
       return (A) this;
     }
+    Map<MethodBuilder, Integer> requested = new HashMap<MethodBuilder, Integer>();
     for (Method item : items) {
       MethodBuilder builder = new MethodBuilder(item);
-      _visitables.get("constructors").remove(builder);
-      this.constructors.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<MethodBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<MethodBuilder, Boolean>());
+    for (MethodBuilder builder : this.constructors) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.constructors.removeAll(removed);
+    this._visitables.get("constructors").removeAll(removed);
     return (A) this;
   }
 
@@ -1333,11 +1449,22 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (this.extendsList == null) {
       return (A) this;
     }
+    Map<ClassRefBuilder, Integer> requested = new HashMap<ClassRefBuilder, Integer>();
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("extendsList").remove(builder);
-      this.extendsList.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<ClassRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<ClassRefBuilder, Boolean>());
+    for (ClassRefBuilder builder : this.extendsList) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.extendsList.removeAll(removed);
+    this._visitables.get("extendsList").removeAll(removed);
     return (A) this;
   }
 
@@ -1345,11 +1472,22 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (this.fields == null) {
       return (A) this;
     }
+    Map<FieldBuilder, Integer> requested = new HashMap<FieldBuilder, Integer>();
     for (Field item : items) {
       FieldBuilder builder = new FieldBuilder(item);
-      _visitables.get("fields").remove(builder);
-      this.fields.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<FieldBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<FieldBuilder, Boolean>());
+    for (FieldBuilder builder : this.fields) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.fields.removeAll(removed);
+    this._visitables.get("fields").removeAll(removed);
     return (A) this;
   }
 
@@ -1357,11 +1495,22 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (this.implementsList == null) {
       return (A) this;
     }
+    Map<ClassRefBuilder, Integer> requested = new HashMap<ClassRefBuilder, Integer>();
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("implementsList").remove(builder);
-      this.implementsList.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<ClassRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<ClassRefBuilder, Boolean>());
+    for (ClassRefBuilder builder : this.implementsList) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.implementsList.removeAll(removed);
+    this._visitables.get("implementsList").removeAll(removed);
     return (A) this;
   }
 
@@ -1369,11 +1518,22 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (this.innerTypes == null) {
       return (A) this;
     }
+    Map<TypeDefBuilder, Integer> requested = new HashMap<TypeDefBuilder, Integer>();
     for (TypeDef item : items) {
       TypeDefBuilder builder = new TypeDefBuilder(item);
-      _visitables.get("innerTypes").remove(builder);
-      this.innerTypes.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<TypeDefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<TypeDefBuilder, Boolean>());
+    for (TypeDefBuilder builder : this.innerTypes) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.innerTypes.removeAll(removed);
+    this._visitables.get("innerTypes").removeAll(removed);
     return (A) this;
   }
 
@@ -1381,11 +1541,22 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (this.methods == null) {
       return (A) this;
     }
+    Map<MethodBuilder, Integer> requested = new HashMap<MethodBuilder, Integer>();
     for (Method item : items) {
       MethodBuilder builder = new MethodBuilder(item);
-      _visitables.get("methods").remove(builder);
-      this.methods.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<MethodBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<MethodBuilder, Boolean>());
+    for (MethodBuilder builder : this.methods) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.methods.removeAll(removed);
+    this._visitables.get("methods").removeAll(removed);
     return (A) this;
   }
 
@@ -1393,11 +1564,22 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (this.parameters == null) {
       return (A) this;
     }
+    Map<TypeParamDefBuilder, Integer> requested = new HashMap<TypeParamDefBuilder, Integer>();
     for (TypeParamDef item : items) {
       TypeParamDefBuilder builder = new TypeParamDefBuilder(item);
-      _visitables.get("parameters").remove(builder);
-      this.parameters.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<TypeParamDefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<TypeParamDefBuilder, Boolean>());
+    for (TypeParamDefBuilder builder : this.parameters) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.parameters.removeAll(removed);
+    this._visitables.get("parameters").removeAll(removed);
     return (A) this;
   }
 
@@ -1405,15 +1587,14 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (annotations == null) {
       return (A) this;
     }
-    Iterator<AnnotationRefBuilder> each = annotations.iterator();
-    List visitables = _visitables.get("annotations");
-    while (each.hasNext()) {
-      AnnotationRefBuilder builder = each.next();
+    Set<AnnotationRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<AnnotationRefBuilder, Boolean>());
+    for (AnnotationRefBuilder builder : annotations) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    annotations.removeAll(removed);
+    this._visitables.get("annotations").removeAll(removed);
     return (A) this;
   }
 
@@ -1421,15 +1602,14 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (constructors == null) {
       return (A) this;
     }
-    Iterator<MethodBuilder> each = constructors.iterator();
-    List visitables = _visitables.get("constructors");
-    while (each.hasNext()) {
-      MethodBuilder builder = each.next();
+    Set<MethodBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<MethodBuilder, Boolean>());
+    for (MethodBuilder builder : constructors) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    constructors.removeAll(removed);
+    this._visitables.get("constructors").removeAll(removed);
     return (A) this;
   }
 
@@ -1437,15 +1617,14 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (extendsList == null) {
       return (A) this;
     }
-    Iterator<ClassRefBuilder> each = extendsList.iterator();
-    List visitables = _visitables.get("extendsList");
-    while (each.hasNext()) {
-      ClassRefBuilder builder = each.next();
+    Set<ClassRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<ClassRefBuilder, Boolean>());
+    for (ClassRefBuilder builder : extendsList) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    extendsList.removeAll(removed);
+    this._visitables.get("extendsList").removeAll(removed);
     return (A) this;
   }
 
@@ -1453,15 +1632,14 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (fields == null) {
       return (A) this;
     }
-    Iterator<FieldBuilder> each = fields.iterator();
-    List visitables = _visitables.get("fields");
-    while (each.hasNext()) {
-      FieldBuilder builder = each.next();
+    Set<FieldBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<FieldBuilder, Boolean>());
+    for (FieldBuilder builder : fields) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    fields.removeAll(removed);
+    this._visitables.get("fields").removeAll(removed);
     return (A) this;
   }
 
@@ -1469,15 +1647,14 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (implementsList == null) {
       return (A) this;
     }
-    Iterator<ClassRefBuilder> each = implementsList.iterator();
-    List visitables = _visitables.get("implementsList");
-    while (each.hasNext()) {
-      ClassRefBuilder builder = each.next();
+    Set<ClassRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<ClassRefBuilder, Boolean>());
+    for (ClassRefBuilder builder : implementsList) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    implementsList.removeAll(removed);
+    this._visitables.get("implementsList").removeAll(removed);
     return (A) this;
   }
 
@@ -1485,15 +1662,14 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (innerTypes == null) {
       return (A) this;
     }
-    Iterator<TypeDefBuilder> each = innerTypes.iterator();
-    List visitables = _visitables.get("innerTypes");
-    while (each.hasNext()) {
-      TypeDefBuilder builder = each.next();
+    Set<TypeDefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<TypeDefBuilder, Boolean>());
+    for (TypeDefBuilder builder : innerTypes) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    innerTypes.removeAll(removed);
+    this._visitables.get("innerTypes").removeAll(removed);
     return (A) this;
   }
 
@@ -1501,15 +1677,14 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (methods == null) {
       return (A) this;
     }
-    Iterator<MethodBuilder> each = methods.iterator();
-    List visitables = _visitables.get("methods");
-    while (each.hasNext()) {
-      MethodBuilder builder = each.next();
+    Set<MethodBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<MethodBuilder, Boolean>());
+    for (MethodBuilder builder : methods) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    methods.removeAll(removed);
+    this._visitables.get("methods").removeAll(removed);
     return (A) this;
   }
 
@@ -1517,15 +1692,14 @@ public class TypeDefFluent<A extends io.sundr.model.TypeDefFluent<A>> extends Mo
     if (parameters == null) {
       return (A) this;
     }
-    Iterator<TypeParamDefBuilder> each = parameters.iterator();
-    List visitables = _visitables.get("parameters");
-    while (each.hasNext()) {
-      TypeParamDefBuilder builder = each.next();
+    Set<TypeParamDefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<TypeParamDefBuilder, Boolean>());
+    for (TypeParamDefBuilder builder : parameters) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    parameters.removeAll(removed);
+    this._visitables.get("parameters").removeAll(removed);
     return (A) this;
   }
 
@@ -1,5 +1,7 @@
 package io.sundr.model;
 
+import java.lang.Boolean;
+import java.lang.Integer;
 import java.lang.Object;
 import java.lang.RuntimeException;
 import java.lang.String;
@@ -7,9 +9,13 @@ import java.lang.StringBuilder;
 import java.lang.SuppressWarnings;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import io.sundr.builder.Nested;
@@ -105,7 +111,7 @@ public class TypeParamDefFluent<A extends io.sundr.model.TypeParamDefFluent<A>>
   protected void copyInstance(TypeParamDef instance) {
     if (instance != null) {
       this.withName(instance.getName());
-      this.withBounds(instance.getBounds());
+      this.bounds = this.lazyCopyOf("bounds", instance.getBounds(), item -> new ClassRefBuilder(item));
       this.withAttributes(instance.getAttributes());
     }
   }
@@ -195,11 +201,22 @@ public class TypeParamDefFluent<A extends io.sundr.model.TypeParamDefFluent<A>>
     if (this.bounds == null) {
       return (A) this;
     }
+    Map<ClassRefBuilder, Integer> requested = new HashMap<ClassRefBuilder, Integer>();
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("bounds").remove(builder);
-      this.bounds.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<ClassRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<ClassRefBuilder, Boolean>());
+    for (ClassRefBuilder builder : this.bounds) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.bounds.removeAll(removed);
+    this._visitables.get("bounds").removeAll(removed);
     return (A) this;
   }
 
@@ -207,11 +224,22 @@ public class TypeParamDefFluent<A extends io.sundr.model.TypeParamDefFluent<A>>
     if (this.bounds == null) {
       return (A) this;
     }
+    Map<ClassRefBuilder, Integer> requested = new HashMap<ClassRefBuilder, Integer>();
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("bounds").remove(builder);
-      this.bounds.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<ClassRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<ClassRefBuilder, Boolean>());
+    for (ClassRefBuilder builder : this.bounds) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.bounds.removeAll(removed);
+    this._visitables.get("bounds").removeAll(removed);
     return (A) this;
   }
 
@@ -219,15 +247,14 @@ public class TypeParamDefFluent<A extends io.sundr.model.TypeParamDefFluent<A>>
     if (bounds == null) {
       return (A) this;
     }
-    Iterator<ClassRefBuilder> each = bounds.iterator();
-    List visitables = _visitables.get("bounds");
-    while (each.hasNext()) {
-      ClassRefBuilder builder = each.next();
+    Set<ClassRefBuilder> removed = Collections.newSetFromMap(new IdentityHashMap<ClassRefBuilder, Boolean>());
+    for (ClassRefBuilder builder : bounds) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    bounds.removeAll(removed);
+    this._visitables.get("bounds").removeAll(removed);
     return (A) this;
   }
 
@@ -1,14 +1,20 @@
 package io.sundr.model;
 
+import java.lang.Boolean;
+import java.lang.Integer;
 import java.lang.Object;
 import java.lang.String;
 import java.lang.StringBuilder;
 import java.lang.SuppressWarnings;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import io.sundr.builder.Nested;
@@ -244,11 +250,23 @@ public class WildcardRefFluent<A extends io.sundr.model.WildcardRefFluent<A>> ex
     if (this.bounds == null) {
       return (A) this;
     }
+    Map<VisitableBuilder<? extends TypeRef, ?>, Integer> requested = new HashMap<VisitableBuilder<? extends TypeRef, ?>, Integer>();
     for (TypeRef item : items) {
       VisitableBuilder<? extends TypeRef, ?> builder = builder(item);
-      _visitables.get("bounds").remove(builder);
-      this.bounds.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<VisitableBuilder<? extends TypeRef, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends TypeRef, ?>, Boolean>());
+    for (VisitableBuilder<? extends TypeRef, ?> builder : this.bounds) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.bounds.removeAll(removed);
+    this._visitables.get("bounds").removeAll(removed);
     return (A) this;
   }
 
@@ -265,11 +283,23 @@ public class WildcardRefFluent<A extends io.sundr.model.WildcardRefFluent<A>> ex
     if (this.bounds == null) {
       return (A) this;
     }
+    Map<VisitableBuilder<? extends TypeRef, ?>, Integer> requested = new HashMap<VisitableBuilder<? extends TypeRef, ?>, Integer>();
     for (TypeRef item : items) {
       VisitableBuilder<? extends TypeRef, ?> builder = builder(item);
-      _visitables.get("bounds").remove(builder);
-      this.bounds.remove(builder);
+      Integer count = requested.get(builder);
+      requested.put(builder, count == null ? 1 : count + 1);
+    }
+    Set<VisitableBuilder<? extends TypeRef, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends TypeRef, ?>, Boolean>());
+    for (VisitableBuilder<? extends TypeRef, ?> builder : this.bounds) {
+      Integer count = requested.get(builder);
+      if (count != null && count > 0) {
+        requested.put(builder, count - 1);
+        removed.add(builder);
+      }
     }
+    this.bounds.removeAll(removed);
+    this._visitables.get("bounds").removeAll(removed);
     return (A) this;
   }
 
@@ -277,15 +307,15 @@ public class WildcardRefFluent<A extends io.sundr.model.WildcardRefFluent<A>> ex
     if (bounds == null) {
       return (A) this;
     }
-    Iterator<VisitableBuilder<? extends TypeRef, ?>> each = bounds.iterator();
-    List visitables = _visitables.get("bounds");
-    while (each.hasNext()) {
-      VisitableBuilder<? extends TypeRef, ?> builder = each.next();
+    Set<VisitableBuilder<? extends TypeRef, ?>> removed = Collections
+        .newSetFromMap(new IdentityHashMap<VisitableBuilder<? extends TypeRef, ?>, Boolean>());
+    for (VisitableBuilder<? extends TypeRef, ?> builder : bounds) {
       if (predicate.test(builder)) {
-        visitables.remove(builder);
-        each.remove();
+        removed.add(builder);
       }
     }
+    bounds.removeAll(removed);
+    this._visitables.get("bounds").removeAll(removed);
     return (A) this;
   }
 
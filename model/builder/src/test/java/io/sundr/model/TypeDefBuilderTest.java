@@ -2,8 +2,12 @@ package io.sundr.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Test;
 
@@ -74,4 +78,100 @@ public class TypeDefBuilderTest {
     assertEquals(1, reference.getArguments().size());
     assertEquals("A", reference.getArguments().get(0).getName());
   }
+
+  private static TypeDef typeWithMethods() {
+    return new TypeDefBuilder()
+        .withKind(Kind.CLASS)
+        .withPackageName("test")
+        .withName("TestClass")
+        .addNewMethod().withName("first").withReturnType(new VoidRef()).endMethod()
+        .addNewMethod().withName("second").withReturnType(new VoidRef()).endMethod()
+        .build();
+  }
+
+  @Test
+  public void testCopyReusesUntouchedChildren() {
+    TypeDef original = typeWithMethods();
+
+    TypeDef renamed = new TypeDefBuilder(original).withName("Renamed").build();
+
+    assertEquals("Renamed", renamed.getName());
+    assertEquals(2, renamed.getMethods().size());
+    assertSame(original.getMethods().get(0), renamed.getMethods().get(0));
+    assertSame(original.getMethods().get(1), renamed.getMethods().get(1));
+  }
+
+  @Test
+  public void testCopyMaterializesEditedChildren() {
+    TypeDef original = typeWithMethods();
+
+    TypeDef edited = new TypeDefBuilder(original)
+        .editMethod(1).withName("changed").endMethod()
+        .addNewMethod().withName("third").withReturnType(new VoidRef()).endMethod()
+        .build();
+
+    assertEquals(3, edited.getMethods().size());
+    assertEquals("first", edited.getMethods().get(0).getName());
+    assertEquals("changed", edited.getMethods().get(1).getName());
+    assertEquals("third", edited.getMethods().get(2).getName());
+    assertNotSame(original.getMethods().get(0), edited.getMethods().get(0));
+    assertEquals("second", original.getMethods().get(1).getName());
+  }
+
+  @Test
+  public void testCopyVisitsChildren() {
+    TypeDef original = typeWithMethods();
+    List<String> visited = new ArrayList<>();
+
+    TypeDef visitedDef = new TypeDefBuilder(original)
+        .accept(MethodBuilder.class, m -> visited.add(m.getName()))
+        .build();
+
+    assertEquals(Arrays.asList("first", "second"), visited);
+    assertEquals(2, visitedDef.getMethods().size());
+  }
+
+  @Test
+  public void testCopyReplacesChildren() {
+    TypeDef original = typeWithMethods();
+
+    TypeDef replaced = new TypeDefBuilder(original)
+        .withMethods(new MethodBuilder().withName("only").withReturnType(new VoidRef()).build())
+        .build();
+
+    assertEquals(1, replaced.getMethods().size());
+    assertEquals("only", replaced.getMethods().get(0).getName());
+  }
+
+  @Test
+  public void testRemoveMethodsKeepsVisitablesInSync() {
+    TypeDefBuilder builder = new TypeDefBuilder().withKind(Kind.CLASS).withPackageName("test").withName("Many");
+    for (int i = 0; i < 10; i++) {
+      builder.addToMethods(new MethodBuilder().withName("m" + i).withReturnType(new VoidRef()).build());
+    }
+
+    builder.removeMatchingFromMethods(m -> Integer.parseInt(m.getName().substring(1)) % 2 == 0);
+    builder.removeFromMethods(new MethodBuilder().withName("m3").withReturnType(new VoidRef()).build());
+
+    List<String> visited = new ArrayList<>();
+    TypeDef typeDef = builder.accept(MethodBuilder.class, m -> visited.add(m.getName())).build();
+    assertEquals(Arrays.asList("m1", "m5", "m7", "m9"), visited);
+    assertEquals(4, typeDef.getMethods().size());
+    assertEquals("m9", typeDef.getMethods().get(3).getName());
+  }
+
+  @Test
+  public void testRemoveMethodsRemovesOneMatchPerItem() {
+    Method twice = new MethodBuilder().withName("twice").withReturnType(new VoidRef()).build();
+    Method once = new MethodBuilder().withName("once").withReturnType(new VoidRef()).build();
+    TypeDefBuilder builder = new TypeDefBuilder().withKind(Kind.CLASS).withPackageName("test").withName("Duplicates")
+        .addToMethods(twice, once, twice, twice);
+
+    builder.removeFromMethods(twice, once, twice);
+
+    List<String> visited = new ArrayList<>();
+    TypeDef typeDef = builder.accept(MethodBuilder.class, m -> visited.add(m.getName())).build();
+    assertEquals(Arrays.asList("twice"), visited);
+    assertEquals(1, typeDef.getMethods().size());
+  }
 }
@@ -0,0 +1,225 @@
+package io.sundr.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class TypeDefRenderTest {
+
+  private static final ClassRef LIST = ClassRef.forName("java.util.List");
+  private static final ClassRef MAP_ENTRY = ClassRef.forName("java.util.Map.Entry");
+  private static final ClassRef SIBLING = ClassRef.forName("test.Sibling");
+  private static final ClassRef SIBLING_INNER = ClassRef.forName("test.Sibling.Inner");
+
+  @Test
+  public void shouldShortenReferencesAndStatements() {
+    TypeDef typeDef = new TypeDefBuilder()
+        .withKind(Kind.CLASS)
+        .withPackageName("test")
+        .withName("TestClass")
+        .addNewField()
+        .withName("items")
+        .withTypeRef(new ClassRefBuilder(LIST).withArguments(SIBLING).build())
+        .endField()
+        .addNewMethod()
+        .withName("entry")
+        .withReturnType(MAP_ENTRY)
+        .addNewArgument()
+        .withName("inner")
+        .withTypeRef(SIBLING_INNER)
+        .endArgument()
+        .withNewBlock()
+        .addNewStringStatementStatement("java.util.List<test.Sibling.Inner> l = java.util.Collections.emptyList();")
+        .addNewStringStatementStatement("return java.util.Map.Entry.class.cast(java.util.ListIterator.class);")
+        .endBlock()
+        .endMethod()
+        .build();
+
+    assertEquals("package test;\n" +
+        "\n" +
+        "import java.util.List;\n" +
+        "import java.util.Map.Entry;\n" +
+        "class TestClass{\n" +
+        "\n" +
+        "  List<Sibling> items;\n" +
+        "\n" +
+        "  \n" +
+        "  Entry entry(Sibling.Inner inner) {\n" +
+        "    List<Sibling.Inner> l = java.util.Collections.emptyList();\n" +
+        "    return Entry.class.cast(java.util.ListIterator.class);\n" +
+        "  }\n" +
+        "  \n" +
+        "}", typeDef.render());
+  }
+
+  @Test
+  public void shouldOnlyReplaceNamesThatAreNotFollowedByLettersOrDigits() {
+    Map<String, String> shortNames = new LinkedHashMap<>();
+    shortNames.put("java.util.List", "List");
+    shortNames.put("test.Sibling", "Sibling");
+    Imports imports = new Imports(shortNames);
+
+    assertFalse(imports.isAmbiguous());
+    assertEquals("List<Sibling>[] java.util.Lists Sibling_1 xList", imports.apply(
+        "java.util.List<test.Sibling>[] java.util.Lists test.Sibling_1 xjava.util.List"));
+    assertEquals("List", imports.shorten("java.util.List"));
+    assertEquals("java.util.Map", imports.shorten("java.util.Map"));
+  }
+
+  @Test
+  public void shouldShortenNamesWrittenInChunks() {
+    Map<String, String> shortNames = new LinkedHashMap<>();
+    shortNames.put("java.util.List", "List");
+    shortNames.put("test.Sibling", "Sibling");
+    Imports imports = new Imports(shortNames);
+    String content = "java.util.List<test.Sibling>\njava.util.Lists test.Sib\rjava.util.Listjava.util.List";
+
+    StringBuilder sb = new StringBuilder();
+    IndentState indent = new IndentState();
+    imports.open(indent);
+    for (char c : content.toCharArray()) {
+      indent.append(sb, String.valueOf(c));
+    }
+    indent.close(sb);
+
+    assertEquals("List<Sibling>\njava.util.Lists test.Sib\rjava.util.ListList", sb.toString());
+    assertEquals(sb.toString(), imports.apply(content));
+  }
+
+  @Test
+  public void shouldNotShortenNamesOfAmbiguousTables() {
+    Map<String, String> shortNames = new LinkedHashMap<>();
+    shortNames.put("java.util.Map", "Map");
+    shortNames.put("java.util.Map.Entry", "Entry");
+    Imports imports = new Imports(shortNames);
+
+    assertTrue(imports.isAmbiguous());
+    assertEquals("java.util.Map", imports.shorten("java.util.Map"));
+  }
+
+  @Test
+  public void shouldRenderAmbiguousReferences() {
+    TypeDef typeDef = new TypeDefBuilder()
+        .withKind(Kind.INTERFACE)
+        .withPackageName("test")
+        .withName("TestInterface")
+        .addNewMethod()
+        .withName("entries")
+        .withReturnType(new ClassRefBuilder(ClassRef.forName("java.util.Map")).withArguments(MAP_ENTRY).build())
+        .endMethod()
+        .build();
+
+    assertEquals("package test;\n" +
+        "\n" +
+        "import java.util.Map;\n" +
+        "import java.util.Map.Entry;\n" +
+        "interface TestInterface{\n" +
+        "\n" +
+        "  \n" +
+        "  Map<Entry> entries();\n" +
+        "  \n" +
+        "}", typeDef.render());
+  }
+
+  @Test
+  public void shouldRenderFluentsWithNestedClassesInSinglePass() {
+    ClassRef fluentOfA = new ClassRefBuilder(ClassRef.forName("a.b.FooFluent"))
+        .withArguments(new TypeParamRefBuilder().withName("A").build())
+        .build();
+    ClassRef nestedOfA = new ClassRefBuilder(ClassRef.forName("a.b.FooFluent.BarsNested"))
+        .withArguments(new TypeParamRefBuilder().withName("A").build())
+        .build();
+    ClassRef nestedOfN = new ClassRefBuilder(ClassRef.forName("a.b.FooFluent.BarsNested"))
+        .withArguments(new TypeParamRefBuilder().withName("N").build())
+        .build();
+
+    TypeDef typeDef = new TypeDefBuilder()
+        .withKind(Kind.CLASS)
+        .withPackageName("a.b")
+        .withName("FooFluent")
+        .addNewParameter()
+        .withName("A")
+        .withBounds(fluentOfA)
+        .endParameter()
+        .withExtendsList(new ClassRefBuilder(ClassRef.forName("io.sundr.builder.BaseFluent"))
+            .withArguments(new TypeParamRefBuilder().withName("A").build())
+            .build())
+        .addNewField()
+        .withName("bars")
+        .withTypeRef(new ClassRefBuilder(ClassRef.forName("java.util.ArrayList"))
+            .withArguments(ClassRef.forName("a.b.BarBuilder"))
+            .build())
+        .endField()
+        .addNewMethod()
+        .withName("addNewBar")
+        .withReturnType(nestedOfA)
+        .withNewBlock()
+        .addNewStringStatementStatement("return new a.b.FooFluent.BarsNested<A>(-1, null);")
+        .endBlock()
+        .endMethod()
+        .addNewMethod()
+        .withName("addToBars")
+        .withReturnType(new TypeParamRefBuilder().withName("A").build())
+        .addNewArgument()
+        .withName("item")
+        .withTypeRef(ClassRef.forName("a.b.Bar"))
+        .endArgument()
+        .withNewBlock()
+        .addNewStringStatementStatement("this.bars.add(new a.b.BarBuilder(item));")
+        .addNewStringStatementStatement("return (A) this;")
+        .endBlock()
+        .endMethod()
+        .addNewInnerType()
+        .withKind(Kind.CLASS)
+        .withPackageName("a.b")
+        .withName("BarsNested")
+        .withOuterTypeName("a.b.FooFluent")
+        .addNewParameter()
+        .withName("N")
+        .endParameter()
+        .withExtendsList(new ClassRefBuilder(ClassRef.forName("a.b.BarFluent")).withArguments(nestedOfN).build())
+        .addNewMethod()
+        .withName("and")
+        .withReturnType(new TypeParamRefBuilder().withName("N").build())
+        .withNewBlock()
+        .addNewStringStatementStatement("return (N) a.b.FooFluent.this.addToBars(builder.build());")
+        .endBlock()
+        .endMethod()
+        .endInnerType()
+        .build();
+
+    assertFalse(typeDef.getImportTable().isAmbiguous());
+    assertEquals("package a.b;\n" +
+        "\n" +
+        "import io.sundr.builder.BaseFluent;\n" +
+        "import java.util.ArrayList;\n" +
+        "class FooFluent<A extends FooFluent<A>> extends BaseFluent<A>{\n" +
+        "\n" +
+        "  ArrayList<BarBuilder> bars;\n" +
+        "\n" +
+        "  \n" +
+        "  FooFluent.BarsNested<A> addNewBar() {\n" +
+        "    return new FooFluent.BarsNested<A>(-1, null);\n" +
+        "  }\n" +
+        "  \n" +
+        "  A addToBars(Bar item) {\n" +
+        "    this.bars.add(new BarBuilder(item));\n" +
+        "    return (A) this;\n" +
+        "  }\n" +
+        "  class BarsNested<N> extends BarFluent<FooFluent.BarsNested<N>>{\n" +
+        "  \n" +
+        "    \n" +
+        "    \n" +
+        "    N and() {\n" +
+        "      return (N) FooFluent.this.addToBars(builder.build());\n" +
+        "    }\n" +
+        "    \n" +
+        "  }\n" +
+        "}", typeDef.render());
+  }
+}
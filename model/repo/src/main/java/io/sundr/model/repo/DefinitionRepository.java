@@ -16,6 +16,14 @@
 
 package io.sundr.model.repo;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -28,7 +36,10 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -40,19 +51,116 @@ import io.sundr.model.TypeDef;
 import io.sundr.model.TypeDefBuilder;
 import io.sundr.model.TypeRef;
 
+/**
+ * A repository of {@link TypeDef} definitions.
+ *
+ * Reads and writes don't lock the repository. Definitions registered using a {@link Supplier} are resolved lazily, once
+ * per key: threads that request a definition while it's being resolved wait for the result, while a resolution that
+ * (directly or through other threads) depends on itself sees no definition, instead of blocking.
+ */
 public class DefinitionRepository {
 
-  private static DefinitionRepository INSTANCE;
-  private static DefinitionRepository SCOPE;
+  private static volatile DefinitionRepository INSTANCE;
+  private static final ThreadLocal<DefinitionRepository> SCOPE = new ThreadLocal<>();
 
   private final ConcurrentMap<String, TypeDef> definitions = new ConcurrentHashMap<String, TypeDef>();
-  private final ConcurrentMap<String, Supplier<TypeDef>> suppliers = new ConcurrentHashMap<String, Supplier<TypeDef>>();
+  private final ConcurrentMap<String, LazyDefinition> suppliers = new ConcurrentHashMap<String, LazyDefinition>();
+
+  // The names of the definitions that have a flag set to true, by flag and by flag name.
+  private final ConcurrentMap<AttributeKey, Set<String>> flagIndex = new ConcurrentHashMap<AttributeKey, Set<String>>();
+  private final ConcurrentMap<String, Set<String>> flagNameIndex = new ConcurrentHashMap<String, Set<String>>();
+
+  private volatile Map<String, String> snapshot;
 
-  private Map<String, String> snapshot;
+  // Bumped on every change, so that derived indexes can tell when they are stale.
+  private final AtomicLong modifications = new AtomicLong();
 
   private DefinitionRepository() {
   }
 
+  private static final Map<Thread, LazyDefinition> WAITING = new ConcurrentHashMap<>();
+
+  /**
+   * A definition that is resolved by the first thread that requests it.
+   */
+  private final class LazyDefinition {
+
+    private final String fullyQualifiedName;
+    private final Supplier<TypeDef> supplier;
+    private volatile Thread owner;
+    private boolean done;
+    private TypeDef value;
+
+    private LazyDefinition(String fullyQualifiedName, Supplier<TypeDef> supplier) {
+      this.fullyQualifiedName = fullyQualifiedName;
+      this.supplier = supplier;
+    }
+
+    /**
+     * Resolve the definition.
+     *
+     * @return the definition, or null if the definition is already being resolved by a caller of this thread.
+     */
+    TypeDef get() {
+      Thread current = Thread.currentThread();
+      synchronized (this) {
+        while (!done) {
+          if (owner == null) {
+            owner = current;
+            break;
+          }
+          if (owner == current || dependsOn(current)) {
+            return null;
+          }
+          WAITING.put(current, this);
+          try {
+            wait();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SundrException(e);
+          } finally {
+            WAITING.remove(current);
+          }
+        }
+        if (done) {
+          return value;
+        }
+      }
+
+      TypeDef result = null;
+      try {
+        result = supplier.get();
+        if (result != null) {
+          put(result);
+        }
+        return result;
+      } finally {
+        suppliers.remove(fullyQualifiedName, this);
+        synchronized (this) {
+          value = result;
+          done = true;
+          owner = null;
+          notifyAll();
+        }
+      }
+    }
+
+    /**
+     * Checks if the thread that resolves this definition, is waiting (directly or indirectly) for the specified thread.
+     */
+    private boolean dependsOn(Thread thread) {
+      Thread t = owner;
+      for (int i = 0; t != null && i <= WAITING.size(); i++) {
+        if (t == thread) {
+          return true;
+        }
+        LazyDefinition awaited = WAITING.get(t);
+        t = awaited != null ? awaited.owner : null;
+      }
+      return false;
+    }
+  }
+
   /**
    * Get or create a DefinitionRepository.
    * This is a traditional Singleton getInstance() method with a twist ...
@@ -62,16 +170,27 @@ public class DefinitionRepository {
    * repo instead of the Singleton intance.
    * The same goes for Definition.withNewRepository(repo -{@literal >} { ... }).
    *
+   * The scope is confined to the thread that runs the {@link Function} or {@link Callable}, so independent pipelines may use
+   * their own repository in parallel.
+   *
    * @return the scoped instance if called from within withRepo/withNewRepo lambda, or the singleton instance otherwise.
    */
-  public static synchronized final DefinitionRepository getRepository() {
-    if (SCOPE != null) {
-      return SCOPE;
+  public static final DefinitionRepository getRepository() {
+    DefinitionRepository scoped = SCOPE.get();
+    if (scoped != null) {
+      return scoped;
     }
-    if (INSTANCE == null) {
-      INSTANCE = new DefinitionRepository();
+    DefinitionRepository instance = INSTANCE;
+    if (instance == null) {
+      synchronized (DefinitionRepository.class) {
+        instance = INSTANCE;
+        if (instance == null) {
+          instance = new DefinitionRepository();
+          INSTANCE = instance;
+        }
+      }
     }
-    return INSTANCE;
+    return instance;
   }
 
   /**
@@ -91,87 +210,181 @@ public class DefinitionRepository {
     return new WithRepo(new DefinitionRepository());
   }
 
-  public synchronized void registerIfAbsent(String fqcn, Supplier<TypeDef> supplier) {
+  public void registerIfAbsent(String fqcn, Supplier<TypeDef> supplier) {
     if (definitions.containsKey(fqcn)) {
       return;
     }
 
-    if (suppliers.containsKey(fqcn)) {
-      return;
+    if (suppliers.putIfAbsent(fqcn, new LazyDefinition(fqcn, supplier)) == null) {
+      modifications.incrementAndGet();
     }
-
-    suppliers.put(fqcn, supplier);
   }
 
-  public synchronized void registerIfAbsent(TypeDef definition) {
+  public void registerIfAbsent(TypeDef definition) {
     if (definition == null) {
       return;
     }
 
     String fqcn = definition.getFullyQualifiedName();
-    definitions.putIfAbsent(fqcn, definition);
+    boolean[] added = new boolean[1];
+    definitions.computeIfAbsent(fqcn, k -> {
+      index(fqcn, definition);
+      added[0] = true;
+      return definition;
+    });
+    if (added[0]) {
+      modifications.incrementAndGet();
+    }
   }
 
-  public synchronized TypeDef register(TypeDef definition) {
-    definitions.put(definition.getFullyQualifiedName(), definition);
+  public TypeDef register(TypeDef definition) {
+    put(definition);
     return definition;
   }
 
-  public synchronized TypeDef register(TypeDef definition, String... flags) {
-    TypeDefBuilder builder = new TypeDefBuilder(definition);
-    for (String flag : flags) {
-      builder.addToAttributes(new AttributeKey<Boolean>(flag, Boolean.class), true);
-    }
-    return register(builder.build());
+  /**
+   * Put the definition and update the flag indexes while holding the entry of its name, so that concurrent puts of the
+   * same name can't interleave their index updates.
+   */
+  private void put(TypeDef definition) {
+    String fqcn = definition.getFullyQualifiedName();
+    definitions.compute(fqcn, (k, previous) -> {
+      if (previous != null) {
+        unindex(fqcn, previous, definition);
+      }
+      index(fqcn, definition);
+      return definition;
+    });
+    modifications.incrementAndGet();
   }
 
-  public synchronized TypeDef register(TypeDef definition, AttributeKey<Boolean>... flags) {
-    TypeDefBuilder builder = new TypeDefBuilder(definition);
-    for (AttributeKey<Boolean> flag : flags) {
-      builder.addToAttributes(flag, true);
+  private void index(String fqcn, TypeDef definition) {
+    Map<AttributeKey, Object> attributes = definition.getAttributes();
+    if (attributes == null) {
+      return;
+    }
+    for (Map.Entry<AttributeKey, Object> attribute : attributes.entrySet()) {
+      if (Boolean.TRUE.equals(attribute.getValue())) {
+        flagIndex.computeIfAbsent(attribute.getKey(), k -> ConcurrentHashMap.newKeySet()).add(fqcn);
+        flagNameIndex.computeIfAbsent(attribute.getKey().getName(), k -> ConcurrentHashMap.newKeySet()).add(fqcn);
+      }
     }
-    return register(builder.build());
   }
 
-  public synchronized Set<TypeDef> getDefinitions(String... flags) {
-    Set<TypeDef> result = new LinkedHashSet<TypeDef>();
-    for (TypeDef candidate : definitions.values()) {
-      boolean matches = true;
-      for (String flag : flags) {
-        AttributeKey<Boolean> attributeKey = new AttributeKey<Boolean>(flag, Boolean.class);
-        if (!candidate.hasAttribute(attributeKey) || !(candidate.getAttribute(attributeKey))) {
-          matches = false;
-          break;
+  /**
+   * Remove the flags of the previous definition that the current definition doesn't set from the indexes.
+   */
+  private void unindex(String fqcn, TypeDef previous, TypeDef current) {
+    Map<AttributeKey, Object> attributes = previous.getAttributes();
+    if (attributes == null) {
+      return;
+    }
+    for (Map.Entry<AttributeKey, Object> attribute : attributes.entrySet()) {
+      if (Boolean.TRUE.equals(attribute.getValue())) {
+        Set<String> names = flagIndex.get(attribute.getKey());
+        if (names != null && !hasFlag(current, (AttributeKey<Boolean>) attribute.getKey())) {
+          names.remove(fqcn);
+        }
+        // Another flag with the same name may still be set.
+        names = flagNameIndex.get(attribute.getKey().getName());
+        if (names != null && !hasFlag(current, attribute.getKey().getName())) {
+          names.remove(fqcn);
         }
       }
-      if (matches) {
-        result.add(candidate);
+    }
+  }
+
+  private static boolean hasFlag(TypeDef definition, String flag) {
+    Map<AttributeKey, Object> attributes = definition != null ? definition.getAttributes() : null;
+    if (attributes == null) {
+      return false;
+    }
+    for (Map.Entry<AttributeKey, Object> attribute : attributes.entrySet()) {
+      if (attribute.getKey().getName().equals(flag) && Boolean.TRUE.equals(attribute.getValue())) {
+        return true;
       }
     }
+    return false;
+  }
 
-    return Collections.unmodifiableSet(result);
+  private static boolean hasFlag(TypeDef definition, AttributeKey<Boolean> flag) {
+    return definition != null && Boolean.TRUE.equals(definition.getAttribute(flag));
   }
 
-  public synchronized Set<TypeDef> getDefinitions(AttributeKey<Boolean>... attributeKeys) {
+  /**
+   * Find the indexed definitions that match all the specified flags.
+   * The smallest index is used to select candidates, which are then checked against the current definitions.
+   */
+  private <F> Set<TypeDef> getFlaggedDefinitions(F[] flags, Function<F, Set<String>> index,
+      BiPredicate<TypeDef, F> hasFlag) {
+    if (flags.length == 0) {
+      return Collections.unmodifiableSet(new LinkedHashSet<TypeDef>(definitions.values()));
+    }
+    Set<String> candidates = null;
+    for (F flag : flags) {
+      Set<String> names = index.apply(flag);
+      if (names == null || names.isEmpty()) {
+        return Collections.emptySet();
+      }
+      if (candidates == null || names.size() < candidates.size()) {
+        candidates = names;
+      }
+    }
 
     Set<TypeDef> result = new LinkedHashSet<TypeDef>();
-    for (TypeDef candidate : definitions.values()) {
-      boolean matches = true;
-      for (AttributeKey<Boolean> attributeKey : attributeKeys) {
-        if (!candidate.hasAttribute(attributeKey) || !(candidate.getAttribute(attributeKey))) {
-          matches = false;
-          break;
-        }
+    for (String fqcn : candidates) {
+      TypeDef candidate = definitions.get(fqcn);
+      boolean matches = candidate != null;
+      for (int i = 0; matches && i < flags.length; i++) {
+        matches = hasFlag.test(candidate, flags[i]);
       }
       if (matches) {
         result.add(candidate);
       }
     }
-
     return Collections.unmodifiableSet(result);
   }
 
-  public synchronized boolean hasDefinition(String fullyQualifiedName) {
+  public TypeDef register(TypeDef definition, String... flags) {
+    TypeDefBuilder builder = new TypeDefBuilder(definition);
+    for (String flag : flags) {
+      builder.addToAttributes(new AttributeKey<Boolean>(flag, Boolean.class), true);
+    }
+    return register(builder.build());
+  }
+
+  public TypeDef register(TypeDef definition, AttributeKey<Boolean>... flags) {
+    TypeDefBuilder builder = new TypeDefBuilder(definition);
+    for (AttributeKey<Boolean> flag : flags) {
+      builder.addToAttributes(flag, true);
+    }
+    return register(builder.build());
+  }
+
+  /**
+   * Get the registered definitions that have all the specified flags set to true.
+   * A flag is matched by name, so it matches any boolean attribute with that name.
+   * Definitions that are supplied lazily and have not been resolved yet, are not included.
+   *
+   * @param flags the names of the flags
+   * @return the matching definitions
+   */
+  public Set<TypeDef> getDefinitions(String... flags) {
+    return getFlaggedDefinitions(flags, flagNameIndex::get, DefinitionRepository::hasFlag);
+  }
+
+  /**
+   * Get the registered definitions that have all the specified flags set to true.
+   * Definitions that are supplied lazily and have not been resolved yet, are not included.
+   *
+   * @param attributeKeys the flags
+   * @return the matching definitions
+   */
+  public Set<TypeDef> getDefinitions(AttributeKey<Boolean>... attributeKeys) {
+    return getFlaggedDefinitions(attributeKeys, flagIndex::get, DefinitionRepository::hasFlag);
+  }
+
+  public boolean hasDefinition(String fullyQualifiedName) {
     return definitions.containsKey(fullyQualifiedName) || suppliers.containsKey(fullyQualifiedName);
   }
 
@@ -179,41 +392,89 @@ public class DefinitionRepository {
     return getDefinition(fullyQualifiedName, true);
   }
 
-  public synchronized TypeDef getDefinition(String fullyQualifiedName, boolean computeIfSupplied) {
+  public TypeDef getDefinition(String fullyQualifiedName, boolean computeIfSupplied) {
     TypeDef definition = definitions.get(fullyQualifiedName);
     if (definition != null || !computeIfSupplied) {
       return definition;
     }
-    Supplier<TypeDef> supplier = suppliers.remove(fullyQualifiedName);
-    if (supplier != null) {
-      TypeDef typeDef = supplier.get();
-      definitions.put(fullyQualifiedName, typeDef);
-      return typeDef;
-    }
-    return null;
+    LazyDefinition supplier = suppliers.get(fullyQualifiedName);
+    TypeDef supplied = supplier != null ? supplier.get() : null;
+    // The definition may also have been registered while it was being supplied or since it was looked up.
+    return supplied != null ? supplied : definitions.get(fullyQualifiedName);
   }
 
-  public synchronized TypeDef getDefinition(TypeRef type) {
+  public TypeDef getDefinition(TypeRef type) {
     if (type instanceof ClassRef) {
       return getDefinition(((ClassRef) type).getFullyQualifiedName());
     }
     return null;
   }
 
-  public synchronized Collection<TypeDef> getDefinitions() {
+  public Collection<TypeDef> getDefinitions() {
     return Stream.concat(definitions.keySet().stream(), suppliers.keySet().stream()).distinct().map(k -> getDefinition(k))
         .collect(Collectors.toSet());
   }
 
-  public synchronized void updateReferenceMap() {
+  /**
+   * Write a snapshot of the resolved definitions that match the filter, to the specified file.
+   *
+   * @param file the file
+   * @param fingerprint the fingerprint of the classpath the definitions were adapted from
+   * @param filter the filter, e.g. to only include library types
+   * @return the number of definitions written
+   * @throws IOException if the file cannot be written
+   * @see DefinitionSnapshot
+   */
+  public int saveSnapshot(File file, String fingerprint, Predicate<TypeDef> filter) throws IOException {
+    File parent = file.getAbsoluteFile().getParentFile();
+    if (parent != null) {
+      parent.mkdirs();
+    }
+    try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+      return DefinitionSnapshot.write(definitions.values().stream().filter(filter).collect(Collectors.toList()), fingerprint,
+          out);
+    }
+  }
+
+  /**
+   * Register the definitions found in the specified snapshot file, if they are absent.
+   * The snapshot is ignored if it's missing, invalid or if it was taken from a classpath with a different fingerprint.
+   * Definitions are decoded when they are first requested.
+   *
+   * @param file the file
+   * @param fingerprint the fingerprint of the current classpath
+   * @param attributeKeys the attribute keys to use for attributes of the same name, in addition to the ones declared
+   *        in {@link io.sundr.model.Attributeable}
+   * @return true if the snapshot was loaded, false otherwise
+   */
+  public boolean loadSnapshot(File file, String fingerprint, AttributeKey... attributeKeys) {
+    if (!file.isFile()) {
+      return false;
+    }
+    DefinitionSnapshot snapshot;
+    try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+      snapshot = DefinitionSnapshot.read(in);
+    } catch (IOException e) {
+      return false;
+    }
+    if (!snapshot.getFingerprint().equals(fingerprint)) {
+      return false;
+    }
+    snapshot.registerTo(this, attributeKeys);
+    return true;
+  }
+
+  public void updateReferenceMap() {
     snapshot = getReferenceMapInternal();
   }
 
-  public synchronized Map<String, String> getReferenceMap() {
-    if (snapshot == null) {
-      snapshot = getReferenceMapInternal();
+  public Map<String, String> getReferenceMap() {
+    Map<String, String> current = snapshot;
+    if (current == null) {
+      current = getReferenceMapInternal();
+      snapshot = current;
     }
-    return snapshot;
+    return current;
   }
 
   private Map<String, String> getReferenceMapInternal() {
@@ -241,9 +502,22 @@ public class DefinitionRepository {
     return mapping;
   }
 
-  public synchronized void clear() {
+  public void clear() {
     definitions.clear();
     suppliers.clear();
+    flagIndex.clear();
+    flagNameIndex.clear();
+    modifications.incrementAndGet();
+  }
+
+  /**
+   * Get the number of changes made to the repository so far.
+   * Indexes derived from the repository content may compare this value to find out if they need to be rebuilt.
+   *
+   * @return the modification count
+   */
+  public long getModificationCount() {
+    return modifications.get();
   }
 
   public static class WithRepo {
@@ -254,25 +528,35 @@ public class DefinitionRepository {
 
     private final DefinitionRepository repository;
 
-    public synchronized <V> V apply(Function<DefinitionRepository, V> function) {
+    public <V> V apply(Function<DefinitionRepository, V> function) {
+      DefinitionRepository previous = SCOPE.get();
       try {
-        SCOPE = repository;
+        SCOPE.set(repository);
         return function.apply(repository);
       } catch (Exception e) {
         throw new SundrException(e);
       } finally {
-        SCOPE = null;
+        restore(previous);
       }
     }
 
-    public synchronized <V> V call(Callable<V> callable) {
+    public <V> V call(Callable<V> callable) {
+      DefinitionRepository previous = SCOPE.get();
       try {
-        SCOPE = repository;
+        SCOPE.set(repository);
         return callable.call();
       } catch (Exception e) {
         throw new SundrException(e);
       } finally {
-        SCOPE = null;
+        restore(previous);
+      }
+    }
+
+    private static void restore(DefinitionRepository previous) {
+      if (previous != null) {
+        SCOPE.set(previous);
+      } else {
+        SCOPE.remove();
       }
     }
   }
@@ -0,0 +1,840 @@
+/*
+ * Copyright 2016 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.model.repo;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import io.sundr.SundrException;
+import io.sundr.model.AnnotationRef;
+import io.sundr.model.Argument;
+import io.sundr.model.AttributeKey;
+import io.sundr.model.Attributeable;
+import io.sundr.model.Block;
+import io.sundr.model.ClassRef;
+import io.sundr.model.Field;
+import io.sundr.model.Kind;
+import io.sundr.model.Method;
+import io.sundr.model.Modifiers;
+import io.sundr.model.PrimitiveRef;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeParamDef;
+import io.sundr.model.TypeParamRef;
+import io.sundr.model.TypeRef;
+import io.sundr.model.VoidRef;
+import io.sundr.model.WildcardRef;
+
+/**
+ * A compact binary snapshot of {@link TypeDef} definitions, that can be used to skip adapting the same (library) types
+ * again on the next run.
+ *
+ * A snapshot is keyed by a fingerprint (see {@link #fingerprint(Collection)}) of the classpath it was taken from, and
+ * should be discarded if the fingerprint no longer matches. Definitions are decoded lazily, when they are first requested.
+ *
+ * Only declarations are stored: definitions that have method bodies, field initializers, or attribute and annotation
+ * values of unsupported types, are not included in the snapshot.
+ */
+public final class DefinitionSnapshot {
+
+  private static final int MAGIC = 0x53444E53;
+  private static final int VERSION = 1;
+
+  private static final int NULL = 0;
+  private static final int STRING = 1;
+  private static final int BOOLEAN = 2;
+  private static final int CHARACTER = 3;
+  private static final int BYTE = 4;
+  private static final int SHORT = 5;
+  private static final int INTEGER = 6;
+  private static final int LONG = 7;
+  private static final int FLOAT = 8;
+  private static final int DOUBLE = 9;
+  private static final int ARRAY = 10;
+  private static final int LIST = 11;
+  private static final int CLASS_REF = 12;
+  private static final int PRIMITIVE_REF = 13;
+  private static final int TYPE_PARAM_REF = 14;
+  private static final int WILDCARD_REF = 15;
+  private static final int VOID_REF = 16;
+  private static final int ANNOTATION_REF = 17;
+
+  private static final Map<String, Class> PRIMITIVES = new HashMap<>();
+
+  /**
+   * Attribute keys are compared by identity, so the well known keys are always used for attributes of the same name.
+   */
+  private static final List<AttributeKey> DEFAULT_KEYS = Arrays.asList(Attributeable.ALSO_IMPORT, Attributeable.INIT,
+      Attributeable.DEFAULT_VALUE, Attributeable.LAZY_INIT, Attributeable.INIT_FUNCTION);
+
+  static {
+    for (Class c : Arrays.asList(boolean.class, char.class, byte.class, short.class, int.class, long.class, float.class,
+        double.class)) {
+      PRIMITIVES.put(c.getName(), c);
+    }
+  }
+
+  private final String fingerprint;
+  private final List<String> strings;
+  private final Map<String, Entry> entries;
+  private final byte[] data;
+
+  private static final class Entry {
+    private final int offset;
+    private final int length;
+
+    private Entry(int offset, int length) {
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+
+  private DefinitionSnapshot(String fingerprint, List<String> strings, Map<String, Entry> entries, byte[] data) {
+    this.fingerprint = fingerprint;
+    this.strings = strings;
+    this.entries = entries;
+    this.data = data;
+  }
+
+  /**
+   * Calculate the fingerprint of a classpath. The fingerprint depends on the path, size and modification time of each entry
+   * (and of the files found in directory entries).
+   *
+   * @param classpath the classpath entries
+   * @return the fingerprint
+   */
+  public static String fingerprint(Collection<File> classpath) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      for (File entry : classpath) {
+        update(digest, entry);
+      }
+      StringBuilder sb = new StringBuilder();
+      for (byte b : digest.digest()) {
+        sb.append(String.format("%02x", b));
+      }
+      return sb.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new SundrException(e);
+    }
+  }
+
+  private static void update(MessageDigest digest, File file) {
+    digest.update(file.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+    digest.update((file.length() + ":" + file.lastModified() + "\n").getBytes(StandardCharsets.UTF_8));
+    File[] children = file.isDirectory() ? file.listFiles() : null;
+    if (children != null) {
+      Arrays.sort(children);
+      for (File child : children) {
+        update(digest, child);
+      }
+    }
+  }
+
+  /**
+   * Write a snapshot of the specified definitions.
+   *
+   * @param definitions the definitions
+   * @param fingerprint the fingerprint of the classpath the definitions were adapted from
+   * @param out the stream to write to
+   * @return the number of definitions that were written
+   * @throws IOException if the snapshot cannot be written
+   */
+  public static int write(Collection<TypeDef> definitions, String fingerprint, OutputStream out) throws IOException {
+    Writer writer = new Writer();
+    ByteArrayOutputStream blobs = new ByteArrayOutputStream();
+    Map<String, Entry> entries = new LinkedHashMap<>();
+    for (TypeDef definition : definitions) {
+      if (definition == null || entries.containsKey(definition.getFullyQualifiedName())) {
+        continue;
+      }
+      ByteArrayOutputStream blob = new ByteArrayOutputStream();
+      try {
+        writer.writeTypeDef(new DataOutputStream(blob), definition);
+      } catch (NotSnapshottableException e) {
+        continue;
+      }
+      entries.put(definition.getFullyQualifiedName(), new Entry(blobs.size(), blob.size()));
+      blob.writeTo(blobs);
+    }
+
+    DataOutputStream dos = new DataOutputStream(out);
+    dos.writeInt(MAGIC);
+    dos.writeInt(VERSION);
+    dos.writeUTF(fingerprint);
+    dos.writeInt(writer.strings.size());
+    for (String s : writer.strings) {
+      dos.writeUTF(s);
+    }
+    dos.writeInt(entries.size());
+    for (Map.Entry<String, Entry> e : entries.entrySet()) {
+      dos.writeUTF(e.getKey());
+      dos.writeInt(e.getValue().offset);
+      dos.writeInt(e.getValue().length);
+    }
+    dos.writeInt(blobs.size());
+    blobs.writeTo(dos);
+    dos.flush();
+    return entries.size();
+  }
+
+  /**
+   * Read a snapshot. Definitions are decoded when they are requested.
+   *
+   * @param in the stream to read from
+   * @return the snapshot
+   * @throws IOException if the stream doesn't contain a valid snapshot
+   */
+  public static DefinitionSnapshot read(InputStream in) throws IOException {
+    DataInputStream dis = new DataInputStream(in);
+    if (dis.readInt() != MAGIC || dis.readInt() != VERSION) {
+      throw new IOException("Not a definition snapshot, or unsupported version.");
+    }
+    String fingerprint = dis.readUTF();
+    int stringCount = dis.readInt();
+    List<String> strings = new ArrayList<>(stringCount);
+    for (int i = 0; i < stringCount; i++) {
+      strings.add(dis.readUTF());
+    }
+    int entryCount = dis.readInt();
+    Map<String, Entry> entries = new LinkedHashMap<>();
+    for (int i = 0; i < entryCount; i++) {
+      entries.put(dis.readUTF(), new Entry(dis.readInt(), dis.readInt()));
+    }
+    byte[] data = new byte[dis.readInt()];
+    dis.readFully(data);
+    return new DefinitionSnapshot(fingerprint, strings, entries, data);
+  }
+
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  /**
+   * @return the fully qualified names of the definitions in the snapshot
+   */
+  public Set<String> getNames() {
+    return Collections.unmodifiableSet(entries.keySet());
+  }
+
+  /**
+   * Decode the specified definition.
+   *
+   * @param fullyQualifiedName the fully qualified name of the definition
+   * @param attributeKeys the attribute keys to use for attributes of the same name, in addition to the ones declared
+   *        in {@link Attributeable}
+   * @return the definition, or null if it's not part of the snapshot
+   */
+  public TypeDef getDefinition(String fullyQualifiedName, AttributeKey... attributeKeys) {
+    Entry entry = entries.get(fullyQualifiedName);
+    if (entry == null) {
+      return null;
+    }
+    Map<String, AttributeKey> keys = new HashMap<>();
+    for (AttributeKey key : DEFAULT_KEYS) {
+      keys.put(key.getName(), key);
+    }
+    for (AttributeKey key : attributeKeys) {
+      keys.put(key.getName(), key);
+    }
+    try {
+      return new Reader(keys).readTypeDef(new DataInputStream(new ByteArrayInputStream(data, entry.offset, entry.length)));
+    } catch (IOException e) {
+      throw new SundrException(e);
+    }
+  }
+
+  /**
+   * Register all definitions of the snapshot to the repository, if absent. Definitions are decoded when first requested.
+   *
+   * @param repository the repository
+   * @param attributeKeys the attribute keys to use for attributes of the same name, in addition to the ones declared
+   *        in {@link Attributeable}
+   */
+  public void registerTo(DefinitionRepository repository, AttributeKey... attributeKeys) {
+    for (String name : entries.keySet()) {
+      Supplier<TypeDef> supplier = () -> getDefinition(name, attributeKeys);
+      repository.registerIfAbsent(name, supplier);
+    }
+  }
+
+  private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  private static int readVarInt(DataInputStream in) throws IOException {
+    int value = 0;
+    for (int shift = 0;; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+  }
+
+  /**
+   * Thrown while encoding a definition that contains something the snapshot can't represent.
+   */
+  private static final class NotSnapshottableException extends IOException {
+
+    private NotSnapshottableException(String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * Encodes definitions, collecting all strings in a shared table.
+   */
+  private static final class Writer {
+
+    private final List<String> strings = new ArrayList<>();
+    private final Map<String, Integer> indexes = new HashMap<>();
+
+    private void writeString(DataOutputStream out, String s) throws IOException {
+      if (s == null) {
+        writeVarInt(out, 0);
+        return;
+      }
+      Integer index = indexes.get(s);
+      if (index == null) {
+        index = strings.size();
+        strings.add(s);
+        indexes.put(s, index);
+      }
+      writeVarInt(out, index + 1);
+    }
+
+    private void writeSize(DataOutputStream out, Collection<?> c) throws IOException {
+      writeVarInt(out, c == null ? 0 : c.size() + 1);
+    }
+
+    private void writeStrings(DataOutputStream out, List<String> list) throws IOException {
+      writeSize(out, list);
+      if (list != null) {
+        for (String s : list) {
+          writeString(out, s);
+        }
+      }
+    }
+
+    private void writeTypeDef(DataOutputStream out, TypeDef typeDef) throws IOException {
+      writeString(out, typeDef.getKind().name());
+      writeString(out, typeDef.getPackageName());
+      writeString(out, typeDef.getName());
+      writeStrings(out, typeDef.getComments());
+      writeAnnotations(out, typeDef.getAnnotations());
+      writeTypeRefs(out, typeDef.getExtendsList());
+      writeTypeRefs(out, typeDef.getImplementsList());
+      writeTypeParamDefs(out, typeDef.getParameters());
+      writeSize(out, typeDef.getFields());
+      if (typeDef.getFields() != null) {
+        for (Field field : typeDef.getFields()) {
+          writeField(out, field);
+        }
+      }
+      writeMethods(out, typeDef.getConstructors());
+      writeMethods(out, typeDef.getMethods());
+      writeString(out, typeDef.getOuterTypeName());
+      writeSize(out, typeDef.getInnerTypes());
+      if (typeDef.getInnerTypes() != null) {
+        for (TypeDef inner : typeDef.getInnerTypes()) {
+          writeTypeDef(out, inner);
+        }
+      }
+      writeModifiers(out, typeDef.getModifiers());
+      writeAttributes(out, typeDef.getAttributes());
+    }
+
+    private void writeField(DataOutputStream out, Field field) throws IOException {
+      if (field.getInitialValue().isPresent()) {
+        throw new NotSnapshottableException("Field initializers are not supported.");
+      }
+      writeStrings(out, field.getComments());
+      writeAnnotations(out, field.getAnnotations());
+      writeTypeRef(out, field.getTypeRef());
+      writeString(out, field.getName());
+      out.writeBoolean(field.isEnumConstant());
+      out.writeBoolean(field.isSynthetic());
+      writeModifiers(out, field.getModifiers());
+      writeAttributes(out, field.getAttributes());
+    }
+
+    private void writeMethods(DataOutputStream out, List<Method> methods) throws IOException {
+      writeSize(out, methods);
+      if (methods != null) {
+        for (Method method : methods) {
+          writeMethod(out, method);
+        }
+      }
+    }
+
+    private void writeMethod(DataOutputStream out, Method method) throws IOException {
+      if (method.getBlock() != null && !method.getBlock().getStatements().isEmpty()) {
+        throw new NotSnapshottableException("Method bodies are not supported.");
+      }
+      writeStrings(out, method.getComments());
+      writeAnnotations(out, method.getAnnotations());
+      writeTypeParamDefs(out, method.getParameters());
+      writeString(out, method.getName());
+      writeTypeRef(out, method.getReturnType());
+      writeSize(out, method.getArguments());
+      if (method.getArguments() != null) {
+        for (Argument argument : method.getArguments()) {
+          writeStrings(out, argument.getComments());
+          writeAnnotations(out, argument.getAnnotations());
+          writeTypeRef(out, argument.getTypeRef());
+          writeString(out, argument.getName());
+          out.writeBoolean(argument.isFinal());
+          writeAttributes(out, argument.getAttributes());
+        }
+      }
+      out.writeBoolean(method.isVarArgPreferred());
+      writeTypeRefs(out, method.getExceptions());
+      out.writeBoolean(method.isDefaultMethod());
+      out.writeBoolean(method.getBlock() != null);
+      writeModifiers(out, method.getModifiers());
+      writeAttributes(out, method.getAttributes());
+    }
+
+    private void writeModifiers(DataOutputStream out, Modifiers modifiers) throws IOException {
+      writeVarInt(out, modifiers == null ? 0 : modifiers.toInt() + 1);
+    }
+
+    private void writeTypeParamDefs(DataOutputStream out, List<TypeParamDef> parameters) throws IOException {
+      writeSize(out, parameters);
+      if (parameters != null) {
+        for (TypeParamDef parameter : parameters) {
+          writeString(out, parameter.getName());
+          writeTypeRefs(out, parameter.getBounds());
+          writeAttributes(out, parameter.getAttributes());
+        }
+      }
+    }
+
+    private void writeAnnotations(DataOutputStream out, List<AnnotationRef> annotations) throws IOException {
+      writeSize(out, annotations);
+      if (annotations != null) {
+        for (AnnotationRef annotation : annotations) {
+          writeValue(out, annotation);
+        }
+      }
+    }
+
+    private void writeTypeRefs(DataOutputStream out, List<? extends TypeRef> refs) throws IOException {
+      writeSize(out, refs);
+      if (refs != null) {
+        for (TypeRef ref : refs) {
+          writeTypeRef(out, ref);
+        }
+      }
+    }
+
+    private void writeTypeRef(DataOutputStream out, TypeRef ref) throws IOException {
+      if (ref != null && !(ref instanceof ClassRef || ref instanceof PrimitiveRef || ref instanceof TypeParamRef
+          || ref instanceof WildcardRef || ref instanceof VoidRef)) {
+        throw new NotSnapshottableException("Unsupported type reference: " + ref.getClass());
+      }
+      writeValue(out, ref);
+    }
+
+    private void writeAttributes(DataOutputStream out, Map<AttributeKey, Object> attributes) throws IOException {
+      writeVarInt(out, attributes == null ? 0 : attributes.size() + 1);
+      if (attributes != null) {
+        for (Map.Entry<AttributeKey, Object> attribute : attributes.entrySet()) {
+          writeString(out, attribute.getKey().getName());
+          writeString(out, attribute.getKey().getType() != null ? attribute.getKey().getType().getName() : null);
+          writeValue(out, attribute.getValue());
+        }
+      }
+    }
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+      if (value == null) {
+        out.writeByte(NULL);
+      } else if (value instanceof String) {
+        out.writeByte(STRING);
+        writeString(out, (String) value);
+      } else if (value instanceof Boolean) {
+        out.writeByte(BOOLEAN);
+        out.writeBoolean((Boolean) value);
+      } else if (value instanceof Character) {
+        out.writeByte(CHARACTER);
+        out.writeChar((Character) value);
+      } else if (value instanceof Byte) {
+        out.writeByte(BYTE);
+        out.writeByte((Byte) value);
+      } else if (value instanceof Short) {
+        out.writeByte(SHORT);
+        out.writeShort((Short) value);
+      } else if (value instanceof Integer) {
+        out.writeByte(INTEGER);
+        out.writeInt((Integer) value);
+      } else if (value instanceof Long) {
+        out.writeByte(LONG);
+        out.writeLong((Long) value);
+      } else if (value instanceof Float) {
+        out.writeByte(FLOAT);
+        out.writeFloat((Float) value);
+      } else if (value instanceof Double) {
+        out.writeByte(DOUBLE);
+        out.writeDouble((Double) value);
+      } else if (value.getClass().isArray()) {
+        out.writeByte(ARRAY);
+        writeString(out, value.getClass().getComponentType().getName());
+        int length = Array.getLength(value);
+        writeVarInt(out, length);
+        for (int i = 0; i < length; i++) {
+          writeValue(out, Array.get(value, i));
+        }
+      } else if (value instanceof List) {
+        out.writeByte(LIST);
+        writeVarInt(out, ((List) value).size());
+        for (Object item : (List) value) {
+          writeValue(out, item);
+        }
+      } else if (value instanceof ClassRef) {
+        ClassRef ref = (ClassRef) value;
+        out.writeByte(CLASS_REF);
+        writeString(out, ref.getFullyQualifiedName());
+        writeVarInt(out, ref.getDimensions());
+        writeTypeRefs(out, ref.getArguments());
+        writeAttributes(out, ref.getAttributes());
+      } else if (value instanceof PrimitiveRef) {
+        PrimitiveRef ref = (PrimitiveRef) value;
+        out.writeByte(PRIMITIVE_REF);
+        writeString(out, ref.getName());
+        writeVarInt(out, ref.getDimensions());
+        writeAttributes(out, ref.getAttributes());
+      } else if (value instanceof TypeParamRef) {
+        TypeParamRef ref = (TypeParamRef) value;
+        out.writeByte(TYPE_PARAM_REF);
+        writeString(out, ref.getName());
+        writeVarInt(out, ref.getDimensions());
+        writeAttributes(out, ref.getAttributes());
+      } else if (value instanceof WildcardRef) {
+        WildcardRef ref = (WildcardRef) value;
+        out.writeByte(WILDCARD_REF);
+        writeString(out, ref.getBoundKind() != null ? ref.getBoundKind().name() : null);
+        writeTypeRefs(out, ref.getBounds());
+        writeAttributes(out, ref.getAttributes());
+      } else if (value instanceof VoidRef) {
+        out.writeByte(VOID_REF);
+        writeAttributes(out, ((VoidRef) value).getAttributes());
+      } else if (value instanceof AnnotationRef) {
+        AnnotationRef ref = (AnnotationRef) value;
+        out.writeByte(ANNOTATION_REF);
+        writeValue(out, ref.getClassRef());
+        Map<String, Object> parameters = ref.getParameters();
+        writeVarInt(out, parameters == null ? 0 : parameters.size() + 1);
+        if (parameters != null) {
+          for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            writeString(out, parameter.getKey());
+            writeValue(out, parameter.getValue());
+          }
+        }
+        writeAttributes(out, ref.getAttributes());
+      } else {
+        throw new NotSnapshottableException("Unsupported value: " + value.getClass());
+      }
+    }
+  }
+
+  /**
+   * Decodes definitions, using the string table of the snapshot.
+   */
+  private final class Reader {
+
+    private final Map<String, AttributeKey> keys;
+
+    private Reader(Map<String, AttributeKey> keys) {
+      this.keys = keys;
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+      int index = readVarInt(in);
+      return index == 0 ? null : strings.get(index - 1);
+    }
+
+    private int readSize(DataInputStream in) throws IOException {
+      return readVarInt(in) - 1;
+    }
+
+    private List<String> readStrings(DataInputStream in) throws IOException {
+      int size = readSize(in);
+      if (size < 0) {
+        return null;
+      }
+      List<String> result = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        result.add(readString(in));
+      }
+      return result;
+    }
+
+    private TypeDef readTypeDef(DataInputStream in) throws IOException {
+      Kind kind = Kind.valueOf(readString(in));
+      String packageName = readString(in);
+      String name = readString(in);
+      List<String> comments = readStrings(in);
+      List<AnnotationRef> annotations = readList(in);
+      List<ClassRef> extendsList = readList(in);
+      List<ClassRef> implementsList = readList(in);
+      List<TypeParamDef> parameters = readTypeParamDefs(in);
+      int fieldCount = readSize(in);
+      List<Field> fields = null;
+      if (fieldCount >= 0) {
+        fields = new ArrayList<>(fieldCount);
+        for (int i = 0; i < fieldCount; i++) {
+          fields.add(readField(in));
+        }
+      }
+      List<Method> constructors = readMethods(in);
+      List<Method> methods = readMethods(in);
+      String outerTypeName = readString(in);
+      int innerTypeCount = readSize(in);
+      List<TypeDef> innerTypes = null;
+      if (innerTypeCount >= 0) {
+        innerTypes = new ArrayList<>(innerTypeCount);
+        for (int i = 0; i < innerTypeCount; i++) {
+          innerTypes.add(readTypeDef(in));
+        }
+      }
+      Modifiers modifiers = readModifiers(in);
+      return new TypeDef(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, fields,
+          constructors, methods, outerTypeName, innerTypes, modifiers, readAttributes(in));
+    }
+
+    private Field readField(DataInputStream in) throws IOException {
+      List<String> comments = readStrings(in);
+      List<AnnotationRef> annotations = readList(in);
+      TypeRef typeRef = (TypeRef) readValue(in);
+      String name = readString(in);
+      boolean enumConstant = in.readBoolean();
+      boolean synthetic = in.readBoolean();
+      Modifiers modifiers = readModifiers(in);
+      return new Field(modifiers, readAttributes(in), comments, annotations, typeRef, name, Optional.empty(), enumConstant,
+          synthetic);
+    }
+
+    private List<Method> readMethods(DataInputStream in) throws IOException {
+      int size = readSize(in);
+      if (size < 0) {
+        return null;
+      }
+      List<Method> result = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        result.add(readMethod(in));
+      }
+      return result;
+    }
+
+    private Method readMethod(DataInputStream in) throws IOException {
+      List<String> comments = readStrings(in);
+      List<AnnotationRef> annotations = readList(in);
+      List<TypeParamDef> parameters = readTypeParamDefs(in);
+      String name = readString(in);
+      TypeRef returnType = (TypeRef) readValue(in);
+      int argumentCount = readSize(in);
+      List<Argument> arguments = null;
+      if (argumentCount >= 0) {
+        arguments = new ArrayList<>(argumentCount);
+        for (int i = 0; i < argumentCount; i++) {
+          List<String> argumentComments = readStrings(in);
+          List<AnnotationRef> argumentAnnotations = readList(in);
+          TypeRef typeRef = (TypeRef) readValue(in);
+          String argumentName = readString(in);
+          boolean isFinal = in.readBoolean();
+          arguments.add(new Argument(argumentComments, argumentAnnotations, typeRef, argumentName, isFinal,
+              readAttributes(in)));
+        }
+      }
+      boolean varArgPreferred = in.readBoolean();
+      List<ClassRef> exceptions = readList(in);
+      boolean defaultMethod = in.readBoolean();
+      Block block = in.readBoolean() ? new Block(new ArrayList<>()) : null;
+      Modifiers modifiers = readModifiers(in);
+      return new Method(comments, annotations, parameters, name, returnType, arguments, varArgPreferred, exceptions,
+          defaultMethod, block, modifiers, readAttributes(in));
+    }
+
+    private Modifiers readModifiers(DataInputStream in) throws IOException {
+      int value = readVarInt(in);
+      return value == 0 ? null : Modifiers.from(value - 1);
+    }
+
+    private List<TypeParamDef> readTypeParamDefs(DataInputStream in) throws IOException {
+      int size = readSize(in);
+      if (size < 0) {
+        return null;
+      }
+      List<TypeParamDef> result = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        String name = readString(in);
+        List<ClassRef> bounds = readList(in);
+        result.add(new TypeParamDef(name, bounds, readAttributes(in)));
+      }
+      return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> readList(DataInputStream in) throws IOException {
+      int size = readSize(in);
+      if (size < 0) {
+        return null;
+      }
+      List<T> result = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        result.add((T) readValue(in));
+      }
+      return result;
+    }
+
+    private Map<AttributeKey, Object> readAttributes(DataInputStream in) throws IOException {
+      int size = readSize(in);
+      Map<AttributeKey, Object> result = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        String name = readString(in);
+        String type = readString(in);
+        AttributeKey key = keys.computeIfAbsent(name, n -> new AttributeKey(n, loadClass(type)));
+        result.put(key, readValue(in));
+      }
+      return result;
+    }
+
+    private Object readValue(DataInputStream in) throws IOException {
+      int tag = in.readUnsignedByte();
+      switch (tag) {
+        case NULL:
+          return null;
+        case STRING:
+          return readString(in);
+        case BOOLEAN:
+          return in.readBoolean();
+        case CHARACTER:
+          return in.readChar();
+        case BYTE:
+          return in.readByte();
+        case SHORT:
+          return in.readShort();
+        case INTEGER:
+          return in.readInt();
+        case LONG:
+          return in.readLong();
+        case FLOAT:
+          return in.readFloat();
+        case DOUBLE:
+          return in.readDouble();
+        case ARRAY: {
+          Class componentType = loadClass(readString(in));
+          int length = readVarInt(in);
+          Object array = Array.newInstance(componentType, length);
+          for (int i = 0; i < length; i++) {
+            Array.set(array, i, readValue(in));
+          }
+          return array;
+        }
+        case LIST: {
+          int length = readVarInt(in);
+          List<Object> list = new ArrayList<>(length);
+          for (int i = 0; i < length; i++) {
+            list.add(readValue(in));
+          }
+          return list;
+        }
+        case CLASS_REF: {
+          String fullyQualifiedName = readString(in);
+          int dimensions = readVarInt(in);
+          List<TypeRef> arguments = readList(in);
+          return new ClassRef(fullyQualifiedName, dimensions, arguments, readAttributes(in));
+        }
+        case PRIMITIVE_REF: {
+          String name = readString(in);
+          int dimensions = readVarInt(in);
+          return new PrimitiveRef(name, dimensions, readAttributes(in));
+        }
+        case TYPE_PARAM_REF: {
+          String name = readString(in);
+          int dimensions = readVarInt(in);
+          return new TypeParamRef(name, dimensions, readAttributes(in));
+        }
+        case WILDCARD_REF: {
+          String boundKind = readString(in);
+          List<TypeRef> bounds = readList(in);
+          return new WildcardRef(boundKind != null ? WildcardRef.BoundKind.valueOf(boundKind) : null, bounds,
+              readAttributes(in));
+        }
+        case VOID_REF:
+          return new VoidRef(readAttributes(in));
+        case ANNOTATION_REF: {
+          ClassRef classRef = (ClassRef) readValue(in);
+          int size = readSize(in);
+          Map<String, Object> parameters = null;
+          if (size >= 0) {
+            parameters = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+              String key = readString(in);
+              parameters.put(key, readValue(in));
+            }
+          }
+          return new AnnotationRef(classRef, parameters, readAttributes(in));
+        }
+        default:
+          throw new IOException("Unknown value tag: " + tag);
+      }
+    }
+
+    private Class loadClass(String name) {
+      if (name == null) {
+        return Object.class;
+      }
+      Class primitive = PRIMITIVES.get(name);
+      if (primitive != null) {
+        return primitive;
+      }
+      try {
+        return Class.forName(name, false, DefinitionSnapshot.class.getClassLoader());
+      } catch (ClassNotFoundException e) {
+        return Object.class;
+      }
+    }
+  }
+}
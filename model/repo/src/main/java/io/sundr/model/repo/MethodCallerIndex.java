@@ -0,0 +1,373 @@
+/*
+ * Copyright 2016 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.model.repo;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.sundr.model.ClassRef;
+import io.sundr.model.Expression;
+import io.sundr.model.Method;
+import io.sundr.model.MethodBuilder;
+import io.sundr.model.MethodCall;
+import io.sundr.model.Super;
+import io.sundr.model.This;
+import io.sundr.model.TypeDef;
+
+/**
+ * A reverse call graph of the methods found in a {@link DefinitionRepository}.
+ * The index is built in a single pass over all method bodies, so that looking up the callers of a method only costs as much
+ * as the number of callers found. It also tracks which methods access properties through 'this' or 'super'.
+ *
+ * Method calls are resolved the same way as {@link MethodReference#getDirectMethodReferences(Method, DefinitionRepository)}
+ * does: by name, on the types referenced by the scope of the call, or on all types for unscoped, this and super calls.
+ *
+ * When a few types change, the index can be brought up to date with {@link #update(Collection)}, which only revisits the
+ * bodies of the changed types.
+ */
+public class MethodCallerIndex {
+
+  /**
+   * A call found in a method body, kept so that it can be linked to methods that are added later.
+   */
+  private static final class CallSite {
+    private final MethodReference caller;
+    private final String name;
+    // The types referenced by the scope of the call, or null for unscoped, this and super calls.
+    private final Set<String> scopeTypes;
+
+    private CallSite(MethodReference caller, String name, Set<String> scopeTypes) {
+      this.caller = caller;
+      this.name = name;
+      this.scopeTypes = scopeTypes;
+    }
+
+    private boolean matches(String fullyQualifiedName) {
+      return scopeTypes == null || scopeTypes.contains(fullyQualifiedName);
+    }
+  }
+
+  private final DefinitionRepository repository;
+  private long modificationCount;
+
+  // All methods by name and the methods of each type by name, used to resolve calls without rescanning the repository.
+  private final Map<String, Set<MethodReference>> methodsByName = new HashMap<>();
+  private final Map<String, Map<String, Set<MethodReference>>> methodsByType = new HashMap<>();
+
+  private final Map<MethodReference, Set<MethodReference>> callers = new HashMap<>();
+  private final Map<MethodReference, Set<MethodReference>> callees = new HashMap<>();
+
+  private final Map<String, Set<CallSite>> callSitesByName = new HashMap<>();
+  private final Map<MethodReference, List<CallSite>> callSitesByCaller = new HashMap<>();
+
+  private final Map<String, Set<MethodReference>> propertyAccessors = new HashMap<>();
+  private final Map<MethodReference, Set<String>> accessedProperties = new HashMap<>();
+
+  private final MethodCallCollector methodCallCollector = new MethodCallCollector();
+  private final PropertyAccessCollector propertyAccessCollector = new PropertyAccessCollector();
+
+  private MethodCallerIndex(DefinitionRepository repository) {
+    this.repository = repository;
+  }
+
+  /**
+   * Build the index for all the definitions currently found in the repository.
+   *
+   * @param repository the repository (cannot be null)
+   * @return the index
+   * @throws IllegalArgumentException if repository is null
+   */
+  public static MethodCallerIndex build(DefinitionRepository repository) {
+    if (repository == null) {
+      throw new IllegalArgumentException("Repository cannot be null");
+    }
+
+    Set<TypeDef> definitions = new LinkedHashSet<>(repository.getDefinitions());
+    MethodCallerIndex index = new MethodCallerIndex(repository);
+    index.modificationCount = repository.getModificationCount();
+    for (TypeDef typeDef : definitions) {
+      index.addMethods(typeDef);
+    }
+    for (TypeDef typeDef : definitions) {
+      index.addBodies(typeDef);
+    }
+    return index;
+  }
+
+  /**
+   * Check if the index was built from the specified repository.
+   *
+   * @param repository the repository
+   * @return true if the index was built from the specified repository.
+   */
+  public boolean isBuiltFrom(DefinitionRepository repository) {
+    return this.repository == repository;
+  }
+
+  /**
+   * Check if the index still reflects the content of the repository it was built from.
+   *
+   * @param repository the repository
+   * @return true if the index was built from the specified repository and the repository hasn't changed since.
+   */
+  public synchronized boolean isCurrent(DefinitionRepository repository) {
+    return this.repository == repository && modificationCount == repository.getModificationCount();
+  }
+
+  /**
+   * Bring the index up to date after the specified types have been changed, added or removed in the repository.
+   * Only the bodies of the specified types are analyzed again, along with the calls that may resolve to methods that were
+   * added. The caller is responsible for passing all the types that changed since the index was built or last updated,
+   * as the index is considered current afterwards.
+   *
+   * @param fullyQualifiedNames the names of the types that changed
+   */
+  public synchronized void update(Collection<String> fullyQualifiedNames) {
+    List<TypeDef> updated = new ArrayList<>();
+    for (String fullyQualifiedName : fullyQualifiedNames) {
+      removeType(fullyQualifiedName);
+      TypeDef typeDef = repository.getDefinition(fullyQualifiedName);
+      if (typeDef != null) {
+        addMethods(typeDef);
+        updated.add(typeDef);
+      }
+    }
+    for (TypeDef typeDef : updated) {
+      linkCallSites(typeDef);
+    }
+    for (TypeDef typeDef : updated) {
+      addBodies(typeDef);
+    }
+    modificationCount = repository.getModificationCount();
+  }
+
+  /**
+   * Find all methods that directly call the specified method.
+   *
+   * @param target the method reference to find callers for
+   * @return the set of methods that directly call the target method
+   */
+  public synchronized Set<MethodReference> getDirectCallers(MethodReference target) {
+    Set<MethodReference> result = callers.get(target);
+    return result != null ? new HashSet<>(result) : Collections.emptySet();
+  }
+
+  /**
+   * Find all methods that directly or transitively call the specified method.
+   * The target method itself is not included, even if it's part of a cycle.
+   *
+   * @param target the method reference to find callers for
+   * @return the set of methods that directly or transitively call the target method
+   */
+  public synchronized Set<MethodReference> getCallers(MethodReference target) {
+    Set<MethodReference> visited = new HashSet<>();
+    Set<MethodReference> result = new HashSet<>();
+    Deque<MethodReference> queue = new ArrayDeque<>();
+    visited.add(target);
+    queue.add(target);
+    while (!queue.isEmpty()) {
+      for (MethodReference caller : callers.getOrDefault(queue.poll(), Collections.emptySet())) {
+        if (visited.add(caller)) {
+          result.add(caller);
+          queue.add(caller);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Find all methods that are called directly by the specified method.
+   *
+   * @param caller the calling method
+   * @return the set of methods called by the caller
+   */
+  public synchronized Set<MethodReference> getDirectCallees(MethodReference caller) {
+    Set<MethodReference> result = callees.get(caller);
+    return result != null ? new HashSet<>(result) : Collections.emptySet();
+  }
+
+  /**
+   * Find all methods that access a property with the specified name through 'this' or 'super'.
+   *
+   * @param propertyName the name of the property
+   * @return the set of methods that access the property
+   */
+  public synchronized Set<MethodReference> getPropertyAccessors(String propertyName) {
+    Set<MethodReference> result = propertyAccessors.get(propertyName);
+    return result != null ? new HashSet<>(result) : Collections.emptySet();
+  }
+
+  private void addMethods(TypeDef typeDef) {
+    Map<String, Set<MethodReference>> byName = methodsByType.computeIfAbsent(typeDef.getFullyQualifiedName(),
+        k -> new HashMap<>());
+    for (Method method : typeDef.getMethods()) {
+      MethodReference reference = new MethodReference(method, typeDef);
+      byName.computeIfAbsent(method.getName(), k -> new HashSet<>()).add(reference);
+      methodsByName.computeIfAbsent(method.getName(), k -> new HashSet<>()).add(reference);
+    }
+  }
+
+  private void addBodies(TypeDef typeDef) {
+    for (Method method : typeDef.getMethods()) {
+      if (method.getBlock() == null) {
+        continue;
+      }
+      MethodReference caller = new MethodReference(method, typeDef);
+      try {
+        methodCallCollector.clear();
+        propertyAccessCollector.clear();
+        new MethodBuilder().withBlock(method.getBlock()).accept(methodCallCollector, propertyAccessCollector);
+        for (MethodCall methodCall : methodCallCollector.getMethodCalls()) {
+          CallSite callSite = new CallSite(caller, methodCall.getName(), getScopeTypes(methodCall));
+          callSitesByName.computeIfAbsent(callSite.name, k -> new HashSet<>()).add(callSite);
+          callSitesByCaller.computeIfAbsent(caller, k -> new ArrayList<>()).add(callSite);
+          for (MethodReference callee : resolve(callSite)) {
+            link(caller, callee);
+          }
+        }
+        for (String propertyName : propertyAccessCollector.getPropertyNames()) {
+          propertyAccessors.computeIfAbsent(propertyName, k -> new HashSet<>()).add(caller);
+          accessedProperties.computeIfAbsent(caller, k -> new HashSet<>()).add(propertyName);
+        }
+      } catch (Exception e) {
+        // Skip methods that can't be analyzed
+      }
+    }
+  }
+
+  /**
+   * Link the calls already known to the methods of the specified type.
+   */
+  private void linkCallSites(TypeDef typeDef) {
+    String fullyQualifiedName = typeDef.getFullyQualifiedName();
+    for (Method method : typeDef.getMethods()) {
+      for (CallSite callSite : callSitesByName.getOrDefault(method.getName(), Collections.emptySet())) {
+        if (callSite.matches(fullyQualifiedName)) {
+          link(callSite.caller, new MethodReference(method, typeDef));
+        }
+      }
+    }
+  }
+
+  private void removeType(String fullyQualifiedName) {
+    Map<String, Set<MethodReference>> byName = methodsByType.remove(fullyQualifiedName);
+    if (byName == null) {
+      return;
+    }
+    for (Map.Entry<String, Set<MethodReference>> entry : byName.entrySet()) {
+      Set<MethodReference> named = methodsByName.get(entry.getKey());
+      for (MethodReference reference : entry.getValue()) {
+        if (named != null) {
+          named.remove(reference);
+        }
+        removeMethod(reference);
+      }
+      if (named != null && named.isEmpty()) {
+        methodsByName.remove(entry.getKey());
+      }
+    }
+  }
+
+  private void removeMethod(MethodReference reference) {
+    for (MethodReference callee : callees.getOrDefault(reference, Collections.emptySet())) {
+      unlink(callers, callee, reference);
+    }
+    callees.remove(reference);
+
+    for (MethodReference caller : callers.getOrDefault(reference, Collections.emptySet())) {
+      unlink(callees, caller, reference);
+    }
+    callers.remove(reference);
+
+    for (CallSite callSite : callSitesByCaller.getOrDefault(reference, Collections.emptyList())) {
+      Set<CallSite> named = callSitesByName.get(callSite.name);
+      if (named != null) {
+        named.remove(callSite);
+        if (named.isEmpty()) {
+          callSitesByName.remove(callSite.name);
+        }
+      }
+    }
+    callSitesByCaller.remove(reference);
+
+    for (String propertyName : accessedProperties.getOrDefault(reference, Collections.emptySet())) {
+      unlink(propertyAccessors, propertyName, reference);
+    }
+    accessedProperties.remove(reference);
+  }
+
+  private void link(MethodReference caller, MethodReference callee) {
+    callers.computeIfAbsent(callee, k -> new HashSet<>()).add(caller);
+    callees.computeIfAbsent(caller, k -> new HashSet<>()).add(callee);
+  }
+
+  private static <K> void unlink(Map<K, Set<MethodReference>> map, K key, MethodReference reference) {
+    Set<MethodReference> references = map.get(key);
+    if (references != null) {
+      references.remove(reference);
+      if (references.isEmpty()) {
+        map.remove(key);
+      }
+    }
+  }
+
+  private static Set<String> getScopeTypes(MethodCall methodCall) {
+    Expression scope = methodCall.getScope();
+    if (scope == null || scope instanceof This || scope instanceof Super) {
+      return null;
+    }
+    Set<String> types = new HashSet<>();
+    for (ClassRef classRef : scope.getReferences()) {
+      types.add(classRef.getFullyQualifiedName());
+    }
+    return types;
+  }
+
+  private Set<MethodReference> resolve(CallSite callSite) {
+    if (callSite.scopeTypes == null) {
+      return methodsByName.getOrDefault(callSite.name, Collections.emptySet());
+    }
+
+    Set<MethodReference> methods = new HashSet<>();
+    for (String fullyQualifiedName : callSite.scopeTypes) {
+      Map<String, Set<MethodReference>> byName = methodsByType.get(fullyQualifiedName);
+      if (byName != null) {
+        methods.addAll(byName.getOrDefault(callSite.name, Collections.emptySet()));
+        continue;
+      }
+      TypeDef typeDef = repository.getDefinition(fullyQualifiedName);
+      if (typeDef != null) {
+        for (Method method : typeDef.getMethods()) {
+          if (callSite.name.equals(method.getName())) {
+            methods.add(new MethodReference(method, typeDef));
+          }
+        }
+      }
+    }
+    return methods;
+  }
+}
@@ -16,11 +16,13 @@
 
 package io.sundr.model.repo;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 import io.sundr.builder.Visitor;
@@ -43,8 +45,13 @@ public class MethodReference {
   // Cache for method resolution to improve performance
   private static final Map<String, Set<MethodReference>> RESULTION_CACHE = new ConcurrentHashMap<>();
 
+  // The reverse call graph of each repository, rebuilt when the repository changes
+  private static final Map<DefinitionRepository, MethodCallerIndex> CALLER_INDEXES = Collections
+      .synchronizedMap(new WeakHashMap<>());
+
   private final Method method;
   private final TypeDef owningType;
+  private String erasure;
 
   /**
    * Visitor that collects all MethodCall instances found during AST traversal.
@@ -309,6 +316,27 @@ public class MethodReference {
     return key.toString();
   }
 
+  /**
+   * Get the reverse call graph of the methods in the repository.
+   * The index is built once and reused until the repository is modified.
+   *
+   * @param repository the definition repository containing type definitions
+   * @return the caller index
+   * @throws IllegalArgumentException if repository is null
+   */
+  public static MethodCallerIndex getCallerIndex(DefinitionRepository repository) {
+    if (repository == null) {
+      throw new IllegalArgumentException("Repository cannot be null");
+    }
+
+    MethodCallerIndex index = CALLER_INDEXES.get(repository);
+    if (index == null || !index.isCurrent(repository)) {
+      index = MethodCallerIndex.build(repository);
+      CALLER_INDEXES.put(repository, index);
+    }
+    return index;
+  }
+
   /**
    * Find all methods that directly call the specified target method.
    * This is the reverse of getDirectMethodReferences() - instead of finding what a method calls,
@@ -317,6 +345,7 @@ public class MethodReference {
    * @param targetMethod the method reference to find callers for
    * @param repository the definition repository containing type definitions
    * @return set of method references that directly call the target method
+   * @see #getCallerIndex(DefinitionRepository)
    */
   public static Set<MethodReference> getDirectMethodCallers(MethodReference targetMethod, DefinitionRepository repository) {
     if (targetMethod == null) {
@@ -326,33 +355,7 @@ public class MethodReference {
       throw new IllegalArgumentException("Repository cannot be null");
     }
 
-    Set<MethodReference> callers = new HashSet<>();
-
-    // Search through all methods in all TypeDefs to find those that call the target method
-    int methodsChecked = 0;
-    int typeDefsProcessed = 0;
-
-    for (TypeDef typeDef : repository.getDefinitions()) {
-      typeDefsProcessed++;
-      for (Method method : typeDef.getMethods()) {
-        methodsChecked++;
-        try {
-          Set<MethodReference> directReferences = getDirectMethodReferences(method, repository);
-          if (directReferences.contains(targetMethod)) {
-            callers.add(new MethodReference(method, typeDef));
-          } else if (methodsChecked <= 5) {
-            // Check if any of the references are similar to our target for debugging
-            for (MethodReference ref : directReferences) {
-              if (ref.getMethod().getName().equals(targetMethod.getMethod().getName())) {
-              }
-            }
-          }
-        } catch (Exception e) {
-        }
-      }
-    }
-
-    return callers;
+    return getCallerIndex(repository).getDirectCallers(targetMethod);
   }
 
   /**
@@ -363,6 +366,7 @@ public class MethodReference {
    * @param targetMethod the method reference to find callers for
    * @param repository the definition repository containing type definitions
    * @return set of method references that directly or transitively call the target method
+   * @see #getCallerIndex(DefinitionRepository)
    */
   public static Set<MethodReference> getMethodCallers(MethodReference targetMethod, DefinitionRepository repository) {
     if (targetMethod == null) {
@@ -372,39 +376,7 @@ public class MethodReference {
       throw new IllegalArgumentException("Repository cannot be null");
     }
 
-    Set<MethodReference> allCallers = new HashSet<>();
-    Set<MethodReference> visited = new HashSet<>();
-
-    collectCallersRecursively(targetMethod, repository, visited, allCallers);
-
-    return allCallers;
-  }
-
-  /**
-   * Recursively collects all methods that call the target method, either directly or transitively.
-   *
-   * @param targetMethod the method to find callers for
-   * @param repository the repository to search for method definitions
-   * @param visited set of already visited methods to prevent infinite recursion
-   * @param result the set to accumulate caller method references into
-   */
-  private static void collectCallersRecursively(MethodReference targetMethod, DefinitionRepository repository,
-      Set<MethodReference> visited, Set<MethodReference> result) {
-    if (targetMethod == null || visited.contains(targetMethod)) {
-      return;
-    }
-
-    visited.add(targetMethod);
-
-    // Find direct callers of the target method
-    Set<MethodReference> directCallers = getDirectMethodCallers(targetMethod, repository);
-    for (MethodReference caller : directCallers) {
-      if (!visited.contains(caller)) {
-        result.add(caller);
-        // Recursively find callers of the caller
-        collectCallersRecursively(caller, repository, visited, result);
-      }
-    }
+    return getCallerIndex(repository).getCallers(targetMethod);
   }
 
   /**
@@ -413,6 +385,7 @@ public class MethodReference {
    */
   public static void clearCache() {
     RESULTION_CACHE.clear();
+    CALLER_INDEXES.clear();
   }
 
   @Override
@@ -424,14 +397,22 @@ public class MethodReference {
     MethodReference that = (MethodReference) obj;
 
     // Use erasure-based comparison for methods (now that getErasure() uses standardized parameter names)
-    return method.getErasure().equals(that.method.getErasure()) &&
+    return getErasure().equals(that.getErasure()) &&
         owningType.getFullyQualifiedName().equals(that.owningType.getFullyQualifiedName());
   }
 
   @Override
   public int hashCode() {
     // Use the same fields as equals() for consistent hashing
-    return java.util.Objects.hash(method.getErasure(), owningType.getFullyQualifiedName());
+    return java.util.Objects.hash(getErasure(), owningType.getFullyQualifiedName());
+  }
+
+  // The erasure is used for every equals/hashCode call, so it's computed once.
+  private String getErasure() {
+    if (erasure == null) {
+      erasure = method.getErasure();
+    }
+    return erasure;
   }
 
   @Override
@@ -0,0 +1,41 @@
+package io.sundr.model.repo;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import io.sundr.builder.Visitor;
+import io.sundr.model.PropertyRefFluent;
+import io.sundr.model.Super;
+import io.sundr.model.This;
+
+/**
+ * Visitor that collects the names of all properties accessed through 'this' or 'super'.
+ * Properties accessed without a scope are not collected, as they may refer to local variables.
+ */
+public class PropertyAccessCollector implements Visitor<PropertyRefFluent<?>> {
+  private final Set<String> propertyNames = new HashSet<>();
+
+  @Override
+  public void visit(PropertyRefFluent<?> propertyRefFluent) {
+    if (propertyRefFluent.hasProperty() && propertyRefFluent.hasScope()) {
+      Object scope = propertyRefFluent.buildScope();
+      if (scope instanceof This || scope instanceof Super) {
+        propertyNames.add(propertyRefFluent.buildProperty().getName());
+      }
+    }
+  }
+
+  /**
+   * Get the names of all accessed properties
+   */
+  public Set<String> getPropertyNames() {
+    return new HashSet<>(propertyNames);
+  }
+
+  /**
+   * Clear the collected property names (useful for reusing the collector)
+   */
+  public void clear() {
+    propertyNames.clear();
+  }
+}
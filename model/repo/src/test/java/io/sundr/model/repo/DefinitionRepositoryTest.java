@@ -0,0 +1,217 @@
+/*
+ * Copyright 2016 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.model.repo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.sundr.model.AttributeKey;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeDefBuilder;
+
+public class DefinitionRepositoryTest {
+
+  private static final AttributeKey<Boolean> BUILDABLE = new AttributeKey<>("BUILDABLE", Boolean.class);
+  private static final AttributeKey<Boolean> GENERATED = new AttributeKey<>("GENERATED", Boolean.class);
+
+  private static TypeDef typeDef(String name) {
+    return new TypeDefBuilder().withPackageName("test").withName(name).build();
+  }
+
+  @Test
+  public void shouldConfineScopeToThread() throws Exception {
+    DefinitionRepository first = DefinitionRepository.createRepository();
+    DefinitionRepository second = DefinitionRepository.createRepository();
+    CountDownLatch entered = new CountDownLatch(2);
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<DefinitionRepository> f1 = executor.submit(() -> DefinitionRepository.withRepository(first).call(() -> {
+        entered.countDown();
+        entered.await(10, TimeUnit.SECONDS);
+        return DefinitionRepository.getRepository();
+      }));
+      Future<DefinitionRepository> f2 = executor.submit(() -> DefinitionRepository.withRepository(second).call(() -> {
+        entered.countDown();
+        entered.await(10, TimeUnit.SECONDS);
+        return DefinitionRepository.getRepository();
+      }));
+      assertSame(first, f1.get(10, TimeUnit.SECONDS));
+      assertSame(second, f2.get(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void shouldRestoreOuterScope() {
+    DefinitionRepository outer = DefinitionRepository.createRepository();
+    DefinitionRepository inner = DefinitionRepository.createRepository();
+    DefinitionRepository global = DefinitionRepository.getRepository();
+
+    assertSame(outer, DefinitionRepository.withRepository(outer).apply(o -> {
+      assertSame(inner, DefinitionRepository.withRepository(inner).apply(i -> DefinitionRepository.getRepository()));
+      return DefinitionRepository.getRepository();
+    }));
+    assertSame(global, DefinitionRepository.getRepository());
+  }
+
+  @Test
+  public void shouldResolveSuppliersOnce() throws Exception {
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    repository.registerIfAbsent("test.Lazy", () -> {
+      calls.incrementAndGet();
+      started.countDown();
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return typeDef("Lazy");
+    });
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<TypeDef>> results = new ArrayList<>();
+      results.add(executor.submit(() -> repository.getDefinition("test.Lazy")));
+      started.await(10, TimeUnit.SECONDS);
+      for (int i = 0; i < 3; i++) {
+        results.add(executor.submit(() -> repository.getDefinition("test.Lazy")));
+      }
+      for (Future<TypeDef> result : results) {
+        assertEquals("test.Lazy", result.get(10, TimeUnit.SECONDS).getFullyQualifiedName());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void shouldNotResolveSupplierRecursively() {
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    repository.registerIfAbsent("test.A", () -> {
+      assertNull(repository.getDefinition("test.A"));
+      return typeDef("A");
+    });
+    assertEquals("test.A", repository.getDefinition("test.A").getFullyQualifiedName());
+  }
+
+  @Test
+  public void shouldFindDefinitionsByFlags() {
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    repository.register(typeDef("A"), BUILDABLE);
+    repository.register(typeDef("B"), BUILDABLE, GENERATED);
+    repository.register(typeDef("C"), GENERATED);
+    repository.register(typeDef("D"));
+
+    assertEquals(names("test.A", "test.B"), names(repository.getDefinitions(BUILDABLE)));
+    assertEquals(names("test.B"), names(repository.getDefinitions(BUILDABLE, GENERATED)));
+    assertEquals(names("test.B", "test.C"), names(repository.getDefinitions("GENERATED")));
+    assertEquals(names("test.A", "test.B", "test.C", "test.D"), names(repository.getDefinitions(new AttributeKey[0])));
+    assertTrue(repository.getDefinitions(new AttributeKey<Boolean>("BUILDABLE", Boolean.class)).isEmpty());
+  }
+
+  @Test
+  public void shouldUpdateFlagIndexOnRegister() {
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    repository.register(typeDef("A"), BUILDABLE);
+    repository.register(typeDef("A"), GENERATED);
+
+    assertTrue(repository.getDefinitions(BUILDABLE).isEmpty());
+    assertEquals(names("test.A"), names(repository.getDefinitions(GENERATED)));
+
+    repository.clear();
+    assertTrue(repository.getDefinitions(GENERATED).isEmpty());
+  }
+
+  @Test
+  public void shouldKeepFlagIndexConsistentWithConcurrentRegistrations() throws Exception {
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    int threads = 4;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      for (int round = 0; round < 500; round++) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+          AttributeKey<Boolean> flag = (round + t) % 3 == 0 ? GENERATED : BUILDABLE;
+          futures.add(executor.submit(() -> {
+            start.await();
+            repository.register(typeDef("A"), flag);
+            return null;
+          }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+          future.get(10, TimeUnit.SECONDS);
+        }
+
+        TypeDef last = repository.getDefinition("test.A");
+        for (AttributeKey<Boolean> flag : Arrays.asList(BUILDABLE, GENERATED)) {
+          Set<String> expected = Boolean.TRUE.equals(last.getAttribute(flag)) ? names("test.A") : names();
+          assertEquals(expected, names(repository.getDefinitions(flag)));
+          assertEquals(expected, names(repository.getDefinitions(flag.getName())));
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void shouldNotResolveSuppliersForFlagQueries() {
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    AtomicInteger calls = new AtomicInteger();
+    repository.register(typeDef("A"), BUILDABLE);
+    repository.registerIfAbsent("test.B", () -> {
+      calls.incrementAndGet();
+      return typeDef("B");
+    });
+
+    assertEquals(names("test.A"), names(repository.getDefinitions(BUILDABLE)));
+    assertEquals(0, calls.get());
+  }
+
+  private static Set<String> names(String... names) {
+    return new TreeSet<>(Arrays.asList(names));
+  }
+
+  private static Set<String> names(Set<TypeDef> definitions) {
+    Set<String> result = new TreeSet<>();
+    definitions.forEach(d -> result.add(d.getFullyQualifiedName()));
+    return result;
+  }
+}
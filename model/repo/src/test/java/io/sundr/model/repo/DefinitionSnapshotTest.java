@@ -0,0 +1,189 @@
+/*
+ * Copyright 2016 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.model.repo;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.sundr.model.AnnotationRef;
+import io.sundr.model.AnnotationRefBuilder;
+import io.sundr.model.AttributeKey;
+import io.sundr.model.Attributeable;
+import io.sundr.model.ClassRef;
+import io.sundr.model.Kind;
+import io.sundr.model.PrimitiveRef;
+import io.sundr.model.StringStatement;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeDefBuilder;
+import io.sundr.model.TypeParamDefBuilder;
+import io.sundr.model.TypeParamRef;
+import io.sundr.model.VoidRef;
+
+public class DefinitionSnapshotTest {
+
+  private static final AttributeKey<Boolean> BUILDABLE = new AttributeKey<>("BUILDABLE", Boolean.class);
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private static TypeDef library() {
+    Map<String, Object> parameters = new LinkedHashMap<>();
+    parameters.put("value", "x");
+    parameters.put("sizes", new int[] { 1, 2 });
+    parameters.put("type", ClassRef.forName("java.lang.String"));
+    AnnotationRef annotation = new AnnotationRefBuilder()
+        .withClassRef(ClassRef.forName("test.Marker"))
+        .withParameters(parameters)
+        .build();
+
+    return new TypeDefBuilder()
+        .withKind(Kind.CLASS)
+        .withPackageName("test")
+        .withName("Library")
+        .withComments("A library type.")
+        .withAnnotations(annotation)
+        .withParameters(new TypeParamDefBuilder().withName("T").withBounds(ClassRef.forName("java.lang.Number")).build())
+        .withImplementsList(new ClassRef("java.util.List", 0, Arrays.asList(new TypeParamRef("T", 0, null)), null))
+        .addNewField()
+        .withName("values")
+        .withTypeRef(new PrimitiveRef("int", 1, null))
+        .withNewModifiers().withPrivate().endModifiers()
+        .endField()
+        .addNewMethod()
+        .withName("clear")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withName("force")
+        .withTypeRef(new PrimitiveRef("boolean", 0, null))
+        .endArgument()
+        .withNewModifiers().withPublic().withAbstract().endModifiers()
+        .endMethod()
+        .addToAttributes(BUILDABLE, true)
+        .build();
+  }
+
+  private static DefinitionSnapshot roundTrip(String fingerprint, TypeDef... definitions) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    DefinitionSnapshot.write(Arrays.asList(definitions), fingerprint, out);
+    return DefinitionSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+  }
+
+  @Test
+  public void shouldRoundTripDeclarations() throws Exception {
+    TypeDef library = library();
+    DefinitionSnapshot snapshot = roundTrip("fp", library);
+
+    assertEquals("fp", snapshot.getFingerprint());
+    assertEquals(Collections.singleton("test.Library"), snapshot.getNames());
+
+    TypeDef restored = snapshot.getDefinition("test.Library", BUILDABLE);
+    assertEquals(library, restored);
+    assertEquals(library.render(), restored.render());
+    assertTrue(restored.getAttribute(BUILDABLE));
+    assertTrue(restored.getFields().get(0).isPrivate());
+    assertTrue(restored.getMethods().get(0).isAbstract());
+
+    AnnotationRef annotation = restored.getAnnotations().get(0);
+    assertEquals("x", annotation.getParameters().get("value"));
+    assertArrayEquals(new int[] { 1, 2 }, (int[]) annotation.getParameters().get("sizes"));
+    assertEquals(ClassRef.forName("java.lang.String"), annotation.getParameters().get("type"));
+  }
+
+  @Test
+  public void shouldRestoreWellKnownAttributes() throws Exception {
+    TypeDef withDefaults = new TypeDefBuilder()
+        .withKind(Kind.ANNOTATION)
+        .withPackageName("test")
+        .withName("Defaults")
+        .addNewMethod()
+        .withName("value")
+        .withReturnType(ClassRef.forName("java.lang.String"))
+        .addToAttributes(Attributeable.DEFAULT_VALUE, "\"x\"")
+        .endMethod()
+        .build();
+
+    TypeDef restored = roundTrip("fp", withDefaults).getDefinition("test.Defaults");
+    assertEquals(withDefaults, restored);
+    assertEquals("\"x\"", restored.getMethods().get(0).getAttribute(Attributeable.DEFAULT_VALUE));
+  }
+
+  @Test
+  public void shouldSkipDefinitionsWithBodies() throws Exception {
+    TypeDef withBody = new TypeDefBuilder()
+        .withPackageName("test")
+        .withName("Source")
+        .addNewMethod()
+        .withName("run")
+        .withReturnType(new VoidRef())
+        .withNewBlock()
+        .withStatements(new StringStatement("System.exit(0);"))
+        .endBlock()
+        .endMethod()
+        .build();
+
+    DefinitionSnapshot snapshot = roundTrip("fp", library(), withBody);
+    assertEquals(Collections.singleton("test.Library"), snapshot.getNames());
+    assertNull(snapshot.getDefinition("test.Source"));
+  }
+
+  @Test
+  public void shouldLoadSnapshotLazilyWhenFingerprintMatches() throws Exception {
+    File file = new File(folder.getRoot(), "snapshot/definitions.bin");
+    DefinitionRepository source = DefinitionRepository.createRepository();
+    source.register(library());
+    assertEquals(1, source.saveSnapshot(file, "fp", t -> true));
+
+    DefinitionRepository stale = DefinitionRepository.createRepository();
+    assertFalse(stale.loadSnapshot(file, "other", BUILDABLE));
+    assertFalse(stale.hasDefinition("test.Library"));
+
+    DefinitionRepository target = DefinitionRepository.createRepository();
+    assertTrue(target.loadSnapshot(file, "fp", BUILDABLE));
+    assertTrue(target.hasDefinition("test.Library"));
+    assertNull(target.getDefinition("test.Library", false));
+    assertEquals(library(), target.getDefinition("test.Library"));
+    assertEquals(1, target.getDefinitions(BUILDABLE).size());
+  }
+
+  @Test
+  public void shouldChangeFingerprintWhenClasspathChanges() throws Exception {
+    File jar = folder.newFile("lib.jar");
+    File classes = folder.newFolder("classes");
+    String before = DefinitionSnapshot.fingerprint(Arrays.asList(jar, classes));
+    assertEquals(before, DefinitionSnapshot.fingerprint(Arrays.asList(jar, classes)));
+
+    Files.write(new File(classes, "A.class").toPath(), "changed".getBytes());
+    assertNotEquals(before, DefinitionSnapshot.fingerprint(Arrays.asList(jar, classes)));
+  }
+}
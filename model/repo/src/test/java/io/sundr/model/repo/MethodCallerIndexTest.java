@@ -0,0 +1,135 @@
+/*
+ * Copyright 2016 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.model.repo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.Test;
+
+import io.sundr.model.Method;
+import io.sundr.model.MethodBuilder;
+import io.sundr.model.PropertyRef;
+import io.sundr.model.Return;
+import io.sundr.model.This;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeDefBuilder;
+
+public class MethodCallerIndexTest {
+
+  DefinitionRepository repository = DefinitionRepository.createRepository();
+
+  private static Method calling(String name, String callee) {
+    return new MethodBuilder()
+        .withName(name)
+        .withNewBlock()
+        .withStatements(Return.call(callee))
+        .endBlock()
+        .build();
+  }
+
+  private static Method returning(String name, String value) {
+    return new MethodBuilder()
+        .withName(name)
+        .withNewBlock()
+        .withStatements(Return.value(value))
+        .endBlock()
+        .build();
+  }
+
+  private static TypeDef type(String name, Method... methods) {
+    return new TypeDefBuilder()
+        .withPackageName("test")
+        .withName(name)
+        .withMethods(methods)
+        .build();
+  }
+
+  @Test
+  public void shouldUpdateCallersOfChangedTypes() {
+    Method target = returning("target", "T");
+    TypeDef targetType = repository.register(type("Target", target));
+    MethodReference reference = new MethodReference(target, targetType);
+
+    MethodCallerIndex index = MethodCallerIndex.build(repository);
+    assertTrue(index.getDirectCallers(reference).isEmpty());
+
+    Method caller = calling("caller", "target");
+    TypeDef callerType = repository.register(type("Caller", caller));
+    assertFalse(index.isCurrent(repository));
+
+    index.update(Collections.singleton("test.Caller"));
+    assertTrue(index.isCurrent(repository));
+    assertEquals(Collections.singleton(new MethodReference(caller, callerType)), index.getDirectCallers(reference));
+
+    repository.register(type("Caller", returning("caller", "C")));
+    index.update(Collections.singleton("test.Caller"));
+    assertTrue(index.getDirectCallers(reference).isEmpty());
+  }
+
+  @Test
+  public void shouldLinkExistingCallsToAddedMethods() {
+    Method caller = calling("caller", "later");
+    TypeDef callerType = repository.register(type("Caller", caller));
+    repository.register(type("Target"));
+
+    MethodCallerIndex index = MethodCallerIndex.build(repository);
+    assertTrue(index.getDirectCallees(new MethodReference(caller, callerType)).isEmpty());
+
+    Method later = returning("later", "L");
+    TypeDef targetType = repository.register(type("Target", later));
+    index.update(Collections.singleton("test.Target"));
+
+    assertEquals(Collections.singleton(new MethodReference(caller, callerType)),
+        index.getDirectCallers(new MethodReference(later, targetType)));
+
+    repository.clear();
+    index.update(Arrays.asList("test.Caller", "test.Target"));
+    assertTrue(index.getDirectCallers(new MethodReference(later, targetType)).isEmpty());
+    assertTrue(index.getDirectCallees(new MethodReference(caller, callerType)).isEmpty());
+  }
+
+  @Test
+  public void shouldIndexPropertyAccessors() {
+    Method getter = new MethodBuilder()
+        .withName("getValue")
+        .withNewBlock()
+        .withStatements(new Return(new PropertyRef("value", new This())))
+        .endBlock()
+        .build();
+    Method local = new MethodBuilder()
+        .withName("getLocal")
+        .withNewBlock()
+        .withStatements(new Return(new PropertyRef("value", null)))
+        .endBlock()
+        .build();
+    TypeDef typeDef = repository.register(type("Holder", getter, local));
+
+    MethodCallerIndex index = MethodCallerIndex.build(repository);
+    Set<MethodReference> accessors = index.getPropertyAccessors("value");
+    assertEquals(Collections.singleton(new MethodReference(getter, typeDef)), accessors);
+
+    repository.register(type("Holder", local));
+    index.update(Collections.singleton("test.Holder"));
+    assertTrue(index.getPropertyAccessors("value").isEmpty());
+  }
+}
@@ -17,6 +17,8 @@
 package io.sundr.model.repo;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Set;
@@ -452,4 +454,88 @@ public class MethodReferenceTest {
     assertTrue("Should find methodB from TypeB", foundMethodB);
     assertTrue("Should find methodC from TypeC", foundMethodC);
   }
+
+  @Test
+  public void shouldReturnDirectAndTransitiveCallers() {
+    Method methodC = new MethodBuilder()
+        .withName("methodC")
+        .withNewBlock()
+        .withStatements(Return.value("C"))
+        .endBlock()
+        .build();
+
+    Method methodB = new MethodBuilder()
+        .withName("methodB")
+        .withNewBlock()
+        .withStatements(Return.call("methodC"))
+        .endBlock()
+        .build();
+
+    Method methodA = new MethodBuilder()
+        .withName("methodA")
+        .withNewBlock()
+        .withStatements(Return.call("methodB"))
+        .endBlock()
+        .build();
+
+    TypeDef def = new TypeDefBuilder()
+        .withName("CallerTestClass")
+        .withMethods(methodA, methodB, methodC)
+        .build();
+
+    repository.register(def);
+
+    MethodReference c = new MethodReference(methodC, def);
+    Set<MethodReference> direct = MethodReference.getDirectMethodCallers(c, repository);
+    assertEquals(1, direct.size());
+    assertEquals("methodB", direct.iterator().next().getMethod().getName());
+
+    Set<MethodReference> all = MethodReference.getMethodCallers(c, repository);
+    assertEquals(2, all.size());
+    assertTrue(all.contains(new MethodReference(methodA, def)));
+    assertTrue(all.contains(new MethodReference(methodB, def)));
+
+    assertTrue(MethodReference.getMethodCallers(new MethodReference(methodA, def), repository).isEmpty());
+  }
+
+  @Test
+  public void shouldRebuildCallerIndexWhenRepositoryChanges() {
+    Method target = new MethodBuilder()
+        .withName("target")
+        .withNewBlock()
+        .withStatements(Return.value("T"))
+        .endBlock()
+        .build();
+
+    TypeDef targetType = new TypeDefBuilder()
+        .withName("TargetType")
+        .withMethods(target)
+        .build();
+
+    repository.register(targetType);
+    MethodReference reference = new MethodReference(target, targetType);
+
+    MethodCallerIndex index = MethodReference.getCallerIndex(repository);
+    assertTrue(index.getDirectCallers(reference).isEmpty());
+    assertSame(index, MethodReference.getCallerIndex(repository));
+
+    Method caller = new MethodBuilder()
+        .withName("caller")
+        .withNewBlock()
+        .withStatements(Return.call("target"))
+        .endBlock()
+        .build();
+
+    TypeDef callerType = new TypeDefBuilder()
+        .withName("CallerType")
+        .withMethods(caller)
+        .build();
+
+    repository.register(callerType);
+
+    assertFalse(index.isCurrent(repository));
+    MethodCallerIndex rebuilt = MethodReference.getCallerIndex(repository);
+    assertEquals(1, rebuilt.getDirectCallers(reference).size());
+    assertTrue(rebuilt.getDirectCallees(new MethodReference(caller, callerType)).contains(reference));
+  }
 }
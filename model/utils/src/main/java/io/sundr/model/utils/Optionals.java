@@ -82,25 +82,25 @@ public class Optionals {
     public Boolean apply(TypeRef type) {
       return Types.isInstanceOf(type, OPTIONAL, IS_OPTIONAL);
     }
-  });
+  }).concurrent();
 
   public static final Function<TypeRef, Boolean> IS_OPTIONAL_INT = FunctionFactory.cache(new Function<TypeRef, Boolean>() {
     public Boolean apply(TypeRef type) {
       return Types.isInstanceOf(type, OPTIONAL_INT, IS_OPTIONAL_INT);
     }
-  });
+  }).concurrent();
 
   public static final Function<TypeRef, Boolean> IS_OPTIONAL_DOUBLE = FunctionFactory.cache(new Function<TypeRef, Boolean>() {
     public Boolean apply(TypeRef type) {
       return Types.isInstanceOf(type, OPTIONAL_DOUBLE, IS_OPTIONAL_DOUBLE);
     }
-  });
+  }).concurrent();
 
   public static final Function<TypeRef, Boolean> IS_OPTIONAL_LONG = FunctionFactory.cache(new Function<TypeRef, Boolean>() {
     public Boolean apply(TypeRef type) {
       return Types.isInstanceOf(type, OPTIONAL_LONG, IS_OPTIONAL_LONG);
     }
-  });
+  }).concurrent();
 
   /**
    * Checks if a {@link TypeRef} is a {@link java.util.Optional}.
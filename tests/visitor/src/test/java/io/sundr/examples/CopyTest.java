@@ -0,0 +1,75 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+package io.sundr.examples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class CopyTest {
+
+  @Test
+  public void shouldCopyMutableNestedItems() {
+    // Given
+    Feature feature = new Feature();
+    feature.setTemperature(1337);
+    InnerCore core = new InnerCore();
+    core.setFeatures(new ArrayList<>(Arrays.asList(feature)));
+    // When
+    InnerCore copy = new InnerCoreBuilder(core).build();
+    feature.setTemperature(0);
+    core.getFeatures().add(new Feature());
+    // Then
+    assertEquals(1, copy.getFeatures().size());
+    assertNotSame(feature, copy.getFeatures().get(0));
+    assertEquals(1337, copy.getFeatures().get(0).getTemperature());
+  }
+
+  @Test
+  public void shouldReuseImmutableNestedItemsWhenLazyCopyIsEnabled() {
+    // Given
+    Star sun = new Star("Sun");
+    Galaxy galaxy = new Galaxy(new ArrayList<>(Arrays.asList(sun)));
+    // When
+    GalaxyBuilder builder = new GalaxyBuilder(galaxy);
+    galaxy.getStars().add(new Star("Sirius"));
+    Galaxy copy = builder.build();
+    galaxy.getStars().clear();
+    // Then
+    assertEquals(1, copy.getStars().size());
+    assertSame(sun, copy.getStars().get(0));
+  }
+
+  @Test
+  public void shouldCopyEditedNestedItemsWhenLazyCopyIsEnabled() {
+    // Given
+    Star sun = new Star("Sun");
+    Galaxy galaxy = new Galaxy(new ArrayList<>(Arrays.asList(sun)));
+    // When
+    Galaxy copy = new GalaxyBuilder(galaxy).addNewStar("Sirius").build();
+    // Then
+    assertEquals(2, copy.getStars().size());
+    assertNotSame(sun, copy.getStars().get(0));
+    assertEquals("Sun", copy.getStars().get(0).getName());
+    assertEquals(1, galaxy.getStars().size());
+  }
+}